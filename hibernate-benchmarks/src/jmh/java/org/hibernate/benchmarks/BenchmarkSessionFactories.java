@@ -0,0 +1,119 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.domain.Author;
+import org.hibernate.benchmarks.domain.Book;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+
+/**
+ * Bootstraps the {@link org.hibernate.SessionFactory} shared by the benchmarks: an in-memory
+ * H2 database holding the {@link Author}/{@link Book} model, optionally with the second-level
+ * and query caches enabled.
+ * <p/>
+ * Every call creates a distinct database so that benchmarks running in the same JVM fork
+ * do not see each other's data.
+ */
+public final class BenchmarkSessionFactories {
+	private static int databaseCounter;
+
+	private BenchmarkSessionFactories() {
+	}
+
+	public static SessionFactoryImplementor build(boolean secondLevelCache) {
+		return build( secondLevelCache, null );
+	}
+
+	public static SessionFactoryImplementor build(boolean secondLevelCache, Map<String, Object> extraSettings) {
+		return build(
+				secondLevelCache,
+				extraSettings,
+				sources -> sources.addAnnotatedClass( Author.class ).addAnnotatedClass( Book.class )
+		);
+	}
+
+	/**
+	 * Builds a {@link org.hibernate.SessionFactory} for the model added by {@code mappings}, instead of
+	 * the {@link Author}/{@link Book} model.
+	 */
+	public static synchronized SessionFactoryImplementor build(
+			boolean secondLevelCache,
+			Map<String, Object> extraSettings,
+			Consumer<MetadataSources> mappings) {
+		final StandardServiceRegistryBuilder registryBuilder = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.DIALECT, H2Dialect.class.getName() )
+				.applySetting( AvailableSettings.DRIVER, "org.h2.Driver" )
+				.applySetting( AvailableSettings.URL, "jdbc:h2:mem:bench" + ( databaseCounter++ ) + ";DB_CLOSE_DELAY=-1" )
+				.applySetting( AvailableSettings.USER, "sa" )
+				.applySetting( AvailableSettings.PASS, "" )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySetting( AvailableSettings.STATEMENT_BATCH_SIZE, "50" )
+				.applySetting( AvailableSettings.ORDER_INSERTS, "true" )
+				.applySetting( AvailableSettings.USE_SECOND_LEVEL_CACHE, Boolean.toString( secondLevelCache ) )
+				.applySetting( AvailableSettings.USE_QUERY_CACHE, Boolean.toString( secondLevelCache ) );
+		if ( secondLevelCache ) {
+			registryBuilder.applySetting( AvailableSettings.CACHE_REGION_FACTORY, CachingRegionFactory.class.getName() );
+		}
+		if ( extraSettings != null ) {
+			registryBuilder.applySettings( extraSettings );
+		}
+
+		final StandardServiceRegistry registry = registryBuilder.build();
+		try {
+			final MetadataSources sources = new MetadataSources( registry );
+			mappings.accept( sources );
+			return (SessionFactoryImplementor) sources.buildMetadata().buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( registry );
+			throw e;
+		}
+	}
+
+	/**
+	 * Inserts {@code authorCount} authors with {@code booksPerAuthor} books each.
+	 */
+	public static void populate(SessionFactoryImplementor sessionFactory, int authorCount, int booksPerAuthor) {
+		try (Session session = sessionFactory.openSession()) {
+			session.getTransaction().begin();
+			for ( int i = 0; i < authorCount; i++ ) {
+				final Author author = new Author( "first" + i, "last" + i, 1900 + i % 100 );
+				session.persist( author );
+				for ( int j = 0; j < booksPerAuthor; j++ ) {
+					session.persist(
+							new Book(
+									"title " + i + "-" + j,
+									"isbn-" + i + "-" + j,
+									BigDecimal.valueOf( 1000 + j, 2 ),
+									LocalDate.of( 2000 + j % 20, 1 + j % 12, 1 ),
+									100 + j,
+									author
+							)
+					);
+				}
+				if ( i % 50 == 0 ) {
+					session.flush();
+					session.clear();
+				}
+			}
+			session.getTransaction().commit();
+		}
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.domain.Book;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the flush-time dirty checking done by DefaultFlushEntityEventListener over
+ * {@code managedCount} managed entities, with no entity dirty and with a single dirty entity.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+public class DirtyCheckingBenchmark {
+	private static final int AUTHORS = 200;
+	private static final int BOOKS_PER_AUTHOR = 25;
+
+	@Param( { "100", "1000", "5000" } )
+	public int managedCount;
+
+	private SessionFactoryImplementor sessionFactory;
+	private Session session;
+	private List<Book> books;
+	private int counter;
+
+	@Setup( Level.Trial )
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactories.build( false );
+		BenchmarkSessionFactories.populate( sessionFactory, AUTHORS, BOOKS_PER_AUTHOR );
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Setup( Level.Iteration )
+	public void openSession() {
+		session = sessionFactory.openSession();
+		session.getTransaction().begin();
+		books = session.createQuery( "from Book", Book.class )
+				.setMaxResults( managedCount )
+				.getResultList();
+	}
+
+	@TearDown( Level.Iteration )
+	public void closeSession() {
+		session.getTransaction().rollback();
+		session.close();
+	}
+
+	@Benchmark
+	public Session flushClean() {
+		session.flush();
+		return session;
+	}
+
+	@Benchmark
+	public Session flushOneDirty() {
+		final Book book = books.get( ( counter++ & Integer.MAX_VALUE ) % books.size() );
+		book.setPages( book.getPages() + 1 );
+		session.flush();
+		return session;
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.domain.Book;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures {@link Session#find} by identifier in a fresh session, with and without the
+ * second-level cache: the DefaultLoadEventListener path down to either the cache or the
+ * entity loader.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+public class FindByIdBenchmark {
+	private static final int AUTHORS = 100;
+	private static final int BOOKS_PER_AUTHOR = 10;
+
+	@Param( { "false", "true" } )
+	public boolean secondLevelCache;
+
+	private SessionFactoryImplementor sessionFactory;
+	private Long[] ids;
+
+	@Setup( Level.Trial )
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactories.build( secondLevelCache );
+		BenchmarkSessionFactories.populate( sessionFactory, AUTHORS, BOOKS_PER_AUTHOR );
+		try (Session session = sessionFactory.openSession()) {
+			ids = session.createQuery( "select b.id from Book b", Long.class )
+					.getResultList()
+					.toArray( new Long[0] );
+		}
+		// make sure the cache is warm
+		for ( Long id : ids ) {
+			try (Session session = sessionFactory.openSession()) {
+				session.find( Book.class, id );
+			}
+		}
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public Book findById() {
+		final Long id = ids[ThreadLocalRandom.current().nextInt( ids.length )];
+		try (Session session = sessionFactory.openSession()) {
+			return session.find( Book.class, id );
+		}
+	}
+
+	@Benchmark
+	public Book findByIdRepeatedInSession() {
+		// the second lookup is resolved from the persistence context
+		final Long id = ids[ThreadLocalRandom.current().nextInt( ids.length )];
+		try (Session session = sessionFactory.openSession()) {
+			session.find( Book.class, id );
+			return session.find( Book.class, id );
+		}
+	}
+}
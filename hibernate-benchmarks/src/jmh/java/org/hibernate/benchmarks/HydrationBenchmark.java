@@ -0,0 +1,90 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.domain.Book;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures result-set hydration (Loader#doQuery and TwoPhaseLoad) of {@code rowCount} rows
+ * for managed entities, read-only entities, entities with a fetch join and scalar projections.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+public class HydrationBenchmark {
+	private static final int AUTHORS = 200;
+	private static final int BOOKS_PER_AUTHOR = 25;
+
+	@Param( { "100", "1000", "5000" } )
+	public int rowCount;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup( Level.Trial )
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactories.build( false );
+		BenchmarkSessionFactories.populate( sessionFactory, AUTHORS, BOOKS_PER_AUTHOR );
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<Book> entities() {
+		try (Session session = sessionFactory.openSession()) {
+			return session.createQuery( "from Book", Book.class )
+					.setMaxResults( rowCount )
+					.getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<Book> readOnlyEntities() {
+		try (Session session = sessionFactory.openSession()) {
+			return session.createQuery( "from Book", Book.class )
+					.setReadOnly( true )
+					.setMaxResults( rowCount )
+					.getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<Book> entitiesWithFetchJoin() {
+		try (Session session = sessionFactory.openSession()) {
+			return session.createQuery( "from Book b join fetch b.author", Book.class )
+					.setMaxResults( rowCount )
+					.getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<Object[]> scalars() {
+		try (Session session = sessionFactory.openSession()) {
+			return session.createQuery( "select b.id, b.title, b.price, b.published from Book b", Object[].class )
+					.setMaxResults( rowCount )
+					.getResultList();
+		}
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures {@code hibernate.order_inserts} on a deep dependency graph: {@code insertCount} inserts across
+ * {@code entityTypes} dynamic-map entity types forming a single chain ({@code Type<n>} references
+ * {@code Type<n-1>}), flushed every {@code flushSize} inserts.  Every flush starts with an orphan of each
+ * type in the reverse order of the chain, so the insert action sorter always has to reorder all the types.
+ * <p/>
+ * The {@link BatchCounts} auxiliary counters report the JDBC batches and batched statements executed,
+ * to be compared between hibernate-core revisions along with the time.  The chain is mapped without
+ * foreign-key constraints, so that a sorter leaving the inserts out of dependency order still completes.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.SingleShotTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+public class InsertOrderingBenchmark {
+	@Param( { "30" } )
+	public int entityTypes;
+
+	@Param( { "100000" } )
+	public int insertCount;
+
+	@Param( { "1000" } )
+	public int flushSize;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@State( Scope.Thread )
+	@AuxCounters( AuxCounters.Type.EVENTS )
+	public static class BatchCounts {
+		public long batches;
+		public long batchedStatements;
+	}
+
+	@Setup( Level.Trial )
+	public void setUp() {
+		final byte[] mapping = mapping( entityTypes ).getBytes( StandardCharsets.UTF_8 );
+		sessionFactory = BenchmarkSessionFactories.build(
+				false,
+				Collections.<String, Object>singletonMap( AvailableSettings.GENERATE_STATISTICS, "true" ),
+				sources -> sources.addInputStream( new ByteArrayInputStream( mapping ) )
+		);
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public Session persistAndFlush(BatchCounts counts) {
+		final Statistics statistics = sessionFactory.getStatistics();
+		final long batchesBefore = statistics.getBatchExecutionCount();
+		final long batchedStatementsBefore = statistics.getBatchedStatementCount();
+
+		final Session session = sessionFactory.openSession();
+		try {
+			session.getTransaction().begin();
+			long id = 0;
+			int inserted = 0;
+			while ( inserted < insertCount ) {
+				for ( int type = entityTypes - 1; type >= 0 && inserted < insertCount; type-- ) {
+					session.persist( "Type" + type, entity( id++, null ) );
+					inserted++;
+				}
+				int flushInserts = entityTypes;
+				while ( flushInserts < flushSize && inserted < insertCount ) {
+					Map<String, Object> parent = null;
+					for ( int type = 0; type < entityTypes && inserted < insertCount; type++ ) {
+						final Map<String, Object> entity = entity( id++, parent );
+						session.persist( "Type" + type, entity );
+						parent = entity;
+						inserted++;
+						flushInserts++;
+					}
+				}
+				session.flush();
+				session.clear();
+			}
+			session.getTransaction().rollback();
+		}
+		finally {
+			session.close();
+		}
+
+		counts.batches += statistics.getBatchExecutionCount() - batchesBefore;
+		counts.batchedStatements += statistics.getBatchedStatementCount() - batchedStatementsBefore;
+		return session;
+	}
+
+	private static Map<String, Object> entity(long id, Map<String, Object> parent) {
+		final Map<String, Object> entity = new HashMap<>();
+		entity.put( "id", id );
+		entity.put( "name", "entity " + id );
+		entity.put( "parent", parent );
+		return entity;
+	}
+
+	private static String mapping(int entityTypes) {
+		final StringBuilder mapping = new StringBuilder()
+				.append( "<?xml version=\"1.0\"?>\n" )
+				.append( "<!DOCTYPE hibernate-mapping PUBLIC \"-//Hibernate/Hibernate Mapping DTD 3.0//EN\" " )
+				.append( "\"http://www.hibernate.org/dtd/hibernate-mapping-3.0.dtd\">\n" )
+				.append( "<hibernate-mapping>\n" );
+		for ( int type = 0; type < entityTypes; type++ ) {
+			mapping.append( "<class entity-name=\"Type" ).append( type ).append( "\" table=\"TYPE_" ).append( type ).append( "\">\n" )
+					.append( "<id name=\"id\" type=\"long\"><generator class=\"assigned\"/></id>\n" )
+					.append( "<property name=\"name\" type=\"string\"/>\n" );
+			if ( type > 0 ) {
+				mapping.append( "<many-to-one name=\"parent\" entity-name=\"Type" ).append( type - 1 )
+						.append( "\" column=\"PARENT_ID\" foreign-key=\"none\"/>\n" );
+			}
+			mapping.append( "</class>\n" );
+		}
+		return mapping.append( "</hibernate-mapping>\n" ).toString();
+	}
+}
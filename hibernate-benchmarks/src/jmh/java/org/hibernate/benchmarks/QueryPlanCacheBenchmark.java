@@ -0,0 +1,76 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.engine.query.spi.HQLQueryPlan;
+import org.hibernate.engine.query.spi.QueryPlanCache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.Query;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures HQL query plan lookups through the {@link QueryPlanCache}: the raw cache hit, and the
+ * full {@code Session#createQuery} path which also builds parameter metadata.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+public class QueryPlanCacheBenchmark {
+	private static final String[] QUERIES = {
+			"select b from Book b where b.id = :id",
+			"select b from Book b join fetch b.author a where a.lastName = :lastName",
+			"select b.title, a.lastName from Book b join b.author a where b.pages > :pages order by b.title",
+			"select count(b) from Book b where b.price between :low and :high",
+	};
+
+	private SessionFactoryImplementor sessionFactory;
+	private QueryPlanCache queryPlanCache;
+	private int counter;
+
+	@Setup( Level.Trial )
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactories.build( false );
+		queryPlanCache = sessionFactory.getQueryPlanCache();
+		for ( String query : QUERIES ) {
+			queryPlanCache.getHQLQueryPlan( query, false, Collections.emptyMap() );
+		}
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public HQLQueryPlan planCacheHit() {
+		return queryPlanCache.getHQLQueryPlan( nextQuery(), false, Collections.emptyMap() );
+	}
+
+	@Benchmark
+	public Query createQuery() {
+		try (Session session = sessionFactory.openSession()) {
+			return session.createQuery( nextQuery() );
+		}
+	}
+
+	private String nextQuery() {
+		return QUERIES[( counter++ & Integer.MAX_VALUE ) % QUERIES.length];
+	}
+}
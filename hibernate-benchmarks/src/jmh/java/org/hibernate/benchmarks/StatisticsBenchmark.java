@@ -0,0 +1,105 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.Collections;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.domain.Book;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.internal.ConcurrentStatisticsImpl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures the overhead of {@code hibernate.generate_statistics} under contention: every thread
+ * reports to the same {@link ConcurrentStatisticsImpl}, both directly (the counters and the
+ * per-entity/per-query statistics) and through {@link Session#find} with statistics on and off.
+ * <p/>
+ * {@code statisticsEnabled} only applies to {@link #findById()}; the other benchmarks always report.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Threads( Threads.MAX )
+public class StatisticsBenchmark {
+	private static final String[] ENTITY_NAMES = { "Author", "Book", "Publisher", "Review" };
+	private static final String QUERY = "select b from Book b where b.id = :id";
+
+	@Param( { "false", "true" } )
+	public boolean statisticsEnabled;
+
+	private ConcurrentStatisticsImpl statistics;
+	private SessionFactoryImplementor sessionFactory;
+	private Long[] ids;
+
+	@Setup( Level.Trial )
+	public void setUp() {
+		statistics = new ConcurrentStatisticsImpl();
+		statistics.setStatisticsEnabled( true );
+
+		sessionFactory = BenchmarkSessionFactories.build(
+				false,
+				Collections.<String, Object>singletonMap( AvailableSettings.GENERATE_STATISTICS, Boolean.toString( statisticsEnabled ) )
+		);
+		BenchmarkSessionFactories.populate( sessionFactory, 100, 10 );
+		try (Session session = sessionFactory.openSession()) {
+			ids = session.createQuery( "select b.id from Book b", Long.class )
+					.getResultList()
+					.toArray( new Long[0] );
+		}
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public void sessionCounters() {
+		// what every session reports, whatever it does
+		statistics.openSession();
+		statistics.connect();
+		statistics.prepareStatement();
+		statistics.closeStatement();
+		statistics.flush();
+		statistics.endTransaction( true );
+		statistics.closeSession();
+	}
+
+	@Benchmark
+	public void loadEntity() {
+		statistics.loadEntity( ENTITY_NAMES[ThreadLocalRandom.current().nextInt( ENTITY_NAMES.length )] );
+	}
+
+	@Benchmark
+	public void queryExecuted() {
+		final ThreadLocalRandom random = ThreadLocalRandom.current();
+		statistics.queryExecuted( QUERY, random.nextInt( 100 ), random.nextInt( 1000 ) );
+	}
+
+	@Benchmark
+	public Book findById() {
+		final Long id = ids[ThreadLocalRandom.current().nextInt( ids.length )];
+		try (Session session = sessionFactory.openSession()) {
+			return session.find( Book.class, id );
+		}
+	}
+}
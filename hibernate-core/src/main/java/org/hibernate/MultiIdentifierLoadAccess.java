@@ -116,4 +116,30 @@ public interface MultiIdentifierLoadAccess<T> {
 	 * @return The persistent entities.
 	 */
 	<K extends Serializable> List<T> multiLoad(List<K> ids);
+
+	/**
+	 * Perform a load of multiple entities by {@code long} identifiers.  On databases supporting
+	 * array parameters the ids are bound as a single array, so that the same SQL is used whatever
+	 * the number of ids.  The other {@code multiLoad} methods always bind the ids as IN lists.
+	 *
+	 * @param ids The ids to load
+	 *
+	 * @return The persistent entities.
+	 *
+	 * @see #multiLoad(Serializable[])
+	 */
+	List<T> multiLoad(long[] ids);
+
+	/**
+	 * Perform a load of multiple entities by {@code int} identifiers.  On databases supporting
+	 * array parameters the ids are bound as a single array, so that the same SQL is used whatever
+	 * the number of ids.  The other {@code multiLoad} methods always bind the ids as IN lists.
+	 *
+	 * @param ids The ids to load
+	 *
+	 * @return The persistent entities.
+	 *
+	 * @see #multiLoad(Serializable[])
+	 */
+	List<T> multiLoad(int[] ids);
 }
@@ -8,6 +8,8 @@ package org.hibernate;
 
 import java.io.Serializable;
 import java.sql.Connection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import javax.persistence.EntityManager;
 import javax.persistence.FlushModeType;
 import javax.persistence.criteria.CriteriaDelete;
@@ -102,6 +104,32 @@ public interface Session extends SharedSessionContract, EntityManager, Hibernate
 	 */
 	void flush() throws HibernateException;
 
+	/**
+	 * Flush this session asynchronously, on the executor configured by
+	 * {@link org.hibernate.cfg.AvailableSettings#ASYNC_EXECUTOR}.
+	 * <p/>
+	 * The asynchronous operations of a session run one at a time, in the order they were
+	 * requested, and the other operations of the session wait for them to complete.  Implementations
+	 * not supporting asynchronous operations flush in the calling thread.
+	 *
+	 * @return The stage completing once the session is flushed, or exceptionally if the flush fails
+	 *
+	 * @see #flush()
+	 *
+	 * @since 5.3
+	 */
+	default CompletionStage<Void> flushAsync() {
+		final CompletableFuture<Void> result = new CompletableFuture<>();
+		try {
+			flush();
+			result.complete( null );
+		}
+		catch (RuntimeException e) {
+			result.completeExceptionally( e );
+		}
+		return result;
+	}
+
 	/**
 	 * Set the flush mode for this session.
 	 * <p/>
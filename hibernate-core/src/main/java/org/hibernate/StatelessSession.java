@@ -8,6 +8,7 @@ package org.hibernate;
 
 import java.io.Serializable;
 import java.sql.Connection;
+import java.util.Collection;
 
 /**
  * A command-oriented API for performing bulk operations against a database.
@@ -65,6 +66,37 @@ public interface StatelessSession extends SharedSessionContract, AutoCloseable {
 	 */
 	void update(String entityName, Object entity);
 
+	/**
+	 * Insert a row, or update it if a row with the same identifier already exists.  The dialect upsert
+	 * statement is used when there is one ({@code MERGE}, {@code INSERT ... ON CONFLICT}, ...), and is
+	 * batched according to the JDBC batch size; otherwise the row is updated, and inserted if there was
+	 * no row to update.
+	 * <p/>
+	 * The identifier of the instance must be assigned.  The version of a versioned entity is not checked:
+	 * the row ends up with the state of the instance.
+	 *
+	 * @param entity a transient or detached instance
+	 */
+	void upsert(Object entity);
+
+	/**
+	 * Insert a row, or update it if a row with the same identifier already exists.
+	 *
+	 * @param entityName The entityName for the entity to be upserted
+	 * @param entity a transient or detached instance
+	 *
+	 * @see #upsert(Object)
+	 */
+	void upsert(String entityName, Object entity);
+
+	/**
+	 * Insert or update the rows of several instances, as by {@link #upsert(Object)}, executing the
+	 * pending JDBC batch before returning.
+	 *
+	 * @param entities transient or detached instances
+	 */
+	void upsertMultiple(Collection<?> entities);
+
 	/**
 	 * Delete a row.
 	 *
@@ -80,6 +112,18 @@ public interface StatelessSession extends SharedSessionContract, AutoCloseable {
 	 */
 	void delete(String entityName, Object entity);
 
+	/**
+	 * Execute the pending JDBC batch of inserts, updates and deletes.
+	 * <p/>
+	 * When a JDBC batch size is configured, the statements of this session are batched; the pending batch
+	 * is also executed before any query or load of this session, when the transaction commits, and when
+	 * the session is closed outside of a transaction.  It is discarded if the transaction rolls back.
+	 *
+	 * @see SharedSessionContract#setJdbcBatchSize
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_SIZE
+	 */
+	void flushBatch();
+
 	/**
 	 * Retrieve a row.
 	 *
@@ -36,6 +36,10 @@ public class EntityDeleteAction extends EntityAction {
 	private SoftLock lock;
 	private Object[] naturalIdValues;
 
+	// the outcome of the pre-delete event, when fired ahead of the execution for a bulk delete
+	private Boolean preDeleteVeto;
+	private boolean deletedInBulk;
+
 	/**
 	 * Constructs an EntityDeleteAction.
 	 *
@@ -75,7 +79,7 @@ public class EntityDeleteAction extends EntityAction {
 		final SharedSessionContractImplementor session = getSession();
 		final Object instance = getInstance();
 
-		final boolean veto = preDelete();
+		final boolean veto = preDeleteVeto == null ? preDelete() : preDeleteVeto;
 
 		Object version = this.version;
 		if ( persister.isVersionPropertyGenerated() ) {
@@ -95,7 +99,7 @@ public class EntityDeleteAction extends EntityAction {
 			ck = null;
 		}
 
-		if ( !isCascadeDeleteEnabled && !veto ) {
+		if ( !isCascadeDeleteEnabled && !veto && !deletedInBulk ) {
 			persister.delete( id, version, instance, session );
 		}
 		
@@ -126,6 +130,28 @@ public class EntityDeleteAction extends EntityAction {
 		}
 	}
 
+	/**
+	 * Can the row of this delete be deleted in bulk, along with the rows of the neighbouring deletes of
+	 * instances of the same entity?
+	 *
+	 * @see EntityPersister#canDeleteInBulk()
+	 */
+	public boolean canDeleteInBulk() {
+		return !isCascadeDeleteEnabled && getPersister().canDeleteInBulk();
+	}
+
+	/**
+	 * Prepare for the row of this delete being deleted in bulk ahead of its execution: fire the pre-delete
+	 * event, whose veto excludes the row from the bulk delete, and have the execution skip the row deletion.
+	 *
+	 * @return {@code true} if the delete was vetoed.
+	 */
+	public boolean preBulkDelete() {
+		preDeleteVeto = preDelete();
+		deletedInBulk = !preDeleteVeto;
+		return preDeleteVeto;
+	}
+
 	private boolean preDelete() {
 		boolean veto = false;
 		final EventListenerGroup<PreDeleteEventListener> listenerGroup = listenerGroup( EventType.PRE_DELETE );
@@ -43,6 +43,14 @@ public class QueryHints {
 	 */
 	public static final String CACHEABLE = "org.hibernate.cacheable";
 
+	/**
+	 * Are the cached query results only invalidated by the writes to the rows of the entities they return, rather
+	 * than by any write to the tables they touch?  Only use it for queries whose results cannot change by inserting
+	 * rows, like lookups by identifier.  Ignored unless
+	 * {@link org.hibernate.cfg.AvailableSettings#USE_QUERY_CACHE_ID_INVALIDATION} is enabled.
+	 */
+	public static final String CACHE_INVALIDATION_BY_ID = "org.hibernate.cacheInvalidationById";
+
 	/**
 	 * Is the query callable?  Note: only valid for named native sql queries.
 	 */
@@ -137,4 +145,14 @@ public class QueryHints {
 	 */
 	public static final String PASS_DISTINCT_THROUGH = "hibernate.query.passDistinctThrough";
 
+	/**
+	 * Hint to detach the entities loaded by a {@link org.hibernate.query.Query#stream() streamed} query from the
+	 * persistence context as the stream moves on to the next row, so that streaming keeps a bounded amount of
+	 * memory whatever the number of results.  A value of {@code true} enables the detaching; by default the
+	 * streamed entities stay managed until the Session is cleared or closed.
+	 * <p/>
+	 * Changes made to a streamed entity are lost unless flushed before the stream moves on.
+	 */
+	public static final String DETACH_STREAMED_RESULTS = "hibernate.query.detachStreamedResults";
+
 }
@@ -0,0 +1,375 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.boot.archive.scan.spi;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import org.hibernate.Version;
+import org.hibernate.boot.archive.internal.ByteArrayInputStreamAccess;
+import org.hibernate.boot.archive.internal.UrlInputStreamAccess;
+import org.hibernate.boot.archive.scan.internal.ClassDescriptorImpl;
+import org.hibernate.boot.archive.scan.internal.MappingFileDescriptorImpl;
+import org.hibernate.boot.archive.scan.internal.PackageDescriptorImpl;
+import org.hibernate.boot.archive.scan.internal.ScanResultCollector;
+import org.hibernate.boot.archive.scan.internal.StandardScanOptions;
+import org.hibernate.boot.archive.scan.internal.StandardScanParameters;
+import org.hibernate.boot.archive.scan.internal.StandardScanner;
+import org.hibernate.boot.archive.spi.ArchiveException;
+import org.hibernate.boot.archive.spi.InputStreamAccess;
+
+/**
+ * A pre-computed {@link ScanResult} for a root URL, generated at build time (see the Hibernate Gradle
+ * and Maven plugins) and packaged along with the scanned classes.  At runtime, reading the index replaces
+ * scanning the root URL: the archive is neither walked nor are its class files parsed.
+ * <p/>
+ * The index holds every class, package and (Hibernate or JPA) mapping file found in the root URL; the
+ * {@link ScanOptions} and the explicitly listed names of the runtime {@link ScanEnvironment} are applied
+ * when reading it, exactly as when scanning.  The index also holds a fingerprint of the names and sizes of the
+ * class and mapping files it was generated from: an index written by a different Hibernate version, or whose
+ * fingerprint does not match the root URL it is read for (stale, or generated for other classes), is ignored.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#SCANNER_INDEX
+ */
+public final class ScanIndex {
+	/**
+	 * The conventional location of the index, relative to the root URL.
+	 */
+	public static final String DEFAULT_LOCATION = "META-INF/hibernate-scan.idx";
+
+	private static final int MAGIC = 0x48534958;
+	private static final int FORMAT_VERSION = 2;
+
+	private ScanIndex() {
+	}
+
+	/**
+	 * Scan the given root URLs (typically the class and resource output directories of a build) and
+	 * write the index of what was found.
+	 *
+	 * @param outputStream The stream to write the index to
+	 * @param rootUrls The root URLs to scan
+	 *
+	 * @throws IOException Indicates a problem writing the index
+	 */
+	public static void generate(OutputStream outputStream, URL... rootUrls) throws IOException {
+		final Set<String> packageNames = new TreeSet<>();
+		final TreeMap<String, ClassDescriptor.Categorization> classes = new TreeMap<>();
+		final TreeMap<String, byte[]> mappingFiles = new TreeMap<>();
+
+		final StandardScanner scanner = new StandardScanner();
+		for ( URL rootUrl : rootUrls ) {
+			final ScanResult scanResult = scanner.scan(
+					new BuildTimeScanEnvironment( rootUrl ),
+					new StandardScanOptions( "hbm,class", false ),
+					StandardScanParameters.INSTANCE
+			);
+			for ( PackageDescriptor packageDescriptor : scanResult.getLocatedPackages() ) {
+				packageNames.add( packageDescriptor.getName() );
+			}
+			for ( ClassDescriptor classDescriptor : scanResult.getLocatedClasses() ) {
+				classes.put( classDescriptor.getName(), classDescriptor.getCategorization() );
+			}
+			for ( MappingFileDescriptor mappingFileDescriptor : scanResult.getLocatedMappingFiles() ) {
+				mappingFiles.put( mappingFileDescriptor.getName(), read( mappingFileDescriptor.getStreamAccess() ) );
+			}
+		}
+
+		final String fingerprint = fingerprint( rootUrls );
+		if ( fingerprint == null ) {
+			throw new ArchiveException( "Unable to list the entries of the scanned root urls" );
+		}
+
+		final DataOutputStream output = new DataOutputStream( outputStream );
+		output.writeInt( MAGIC );
+		output.writeInt( FORMAT_VERSION );
+		output.writeUTF( Version.getVersionString() );
+		output.writeUTF( fingerprint );
+
+		output.writeInt( packageNames.size() );
+		for ( String packageName : packageNames ) {
+			output.writeUTF( packageName );
+		}
+
+		output.writeInt( classes.size() );
+		for ( String className : classes.keySet() ) {
+			output.writeUTF( className );
+			output.writeByte( classes.get( className ).ordinal() );
+		}
+
+		// mapping files are usually small, and embedding them spares resolving them later on
+		output.writeInt( mappingFiles.size() );
+		for ( String mappingFileName : mappingFiles.keySet() ) {
+			final byte[] content = mappingFiles.get( mappingFileName );
+			output.writeUTF( mappingFileName );
+			output.writeInt( content.length );
+			output.write( content );
+		}
+		output.flush();
+	}
+
+	/**
+	 * Read the index of the root URL of the given environment.
+	 *
+	 * @param inputStream The stream to read the index from
+	 * @param environment The scan environment
+	 * @param options The scan options
+	 *
+	 * @return The scan result, or {@code null} if the index was written by another Hibernate version, or does
+	 * not match the classes and mapping files of the root URL
+	 *
+	 * @throws IOException Indicates a problem reading the index
+	 */
+	public static ScanResult read(InputStream inputStream, ScanEnvironment environment, ScanOptions options)
+			throws IOException {
+		final DataInputStream input = new DataInputStream( inputStream );
+		if ( input.readInt() != MAGIC ) {
+			throw new ArchiveException( "Not a Hibernate scan index" );
+		}
+		if ( input.readInt() != FORMAT_VERSION || !Version.getVersionString().equals( input.readUTF() ) ) {
+			return null;
+		}
+		final URL rootUrl = environment.getRootUrl();
+		if ( !input.readUTF().equals( fingerprint( rootUrl ) ) ) {
+			return null;
+		}
+
+		final ScanResultCollector collector = new ScanResultCollector(
+				environment,
+				options,
+				StandardScanParameters.INSTANCE
+		);
+
+		final int packageCount = input.readInt();
+		for ( int i = 0; i < packageCount; i++ ) {
+			final String packageName = input.readUTF();
+			collector.handlePackage(
+					new PackageDescriptorImpl(
+							packageName,
+							entryStreamAccess( rootUrl, packageName.replace( '.', '/' ) + "/package-info.class" )
+					),
+					true
+			);
+		}
+
+		final ClassDescriptor.Categorization[] categorizations = ClassDescriptor.Categorization.values();
+		final int classCount = input.readInt();
+		for ( int i = 0; i < classCount; i++ ) {
+			final String className = input.readUTF();
+			collector.handleClass(
+					new ClassDescriptorImpl(
+							className,
+							categorizations[input.readByte()],
+							entryStreamAccess( rootUrl, className.replace( '.', '/' ) + ".class" )
+					),
+					true
+			);
+		}
+
+		final int mappingFileCount = input.readInt();
+		for ( int i = 0; i < mappingFileCount; i++ ) {
+			final String mappingFileName = input.readUTF();
+			final byte[] content = new byte[input.readInt()];
+			input.readFully( content );
+			collector.handleMappingFile(
+					new MappingFileDescriptorImpl(
+							mappingFileName,
+							new ByteArrayInputStreamAccess( mappingFileName, content )
+					),
+					true
+			);
+		}
+
+		return collector.toScanResult();
+	}
+
+	/**
+	 * Resolve the URL of an entry of the given root URL, which is either a directory or a jar.
+	 *
+	 * @param rootUrl The root URL
+	 * @param entryName The name of the entry, relative to the root
+	 *
+	 * @return The entry URL
+	 *
+	 * @throws MalformedURLException Indicates the entry URL could not be built
+	 */
+	public static URL resolveEntry(URL rootUrl, String entryName) throws MalformedURLException {
+		final String root = rootUrl.toExternalForm();
+		if ( "jar".equals( rootUrl.getProtocol() ) ) {
+			if ( !root.contains( "!/" ) ) {
+				return new URL( root + "!/" + entryName );
+			}
+			return new URL( root.endsWith( "/" ) ? root + entryName : root + '/' + entryName );
+		}
+		if ( root.endsWith( "/" ) ) {
+			return new URL( root + entryName );
+		}
+		if ( "file".equals( rootUrl.getProtocol() ) && !new File( rootUrl.getPath() ).isDirectory() ) {
+			return new URL( "jar:" + root + "!/" + entryName );
+		}
+		return new URL( root + '/' + entryName );
+	}
+
+	/**
+	 * Compute the fingerprint of the class and mapping files of the given root URLs, from their names and sizes.
+	 * Listing the entries is much cheaper than scanning them: their content is not read.
+	 *
+	 * @return The fingerprint, or {@code null} if the entries of one of the URLs cannot be listed
+	 */
+	private static String fingerprint(URL... rootUrls) throws IOException {
+		final TreeMap<String, Long> entrySizes = new TreeMap<>();
+		for ( URL rootUrl : rootUrls ) {
+			if ( !collectEntrySizes( rootUrl, entrySizes ) ) {
+				return null;
+			}
+		}
+
+		final MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance( "SHA-256" );
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException( "SHA-256 is not available", e );
+		}
+		for ( Map.Entry<String, Long> entrySize : entrySizes.entrySet() ) {
+			digest.update( ( entrySize.getKey() + '=' + entrySize.getValue() + '\n' ).getBytes( StandardCharsets.UTF_8 ) );
+		}
+
+		final StringBuilder fingerprint = new StringBuilder();
+		for ( byte b : digest.digest() ) {
+			fingerprint.append( Character.forDigit( ( b >> 4 ) & 0xF, 16 ) ).append( Character.forDigit( b & 0xF, 16 ) );
+		}
+		return fingerprint.toString();
+	}
+
+	private static boolean collectEntrySizes(URL rootUrl, Map<String, Long> entrySizes) throws IOException {
+		if ( "jar".equals( rootUrl.getProtocol() ) ) {
+			final String file = rootUrl.getFile();
+			final int separator = file.indexOf( "!/" );
+			// only whole jars are supported, not a directory within a jar
+			if ( separator < 0 || separator + 2 < file.length() ) {
+				return false;
+			}
+			return collectEntrySizes( new URL( file.substring( 0, separator ) ), entrySizes );
+		}
+		if ( !"file".equals( rootUrl.getProtocol() ) ) {
+			return false;
+		}
+
+		final File root = new File( rootUrl.getPath() );
+		if ( root.isDirectory() ) {
+			collectEntrySizes( root, "", entrySizes );
+			return true;
+		}
+		if ( root.isFile() ) {
+			try ( JarFile jarFile = new JarFile( root ) ) {
+				final Enumeration<JarEntry> entries = jarFile.entries();
+				while ( entries.hasMoreElements() ) {
+					final JarEntry entry = entries.nextElement();
+					if ( !entry.isDirectory() && isScanned( entry.getName() ) ) {
+						entrySizes.put( entry.getName(), entry.getSize() );
+					}
+				}
+			}
+			return true;
+		}
+		return false;
+	}
+
+	private static void collectEntrySizes(File directory, String path, Map<String, Long> entrySizes) {
+		final File[] files = directory.listFiles();
+		if ( files == null ) {
+			return;
+		}
+		for ( File file : files ) {
+			final String name = path + file.getName();
+			if ( file.isDirectory() ) {
+				collectEntrySizes( file, name + '/', entrySizes );
+			}
+			else if ( isScanned( name ) ) {
+				entrySizes.put( name, file.length() );
+			}
+		}
+	}
+
+	/**
+	 * Is the given entry one which scanning may locate, that is a class or mapping file?
+	 */
+	private static boolean isScanned(String entryName) {
+		return entryName.endsWith( ".class" )
+				|| entryName.endsWith( "hbm.xml" )
+				|| entryName.endsWith( "META-INF/orm.xml" );
+	}
+
+	private static InputStreamAccess entryStreamAccess(URL rootUrl, String entryName) {
+		try {
+			return new UrlInputStreamAccess( resolveEntry( rootUrl, entryName ) );
+		}
+		catch (MalformedURLException e) {
+			throw new ArchiveException( "Unable to resolve entry [" + entryName + "] of [" + rootUrl + "]", e );
+		}
+	}
+
+	private static byte[] read(InputStreamAccess streamAccess) throws IOException {
+		final ByteArrayOutputStream content = new ByteArrayOutputStream();
+		try ( InputStream inputStream = streamAccess.accessInputStream() ) {
+			final byte[] buffer = new byte[4096];
+			int length;
+			while ( ( length = inputStream.read( buffer ) ) != -1 ) {
+				content.write( buffer, 0, length );
+			}
+		}
+		return content.toByteArray();
+	}
+
+	private static class BuildTimeScanEnvironment implements ScanEnvironment {
+		private final URL rootUrl;
+
+		private BuildTimeScanEnvironment(URL rootUrl) {
+			this.rootUrl = rootUrl;
+		}
+
+		@Override
+		public URL getRootUrl() {
+			return rootUrl;
+		}
+
+		@Override
+		public List<URL> getNonRootUrls() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public List<String> getExplicitlyListedClassNames() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public List<String> getExplicitlyListedMappingFiles() {
+			return Collections.emptyList();
+		}
+	}
+}
@@ -13,6 +13,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 
 import org.hibernate.ConnectionAcquisitionMode;
@@ -64,11 +66,14 @@ import static org.hibernate.cfg.AvailableSettings.ACQUIRE_CONNECTIONS;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_JTA_TRANSACTION_ACCESS;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_REFRESH_DETACHED_ENTITY;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_UPDATE_OUTSIDE_TRANSACTION;
+import static org.hibernate.cfg.AvailableSettings.ASYNC_EXECUTOR;
 import static org.hibernate.cfg.AvailableSettings.AUTO_CLOSE_SESSION;
 import static org.hibernate.cfg.AvailableSettings.AUTO_EVICT_COLLECTION_CACHE;
 import static org.hibernate.cfg.AvailableSettings.AUTO_SESSION_EVENTS_LISTENER;
 import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_STYLE;
 import static org.hibernate.cfg.AvailableSettings.BATCH_VERSIONED_DATA;
+import static org.hibernate.cfg.AvailableSettings.BULK_DELETE_SIZE;
+import static org.hibernate.cfg.AvailableSettings.CACHE_REFRESH_AHEAD_PERCENTAGE;
 import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_PREFIX;
 import static org.hibernate.cfg.AvailableSettings.CHECK_NULLABILITY;
 import static org.hibernate.cfg.AvailableSettings.COLLECTION_JOIN_SUBQUERY;
@@ -84,17 +89,22 @@ import static org.hibernate.cfg.AvailableSettings.FLUSH_BEFORE_COMPLETION;
 import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
 import static org.hibernate.cfg.AvailableSettings.HQL_BULK_ID_STRATEGY;
 import static org.hibernate.cfg.AvailableSettings.INTERCEPTOR;
+import static org.hibernate.cfg.AvailableSettings.IN_CLAUSE_PARAMETER_PADDING;
 import static org.hibernate.cfg.AvailableSettings.JDBC_TIME_ZONE;
 import static org.hibernate.cfg.AvailableSettings.JDBC_TYLE_PARAMS_ZERO_BASE;
 import static org.hibernate.cfg.AvailableSettings.JTA_TRACK_BY_THREAD;
+import static org.hibernate.cfg.AvailableSettings.LAZY_ENTITY_LOADERS;
 import static org.hibernate.cfg.AvailableSettings.LOG_SESSION_METRICS;
 import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
+import static org.hibernate.cfg.AvailableSettings.PARALLEL_PERSISTER_CREATION;
+import static org.hibernate.cfg.AvailableSettings.PERSISTENCE_CONTEXT_OPEN_ADDRESSING_MAPS;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.PROCEDURE_NULL_PARAM_PASSING;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
+import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_SINGLE_FLIGHT_TIMEOUT;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
 import static org.hibernate.cfg.AvailableSettings.QUERY_SUBSTITUTIONS;
 import static org.hibernate.cfg.AvailableSettings.RELEASE_CONNECTIONS;
@@ -104,11 +114,14 @@ import static org.hibernate.cfg.AvailableSettings.SESSION_SCOPED_INTERCEPTOR;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
+import static org.hibernate.cfg.AvailableSettings.USE_COMPACT_QUERY_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_GET_GENERATED_KEYS;
 import static org.hibernate.cfg.AvailableSettings.USE_IDENTIFIER_ROLLBACK;
 import static org.hibernate.cfg.AvailableSettings.USE_MINIMAL_PUTS;
 import static org.hibernate.cfg.AvailableSettings.USE_QUERY_CACHE;
+import static org.hibernate.cfg.AvailableSettings.USE_QUERY_CACHE_ID_INVALIDATION;
+import static org.hibernate.cfg.AvailableSettings.USE_QUERY_CACHE_SINGLE_FLIGHT;
 import static org.hibernate.cfg.AvailableSettings.USE_SCROLLABLE_RESULTSET;
 import static org.hibernate.cfg.AvailableSettings.USE_SECOND_LEVEL_CACHE;
 import static org.hibernate.cfg.AvailableSettings.USE_SQL_COMMENTS;
@@ -149,6 +162,17 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean allowOutOfTransactionUpdateOperations;
 	private boolean releaseResourcesOnCloseEnabled;
 	private boolean allowRefreshDetachedEntity;
+	private boolean persistenceContextOpenAddressingMapsEnabled;
+	private boolean parallelPersisterCreationEnabled;
+	private boolean lazyEntityLoadersEnabled;
+	private Executor asyncExecutor;
+	private int bulkDeleteSize;
+	private boolean inClauseParameterPaddingEnabled;
+	private boolean compactQueryCacheEntriesEnabled;
+	private boolean queryCacheIdInvalidationEnabled;
+	private boolean queryCacheSingleFlightEnabled;
+	private int queryCacheSingleFlightTimeout;
+	private int cacheRefreshAheadPercentage;
 
 	// (JTA) transaction handling
 	private boolean jtaTrackByThread;
@@ -455,6 +479,56 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				configurationSettings,
 				false
 		);
+
+		this.persistenceContextOpenAddressingMapsEnabled = ConfigurationHelper.getBoolean(
+				PERSISTENCE_CONTEXT_OPEN_ADDRESSING_MAPS,
+				configurationSettings,
+				false
+		);
+
+		this.parallelPersisterCreationEnabled = ConfigurationHelper.getBoolean(
+				PARALLEL_PERSISTER_CREATION,
+				configurationSettings,
+				false
+		);
+
+		this.lazyEntityLoadersEnabled = ConfigurationHelper.getBoolean(
+				LAZY_ENTITY_LOADERS,
+				configurationSettings,
+				false
+		);
+
+		this.asyncExecutor = determineAsyncExecutor( configurationSettings, strategySelector );
+
+		this.bulkDeleteSize = ConfigurationHelper.getInt( BULK_DELETE_SIZE, configurationSettings, 0 );
+
+		this.inClauseParameterPaddingEnabled = ConfigurationHelper.getBoolean(
+				IN_CLAUSE_PARAMETER_PADDING,
+				configurationSettings,
+				false
+		);
+
+		this.compactQueryCacheEntriesEnabled = ConfigurationHelper.getBoolean(
+				USE_COMPACT_QUERY_CACHE_ENTRIES,
+				configurationSettings,
+				false
+		);
+
+		this.queryCacheIdInvalidationEnabled = ConfigurationHelper.getBoolean(
+				USE_QUERY_CACHE_ID_INVALIDATION,
+				configurationSettings,
+				false
+		);
+
+		this.queryCacheSingleFlightEnabled = ConfigurationHelper.getBoolean(
+				USE_QUERY_CACHE_SINGLE_FLIGHT,
+				configurationSettings,
+				false
+		);
+
+		this.queryCacheSingleFlightTimeout = ConfigurationHelper.getInt( QUERY_CACHE_SINGLE_FLIGHT_TIMEOUT, configurationSettings, 5000 );
+
+		this.cacheRefreshAheadPercentage = ConfigurationHelper.getInt( CACHE_REFRESH_AHEAD_PERCENTAGE, configurationSettings, 0 );
 	}
 
 	@SuppressWarnings("deprecation")
@@ -525,6 +599,23 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		};
 	}
 
+	private static Executor determineAsyncExecutor(Map configurationSettings, StrategySelector strategySelector) {
+		final Object setting = configurationSettings.get( ASYNC_EXECUTOR );
+		if ( "virtual".equals( setting ) ) {
+			try {
+				// Executors.newVirtualThreadPerTaskExecutor() only exists on newer JDKs
+				return (Executor) Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" ).invoke( null );
+			}
+			catch (ReflectiveOperationException e) {
+				throw new HibernateException(
+						"Configuration property " + ASYNC_EXECUTOR + " value [virtual] requires a JDK supporting virtual threads",
+						e
+				);
+			}
+		}
+		return strategySelector.resolveStrategy( Executor.class, setting );
+	}
+
 	@SuppressWarnings("deprecation")
 	private PhysicalConnectionHandlingMode interpretConnectionHandlingMode(
 			Map configurationSettings,
@@ -948,6 +1039,61 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return jpaCompliance;
 	}
 
+	@Override
+	public boolean isPersistenceContextOpenAddressingMapsEnabled() {
+		return persistenceContextOpenAddressingMapsEnabled;
+	}
+
+	@Override
+	public boolean isParallelPersisterCreationEnabled() {
+		return parallelPersisterCreationEnabled;
+	}
+
+	@Override
+	public boolean isLazyEntityLoadersEnabled() {
+		return lazyEntityLoadersEnabled;
+	}
+
+	@Override
+	public Executor getAsyncExecutor() {
+		return asyncExecutor;
+	}
+
+	@Override
+	public int getBulkDeleteSize() {
+		return bulkDeleteSize;
+	}
+
+	@Override
+	public boolean inClauseParameterPaddingEnabled() {
+		return inClauseParameterPaddingEnabled;
+	}
+
+	@Override
+	public boolean isCompactQueryCacheEntriesEnabled() {
+		return compactQueryCacheEntriesEnabled;
+	}
+
+	@Override
+	public boolean isQueryCacheIdInvalidationEnabled() {
+		return queryCacheIdInvalidationEnabled;
+	}
+
+	@Override
+	public boolean isQueryCacheSingleFlightEnabled() {
+		return queryCacheSingleFlightEnabled;
+	}
+
+	@Override
+	public int getQueryCacheSingleFlightTimeout() {
+		return queryCacheSingleFlightTimeout;
+	}
+
+	@Override
+	public int getCacheRefreshAheadPercentage() {
+		return cacheRefreshAheadPercentage;
+	}
+
 
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
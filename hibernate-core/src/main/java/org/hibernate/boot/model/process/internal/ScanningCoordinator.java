@@ -6,7 +6,10 @@
  */
 package org.hibernate.boot.model.process.internal;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Constructor;
+import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -23,9 +26,11 @@ import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
 import org.hibernate.boot.archive.scan.spi.MappingFileDescriptor;
 import org.hibernate.boot.archive.scan.spi.PackageDescriptor;
 import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.ScanIndex;
 import org.hibernate.boot.archive.scan.spi.ScanResult;
 import org.hibernate.boot.archive.scan.spi.Scanner;
 import org.hibernate.boot.archive.spi.ArchiveDescriptorFactory;
+import org.hibernate.boot.archive.spi.ArchiveException;
 import org.hibernate.boot.internal.ClassLoaderAccessImpl;
 import org.hibernate.boot.jaxb.Origin;
 import org.hibernate.boot.jaxb.SourceType;
@@ -34,6 +39,9 @@ import org.hibernate.boot.spi.ClassLoaderAccess;
 import org.hibernate.boot.spi.MetadataBuildingOptions;
 import org.hibernate.boot.spi.XmlMappingBinderAccess;
 import org.hibernate.cfg.AttributeConverterDefinition;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.service.ServiceRegistry;
 
 import org.jboss.logging.Logger;
@@ -71,16 +79,75 @@ public class ScanningCoordinator {
 
 		// NOTE : the idea with JandexInitializer/JandexInitManager was to allow adding classes
 		// to the index as we discovered them via scanning and .  Currently
-		final Scanner scanner = buildScanner( options, classLoaderAccess );
-		final ScanResult scanResult = scanner.scan(
-				options.getScanEnvironment(),
-				options.getScanOptions(),
-				StandardScanParameters.INSTANCE
-		);
+		ScanResult scanResult = readScanIndex( options );
+		if ( scanResult == null ) {
+			final Scanner scanner = buildScanner( options, classLoaderAccess );
+			scanResult = scanner.scan(
+					options.getScanEnvironment(),
+					options.getScanOptions(),
+					StandardScanParameters.INSTANCE
+			);
+		}
 
 		applyScanResultsToManagedResources( managedResources, scanResult, options, xmlMappingBinderAccess );
 	}
 
+	private static ScanResult readScanIndex(MetadataBuildingOptions options) {
+		final String indexLocation = ConfigurationHelper.getString(
+				AvailableSettings.SCANNER_INDEX,
+				options.getServiceRegistry().getService( ConfigurationService.class ).getSettings()
+		);
+		final ScanEnvironment scanEnvironment = options.getScanEnvironment();
+		if ( indexLocation == null || scanEnvironment.getRootUrl() == null ) {
+			return null;
+		}
+		if ( scanEnvironment.getNonRootUrls() != null && !scanEnvironment.getNonRootUrls().isEmpty() ) {
+			// the index only covers the root url
+			log.debugf( "Ignoring scan index as the persistence unit [%s] has non-root urls", scanEnvironment.getRootUrl() );
+			return null;
+		}
+
+		final URL indexUrl;
+		try {
+			indexUrl = ScanIndex.resolveEntry( scanEnvironment.getRootUrl(), indexLocation );
+		}
+		catch (MalformedURLException e) {
+			log.debugf( "Unable to resolve scan index [%s] of [%s]", indexLocation, scanEnvironment.getRootUrl() );
+			return null;
+		}
+
+		final InputStream inputStream;
+		try {
+			inputStream = indexUrl.openStream();
+		}
+		catch (IOException e) {
+			log.debugf( "No scan index found at [%s], scanning", indexUrl );
+			return null;
+		}
+
+		try {
+			final ScanResult scanResult = ScanIndex.read( inputStream, scanEnvironment, options.getScanOptions() );
+			if ( scanResult == null ) {
+				log.infof(
+						"Ignoring scan index [%s] written by another Hibernate version, or not matching the classes and mapping files of [%s]; scanning",
+						indexUrl,
+						scanEnvironment.getRootUrl()
+				);
+			}
+			return scanResult;
+		}
+		catch (IOException e) {
+			throw new ArchiveException( "Unable to read scan index [" + indexUrl + "]", e );
+		}
+		finally {
+			try {
+				inputStream.close();
+			}
+			catch (IOException ignore) {
+			}
+		}
+	}
+
 	private static final Class[] SINGLE_ARG = new Class[] { ArchiveDescriptorFactory.class };
 
 	@SuppressWarnings("unchecked")
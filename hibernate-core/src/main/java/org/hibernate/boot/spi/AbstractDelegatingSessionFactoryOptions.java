@@ -32,6 +32,7 @@ import org.hibernate.tuple.entity.EntityTuplizerFactory;
 
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 /**
@@ -406,4 +407,59 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 	public boolean isFailOnPaginationOverCollectionFetchEnabled() {
 		return delegate.isFailOnPaginationOverCollectionFetchEnabled();
 	}
+
+	@Override
+	public boolean isPersistenceContextOpenAddressingMapsEnabled() {
+		return delegate.isPersistenceContextOpenAddressingMapsEnabled();
+	}
+
+	@Override
+	public boolean isParallelPersisterCreationEnabled() {
+		return delegate.isParallelPersisterCreationEnabled();
+	}
+
+	@Override
+	public boolean isLazyEntityLoadersEnabled() {
+		return delegate.isLazyEntityLoadersEnabled();
+	}
+
+	@Override
+	public Executor getAsyncExecutor() {
+		return delegate.getAsyncExecutor();
+	}
+
+	@Override
+	public int getBulkDeleteSize() {
+		return delegate.getBulkDeleteSize();
+	}
+
+	@Override
+	public boolean inClauseParameterPaddingEnabled() {
+		return delegate.inClauseParameterPaddingEnabled();
+	}
+
+	@Override
+	public boolean isCompactQueryCacheEntriesEnabled() {
+		return delegate.isCompactQueryCacheEntriesEnabled();
+	}
+
+	@Override
+	public boolean isQueryCacheIdInvalidationEnabled() {
+		return delegate.isQueryCacheIdInvalidationEnabled();
+	}
+
+	@Override
+	public boolean isQueryCacheSingleFlightEnabled() {
+		return delegate.isQueryCacheSingleFlightEnabled();
+	}
+
+	@Override
+	public int getQueryCacheSingleFlightTimeout() {
+		return delegate.getQueryCacheSingleFlightTimeout();
+	}
+
+	@Override
+	public int getCacheRefreshAheadPercentage() {
+		return delegate.getCacheRefreshAheadPercentage();
+	}
 }
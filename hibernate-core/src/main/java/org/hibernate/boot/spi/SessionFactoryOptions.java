@@ -33,6 +33,7 @@ import org.hibernate.tuple.entity.EntityTuplizerFactory;
 
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 /**
@@ -262,4 +263,48 @@ public interface SessionFactoryOptions {
 	JpaCompliance getJpaCompliance();
 
 	boolean isFailOnPaginationOverCollectionFetchEnabled();
+
+	default boolean isPersistenceContextOpenAddressingMapsEnabled() {
+		return false;
+	}
+
+	default boolean isParallelPersisterCreationEnabled() {
+		return false;
+	}
+
+	default boolean isLazyEntityLoadersEnabled() {
+		return false;
+	}
+
+	default Executor getAsyncExecutor() {
+		return null;
+	}
+
+	default int getBulkDeleteSize() {
+		return 0;
+	}
+
+	default boolean inClauseParameterPaddingEnabled() {
+		return false;
+	}
+
+	default boolean isCompactQueryCacheEntriesEnabled() {
+		return false;
+	}
+
+	default boolean isQueryCacheIdInvalidationEnabled() {
+		return false;
+	}
+
+	default boolean isQueryCacheSingleFlightEnabled() {
+		return false;
+	}
+
+	default int getQueryCacheSingleFlightTimeout() {
+		return 5000;
+	}
+
+	default int getCacheRefreshAheadPercentage() {
+		return 0;
+	}
 }
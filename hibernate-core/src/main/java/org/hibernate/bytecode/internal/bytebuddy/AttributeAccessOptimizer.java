@@ -0,0 +1,62 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.internal.bytebuddy;
+
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.Setter;
+
+/**
+ * An {@link ReflectionOptimizer.AccessOptimizer} combining a generated accessor, which handles
+ * the attributes accessible from generated code, with the {@link Getter}s and {@link Setter}s
+ * of the remaining attributes (private members, typically).
+ */
+final class AttributeAccessOptimizer implements ReflectionOptimizer.AccessOptimizer {
+	private final ReflectionOptimizer.AccessOptimizer generatedAccessor;
+	private final Getter[] fallbackGetters;
+	private final Setter[] fallbackSetters;
+
+	/**
+	 * @param generatedAccessor The generated accessor
+	 * @param fallbackGetters The getters to use for the attributes the generated accessor does not read, {@code null} elsewhere
+	 * @param fallbackSetters The setters to use for the attributes the generated accessor does not write, {@code null} elsewhere
+	 */
+	AttributeAccessOptimizer(
+			ReflectionOptimizer.AccessOptimizer generatedAccessor,
+			Getter[] fallbackGetters,
+			Setter[] fallbackSetters) {
+		this.generatedAccessor = generatedAccessor;
+		this.fallbackGetters = fallbackGetters;
+		this.fallbackSetters = fallbackSetters;
+	}
+
+	@Override
+	public String[] getPropertyNames() {
+		return generatedAccessor.getPropertyNames();
+	}
+
+	@Override
+	public Object[] getPropertyValues(Object object) {
+		final Object[] values = generatedAccessor.getPropertyValues( object );
+		for ( int i = 0; i < fallbackGetters.length; i++ ) {
+			if ( fallbackGetters[i] != null ) {
+				values[i] = fallbackGetters[i].get( object );
+			}
+		}
+		return values;
+	}
+
+	@Override
+	public void setPropertyValues(Object object, Object[] values) {
+		generatedAccessor.setPropertyValues( object, values );
+		for ( int i = 0; i < fallbackSetters.length; i++ ) {
+			if ( fallbackSetters[i] != null ) {
+				fallbackSetters[i].set( object, values[i], null );
+			}
+		}
+	}
+}
@@ -7,6 +7,8 @@
 package org.hibernate.bytecode.internal.bytebuddy;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.concurrent.Callable;
@@ -19,11 +21,19 @@ import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.GetterFieldImpl;
+import org.hibernate.property.access.spi.GetterMethodImpl;
+import org.hibernate.property.access.spi.Setter;
+import org.hibernate.property.access.spi.SetterFieldImpl;
+import org.hibernate.property.access.spi.SetterMethodImpl;
 
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.NamingStrategy;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.loading.ClassInjector;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.MethodCall;
@@ -36,11 +46,14 @@ import net.bytebuddy.jar.asm.MethodVisitor;
 import net.bytebuddy.jar.asm.Opcodes;
 import net.bytebuddy.jar.asm.Type;
 import net.bytebuddy.matcher.ElementMatchers;
+import net.bytebuddy.utility.RandomString;
 
 public class BytecodeProviderImpl implements BytecodeProvider {
 
 	private final TypeCache<String> FAST_CLASSES = new TypeCache.WithInlineExpunction<String>(TypeCache.Sort.SOFT);
 	private final TypeCache<String> BULK_ACCESSORS = new TypeCache.WithInlineExpunction<String>(TypeCache.Sort.SOFT);
+	private final TypeCache<String> INSTANTIATORS = new TypeCache.WithInlineExpunction<String>(TypeCache.Sort.SOFT);
+	private final TypeCache<String> ATTRIBUTE_ACCESSORS = new TypeCache.WithInlineExpunction<String>(TypeCache.Sort.SOFT);
 
 	@Override
 	public ProxyFactoryFactory getProxyFactoryFactory() {
@@ -105,6 +118,314 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	@Override
+	public ReflectionOptimizer getReflectionOptimizer(
+			final Class clazz,
+			final String[] propertyNames,
+			final Getter[] getters,
+			final Setter[] setters) {
+		if ( clazz.getClassLoader() == null || clazz.isInterface() || Modifier.isPrivate( clazz.getModifiers() ) ) {
+			return null;
+		}
+
+		// when the generated classes can be injected in the class loader of the entity, they belong to the
+		// same runtime package and can access any non-private member of the entity package; otherwise only
+		// the public members of public classes are accessible
+		final boolean packageAccess = ClassInjector.UsingReflection.isAvailable();
+		final ClassLoadingStrategy<ClassLoader> loadingStrategy = packageAccess
+				? ClassLoadingStrategy.Default.INJECTION
+				: ClassLoadingStrategy.Default.WRAPPER;
+
+		final Member[] readers = new Member[getters.length];
+		final Member[] writers = new Member[setters.length];
+		final Getter[] fallbackGetters = new Getter[getters.length];
+		final Setter[] fallbackSetters = new Setter[setters.length];
+		boolean hasFallback = false;
+		final StringBuilder signature = new StringBuilder( clazz.getName() );
+		for ( int i = 0; i < getters.length; i++ ) {
+			readers[i] = findReader( clazz, getters[i], packageAccess );
+			if ( readers[i] == null ) {
+				fallbackGetters[i] = getters[i];
+				hasFallback = true;
+			}
+			writers[i] = findWriter( clazz, setters[i], packageAccess );
+			if ( writers[i] == null ) {
+				fallbackSetters[i] = setters[i];
+				hasFallback = true;
+			}
+			signature.append( ';' ).append( describe( readers[i] ) ).append( ',' ).append( describe( writers[i] ) );
+		}
+
+		final Constructor<?> constructor = findAccessibleConstructor( clazz, packageAccess );
+		Class instantiator = null;
+		if ( constructor != null ) {
+			instantiator = INSTANTIATORS.findOrInsert( clazz.getClassLoader(), clazz.getName(), new Callable<Class<?>>() {
+				@Override
+				public Class<?> call() throws Exception {
+					return new ByteBuddy()
+							.with(TypeValidation.DISABLED)
+							.subclass(ReflectionOptimizer.InstantiationOptimizer.class)
+							.name(clazz.getName() + "$HibernateInstantiator$" + RandomString.make())
+							.method(ElementMatchers.named("newInstance"))
+							.intercept(MethodCall.construct(constructor))
+							.make()
+							.load(clazz.getClassLoader(), loadingStrategy)
+							.getLoaded();
+				}
+			}, INSTANTIATORS);
+		}
+
+		final Class accessor = ATTRIBUTE_ACCESSORS.findOrInsert( clazz.getClassLoader(), signature.toString(), new Callable<Class<?>>() {
+			@Override
+			public Class<?> call() throws Exception {
+				return new ByteBuddy()
+						.with(TypeValidation.DISABLED)
+						.subclass(ReflectionOptimizer.AccessOptimizer.class)
+						.name(clazz.getName() + "$HibernateAccessOptimizer$" + RandomString.make())
+						.method(ElementMatchers.named("getPropertyValues"))
+						.intercept(new Implementation.Simple(new GetAttributeValues(readers)))
+						.method(ElementMatchers.named("setPropertyValues"))
+						.intercept(new Implementation.Simple(new SetAttributeValues(writers)))
+						.method(ElementMatchers.named("getPropertyNames"))
+						.intercept(MethodCall.call(new CloningPropertyCall(propertyNames)))
+						.make()
+						.load(clazz.getClassLoader(), loadingStrategy)
+						.getLoaded();
+			}
+		}, ATTRIBUTE_ACCESSORS);
+
+		try {
+			final ReflectionOptimizer.AccessOptimizer generatedAccessor = (ReflectionOptimizer.AccessOptimizer) accessor.newInstance();
+			return new ReflectionOptimizerImpl(
+					instantiator == null ? null : (ReflectionOptimizer.InstantiationOptimizer) instantiator.newInstance(),
+					hasFallback ? new AttributeAccessOptimizer( generatedAccessor, fallbackGetters, fallbackSetters ) : generatedAccessor
+			);
+		}
+		catch (Exception exception) {
+			throw new HibernateException( exception );
+		}
+	}
+
+	/**
+	 * The field or method read by the given getter, if generated code can access it.
+	 */
+	private static Member findReader(Class clazz, Getter getter, boolean packageAccess) {
+		final Class getterClass = getter.getClass();
+		if ( getterClass != GetterFieldImpl.class && getterClass != GetterMethodImpl.class ) {
+			// enhanced or custom getters have additional semantic
+			return null;
+		}
+		final Member member = getter.getMember();
+		if ( member instanceof Method && ( (Method) member ).getParameterTypes().length != 0 ) {
+			return null;
+		}
+		return isAccessible( clazz, member, packageAccess ) ? member : null;
+	}
+
+	/**
+	 * The field or method written by the given setter, if generated code can access it.
+	 */
+	private static Member findWriter(Class clazz, Setter setter, boolean packageAccess) {
+		final Member member;
+		if ( setter.getClass() == SetterFieldImpl.class ) {
+			member = ( (SetterFieldImpl) setter ).getField();
+			if ( Modifier.isFinal( member.getModifiers() ) ) {
+				return null;
+			}
+		}
+		else if ( setter.getClass() == SetterMethodImpl.class ) {
+			member = setter.getMethod();
+		}
+		else {
+			// enhanced or custom setters have additional semantic
+			return null;
+		}
+		return isAccessible( clazz, member, packageAccess ) ? member : null;
+	}
+
+	private static boolean isAccessible(Class clazz, Member member, boolean packageAccess) {
+		if ( member == null || Modifier.isStatic( member.getModifiers() ) ) {
+			return false;
+		}
+		final Class declaringClass = member.getDeclaringClass();
+		if ( !declaringClass.isAssignableFrom( clazz ) ) {
+			return false;
+		}
+		if ( Modifier.isPublic( member.getModifiers() ) && Modifier.isPublic( declaringClass.getModifiers() ) ) {
+			return true;
+		}
+		// protected members are only accessible from the same package as well, the generated class
+		// not being a subclass of the declaring class
+		return packageAccess
+				&& !Modifier.isPrivate( member.getModifiers() )
+				&& !Modifier.isPrivate( declaringClass.getModifiers() )
+				&& declaringClass.getClassLoader() == clazz.getClassLoader()
+				&& packageName( declaringClass ).equals( packageName( clazz ) );
+	}
+
+	private static String packageName(Class clazz) {
+		final String name = clazz.getName();
+		final int index = name.lastIndexOf( '.' );
+		return index < 0 ? "" : name.substring( 0, index );
+	}
+
+	private static String describe(Member member) {
+		if ( member == null ) {
+			return "";
+		}
+		return member.getDeclaringClass().getName() + '#' + member.getName();
+	}
+
+	private static Constructor<?> findAccessibleConstructor(Class clazz, boolean packageAccess) {
+		if ( Modifier.isAbstract( clazz.getModifiers() ) ) {
+			return null;
+		}
+		try {
+			final Constructor<?> constructor = clazz.getDeclaredConstructor();
+			return isAccessible( clazz, constructor, packageAccess ) ? constructor : null;
+		}
+		catch (NoSuchMethodException e) {
+			return null;
+		}
+	}
+
+	private static void readMember(MethodVisitor methodVisitor, Member member) {
+		final String owner = Type.getInternalName( member.getDeclaringClass() );
+		if ( member instanceof Field ) {
+			final Field field = (Field) member;
+			methodVisitor.visitFieldInsn( Opcodes.GETFIELD, owner, field.getName(), Type.getDescriptor( field.getType() ) );
+		}
+		else {
+			final Method method = (Method) member;
+			final boolean isInterface = method.getDeclaringClass().isInterface();
+			methodVisitor.visitMethodInsn(
+					isInterface ? Opcodes.INVOKEINTERFACE : Opcodes.INVOKEVIRTUAL,
+					owner,
+					method.getName(),
+					Type.getMethodDescriptor( method ),
+					isInterface
+			);
+		}
+	}
+
+	private static void writeMember(MethodVisitor methodVisitor, Member member) {
+		final String owner = Type.getInternalName( member.getDeclaringClass() );
+		if ( member instanceof Field ) {
+			final Field field = (Field) member;
+			methodVisitor.visitFieldInsn( Opcodes.PUTFIELD, owner, field.getName(), Type.getDescriptor( field.getType() ) );
+		}
+		else {
+			final Method method = (Method) member;
+			final boolean isInterface = method.getDeclaringClass().isInterface();
+			methodVisitor.visitMethodInsn(
+					isInterface ? Opcodes.INVOKEINTERFACE : Opcodes.INVOKEVIRTUAL,
+					owner,
+					method.getName(),
+					Type.getMethodDescriptor( method ),
+					isInterface
+			);
+			if ( method.getReturnType() != void.class ) {
+				// fluent setters
+				methodVisitor.visitInsn( method.getReturnType() == long.class || method.getReturnType() == double.class
+						? Opcodes.POP2
+						: Opcodes.POP );
+			}
+		}
+	}
+
+	private static Class readType(Member member) {
+		return member instanceof Field ? ( (Field) member ).getType() : ( (Method) member ).getReturnType();
+	}
+
+	private static Class writeType(Member member) {
+		return member instanceof Field ? ( (Field) member ).getType() : ( (Method) member ).getParameterTypes()[0];
+	}
+
+	private static class GetAttributeValues implements ByteCodeAppender {
+
+		private final Member[] readers;
+
+		public GetAttributeValues(Member[] readers) {
+			this.readers = readers;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			methodVisitor.visitLdcInsn( readers.length );
+			methodVisitor.visitTypeInsn( Opcodes.ANEWARRAY, Type.getInternalName( Object.class ) );
+			for ( int index = 0; index < readers.length; index++ ) {
+				final Member reader = readers[index];
+				if ( reader == null ) {
+					continue;
+				}
+				methodVisitor.visitInsn( Opcodes.DUP );
+				methodVisitor.visitLdcInsn( index );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+				methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, Type.getInternalName( reader.getDeclaringClass() ) );
+				readMember( methodVisitor, reader );
+				final Class type = readType( reader );
+				if ( type.isPrimitive() ) {
+					PrimitiveBoxingDelegate.forPrimitive( new TypeDescription.ForLoadedType( type ) )
+							.assignBoxedTo(
+									TypeDescription.Generic.OBJECT,
+									ReferenceTypeAwareAssigner.INSTANCE,
+									Assigner.Typing.STATIC
+							)
+							.apply( methodVisitor, implementationContext );
+				}
+				methodVisitor.visitInsn( Opcodes.AASTORE );
+			}
+			methodVisitor.visitInsn( Opcodes.ARETURN );
+			return new Size( 6, instrumentedMethod.getStackSize() );
+		}
+	}
+
+	private static class SetAttributeValues implements ByteCodeAppender {
+
+		private final Member[] writers;
+
+		public SetAttributeValues(Member[] writers) {
+			this.writers = writers;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			for ( int index = 0; index < writers.length; index++ ) {
+				final Member writer = writers[index];
+				if ( writer == null ) {
+					continue;
+				}
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+				methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, Type.getInternalName( writer.getDeclaringClass() ) );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 2 );
+				methodVisitor.visitLdcInsn( index );
+				methodVisitor.visitInsn( Opcodes.AALOAD );
+				final Class type = writeType( writer );
+				if ( type.isPrimitive() ) {
+					PrimitiveUnboxingDelegate.forReferenceType( TypeDescription.Generic.OBJECT )
+							.assignUnboxedTo(
+									new TypeDescription.Generic.OfNonGenericType.ForLoadedType( type ),
+									ReferenceTypeAwareAssigner.INSTANCE,
+									Assigner.Typing.DYNAMIC
+							)
+							.apply( methodVisitor, implementationContext );
+				}
+				else {
+					methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, Type.getInternalName( type ) );
+				}
+				writeMember( methodVisitor, writer );
+			}
+			methodVisitor.visitInsn( Opcodes.RETURN );
+			return new Size( 4, instrumentedMethod.getStackSize() );
+		}
+	}
+
 	private static class GetPropertyValues implements ByteCodeAppender {
 
 		private final Class clazz;
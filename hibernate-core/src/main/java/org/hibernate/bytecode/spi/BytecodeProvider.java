@@ -8,6 +8,8 @@ package org.hibernate.bytecode.spi;
 
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.Setter;
 
 /**
  * Contract for providers of bytecode services to Hibernate.
@@ -40,6 +42,29 @@ public interface BytecodeProvider {
 	 */
 	ReflectionOptimizer getReflectionOptimizer(Class clazz, String[] getterNames, String[] setterNames, Class[] types);
 
+	/**
+	 * Retrieve the ReflectionOptimizer delegate for this provider capable of generating
+	 * reflection optimization components from the resolved persistent attribute accessors.
+	 * <p/>
+	 * Unlike {@link #getReflectionOptimizer(Class, String[], String[], Class[])}, field access is
+	 * supported and all attributes do not need to be eligible: those which cannot be accessed
+	 * from generated code (private members, non-standard accessors, ...) are expected to be
+	 * accessed through the given {@link Getter}/{@link Setter}.
+	 *
+	 * @param clazz The class to be reflected upon.
+	 * @param propertyNames The names of the properties to be accessed.
+	 * @param getters The getters of the properties to be accessed.
+	 * @param setters The setters of the properties to be accessed.
+	 * @return The reflection optimization delegate, or {@code null} if not supported by this provider.
+	 */
+	default ReflectionOptimizer getReflectionOptimizer(
+			Class clazz,
+			String[] propertyNames,
+			Getter[] getters,
+			Setter[] setters) {
+		return null;
+	}
+
 	/**
 	 * Returns a byte code enhancer that implements the enhancements described in the supplied enhancement context.
 	 *
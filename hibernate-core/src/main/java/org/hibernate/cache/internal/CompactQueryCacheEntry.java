@@ -0,0 +1,285 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The compact form of the results cached by {@link StandardQueryCache}, storing the disassembled
+ * results column by column.  The columns only holding {@code Long}, {@code Integer} or {@code String}
+ * values, such as the identifiers of returned entities, are encoded into a single byte array using
+ * variable-length integers; the other columns are kept as arrays of their disassembled values.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#USE_COMPACT_QUERY_CACHE_ENTRIES
+ */
+public final class CompactQueryCacheEntry implements Serializable {
+	private static final byte LONG = 1;
+	private static final byte INTEGER = 2;
+	private static final byte STRING = 3;
+
+	private final long timestamp;
+	private final int rowCount;
+	private final int columnCount;
+	private final boolean singleResult;
+	private final byte[] encodedColumns;
+	// indexed by column, null for the encoded columns
+	private final Serializable[][] otherColumns;
+
+	private CompactQueryCacheEntry(
+			long timestamp,
+			int rowCount,
+			int columnCount,
+			boolean singleResult,
+			byte[] encodedColumns,
+			Serializable[][] otherColumns) {
+		this.timestamp = timestamp;
+		this.rowCount = rowCount;
+		this.columnCount = columnCount;
+		this.singleResult = singleResult;
+		this.encodedColumns = encodedColumns;
+		this.otherColumns = otherColumns;
+	}
+
+	/**
+	 * Build the entry from the disassembled results.
+	 *
+	 * @param timestamp The timestamp of the cached results
+	 * @param rows The disassembled rows: the values themselves for a single result column, or a
+	 * {@code Serializable[]} per row otherwise
+	 * @param columnCount The number of result columns
+	 */
+	public static CompactQueryCacheEntry from(long timestamp, List<Serializable> rows, int columnCount) {
+		final boolean singleResult = columnCount == 1;
+		final int rowCount = rows.size();
+		final Encoder encoder = new Encoder( rowCount * columnCount * 2 + 16 );
+		final Serializable[][] otherColumns = new Serializable[columnCount][];
+
+		for ( int column = 0; column < columnCount; column++ ) {
+			final Serializable[] values = new Serializable[rowCount];
+			for ( int row = 0; row < rowCount; row++ ) {
+				values[row] = singleResult ? rows.get( row ) : ( (Serializable[]) rows.get( row ) )[column];
+			}
+			final byte kind = determineKind( values );
+			if ( kind == 0 ) {
+				otherColumns[column] = values;
+			}
+			else {
+				encoder.writeByte( kind );
+				encodeColumn( encoder, kind, values );
+			}
+		}
+
+		return new CompactQueryCacheEntry(
+				timestamp,
+				rowCount,
+				columnCount,
+				singleResult,
+				encoder.toByteArray(),
+				otherColumns
+		);
+	}
+
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * Decode the entry back to the disassembled rows.
+	 *
+	 * @return The rows, in the form they were passed to {@link #from}
+	 */
+	public List<Serializable> getRows() {
+		final Serializable[][] columns = new Serializable[columnCount][];
+		final Decoder decoder = new Decoder( encodedColumns );
+		for ( int column = 0; column < columnCount; column++ ) {
+			columns[column] = otherColumns[column] != null
+					? otherColumns[column]
+					: decodeColumn( decoder, decoder.readByte(), rowCount );
+		}
+
+		final List<Serializable> rows = new ArrayList<>( rowCount );
+		for ( int row = 0; row < rowCount; row++ ) {
+			if ( singleResult ) {
+				rows.add( columns[0][row] );
+			}
+			else {
+				final Serializable[] values = new Serializable[columnCount];
+				for ( int column = 0; column < columnCount; column++ ) {
+					values[column] = columns[column][row];
+				}
+				rows.add( values );
+			}
+		}
+		return rows;
+	}
+
+	private static byte determineKind(Serializable[] values) {
+		byte kind = 0;
+		for ( Serializable value : values ) {
+			if ( value == null ) {
+				continue;
+			}
+			final byte valueKind;
+			if ( value.getClass() == Long.class ) {
+				valueKind = LONG;
+			}
+			else if ( value.getClass() == Integer.class ) {
+				valueKind = INTEGER;
+			}
+			else if ( value.getClass() == String.class ) {
+				valueKind = STRING;
+			}
+			else {
+				return 0;
+			}
+			if ( kind != 0 && kind != valueKind ) {
+				return 0;
+			}
+			kind = valueKind;
+		}
+		// a column of nulls only is encoded as a column of longs
+		return kind == 0 ? LONG : kind;
+	}
+
+	private static void encodeColumn(Encoder encoder, byte kind, Serializable[] values) {
+		// null values are flagged by a bitmap, written only when there are any
+		final byte[] nulls = new byte[( values.length + 7 ) / 8];
+		boolean anyNull = false;
+		for ( int i = 0; i < values.length; i++ ) {
+			if ( values[i] == null ) {
+				nulls[i >> 3] |= 1 << ( i & 7 );
+				anyNull = true;
+			}
+		}
+		encoder.writeByte( anyNull ? (byte) 1 : (byte) 0 );
+		if ( anyNull ) {
+			encoder.writeBytes( nulls );
+		}
+
+		for ( Serializable value : values ) {
+			if ( value == null ) {
+				continue;
+			}
+			switch ( kind ) {
+				case LONG:
+					encoder.writeVarLong( (Long) value );
+					break;
+				case INTEGER:
+					encoder.writeVarLong( (Integer) value );
+					break;
+				default:
+					final byte[] bytes = ( (String) value ).getBytes( StandardCharsets.UTF_8 );
+					encoder.writeVarLong( bytes.length );
+					encoder.writeBytes( bytes );
+			}
+		}
+	}
+
+	private static Serializable[] decodeColumn(Decoder decoder, byte kind, int rowCount) {
+		byte[] nulls = null;
+		if ( decoder.readByte() != 0 ) {
+			nulls = decoder.readBytes( ( rowCount + 7 ) / 8 );
+		}
+
+		final Serializable[] values = new Serializable[rowCount];
+		for ( int i = 0; i < rowCount; i++ ) {
+			if ( nulls != null && ( nulls[i >> 3] & ( 1 << ( i & 7 ) ) ) != 0 ) {
+				continue;
+			}
+			switch ( kind ) {
+				case LONG:
+					values[i] = decoder.readVarLong();
+					break;
+				case INTEGER:
+					values[i] = (int) decoder.readVarLong();
+					break;
+				default:
+					final int length = (int) decoder.readVarLong();
+					values[i] = new String( decoder.readBytes( length ), StandardCharsets.UTF_8 );
+			}
+		}
+		return values;
+	}
+
+	private static final class Encoder {
+		private byte[] buffer;
+		private int position;
+
+		private Encoder(int initialCapacity) {
+			this.buffer = new byte[initialCapacity];
+		}
+
+		private void ensureCapacity(int additional) {
+			if ( position + additional > buffer.length ) {
+				buffer = Arrays.copyOf( buffer, Math.max( buffer.length * 2, position + additional ) );
+			}
+		}
+
+		private void writeByte(byte value) {
+			ensureCapacity( 1 );
+			buffer[position++] = value;
+		}
+
+		private void writeBytes(byte[] values) {
+			ensureCapacity( values.length );
+			System.arraycopy( values, 0, buffer, position, values.length );
+			position += values.length;
+		}
+
+		/**
+		 * Writes a zigzag-encoded variable-length integer, so that small negative values stay short too.
+		 */
+		private void writeVarLong(long value) {
+			ensureCapacity( 10 );
+			long zigzag = ( value << 1 ) ^ ( value >> 63 );
+			while ( ( zigzag & ~0x7FL ) != 0 ) {
+				buffer[position++] = (byte) ( ( zigzag & 0x7F ) | 0x80 );
+				zigzag >>>= 7;
+			}
+			buffer[position++] = (byte) zigzag;
+		}
+
+		private byte[] toByteArray() {
+			return Arrays.copyOf( buffer, position );
+		}
+	}
+
+	private static final class Decoder {
+		private final byte[] buffer;
+		private int position;
+
+		private Decoder(byte[] buffer) {
+			this.buffer = buffer;
+		}
+
+		private byte readByte() {
+			return buffer[position++];
+		}
+
+		private byte[] readBytes(int length) {
+			final byte[] values = Arrays.copyOfRange( buffer, position, position + length );
+			position += length;
+			return values;
+		}
+
+		private long readVarLong() {
+			long zigzag = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = buffer[position++];
+				zigzag |= (long) ( b & 0x7F ) << shift;
+				shift += 7;
+			} while ( ( b & 0x80 ) != 0 );
+			return ( zigzag >>> 1 ) ^ -( zigzag & 1 );
+		}
+	}
+}
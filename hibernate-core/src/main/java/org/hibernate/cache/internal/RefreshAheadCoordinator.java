@@ -0,0 +1,135 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Serializable;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+import org.hibernate.CacheMode;
+import org.hibernate.FlushMode;
+import org.hibernate.Transaction;
+import org.hibernate.cache.spi.QueryCache;
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.engine.spi.SessionBuilderImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Reloads the second-level cache entries read near their expiry, in the background, so that the frequently read
+ * entries do not expire.  The entries are reloaded by the {@link SessionFactoryImplementor#getAsyncExecutor()
+ * asynchronous executor} of the SessionFactory, using a session in {@link CacheMode#REFRESH} mode, and an entry is
+ * only reloaded by one task at a time.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#CACHE_REFRESH_AHEAD_PERCENTAGE
+ */
+public class RefreshAheadCoordinator {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( RefreshAheadCoordinator.class );
+
+	private final SessionFactoryImplementor sessionFactory;
+	private final float refreshAheadFactor;
+	// the keys of the entries being reloaded
+	private final Set<Object> refreshesInProgress = ConcurrentHashMap.newKeySet();
+
+	public RefreshAheadCoordinator(SessionFactoryImplementor sessionFactory, int refreshAheadPercentage) {
+		this.sessionFactory = sessionFactory;
+		this.refreshAheadFactor = refreshAheadPercentage / 100f;
+	}
+
+	/**
+	 * Reload the cached state of an entity if it is near its expiry.
+	 *
+	 * @param session The session which read the cached state
+	 * @param persister The entity persister
+	 * @param id The entity identifier
+	 * @param cacheKey The key of the cached state
+	 */
+	public void refreshEntityIfNearExpiry(
+			SharedSessionContractImplementor session,
+			EntityPersister persister,
+			Serializable id,
+			Object cacheKey) {
+		if ( persister.getCacheAccessStrategy().isNearExpiry( session, cacheKey, refreshAheadFactor ) ) {
+			final String entityName = persister.getEntityName();
+			refresh( cacheKey, session.getTenantIdentifier(), refreshSession -> refreshSession.get( entityName, id ) );
+		}
+	}
+
+	/**
+	 * Reload the cached results of a query if they are near their expiry.
+	 *
+	 * @param session The session which read the cached results
+	 * @param queryCache The query cache holding the results
+	 * @param key The key of the cached results
+	 * @param refresh Executes the query and caches its results, using the given session
+	 */
+	public void refreshQueryResultsIfNearExpiry(
+			SharedSessionContractImplementor session,
+			QueryCache queryCache,
+			QueryKey key,
+			Consumer<SessionImplementor> refresh) {
+		if ( queryCache.isNearExpiry( key, session, refreshAheadFactor ) ) {
+			refresh( key, session.getTenantIdentifier(), refresh );
+		}
+	}
+
+	private void refresh(Object key, String tenantIdentifier, Consumer<SessionImplementor> refresh) {
+		if ( !refreshesInProgress.add( key ) ) {
+			return;
+		}
+		try {
+			sessionFactory.getAsyncExecutor().execute(
+					() -> {
+						try {
+							doRefresh( tenantIdentifier, refresh );
+						}
+						catch ( RuntimeException e ) {
+							// the entry simply expires
+							LOG.debugf( e, "Unable to refresh cache entry ahead of its expiry: %s", key );
+						}
+						finally {
+							refreshesInProgress.remove( key );
+						}
+					}
+			);
+		}
+		catch ( RejectedExecutionException e ) {
+			refreshesInProgress.remove( key );
+			LOG.debugf( "Refresh of cache entry ahead of its expiry rejected: %s", key );
+		}
+	}
+
+	private void doRefresh(String tenantIdentifier, Consumer<SessionImplementor> refresh) {
+		final SessionBuilderImplementor builder = sessionFactory.withOptions();
+		if ( tenantIdentifier != null ) {
+			builder.tenantIdentifier( tenantIdentifier );
+		}
+		try ( SessionImplementor session = (SessionImplementor) builder.openSession() ) {
+			session.setCacheMode( CacheMode.REFRESH );
+			session.setHibernateFlushMode( FlushMode.MANUAL );
+			session.setDefaultReadOnly( true );
+
+			final Transaction transaction = session.beginTransaction();
+			try {
+				refresh.accept( session );
+				transaction.commit();
+			}
+			catch ( RuntimeException e ) {
+				if ( transaction.getStatus().canRollback() ) {
+					transaction.rollback();
+				}
+				throw e;
+			}
+		}
+	}
+}
@@ -8,15 +8,21 @@ package org.hibernate.cache.internal;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import javax.persistence.EntityNotFoundException;
 
 import org.hibernate.HibernateException;
 import org.hibernate.UnresolvableObjectException;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.EntityRowKey;
 import org.hibernate.cache.spi.QueryCache;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsRegion;
@@ -26,6 +32,8 @@ import org.hibernate.engine.spi.CacheImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.EntityType;
 import org.hibernate.type.Type;
 import org.hibernate.type.TypeHelper;
 
@@ -46,6 +54,8 @@ public class StandardQueryCache implements QueryCache {
 
 	private final QueryResultsRegion cacheRegion;
 	private final UpdateTimestampsCache updateTimestampsCache;
+	// the loads in progress when single-flight loading is enabled
+	private final ConcurrentMap<QueryKey, InFlightLoad> inFlightLoads = new ConcurrentHashMap<>();
 
 	/**
 	 * Constructs a StandardQueryCache instance
@@ -103,6 +113,16 @@ public class StandardQueryCache implements QueryCache {
 		cacheRegion.evictAll();
 	}
 
+	@Override
+	public boolean put(
+			final QueryKey key,
+			final Type[] returnTypes,
+			final List result,
+			final boolean isNaturalKeyLookup,
+			final SharedSessionContractImplementor session) throws HibernateException {
+		return put( key, returnTypes, result, isNaturalKeyLookup, false, null, session );
+	}
+
 	@Override
 	@SuppressWarnings({ "unchecked" })
 	public boolean put(
@@ -110,6 +130,8 @@ public class StandardQueryCache implements QueryCache {
 			final Type[] returnTypes,
 			final List result,
 			final boolean isNaturalKeyLookup,
+			final boolean isInvalidatedById,
+			final Set<Serializable> spaces,
 			final SharedSessionContractImplementor session) throws HibernateException {
 		if ( isNaturalKeyLookup && result.isEmpty() ) {
 			return false;
@@ -135,9 +157,30 @@ public class StandardQueryCache implements QueryCache {
 			}
 		}
 
+		if ( isInvalidatedById && !isNaturalKeyLookup && isInvalidatedById( returnTypes, session ) ) {
+			// the rows evicted from the row update-timestamps cache are stale, so they must be there first
+			session.getFactory().getCache().getRowUpdateTimestampsCache().register(
+					collectRowSpaces( spaces, returnTypes, cacheable, session ),
+					session.getTimestamp(),
+					session
+			);
+		}
+
+		final Object cacheEntry;
+		if ( session.getFactory().getSessionFactoryOptions().isCompactQueryCacheEntriesEnabled() ) {
+			cacheEntry = CompactQueryCacheEntry.from(
+					session.getTimestamp(),
+					cacheable.subList( 1, cacheable.size() ),
+					returnTypes.length
+			);
+		}
+		else {
+			cacheEntry = cacheable;
+		}
+
 		try {
 			session.getEventListenerManager().cachePutStart();
-			cacheRegion.put( session, key, cacheable );
+			cacheRegion.put( session, key, cacheEntry );
 		}
 		finally {
 			session.getEventListenerManager().cachePutEnd();
@@ -146,35 +189,67 @@ public class StandardQueryCache implements QueryCache {
 		return true;
 	}
 
+	@Override
+	public List get(
+			final QueryKey key,
+			final Type[] returnTypes,
+			final boolean isNaturalKeyLookup,
+			final Set<Serializable> spaces,
+			final SharedSessionContractImplementor session) throws HibernateException {
+		return get( key, returnTypes, isNaturalKeyLookup, false, spaces, session );
+	}
+
 	@Override
 	@SuppressWarnings({ "unchecked" })
 	public List get(
 			final QueryKey key,
 			final Type[] returnTypes,
 			final boolean isNaturalKeyLookup,
+			final boolean isInvalidatedById,
 			final Set<Serializable> spaces,
 			final SharedSessionContractImplementor session) throws HibernateException {
 		if ( DEBUGGING ) {
 			LOG.debugf( "Checking cached query results in region: %s", cacheRegion.getName() );
 		}
 
-		final List cacheable = getCachedResults( key, session );
-		if ( TRACING ) {
-			logCachedResultDetails( key, spaces, returnTypes, cacheable );
-		}
-		if ( cacheable == null ) {
+		final Object cacheEntry = getCachedResults( key, session );
+		if ( cacheEntry == null ) {
+			if ( TRACING ) {
+				logCachedResultDetails( key, spaces, returnTypes, null );
+			}
 			if ( DEBUGGING ) {
 				LOG.debug( "Query results were not found in cache" );
 			}
 			return null;
 		}
 
-		final Long timestamp = (Long) cacheable.get( 0 );
-		if ( !isNaturalKeyLookup && !isUpToDate( spaces, timestamp, session ) ) {
-			if ( DEBUGGING ) {
-				LOG.debug( "Cached query results were not up-to-date" );
+		final Long timestamp = cacheEntry instanceof CompactQueryCacheEntry
+				? ( (CompactQueryCacheEntry) cacheEntry ).getTimestamp()
+				: (Long) ( (List) cacheEntry ).get( 0 );
+		List cacheable = null;
+		if ( !isNaturalKeyLookup ) {
+			final boolean upToDate;
+			if ( isInvalidatedById && isInvalidatedById( returnTypes, session ) ) {
+				// the rows are needed to know the returned entities
+				cacheable = toCacheable( cacheEntry, timestamp );
+				upToDate = isUpToDateById( spaces, returnTypes, cacheable, timestamp, session );
 			}
-			return null;
+			else {
+				upToDate = isUpToDate( spaces, timestamp, session );
+			}
+			if ( !upToDate ) {
+				if ( DEBUGGING ) {
+					LOG.debug( "Cached query results were not up-to-date" );
+				}
+				return null;
+			}
+		}
+
+		if ( cacheable == null ) {
+			cacheable = toCacheable( cacheEntry, timestamp );
+		}
+		if ( TRACING ) {
+			logCachedResultDetails( key, spaces, returnTypes, cacheable );
 		}
 
 		if ( DEBUGGING ) {
@@ -193,6 +268,56 @@ public class StandardQueryCache implements QueryCache {
 		return assembleCachedResult(key, cacheable, isNaturalKeyLookup, singleResult, returnTypes, session);
 	}
 
+	@Override
+	public boolean awaitLoad(QueryKey key, SharedSessionContractImplementor session) {
+		final SessionFactoryOptions options = session.getFactory().getSessionFactoryOptions();
+		if ( !options.isQueryCacheSingleFlightEnabled() ) {
+			return false;
+		}
+
+		final InFlightLoad load = new InFlightLoad( session );
+		final InFlightLoad existingLoad = inFlightLoads.putIfAbsent( key, load );
+		if ( existingLoad == null ) {
+			return false;
+		}
+		if ( existingLoad.session == session ) {
+			// the session already loads these results, further up its call stack
+			existingLoad.nestedLoads++;
+			return false;
+		}
+
+		if ( DEBUGGING ) {
+			LOG.debugf( "Waiting for query results to be loaded by another session in region: %s", cacheRegion.getName() );
+		}
+		try {
+			if ( existingLoad.latch.await( options.getQueryCacheSingleFlightTimeout(), TimeUnit.MILLISECONDS ) ) {
+				return true;
+			}
+		}
+		catch ( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+		}
+		if ( DEBUGGING ) {
+			LOG.debug( "Timed out waiting for query results to be loaded by another session" );
+		}
+		return false;
+	}
+
+	@Override
+	public void endLoad(QueryKey key, SharedSessionContractImplementor session) {
+		final InFlightLoad load = inFlightLoads.get( key );
+		// only the session which registered the load ends it, not those executing the query after a timeout
+		if ( load == null || load.session != session ) {
+			return;
+		}
+		if ( load.nestedLoads > 0 ) {
+			load.nestedLoads--;
+		}
+		else if ( inFlightLoads.remove( key, load ) ) {
+			load.latch.countDown();
+		}
+	}
+
 	private List assembleCachedResult(
 			final QueryKey key,
 			final List cacheable,
@@ -238,11 +363,11 @@ public class StandardQueryCache implements QueryCache {
 		}
 	}
 
-	private List getCachedResults(QueryKey key, SharedSessionContractImplementor session) {
-		List cacheable = null;
+	private Object getCachedResults(QueryKey key, SharedSessionContractImplementor session) {
+		Object cacheable = null;
 		try {
 			session.getEventListenerManager().cacheGetStart();
-			cacheable = (List) cacheRegion.get( session, key );
+			cacheable = cacheRegion.get( session, key );
 		}
 		finally {
 			session.getEventListenerManager().cacheGetEnd( cacheable != null );
@@ -251,6 +376,18 @@ public class StandardQueryCache implements QueryCache {
 	}
 
 
+	@SuppressWarnings({ "unchecked" })
+	private static List toCacheable(Object cacheEntry, Long timestamp) {
+		if ( cacheEntry instanceof CompactQueryCacheEntry ) {
+			final List<Serializable> rows = ( (CompactQueryCacheEntry) cacheEntry ).getRows();
+			final List cacheable = new ArrayList( rows.size() + 1 );
+			cacheable.add( timestamp );
+			cacheable.addAll( rows );
+			return cacheable;
+		}
+		return (List) cacheEntry;
+	}
+
 	protected boolean isUpToDate(Set<Serializable> spaces, Long timestamp, SharedSessionContractImplementor session) {
 		if ( DEBUGGING ) {
 			LOG.debugf( "Checking query spaces are up-to-date: %s", spaces );
@@ -258,6 +395,94 @@ public class StandardQueryCache implements QueryCache {
 		return updateTimestampsCache.isUpToDate( spaces, timestamp, session );
 	}
 
+	/**
+	 * Can results of the given types be validated by entity identifier?  They must include at least one entity,
+	 * and the rows of all the returned entities must be tracked.
+	 */
+	private static boolean isInvalidatedById(Type[] returnTypes, SharedSessionContractImplementor session) {
+		if ( session.getFactory().getCache().getRowUpdateTimestampsCache() == null ) {
+			return false;
+		}
+		boolean anyEntity = false;
+		for ( Type returnType : returnTypes ) {
+			if ( returnType.isEntityType() ) {
+				if ( !EntityRowKey.isTracked( getEntityPersister( returnType, session ) ) ) {
+					return false;
+				}
+				anyEntity = true;
+			}
+		}
+		return anyEntity;
+	}
+
+	/**
+	 * Check that none of the rows of the entities returned by the cached results, nor their query spaces,
+	 * was changed since the results were cached, apart from the rows inserted or deleted.  Bulk operations
+	 * and collection changes are tracked by query space in the row update-timestamps cache.  Its entries may
+	 * be evicted, so the rows and spaces without timestamp are stale: they were registered when caching the
+	 * results.
+	 */
+	private static boolean isUpToDateById(
+			Set<Serializable> spaces,
+			Type[] returnTypes,
+			List cacheable,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
+		final Set<Serializable> rowSpaces = collectRowSpaces( spaces, returnTypes, cacheable, session );
+		if ( DEBUGGING ) {
+			LOG.debugf( "Checking query spaces and rows are up-to-date: %s", rowSpaces );
+		}
+		return session.getFactory().getCache().getRowUpdateTimestampsCache()
+				.isUpToDate( rowSpaces, timestamp, true, session );
+	}
+
+	/**
+	 * Collect the query spaces and the keys of the rows of the entities returned by the cached results.
+	 */
+	private static Set<Serializable> collectRowSpaces(
+			Set<Serializable> spaces,
+			Type[] returnTypes,
+			List cacheable,
+			SharedSessionContractImplementor session) {
+		final EntityPersister[] persisters = new EntityPersister[returnTypes.length];
+		for ( int i = 0; i < returnTypes.length; i++ ) {
+			if ( returnTypes[i].isEntityType() ) {
+				persisters[i] = getEntityPersister( returnTypes[i], session );
+			}
+		}
+
+		final Set<Serializable> rowSpaces = new HashSet<>( spaces );
+		final boolean singleResult = returnTypes.length == 1;
+		for ( int i = 1; i < cacheable.size(); i++ ) {
+			for ( int j = 0; j < returnTypes.length; j++ ) {
+				final Serializable value = singleResult
+						? (Serializable) cacheable.get( i )
+						: ( (Serializable[]) cacheable.get( i ) )[j];
+				if ( persisters[j] != null && value != null ) {
+					rowSpaces.add( EntityRowKey.fromDisassembled( persisters[j], value ) );
+				}
+			}
+		}
+		return rowSpaces;
+	}
+
+	private static EntityPersister getEntityPersister(Type entityType, SharedSessionContractImplementor session) {
+		return session.getFactory().getMetamodel().entityPersister(
+				( (EntityType) entityType ).getAssociatedEntityName()
+		);
+	}
+
+	private static final class InFlightLoad {
+		private final SharedSessionContractImplementor session;
+		private final CountDownLatch latch = new CountDownLatch( 1 );
+		// only accessed by the thread of the loading session
+		private int nestedLoads;
+
+		private InFlightLoad(SharedSessionContractImplementor session) {
+			this.session = session;
+		}
+	}
+
 	@Override
 	public String toString() {
 		return "StandardQueryCache(" + cacheRegion.getName() + ')';
@@ -0,0 +1,85 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi;
+
+import java.io.Serializable;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Identifies an entity row in the row update-timestamps cache used for the invalidation of cached query
+ * results by entity identifier, the row counterpart of a table query space.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#USE_QUERY_CACHE_ID_INVALIDATION
+ */
+public final class EntityRowKey implements Serializable {
+	private final String rootEntityName;
+	private final Serializable id;
+	private final int hashCode;
+
+	private EntityRowKey(String rootEntityName, Serializable id) {
+		this.rootEntityName = rootEntityName;
+		this.id = id;
+		this.hashCode = 31 * rootEntityName.hashCode() + id.hashCode();
+	}
+
+	/**
+	 * Can the rows of the given entity be tracked?  Only entities with a simple identifier are.
+	 */
+	public static boolean isTracked(EntityPersister persister) {
+		return !persister.getIdentifierType().isComponentType();
+	}
+
+	/**
+	 * Build the key of a row from its identifier.
+	 *
+	 * @param persister The entity persister
+	 * @param id The entity identifier
+	 * @param session The session
+	 */
+	public static EntityRowKey from(EntityPersister persister, Serializable id, SharedSessionContractImplementor session) {
+		return new EntityRowKey(
+				persister.getRootEntityName(),
+				persister.getIdentifierType().disassemble( id, session, null )
+		);
+	}
+
+	/**
+	 * Build the key of a row from its disassembled identifier, as cached in the query results.
+	 *
+	 * @param persister The entity persister
+	 * @param disassembledId The disassembled entity identifier
+	 */
+	public static EntityRowKey fromDisassembled(EntityPersister persister, Serializable disassembledId) {
+		return new EntityRowKey( persister.getRootEntityName(), disassembledId );
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if ( this == other ) {
+			return true;
+		}
+		if ( !( other instanceof EntityRowKey ) ) {
+			return false;
+		}
+		final EntityRowKey that = (EntityRowKey) other;
+		return hashCode == that.hashCode
+				&& rootEntityName.equals( that.rootEntityName )
+				&& id.equals( that.id );
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return rootEntityName + '#' + id;
+	}
+}
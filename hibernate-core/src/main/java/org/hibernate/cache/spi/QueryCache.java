@@ -51,6 +51,35 @@ public interface QueryCache {
 			boolean isNaturalKeyLookup,
 			SharedSessionContractImplementor session) throws HibernateException;
 
+	/**
+	 * Put a result into the query cache, registering the rows of the entities it returns when it is validated by
+	 * entity identifier.
+	 *
+	 * @param key The cache key
+	 * @param returnTypes The result types
+	 * @param result The results to cache
+	 * @param isNaturalKeyLookup Was this a natural id lookup?
+	 * @param isInvalidatedById Are the results only invalidated by the writes to the rows of the entities they return?
+	 * @param spaces The query spaces (used in invalidation plus validation checks)
+	 * @param session The originating session
+	 *
+	 * @return Whether the put actually happened.
+	 *
+	 * @throws HibernateException Indicates a problem delegating to the underlying cache.
+	 *
+	 * @see org.hibernate.annotations.QueryHints#CACHE_INVALIDATION_BY_ID
+	 */
+	default boolean put(
+			QueryKey key,
+			Type[] returnTypes,
+			List result,
+			boolean isNaturalKeyLookup,
+			boolean isInvalidatedById,
+			Set<Serializable> spaces,
+			SharedSessionContractImplementor session) throws HibernateException {
+		return put( key, returnTypes, result, isNaturalKeyLookup, session );
+	}
+
 	/**
 	 * Get results from the cache.
 	 *
@@ -71,6 +100,75 @@ public interface QueryCache {
 			Set<Serializable> spaces,
 			SharedSessionContractImplementor session) throws HibernateException;
 
+	/**
+	 * Get results from the cache, validating them by entity identifier when requested.
+	 *
+	 * @param key The cache key
+	 * @param returnTypes The result types
+	 * @param isNaturalKeyLookup Was this a natural id lookup?
+	 * @param isInvalidatedById Are the results only invalidated by the writes to the rows of the entities they return?
+	 * @param spaces The query spaces (used in invalidation plus validation checks)
+	 * @param session The originating session
+	 *
+	 * @return The cached results; may be null.
+	 *
+	 * @throws HibernateException Indicates a problem delegating to the underlying cache.
+	 *
+	 * @see org.hibernate.annotations.QueryHints#CACHE_INVALIDATION_BY_ID
+	 */
+	default List get(
+			QueryKey key,
+			Type[] returnTypes,
+			boolean isNaturalKeyLookup,
+			boolean isInvalidatedById,
+			Set<Serializable> spaces,
+			SharedSessionContractImplementor session) throws HibernateException {
+		return get( key, returnTypes, isNaturalKeyLookup, spaces, session );
+	}
+
+	/**
+	 * Called when the results for the given key were not found in the cache, before executing the query to load
+	 * them.  Registers the session as loading these results, or, when another session is already loading them,
+	 * waits for it to be done.  Unless this returns {@code true}, the caller executes the query and must then call
+	 * {@link #endLoad} whatever the outcome.
+	 *
+	 * @param key The cache key
+	 * @param session The originating session
+	 *
+	 * @return {@code true} if another session loaded the results meanwhile, in which case they should be looked up
+	 * again with {@link #get}; {@code false} if the caller should execute the query.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#USE_QUERY_CACHE_SINGLE_FLIGHT
+	 */
+	default boolean awaitLoad(QueryKey key, SharedSessionContractImplementor session) {
+		return false;
+	}
+
+	/**
+	 * Signal that the session is done loading the results for the given key, whether they were put in the cache
+	 * or not, waking up the sessions waiting for them.
+	 *
+	 * @param key The cache key
+	 * @param session The originating session
+	 */
+	default void endLoad(QueryKey key, SharedSessionContractImplementor session) {
+	}
+
+	/**
+	 * Have the cached results for the given key reached the given fraction of their time to live?
+	 *
+	 * @param key The cache key
+	 * @param session The originating session
+	 * @param refreshAheadFactor The fraction of the time to live, between {@code 0} and {@code 1}
+	 *
+	 * @return Are the results near their expiry?
+	 *
+	 * @see QueryResultsRegion#isNearExpiry
+	 */
+	default boolean isNearExpiry(QueryKey key, SharedSessionContractImplementor session, float refreshAheadFactor) {
+		return getRegion().isNearExpiry( session, key, refreshAheadFactor );
+	}
+
 	/**
 	 * Destroy the cache.
 	 */
@@ -6,6 +6,8 @@
  */
 package org.hibernate.cache.spi;
 
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
 /**
  * Defines the contract for a cache region which will specifically be used to
  * store query results.
@@ -13,4 +15,22 @@ package org.hibernate.cache.spi;
  * @author Steve Ebersole
  */
 public interface QueryResultsRegion extends GeneralDataRegion {
+
+	/**
+	 * Has the item mapped to the given key reached the given fraction of its time to live?  Used to refresh
+	 * the results of the frequently executed queries ahead of their expiry.
+	 * <p/>
+	 * The default implementation, for the regions not knowing the expiry of their items, returns {@code false}.
+	 *
+	 * @param session The originating session
+	 * @param key The key of the item
+	 * @param refreshAheadFactor The fraction of the time to live, between {@code 0} and {@code 1}
+	 *
+	 * @return Is the item near its expiry?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CACHE_REFRESH_AHEAD_PERCENTAGE
+	 */
+	default boolean isNearExpiry(SharedSessionContractImplementor session, Object key, float refreshAheadFactor) {
+		return false;
+	}
 }
@@ -6,6 +6,13 @@
  */
 package org.hibernate.cache.spi;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
 /**
  * Defines the contract for a cache region which will specifically be used to
  * store entity "update timestamps".
@@ -13,4 +20,73 @@ package org.hibernate.cache.spi;
  * @author Steve Ebersole
  */
 public interface TimestampsRegion extends GeneralDataRegion {
+	/**
+	 * Get several items from the cache at once.  Regions backed by a remote or clustered
+	 * cache should override this to fetch all the items in a single round trip.
+	 *
+	 * @param session The session
+	 * @param keys The keys of the items to be retrieved.
+	 *
+	 * @return The cached items by key, without the keys having no cached item.
+	 *
+	 * @throws CacheException Indicates a problem accessing the items or region.
+	 */
+	default Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) throws CacheException {
+		final Map<Object, Object> items = new HashMap<>();
+		for ( Object key : keys ) {
+			final Object item = get( session, key );
+			if ( item != null ) {
+				items.put( key, item );
+			}
+		}
+		return items;
+	}
+
+	/**
+	 * Put an item into the cache, unless the cache already holds an item for the key.  The default
+	 * implementation is not atomic: regions backed by a cache supporting conditional puts should
+	 * override it, so that an item put concurrently is never overwritten.
+	 *
+	 * @param session The session
+	 * @param key The key
+	 * @param value The value
+	 *
+	 * @throws CacheException Indicates a problem accessing the item or region.
+	 */
+	default void putIfAbsent(SharedSessionContractImplementor session, Object key, Object value) throws CacheException {
+		if ( get( session, key ) == null ) {
+			put( session, key, value );
+		}
+	}
+
+	/**
+	 * Register a listener to be notified whenever an item of this region is changed or
+	 * removed, including by other nodes of a cluster.  Supporting this allows
+	 * {@link UpdateTimestampsCache} to keep the timestamps it reads in a local near-cache.
+	 *
+	 * @param listener The listener
+	 *
+	 * @return {@code true} if the listener was registered, {@code false} if this region
+	 * does not support change notifications, which is the default.
+	 */
+	default boolean registerInvalidationListener(InvalidationListener listener) {
+		return false;
+	}
+
+	/**
+	 * Notified of the changes made to the items of a {@link TimestampsRegion}.
+	 */
+	interface InvalidationListener {
+		/**
+		 * The item having the given key was changed or removed.
+		 *
+		 * @param key The key of the item
+		 */
+		void invalidate(Object key);
+
+		/**
+		 * All the items of the region were removed.
+		 */
+		void invalidateAll();
+	}
 }
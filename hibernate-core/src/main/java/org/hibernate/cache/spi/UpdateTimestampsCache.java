@@ -7,7 +7,15 @@
 package org.hibernate.cache.spi;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.hibernate.cache.CacheException;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -35,9 +43,23 @@ public class UpdateTimestampsCache {
 	 */
 	public static final String REGION_NAME = UpdateTimestampsCache.class.getName();
 
+	/**
+	 * The region name of the update-timestamps cache of entity rows.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#USE_QUERY_CACHE_ID_INVALIDATION
+	 */
+	public static final String ROW_REGION_NAME = REGION_NAME + ".rows";
+
+	// marks the spaces known to have no timestamp in the near-cache
+	private static final Long NO_TIMESTAMP = Long.MIN_VALUE;
+
 	private final SessionFactoryImplementor factory;
 	private final TimestampsRegion region;
 
+	// local copy of the timestamps read from the region, when the region notifies of its changes
+	private final ConcurrentMap<Serializable, Long> nearCache;
+	private final AtomicLong invalidationCount = new AtomicLong();
+
 	/**
 	 * Constructs an UpdateTimestampsCache.
 	 *
@@ -45,9 +67,28 @@ public class UpdateTimestampsCache {
 	 * @param region The underlying second level cache region to use.
 	 */
 	public UpdateTimestampsCache(SessionFactoryImplementor sessionFactory, TimestampsRegion region) {
+		this( sessionFactory, region, true );
+	}
+
+	/**
+	 * Constructs an UpdateTimestampsCache.
+	 *
+	 * @param sessionFactory The SessionFactory
+	 * @param region The underlying second level cache region to use.
+	 * @param nearCacheEnabled Whether the timestamps read from the region may be kept locally.  The near-cache is
+	 * unbounded, and is not told about the entries the region evicts: it should be disabled for a bounded region
+	 * holding many timestamps, such as the one of the entity rows.
+	 */
+	public UpdateTimestampsCache(
+			SessionFactoryImplementor sessionFactory,
+			TimestampsRegion region,
+			boolean nearCacheEnabled) {
 		LOG.startingUpdateTimestampsCache( region.getName() );
 		this.factory = sessionFactory;
 		this.region = region;
+		this.nearCache = nearCacheEnabled && region.registerInvalidationListener( new NearCacheInvalidationListener() )
+				? new ConcurrentHashMap<>()
+				: null;
 	}
 
 	/**
@@ -79,6 +120,7 @@ public class UpdateTimestampsCache {
 			finally {
 				session.getEventListenerManager().cachePutEnd();
 			}
+			invalidateNearCache( space );
 
 			if ( stats ) {
 				factory.getStatistics().updateTimestampsCachePut();
@@ -115,6 +157,7 @@ public class UpdateTimestampsCache {
 			finally {
 				session.getEventListenerManager().cachePutEnd();
 			}
+			invalidateNearCache( space );
 
 			if ( stats ) {
 				factory.getStatistics().updateTimestampsCachePut();
@@ -135,10 +178,33 @@ public class UpdateTimestampsCache {
 	 * @throws CacheException Indicated problem delegating to underlying region.
 	 */
 	public boolean isUpToDate(Set<Serializable> spaces, Long timestamp, SharedSessionContractImplementor session) throws CacheException {
+		return isUpToDate( spaces, timestamp, false, session );
+	}
+
+	/**
+	 * Perform an up-to-date check for the given set of query spaces, optionally considering the spaces having
+	 * no timestamp as stale.  This is required when the underlying region may evict or expire the timestamps,
+	 * such as the entity rows one, whose spaces must then be {@link #register registered} along with the results.
+	 *
+	 * @param spaces The spaces to check
+	 * @param timestamp The timestamp against which to check.
+	 * @param missingIsStale Are the spaces having no timestamp stale, rather than never updated?
+	 * @param session The originating session
+	 *
+	 * @return Whether all those spaces are up-to-date
+	 *
+	 * @throws CacheException Indicated problem delegating to underlying region.
+	 */
+	public boolean isUpToDate(
+			Set<Serializable> spaces,
+			Long timestamp,
+			boolean missingIsStale,
+			SharedSessionContractImplementor session) throws CacheException {
 		final boolean stats = factory != null && factory.getStatistics().isStatisticsEnabled();
 
+		final Map<Serializable, Long> lastUpdates = getLastUpdateTimestampsForSpaces( spaces, session );
 		for ( Serializable space : spaces ) {
-			final Long lastUpdate = getLastUpdateTimestampForSpace( space, session );
+			final Long lastUpdate = lastUpdates.get( space );
 			if ( lastUpdate == null ) {
 				if ( stats ) {
 					factory.getStatistics().updateTimestampsCacheMiss();
@@ -147,6 +213,12 @@ public class UpdateTimestampsCache {
 				//(or there were no updates since startup!)
 				//updateTimestamps.put( space, new Long( updateTimestamps.nextTimestamp() ) );
 				//result = false; // safer
+				if ( missingIsStale ) {
+					if ( DEBUG_ENABLED ) {
+						LOG.debugf( "[%s] has no update timestamp, result set timestamp: %s", space, timestamp );
+					}
+					return false;
+				}
 			}
 			else {
 				if ( DEBUG_ENABLED ) {
@@ -167,16 +239,119 @@ public class UpdateTimestampsCache {
 		return true;
 	}
 
-	private Long getLastUpdateTimestampForSpace(Serializable space, SharedSessionContractImplementor session) {
-		Long ts = null;
+	/**
+	 * Give a timestamp older than the given one to the spaces having none, so that results cached with this
+	 * timestamp are up-to-date even when {@link #isUpToDate(Set, Long, boolean, SharedSessionContractImplementor)
+	 * missing timestamps are stale}.  The timestamps of the spaces updated meanwhile are kept.
+	 *
+	 * @param spaces The spaces to register
+	 * @param timestamp The timestamp of the results about to be cached
+	 * @param session The originating session
+	 *
+	 * @throws CacheException Indicated problem delegating to underlying region.
+	 */
+	public void register(Set<Serializable> spaces, Long timestamp, SharedSessionContractImplementor session) throws CacheException {
+		final Long ts = timestamp - 1;
+		final Map<Serializable, Long> lastUpdates = getLastUpdateTimestampsForSpaces( spaces, session );
+		for ( Serializable space : spaces ) {
+			if ( lastUpdates.containsKey( space ) ) {
+				continue;
+			}
+			if ( DEBUG_ENABLED ) {
+				LOG.debugf( "Registering space [%s], timestamp: %s", space, ts );
+			}
+
+			try {
+				session.getEventListenerManager().cachePutStart();
+				region.putIfAbsent( session, space, ts );
+			}
+			finally {
+				session.getEventListenerManager().cachePutEnd();
+			}
+			invalidateNearCache( space );
+		}
+	}
+
+	/**
+	 * Read the last update timestamps of the given spaces, from the near-cache when possible and
+	 * otherwise from the region, fetching all the missing spaces at once.
+	 */
+	private Map<Serializable, Long> getLastUpdateTimestampsForSpaces(
+			Set<Serializable> spaces,
+			SharedSessionContractImplementor session) {
+		final Map<Serializable, Long> lastUpdates = new HashMap<>();
+		final List<Serializable> missingSpaces = new ArrayList<>( spaces.size() );
+		for ( Serializable space : spaces ) {
+			final Long ts = nearCache == null ? null : nearCache.get( space );
+			if ( ts == null ) {
+				missingSpaces.add( space );
+			}
+			else if ( !NO_TIMESTAMP.equals( ts ) ) {
+				lastUpdates.put( space, ts );
+			}
+		}
+		if ( missingSpaces.isEmpty() ) {
+			return lastUpdates;
+		}
+
+		final long invalidationCountBefore = invalidationCount.get();
+		Map<Object, Object> items = null;
 		try {
 			session.getEventListenerManager().cacheGetStart();
-			ts = (Long) region.get( session, space );
+			items = missingSpaces.size() == 1
+					? singleItem( missingSpaces.get( 0 ), region.get( session, missingSpaces.get( 0 ) ) )
+					: region.getAll( session, missingSpaces );
 		}
 		finally {
-			session.getEventListenerManager().cacheGetEnd( ts != null );
+			session.getEventListenerManager().cacheGetEnd( items != null && !items.isEmpty() );
+		}
+
+		for ( Serializable space : missingSpaces ) {
+			final Long ts = (Long) items.get( space );
+			if ( ts != null ) {
+				lastUpdates.put( space, ts );
+			}
+			if ( nearCache != null ) {
+				final Long cachedTs = ts == null ? NO_TIMESTAMP : ts;
+				nearCache.put( space, cachedTs );
+				// an invalidation may have happened since the region was read, in which case the
+				// timestamp just cached may be stale: drop it, unless it was replaced meanwhile
+				if ( invalidationCount.get() != invalidationCountBefore ) {
+					nearCache.remove( space, cachedTs );
+				}
+			}
+		}
+		return lastUpdates;
+	}
+
+	private static Map<Object, Object> singleItem(Object key, Object item) {
+		return item == null ? Collections.emptyMap() : Collections.singletonMap( key, item );
+	}
+
+	private void invalidateNearCache(Object space) {
+		if ( nearCache != null ) {
+			invalidationCount.incrementAndGet();
+			nearCache.remove( space );
+		}
+	}
+
+	private void invalidateNearCache() {
+		if ( nearCache != null ) {
+			invalidationCount.incrementAndGet();
+			nearCache.clear();
+		}
+	}
+
+	private class NearCacheInvalidationListener implements TimestampsRegion.InvalidationListener {
+		@Override
+		public void invalidate(Object key) {
+			invalidateNearCache( key );
+		}
+
+		@Override
+		public void invalidateAll() {
+			invalidateNearCache();
 		}
-		return ts;
 	}
 
 	/**
@@ -186,6 +361,7 @@ public class UpdateTimestampsCache {
 	 */
 	public void clear() throws CacheException {
 		region.evictAll();
+		invalidateNearCache();
 	}
 
 	/**
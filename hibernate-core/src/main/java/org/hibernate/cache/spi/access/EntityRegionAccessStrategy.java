@@ -125,4 +125,22 @@ public interface EntityRegionAccessStrategy extends RegionAccessStrategy {
 			Object currentVersion,
 			Object previousVersion,
 			SoftLock lock) throws CacheException;
+
+	/**
+	 * Has the item mapped to the given key reached the given fraction of its time to live?  Used to refresh
+	 * the frequently read items ahead of their expiry.  The items refreshed are then loaded by a session using
+	 * {@link org.hibernate.CacheMode#REFRESH}, which {@link #putFromLoad} must let replace them.
+	 * <p/>
+	 * The default implementation, for the regions not knowing the expiry of their items, returns {@code false}.
+	 *
+	 * @param session Current session
+	 * @param key The item key
+	 * @param refreshAheadFactor The fraction of the time to live, between {@code 0} and {@code 1}
+	 * @return Is the item near its expiry?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CACHE_REFRESH_AHEAD_PERCENTAGE
+	 */
+	default boolean isNearExpiry(SharedSessionContractImplementor session, Object key, float refreshAheadFactor) {
+		return false;
+	}
 }
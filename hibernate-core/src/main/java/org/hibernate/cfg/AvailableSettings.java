@@ -640,6 +640,18 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String SCANNER_DISCOVERY = "hibernate.archive.autodetection";
 
+	/**
+	 * Names the location, relative to the root URL of the scan, of an index pre-computed at build time
+	 * (see {@link org.hibernate.boot.archive.scan.spi.ScanIndex}).  When the index exists, was written by
+	 * the same Hibernate version and matches the class and mapping files of the root URL, it is used instead
+	 * of scanning the root URL.  There is no default:
+	 * {@link org.hibernate.boot.archive.scan.spi.ScanIndex#DEFAULT_LOCATION} is the location the build
+	 * plugins write to.
+	 *
+	 * @since 5.3
+	 */
+	String SCANNER_INDEX = "hibernate.archive.scan_index";
+
 	/**
 	 * Used to specify the {@link org.hibernate.boot.model.naming.ImplicitNamingStrategy} class to use.  The following
 	 * short-names are defined for this setting:<ul>
@@ -900,6 +912,21 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String ORDER_INSERTS = "hibernate.order_inserts";
 
+	/**
+	 * The maximum number of rows of a batch of entity inserts that get coalesced into a single multi-row
+	 * {@code INSERT} statement ({@code insert into t (a, b) values (?, ?), (?, ?), ...}) instead of being
+	 * sent as a JDBC batch of single-row statements.  Only effective when JDBC batching is enabled (see
+	 * {@link #STATEMENT_BATCH_SIZE}) and the dialect
+	 * {@link org.hibernate.dialect.Dialect#supportsMultiRowInsert() supports multi-row inserts}; the rows
+	 * of a statement are further limited by the dialect row and bind parameter limits.  Best combined with
+	 * {@link #ORDER_INSERTS}, only consecutive inserts into the same table are coalesced.
+	 * <p/>
+	 * Defaults to 0, meaning multi-row inserts are disabled.
+	 *
+	 * @since 5.3
+	 */
+	String MULTI_ROW_INSERT_SIZE = "hibernate.jdbc.multi_row_insert_size";
+
 	/**
 	 * Default precedence of null values in {@code ORDER BY} clause.  Supported options: {@code none} (default),
 	 * {@code first}, {@code last}.
@@ -1860,4 +1887,146 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 * @since 5.2.13
 	 */
 	String FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH = "hibernate.query.fail_on_pagination_over_collection_fetch";
+
+	/**
+	 * Setting to select open-addressing, flat-array maps (as opposed to {@link java.util.HashMap} and
+	 * {@link java.util.IdentityHashMap}) for the entity, snapshot, collection and parent-child indexes
+	 * of the persistence context.  They avoid the per-mapping node allocation and allow looking up
+	 * entities with a {@code long} or {@code int} identifier without creating an EntityKey, which
+	 * considerably reduces heap usage and GC time for sessions managing a large number of entities.
+	 * <p/>
+	 * Disabled by default. Set to true to enable.
+	 *
+	 * @since 5.3
+	 */
+	String PERSISTENCE_CONTEXT_OPEN_ADDRESSING_MAPS = "hibernate.persistence_context.open_addressing_maps";
+
+	/**
+	 * Setting to construct the entity and collection persisters (along with their static SQL, loaders and
+	 * entity metamodel) concurrently on a {@link java.util.concurrent.ForkJoinPool} while building the
+	 * SessionFactory.  The phase resolving the persisters against each other ({@code postInstantiate}) is still
+	 * sequential and ordered; this mainly reduces the boot time of large domain models on multi-core machines.
+	 * <p/>
+	 * Disabled by default. Set to true to enable.
+	 *
+	 * @since 5.3
+	 */
+	String PARALLEL_PERSISTER_CREATION = "hibernate.session_factory.parallel_persister_creation";
+
+	/**
+	 * Setting to create the static (per lock mode, merge, refresh and unique key) entity loaders of the
+	 * entity persisters on first use rather than when the SessionFactory is built.  Most entities are only
+	 * ever loaded with a few lock modes, so this reduces both the boot time and the retained heap of the
+	 * SessionFactory for large domain models.  The loaders are created thread-safely and then cached.
+	 * <p/>
+	 * Disabled by default. Set to true to enable.
+	 *
+	 * @since 5.3
+	 */
+	String LAZY_ENTITY_LOADERS = "hibernate.persister.lazy_entity_loaders";
+
+	/**
+	 * The {@link java.util.concurrent.Executor} running the asynchronous operations of the sessions, such as
+	 * {@link org.hibernate.query.Query#getResultListAsync()}.  Accepts an Executor instance, the name of an Executor
+	 * implementation class, or {@code virtual} for a virtual-thread-per-task executor (on JDKs supporting virtual
+	 * threads).
+	 * <p/>
+	 * By default, a pool of daemon threads owned by the SessionFactory is used, created on first use and shut
+	 * down with the SessionFactory.
+	 *
+	 * @since 5.3
+	 */
+	String ASYNC_EXECUTOR = "hibernate.async.executor";
+
+	/**
+	 * The maximum number of rows deleted by a single {@code DELETE ... WHERE id IN (...)} statement, when coalescing the
+	 * consecutive deletes of instances of the same entity queued by a flush (the removal of the elements of a large
+	 * one-to-many, orphan removal) instead of deleting them row by row.  Only applies to entities whose rows can be
+	 * deleted without per-row optimistic locking or custom SQL (see
+	 * {@link org.hibernate.persister.entity.EntityPersister#canDeleteInBulk()}); the pre-delete events of a coalesced
+	 * delete are fired ahead of its statement, and the persistence context and second-level cache handling of every
+	 * instance is unchanged.
+	 * <p/>
+	 * Defaults to 0, meaning deletes are not coalesced.
+	 *
+	 * @since 5.3
+	 */
+	String BULK_DELETE_SIZE = "hibernate.jdbc.bulk_delete_size";
+
+	/**
+	 * Should the expansion of a collection-valued query parameter be padded to the next power of two, repeating its last
+	 * value, so that {@code IN (?, ?, ?)} is rendered as {@code IN (?, ?, ?, ?)}?  This bounds the number of distinct
+	 * SQL statements produced by the different sizes of a bound list, which otherwise each get their own entry in the
+	 * query plan cache and in the statement cache of the JDBC driver.
+	 * <p/>
+	 * The padding never exceeds {@link org.hibernate.dialect.Dialect#getInExpressionCountLimit()}.
+	 * <p/>
+	 * Defaults to {@code false}.
+	 *
+	 * @since 5.3
+	 */
+	String IN_CLAUSE_PARAMETER_PADDING = "hibernate.query.in_clause_parameter_padding";
+
+	/**
+	 * Enable the compact, column-wise encoding of the results stored in the query cache.  {@code Long}, {@code Integer}
+	 * and {@code String} columns (including the identifiers of returned entities) are encoded into a single byte array,
+	 * which costs a fraction of the heap of the default list of disassembled rows and is much cheaper to serialize for
+	 * remote or replicated query results regions.  Previously cached results remain readable.
+	 * <p/>
+	 * Defaults to {@code false}.
+	 *
+	 * @since 5.3
+	 */
+	String USE_COMPACT_QUERY_CACHE_ENTRIES = "hibernate.cache.use_compact_query_entries";
+
+	/**
+	 * Enable the invalidation of cached query results by entity identifier for the queries opting in with the
+	 * {@link org.hibernate.annotations.QueryHints#CACHE_INVALIDATION_BY_ID} hint.  The last update timestamp of each
+	 * written entity row is then tracked in a dedicated region, and the results of such queries are only invalidated
+	 * by the writes to the rows of the entities they return, or by bulk operations on their query spaces, instead of
+	 * by any write to the tables they touch.
+	 * <p/>
+	 * The region, named after {@link org.hibernate.cache.spi.UpdateTimestampsCache#ROW_REGION_NAME}, holds an entry
+	 * per row written or returned by such queries, so it must be bounded in size, or configured for expiry, by the
+	 * cache provider.  An evicted or expired entry makes the cached results returning the row stale, so the region
+	 * should be large enough to hold the rows of the cached results, and not be shared with other regions.
+	 * <p/>
+	 * Defaults to {@code false}.
+	 *
+	 * @since 5.3
+	 */
+	String USE_QUERY_CACHE_ID_INVALIDATION = "hibernate.cache.use_query_cache_id_invalidation";
+
+	/**
+	 * Enable single-flight loading of cached query results.  When the cached results of a query are missing or stale,
+	 * the concurrent sessions of the SessionFactory executing the same query wait for the first of them to execute it
+	 * and cache the results, instead of all executing it, at most for {@link #QUERY_CACHE_SINGLE_FLIGHT_TIMEOUT}.
+	 * <p/>
+	 * Defaults to {@code false}.
+	 *
+	 * @since 5.3
+	 */
+	String USE_QUERY_CACHE_SINGLE_FLIGHT = "hibernate.cache.use_query_cache_single_flight";
+
+	/**
+	 * The maximum time, in milliseconds, a session waits for another session to load the results of the same cached
+	 * query when {@link #USE_QUERY_CACHE_SINGLE_FLIGHT} is enabled, before executing the query itself.
+	 * <p/>
+	 * Defaults to {@code 5000}.
+	 *
+	 * @since 5.3
+	 */
+	String QUERY_CACHE_SINGLE_FLIGHT_TIMEOUT = "hibernate.cache.query_cache_single_flight_timeout";
+
+	/**
+	 * Enable the refresh-ahead of second-level cache entries: the cached entities and query results read after the
+	 * given percentage of their time to live has elapsed are reloaded in the background, using the
+	 * {@link #ASYNC_EXECUTOR}, so that hot entries do not expire.  Only applies to the regions whose provider knows
+	 * the expiry of their entries.
+	 * <p/>
+	 * Defaults to {@code 0}, disabling refresh-ahead.
+	 *
+	 * @since 5.3
+	 */
+	String CACHE_REFRESH_AHEAD_PERCENTAGE = "hibernate.cache.refresh_ahead_percentage";
 }
@@ -569,4 +569,9 @@ public class DB2Dialect extends Dialect {
 	public boolean supportsPartitionBy() {
 		return true;
 	}
+
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
 }
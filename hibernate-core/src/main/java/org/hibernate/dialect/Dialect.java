@@ -13,6 +13,7 @@ import java.sql.CallableStatement;
 import java.sql.Clob;
 import java.sql.DatabaseMetaData;
 import java.sql.NClob;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
@@ -2680,6 +2681,106 @@ public abstract class Dialect implements ConversionContext {
 		return 0;
 	}
 
+	/**
+	 * Does this dialect support inserting several rows with a single {@code INSERT} statement, by listing
+	 * several row value groups in its {@code VALUES} clause: {@code insert into t (a, b) values (?, ?), (?, ?)}?
+	 *
+	 * @return {@code true} if multi-row inserts are supported.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#MULTI_ROW_INSERT_SIZE
+	 */
+	public boolean supportsMultiRowInsert() {
+		return false;
+	}
+
+	/**
+	 * Return the limit that the underlying database places on the number of row value groups in the
+	 * {@code VALUES} clause of a multi-row {@code INSERT} statement.
+	 *
+	 * @return The limit, or zero-or-less to indicate no limit.
+	 */
+	public int getMultiRowInsertRowLimit() {
+		return 0;
+	}
+
+	/**
+	 * Return the limit that the underlying database (or its JDBC driver) places on the number of parameters
+	 * bound to a single statement.
+	 *
+	 * @return The limit, or zero-or-less to indicate no limit.
+	 */
+	public int getBindParameterCountLimit() {
+		return 0;
+	}
+
+	/**
+	 * Does this dialect support binding an array of values to a single JDBC parameter, and matching a
+	 * column against its elements?
+	 *
+	 * @return {@code true} if array parameters are supported.
+	 *
+	 * @see #getArrayParameterRestriction
+	 * @see #bindArrayParameter
+	 */
+	public boolean supportsArrayParameters() {
+		return false;
+	}
+
+	/**
+	 * Build a restriction matching a column against the elements of an array bound to a single JDBC
+	 * parameter, for example {@code col = any(?)}.  Only called if {@link #supportsArrayParameters()}.
+	 *
+	 * @param columnName The (qualified) column name
+	 * @param elementSqlType The JDBC type code of the array elements, as in {@link Types}
+	 *
+	 * @return The restriction
+	 */
+	public String getArrayParameterRestriction(String columnName, int elementSqlType) {
+		throw new UnsupportedOperationException( getClass().getName() + " does not support array parameters" );
+	}
+
+	/**
+	 * Bind an array of values to the parameter of a restriction built by {@link #getArrayParameterRestriction}.
+	 * The default implementation binds a {@link java.sql.Array} created by the connection.
+	 *
+	 * @param statement The statement
+	 * @param index The index of the parameter
+	 * @param elements The values of the array elements
+	 * @param elementSqlType The JDBC type code of the array elements, as in {@link Types}
+	 *
+	 * @throws SQLException Indicates problems binding the array
+	 */
+	public void bindArrayParameter(PreparedStatement statement, int index, Object[] elements, int elementSqlType)
+			throws SQLException {
+		statement.setArray( index, statement.getConnection().createArrayOf( getTypeName( elementSqlType ), elements ) );
+	}
+
+	/**
+	 * Build the SQL of an "upsert" statement: a single statement inserting a row into the given table, or
+	 * updating the existing row if one with the same primary key is already there
+	 * ({@code MERGE}, {@code INSERT ... ON CONFLICT}, {@code INSERT ... ON DUPLICATE KEY UPDATE}, ...).
+	 * <p/>
+	 * The statement must bind its parameters in the order of {@code columnValues}, followed by one
+	 * parameter per primary key column, with each of them appearing exactly once.
+	 *
+	 * @param tableName The name of the table
+	 * @param keyColumnNames The primary key columns of the table
+	 * @param columnNames The other columns to be inserted or updated
+	 * @param columnValues The value expressions of {@code columnNames}, usually {@code ?}
+	 *
+	 * @return The upsert statement, or {@code null} if this dialect does not support one, in which case
+	 * an update followed by an insert of the rows it did not find is used instead.
+	 *
+	 * @see org.hibernate.StatelessSession#upsert(Object)
+	 */
+	public String getUpsertString(
+			String tableName,
+			String[] keyColumnNames,
+			String[] columnNames,
+			String[] columnValues) {
+		return null;
+	}
+
 	/**
 	 * HHH-4635
 	 * Oracle expects all Lob values to be last in inserts and updates.
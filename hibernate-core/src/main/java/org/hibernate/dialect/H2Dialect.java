@@ -6,6 +6,7 @@
  */
 package org.hibernate.dialect;
 
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Types;
 
@@ -36,6 +37,8 @@ import org.hibernate.hql.spi.id.local.LocalTemporaryTableBulkIdStrategy;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.JdbcExceptionHelper;
 import org.hibernate.internal.util.ReflectHelper;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.tool.schema.extract.internal.SequenceInformationExtractorH2DatabaseImpl;
 import org.hibernate.tool.schema.extract.internal.SequenceInformationExtractorLegacyImpl;
 import org.hibernate.tool.schema.extract.spi.SequenceInformationExtractor;
@@ -447,4 +450,38 @@ public class H2Dialect extends Dialect {
 	public String getQueryHintString(String query, String hints) {
 		return IndexQueryHintHandler.INSTANCE.addQueryHints( query, hints );
 	}
+
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public String getUpsertString(
+			String tableName,
+			String[] keyColumnNames,
+			String[] columnNames,
+			String[] columnValues) {
+		return "merge into " + tableName
+				+ " (" + StringHelper.join( ", ", ArrayHelper.join( columnNames, keyColumnNames ) ) + ")"
+				+ " key (" + StringHelper.join( ", ", keyColumnNames ) + ")"
+				+ " values (" + StringHelper.join( ", ", ArrayHelper.join( columnValues, ArrayHelper.fillArray( "?", keyColumnNames.length ) ) ) + ")";
+	}
+
+	@Override
+	public boolean supportsArrayParameters() {
+		return true;
+	}
+
+	@Override
+	public String getArrayParameterRestriction(String columnName, int elementSqlType) {
+		return columnName + " in (select x from table(x " + getTypeName( elementSqlType ) + " = ?))";
+	}
+
+	@Override
+	public void bindArrayParameter(PreparedStatement statement, int index, Object[] elements, int elementSqlType)
+			throws SQLException {
+		// the table function takes the elements as an Object[]
+		statement.setObject( index, elements );
+	}
 }
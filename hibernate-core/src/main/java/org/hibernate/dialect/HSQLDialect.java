@@ -676,4 +676,19 @@ public class HSQLDialect extends Dialect {
 	public boolean supportsNamedParameters(DatabaseMetaData databaseMetaData) throws SQLException {
 		return false;
 	}
+
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public boolean supportsArrayParameters() {
+		return true;
+	}
+
+	@Override
+	public String getArrayParameterRestriction(String columnName, int elementSqlType) {
+		return columnName + " in (unnest(?))";
+	}
 }
@@ -34,6 +34,7 @@ import org.hibernate.hql.spi.id.local.AfterUseAction;
 import org.hibernate.hql.spi.id.local.LocalTemporaryTableBulkIdStrategy;
 import org.hibernate.internal.util.JdbcExceptionHelper;
 import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.mapping.Column;
 import org.hibernate.type.StandardBasicTypes;
 
@@ -588,4 +589,31 @@ public class MySQLDialect extends Dialect {
 	protected String escapeLiteral(String literal) {
 		return super.escapeLiteral( literal ).replace("\\", "\\\\");
 	}
+
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public String getUpsertString(
+			String tableName,
+			String[] keyColumnNames,
+			String[] columnNames,
+			String[] columnValues) {
+		final StringBuilder upsert = new StringBuilder( "insert into " ).append( tableName )
+				.append( " (" ).append( StringHelper.join( ", ", ArrayHelper.join( columnNames, keyColumnNames ) ) )
+				.append( ") values (" )
+				.append( StringHelper.join( ", ", ArrayHelper.join( columnValues, ArrayHelper.fillArray( "?", keyColumnNames.length ) ) ) )
+				.append( ") on duplicate key update " );
+		// a row of key columns only still needs an assignment, which leaves the existing row unchanged
+		final String[] updatedColumnNames = columnNames.length == 0 ? keyColumnNames : columnNames;
+		for ( int i = 0; i < updatedColumnNames.length; i++ ) {
+			if ( i > 0 ) {
+				upsert.append( ", " );
+			}
+			upsert.append( updatedColumnNames[i] ).append( " = values(" ).append( updatedColumnNames[i] ).append( ")" );
+		}
+		return upsert.toString();
+	}
 }
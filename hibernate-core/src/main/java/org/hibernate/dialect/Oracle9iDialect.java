@@ -14,6 +14,8 @@ import org.hibernate.dialect.pagination.AbstractLimitHandler;
 import org.hibernate.dialect.pagination.LimitHandler;
 import org.hibernate.dialect.pagination.LimitHelper;
 import org.hibernate.engine.spi.RowSelection;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.sql.ANSICaseFragment;
 import org.hibernate.sql.CaseFragment;
 
@@ -200,4 +202,42 @@ public class Oracle9iDialect extends Oracle8iDialect {
 	public boolean supportsTupleDistinctCounts() {
 		return false;
 	}	
+
+	@Override
+	public String getUpsertString(
+			String tableName,
+			String[] keyColumnNames,
+			String[] columnNames,
+			String[] columnValues) {
+		final String[] allColumnNames = ArrayHelper.join( columnNames, keyColumnNames );
+		final String[] allColumnValues = ArrayHelper.join( columnValues, ArrayHelper.fillArray( "?", keyColumnNames.length ) );
+		final StringBuilder upsert = new StringBuilder( "merge into " ).append( tableName ).append( " t using (select " );
+		for ( int i = 0; i < allColumnNames.length; i++ ) {
+			if ( i > 0 ) {
+				upsert.append( ", " );
+			}
+			upsert.append( allColumnValues[i] ).append( ' ' ).append( allColumnNames[i] );
+		}
+		upsert.append( " from dual) s on (" );
+		for ( int i = 0; i < keyColumnNames.length; i++ ) {
+			if ( i > 0 ) {
+				upsert.append( " and " );
+			}
+			upsert.append( "t." ).append( keyColumnNames[i] ).append( " = s." ).append( keyColumnNames[i] );
+		}
+		upsert.append( ")" );
+		if ( columnNames.length > 0 ) {
+			upsert.append( " when matched then update set " );
+			for ( int i = 0; i < columnNames.length; i++ ) {
+				if ( i > 0 ) {
+					upsert.append( ", " );
+				}
+				upsert.append( "t." ).append( columnNames[i] ).append( " = s." ).append( columnNames[i] );
+			}
+		}
+		return upsert.append( " when not matched then insert (" ).append( StringHelper.join( ", ", allColumnNames ) )
+				.append( ") values (" ).append( StringHelper.join( ", ", StringHelper.qualify( "s", allColumnNames ) ) )
+				.append( ")" )
+				.toString();
+	}
 }
@@ -632,4 +632,14 @@ public class PostgreSQL81Dialect extends Dialect {
 	public boolean supportsNationalizedTypes() {
 		return false;
 	}
+
+	@Override
+	public boolean supportsArrayParameters() {
+		return true;
+	}
+
+	@Override
+	public String getArrayParameterRestriction(String columnName, int elementSqlType) {
+		return columnName + " = any(?)";
+	}
 }
@@ -65,4 +65,15 @@ public class PostgreSQL82Dialect extends PostgreSQL81Dialect {
 	public boolean supportsRowValueConstructorSyntaxInInList() {
 		return true;
 	}
+
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public int getBindParameterCountLimit() {
+		// the wire protocol carries the number of parameters as a 16-bit integer
+		return 32767;
+	}
 }
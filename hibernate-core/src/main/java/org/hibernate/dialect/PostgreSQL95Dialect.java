@@ -7,6 +7,8 @@
 package org.hibernate.dialect;
 
 import org.hibernate.LockOptions;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.collections.ArrayHelper;
 
 /**
  * An SQL dialect for Postgres 9.5 and later. Adds support for SKIP LOCKED.
@@ -67,4 +69,28 @@ public class PostgreSQL95Dialect extends PostgreSQL94Dialect {
 	public boolean supportsSkipLocked() {
 		return true;
 	}
+
+	@Override
+	public String getUpsertString(
+			String tableName,
+			String[] keyColumnNames,
+			String[] columnNames,
+			String[] columnValues) {
+		final StringBuilder upsert = new StringBuilder( "insert into " ).append( tableName )
+				.append( " (" ).append( StringHelper.join( ", ", ArrayHelper.join( columnNames, keyColumnNames ) ) )
+				.append( ") values (" )
+				.append( StringHelper.join( ", ", ArrayHelper.join( columnValues, ArrayHelper.fillArray( "?", keyColumnNames.length ) ) ) )
+				.append( ") on conflict (" ).append( StringHelper.join( ", ", keyColumnNames ) ).append( ")" );
+		if ( columnNames.length == 0 ) {
+			return upsert.append( " do nothing" ).toString();
+		}
+		upsert.append( " do update set " );
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			if ( i > 0 ) {
+				upsert.append( ", " );
+			}
+			upsert.append( columnNames[i] ).append( " = excluded." ).append( columnNames[i] );
+		}
+		return upsert.toString();
+	}
 }
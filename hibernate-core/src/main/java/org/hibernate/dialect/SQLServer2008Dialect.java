@@ -10,6 +10,8 @@ import java.sql.Types;
 
 import org.hibernate.NullPrecedence;
 import org.hibernate.dialect.function.NoArgSQLFunction;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.type.StandardBasicTypes;
 
 /**
@@ -61,4 +63,53 @@ public class SQLServer2008Dialect extends SQLServer2005Dialect {
 	public boolean supportsValuesList() {
 		return true;
 	}
+
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public int getMultiRowInsertRowLimit() {
+		return 1000;
+	}
+
+	@Override
+	public int getBindParameterCountLimit() {
+		// a request carries at most 2100 parameters, the statement text being one of them
+		return 2099;
+	}
+
+	@Override
+	public String getUpsertString(
+			String tableName,
+			String[] keyColumnNames,
+			String[] columnNames,
+			String[] columnValues) {
+		final String[] allColumnNames = ArrayHelper.join( columnNames, keyColumnNames );
+		final StringBuilder upsert = new StringBuilder( "merge into " ).append( tableName )
+				.append( " as t using (values (" )
+				.append( StringHelper.join( ", ", ArrayHelper.join( columnValues, ArrayHelper.fillArray( "?", keyColumnNames.length ) ) ) )
+				.append( ")) as s (" ).append( StringHelper.join( ", ", allColumnNames ) ).append( ") on " );
+		for ( int i = 0; i < keyColumnNames.length; i++ ) {
+			if ( i > 0 ) {
+				upsert.append( " and " );
+			}
+			upsert.append( "t." ).append( keyColumnNames[i] ).append( " = s." ).append( keyColumnNames[i] );
+		}
+		if ( columnNames.length > 0 ) {
+			upsert.append( " when matched then update set " );
+			for ( int i = 0; i < columnNames.length; i++ ) {
+				if ( i > 0 ) {
+					upsert.append( ", " );
+				}
+				upsert.append( "t." ).append( columnNames[i] ).append( " = s." ).append( columnNames[i] );
+			}
+		}
+		return upsert.append( " when not matched then insert (" ).append( StringHelper.join( ", ", allColumnNames ) )
+				.append( ") values (" ).append( StringHelper.join( ", ", StringHelper.qualify( "s", allColumnNames ) ) )
+				// SQL Server requires MERGE statements to be terminated
+				.append( ");" )
+				.toString();
+	}
 }
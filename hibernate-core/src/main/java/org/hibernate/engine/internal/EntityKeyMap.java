@@ -0,0 +1,133 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.io.Serializable;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.internal.util.collections.OpenAddressingHashMap;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.IntegerType;
+import org.hibernate.type.LongType;
+import org.hibernate.type.Type;
+
+/**
+ * An {@link OpenAddressingHashMap} keyed by {@link EntityKey} which, in addition to the usual
+ * {@link java.util.Map} operations, supports lookups by persister and primitive {@code long} or
+ * {@code int} identifier.  Those lookups neither box the identifier nor instantiate an EntityKey.
+ * <p/>
+ * The primitive lookups are only meaningful for persisters whose identifier type is a
+ * {@link LongType} (resp. an {@link IntegerType}), see {@link #isLongIdentifier} and
+ * {@link #isIntegerIdentifier}: other identifier types may hash or compare differently.
+ *
+ * @param <V> The value type
+ */
+public class EntityKeyMap<V> extends OpenAddressingHashMap<EntityKey, V> {
+
+	public EntityKeyMap(int expectedSize) {
+		super( expectedSize );
+	}
+
+	/**
+	 * Can the given persister be used with {@link #get(EntityPersister, long)}?
+	 *
+	 * @param persister The entity persister
+	 *
+	 * @return {@code true} if the persister identifier type is a {@link LongType}
+	 */
+	public static boolean isLongIdentifier(EntityPersister persister) {
+		final Type identifierType = persister.getIdentifierType();
+		return identifierType != null && identifierType.getClass() == LongType.class;
+	}
+
+	/**
+	 * Can the given persister be used with {@link #get(EntityPersister, int)}?
+	 *
+	 * @param persister The entity persister
+	 *
+	 * @return {@code true} if the persister identifier type is an {@link IntegerType}
+	 */
+	public static boolean isIntegerIdentifier(EntityPersister persister) {
+		final Type identifierType = persister.getIdentifierType();
+		return identifierType != null && identifierType.getClass() == IntegerType.class;
+	}
+
+	/**
+	 * Get the value mapped to the key of the given persister and {@code long} identifier.
+	 *
+	 * @param persister The entity persister, whose identifier type must be a {@link LongType}
+	 * @param id The identifier value
+	 *
+	 * @return The mapped value, or {@code null}
+	 */
+	public V get(EntityPersister persister, long id) {
+		final int index = indexOf( persister, id, Long.hashCode( id ), true );
+		return index < 0 ? null : valueAt( index );
+	}
+
+	/**
+	 * Get the value mapped to the key of the given persister and {@code int} identifier.
+	 *
+	 * @param persister The entity persister, whose identifier type must be an {@link IntegerType}
+	 * @param id The identifier value
+	 *
+	 * @return The mapped value, or {@code null}
+	 */
+	public V get(EntityPersister persister, int id) {
+		final int index = indexOf( persister, id, Integer.hashCode( id ), false );
+		return index < 0 ? null : valueAt( index );
+	}
+
+	/**
+	 * Is there a mapping for the key of the given persister and {@code long} identifier?
+	 *
+	 * @param persister The entity persister, whose identifier type must be a {@link LongType}
+	 * @param id The identifier value
+	 *
+	 * @return {@code true} if there is such a mapping
+	 */
+	public boolean containsKey(EntityPersister persister, long id) {
+		return indexOf( persister, id, Long.hashCode( id ), true ) >= 0;
+	}
+
+	/**
+	 * Is there a mapping for the key of the given persister and {@code int} identifier?
+	 *
+	 * @param persister The entity persister, whose identifier type must be an {@link IntegerType}
+	 * @param id The identifier value
+	 *
+	 * @return {@code true} if there is such a mapping
+	 */
+	public boolean containsKey(EntityPersister persister, int id) {
+		return indexOf( persister, id, Integer.hashCode( id ), false ) >= 0;
+	}
+
+	private int indexOf(EntityPersister persister, long id, int identifierHashCode, boolean longIdentifier) {
+		final int hash = EntityKey.generateHashCode( persister, identifierHashCode );
+		int index = firstIndex( hash );
+		Object candidate;
+		while ( ( candidate = keyAt( index ) ) != null ) {
+			if ( hashAt( index ) == hash && candidate instanceof EntityKey ) {
+				final EntityKey key = (EntityKey) candidate;
+				if ( sameIdentifier( key.getIdentifier(), id, longIdentifier ) && key.isSamePersistentType( persister ) ) {
+					return index;
+				}
+			}
+			index = nextIndex( index );
+		}
+		return -1;
+	}
+
+	private static boolean sameIdentifier(Serializable identifier, long id, boolean longIdentifier) {
+		if ( longIdentifier ) {
+			return identifier instanceof Long && (Long) identifier == id;
+		}
+		else {
+			return identifier instanceof Integer && (Integer) identifier == id;
+		}
+	}
+}
@@ -56,6 +56,7 @@ import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.ConcurrentReferenceHashMap;
 import org.hibernate.internal.util.collections.IdentityMap;
+import org.hibernate.internal.util.collections.OpenAddressingHashMap;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
@@ -85,6 +86,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	private static final int INIT_COLL_SIZE = 8;
 
 	private SharedSessionContractImplementor session;
+	private final boolean openAddressingMaps;
 
 	// Loaded entity instances, by EntityKey
 	private Map<EntityKey, Object> entitiesByKey;
@@ -148,8 +150,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 	public StatefulPersistenceContext(SharedSessionContractImplementor session) {
 		this.session = session;
+		this.openAddressingMaps = session.getFactory().getSessionFactoryOptions().isPersistenceContextOpenAddressingMapsEnabled();
 
-		entitiesByKey = new HashMap<>( INIT_COLL_SIZE );
+		entitiesByKey = newEntityKeyMap( INIT_COLL_SIZE );
 		entitiesByUniqueKey = new HashMap<>( INIT_COLL_SIZE );
 		//noinspection unchecked
 		proxiesByKey = new ConcurrentReferenceHashMap<>(
@@ -160,14 +163,14 @@ public class StatefulPersistenceContext implements PersistenceContext {
 				ConcurrentReferenceHashMap.ReferenceType.WEAK,
 				null
 		);
-		entitySnapshotsByKey = new HashMap<>( INIT_COLL_SIZE );
+		entitySnapshotsByKey = newEntityKeyMap( INIT_COLL_SIZE );
 
 		entityEntryContext = new EntityEntryContext( this );
 //		entityEntries = IdentityMap.instantiateSequenced( INIT_COLL_SIZE );
 		collectionEntries = IdentityMap.instantiateSequenced( INIT_COLL_SIZE );
-		parentsByChild = new IdentityHashMap<>( INIT_COLL_SIZE );
+		parentsByChild = newIdentityMap( INIT_COLL_SIZE );
 
-		collectionsByKey = new HashMap<>( INIT_COLL_SIZE );
+		collectionsByKey = newHashMap( INIT_COLL_SIZE );
 		arrayHolders = new IdentityHashMap<>( INIT_COLL_SIZE );
 
 		nullifiableEntityKeys = new HashSet<>();
@@ -175,6 +178,27 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		initTransientState();
 	}
 
+	private <V> Map<EntityKey, V> newEntityKeyMap(int expectedSize) {
+		if ( openAddressingMaps ) {
+			return new EntityKeyMap<>( expectedSize );
+		}
+		return new HashMap<>( expectedSize );
+	}
+
+	private <K, V> Map<K, V> newHashMap(int expectedSize) {
+		if ( openAddressingMaps ) {
+			return new OpenAddressingHashMap<>( expectedSize );
+		}
+		return new HashMap<>( expectedSize );
+	}
+
+	private <K, V> Map<K, V> newIdentityMap(int expectedSize) {
+		if ( openAddressingMaps ) {
+			return OpenAddressingHashMap.identityMap( expectedSize );
+		}
+		return new IdentityHashMap<>( expectedSize );
+	}
+
 	private void initTransientState() {
 		nullAssociations = new HashSet<>( INIT_COLL_SIZE );
 		nonlazyCollections = new ArrayList<>( INIT_COLL_SIZE );
@@ -406,6 +430,54 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return entitiesByKey.containsKey( key );
 	}
 
+	@Override
+	public Object getEntity(EntityPersister persister, Serializable id) {
+		if ( entitiesByKey instanceof EntityKeyMap ) {
+			if ( id instanceof Long && EntityKeyMap.isLongIdentifier( persister ) ) {
+				return ( (EntityKeyMap) entitiesByKey ).get( persister, ( (Long) id ).longValue() );
+			}
+			if ( id instanceof Integer && EntityKeyMap.isIntegerIdentifier( persister ) ) {
+				return ( (EntityKeyMap) entitiesByKey ).get( persister, ( (Integer) id ).intValue() );
+			}
+		}
+		return entitiesByKey.get( session.generateEntityKey( id, persister ) );
+	}
+
+	@Override
+	public Object getEntity(EntityPersister persister, long id) {
+		if ( entitiesByKey instanceof EntityKeyMap && EntityKeyMap.isLongIdentifier( persister ) ) {
+			return ( (EntityKeyMap) entitiesByKey ).get( persister, id );
+		}
+		return entitiesByKey.get( session.generateEntityKey( id, persister ) );
+	}
+
+	@Override
+	public Object getEntity(EntityPersister persister, int id) {
+		if ( entitiesByKey instanceof EntityKeyMap && EntityKeyMap.isIntegerIdentifier( persister ) ) {
+			return ( (EntityKeyMap) entitiesByKey ).get( persister, id );
+		}
+		return entitiesByKey.get( session.generateEntityKey( id, persister ) );
+	}
+
+	@Override
+	public boolean containsEntity(EntityPersister persister, Serializable id) {
+		if ( entitiesByKey instanceof EntityKeyMap ) {
+			if ( id instanceof Long && EntityKeyMap.isLongIdentifier( persister ) ) {
+				return ( (EntityKeyMap) entitiesByKey ).containsKey( persister, ( (Long) id ).longValue() );
+			}
+			if ( id instanceof Integer && EntityKeyMap.isIntegerIdentifier( persister ) ) {
+				return ( (EntityKeyMap) entitiesByKey ).containsKey( persister, ( (Integer) id ).intValue() );
+			}
+		}
+		return entitiesByKey.containsKey( session.generateEntityKey( id, persister ) );
+	}
+
+	@Override
+	public boolean isIdentifierLookupOptimized(EntityPersister persister) {
+		return entitiesByKey instanceof EntityKeyMap
+				&& ( EntityKeyMap.isLongIdentifier( persister ) || EntityKeyMap.isIntegerIdentifier( persister ) );
+	}
+
 	@Override
 	public Object removeEntity(EntityKey key) {
 		final Object entity = entitiesByKey.remove( key );
@@ -568,6 +640,11 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return proxiesByKey.containsValue( entity );
 	}
 
+	@Override
+	public boolean hasProxies() {
+		return !proxiesByKey.isEmpty();
+	}
+
 	@Override
 	public boolean reassociateIfUninitializedProxy(Object value) throws MappingException {
 		if ( !Hibernate.isInitialized( value ) ) {
@@ -1552,7 +1629,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( tracing ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitiesByKey entries" );
 			}
-			rtn.entitiesByKey = new HashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
+			rtn.entitiesByKey = rtn.newEntityKeyMap( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitiesByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
@@ -1598,7 +1675,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( tracing ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitySnapshotsByKey entries" );
 			}
-			rtn.entitySnapshotsByKey = new HashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
+			rtn.entitySnapshotsByKey = rtn.newEntityKeyMap( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitySnapshotsByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
@@ -1609,7 +1686,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( tracing ) {
 				LOG.trace( "Starting deserialization of [" + count + "] collectionsByKey entries" );
 			}
-			rtn.collectionsByKey = new HashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
+			rtn.collectionsByKey = rtn.newHashMap( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.collectionsByKey.put( CollectionKey.deserialize( ois, session ), (PersistentCollection) ois.readObject() );
 			}
@@ -8,7 +8,9 @@ package org.hibernate.engine.jdbc.batch.internal;
 
 import java.util.Map;
 
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Environment;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
@@ -28,6 +30,7 @@ public class BatchBuilderImpl implements BatchBuilder, Configurable, Manageable,
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( BatchBuilderImpl.class );
 
 	private int jdbcBatchSize;
+	private int multiRowInsertSize;
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -47,6 +50,11 @@ public class BatchBuilderImpl implements BatchBuilder, Configurable, Manageable,
 	@Override
 	public void configure(Map configurationValues) {
 		jdbcBatchSize = ConfigurationHelper.getInt( Environment.STATEMENT_BATCH_SIZE, configurationValues, jdbcBatchSize );
+		multiRowInsertSize = ConfigurationHelper.getInt(
+				AvailableSettings.MULTI_ROW_INSERT_SIZE,
+				configurationValues,
+				multiRowInsertSize
+		);
 	}
 
 	@Override
@@ -59,6 +67,16 @@ public class BatchBuilderImpl implements BatchBuilder, Configurable, Manageable,
 		this.jdbcBatchSize = jdbcBatchSize;
 	}
 
+	@Override
+	public int getMultiRowInsertSize() {
+		return multiRowInsertSize;
+	}
+
+	@Override
+	public void setMultiRowInsertSize(int multiRowInsertSize) {
+		this.multiRowInsertSize = multiRowInsertSize;
+	}
+
 	@Override
 	public Batch buildBatch(BatchKey key, JdbcCoordinator jdbcCoordinator) {
 		final Integer sessionJdbcBatchSize = jdbcCoordinator.getJdbcSessionOwner()
@@ -66,9 +84,20 @@ public class BatchBuilderImpl implements BatchBuilder, Configurable, Manageable,
 		final int jdbcBatchSizeToUse = sessionJdbcBatchSize == null ?
 				this.jdbcBatchSize :
 				sessionJdbcBatchSize;
-		return jdbcBatchSizeToUse > 1
-				? new BatchingBatch( key, jdbcCoordinator, jdbcBatchSizeToUse )
-				: new NonBatchingBatch( key, jdbcCoordinator );
+		if ( jdbcBatchSizeToUse <= 1 ) {
+			return new NonBatchingBatch( key, jdbcCoordinator );
+		}
+		if ( multiRowInsertSize > 1 && key instanceof InsertBatchKey ) {
+			final Dialect dialect = jdbcCoordinator.getJdbcSessionOwner()
+					.getJdbcSessionContext()
+					.getSessionFactory()
+					.getJdbcServices()
+					.getDialect();
+			if ( dialect.supportsMultiRowInsert() ) {
+				return new MultiRowInsertBatch( key, jdbcCoordinator, jdbcBatchSizeToUse, multiRowInsertSize, dialect );
+			}
+		}
+		return new BatchingBatch( key, jdbcCoordinator, jdbcBatchSizeToUse );
 	}
 
 	@Override
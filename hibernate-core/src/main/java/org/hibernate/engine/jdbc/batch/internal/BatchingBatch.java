@@ -14,6 +14,7 @@ import org.hibernate.HibernateException;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.jboss.logging.Logger;
 
@@ -121,6 +122,13 @@ public class BatchingBatch extends AbstractBatchImpl {
 						getJdbcCoordinator().getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteBatchEnd();
 					}
 					checkRowCounts( rowCounts, statement );
+					final StatisticsImplementor statistics = getJdbcCoordinator().getJdbcSessionOwner()
+							.getJdbcSessionContext()
+							.getSessionFactory()
+							.getStatistics();
+					if ( statistics.isStatisticsEnabled() ) {
+						statistics.executeBatch( rowCounts.length );
+					}
 				}
 				catch ( SQLException e ) {
 					abortBatch();
@@ -0,0 +1,27 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import org.hibernate.jdbc.Expectation;
+
+/**
+ * The key of a batch of entity inserts, whose statements are all {@code INSERT ... VALUES} statements
+ * the batch may coalesce into multi-row inserts.
+ *
+ * @see MultiRowInsertBatch
+ */
+public class InsertBatchKey extends BasicBatchKey {
+	/**
+	 * Constructs an InsertBatchKey
+	 *
+	 * @param comparison A string used to compare batch keys.
+	 * @param expectation The expectation for the batch
+	 */
+	public InsertBatchKey(String comparison, Expectation expectation) {
+		super( comparison, expectation );
+	}
+}
@@ -0,0 +1,477 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.HibernateException;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A {@link org.hibernate.engine.jdbc.batch.spi.Batch} implementation for batches of inserts which, instead of
+ * sending a JDBC batch of single-row statements, coalesces the batched rows of an {@code INSERT ... VALUES}
+ * statement into multi-row inserts: {@code insert into t (a, b) values (?, ?), (?, ?), ...}.
+ * <p/>
+ * The statements handed out for such inserts only record the parameter bindings of each row; the
+ * multi-row statements are prepared and bound when the batch gets executed, which happens once the batch
+ * size is reached, just like for {@link BatchingBatch}.  The rows of a multi-row statement are limited by
+ * the configured {@link org.hibernate.cfg.AvailableSettings#MULTI_ROW_INSERT_SIZE multi-row insert size}
+ * and the row and bind parameter limits of the dialect.
+ * <p/>
+ * Statements which cannot be coalesced (callable statements, or custom SQL not of the simple
+ * {@code INSERT ... VALUES (...)} form) are batched through JDBC.
+ *
+ * @see InsertBatchKey
+ */
+public class MultiRowInsertBatch extends AbstractBatchImpl {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			MultiRowInsertBatch.class.getName()
+	);
+
+	private final int configuredBatchSize;
+	private final int multiRowInsertSize;
+	private final Dialect dialect;
+
+	// the statements recording the rows of the coalesced inserts, keyed by SQL; they are also part of
+	// the statements of the batch, which keeps them ordered along with the JDBC batched ones
+	private final Map<String, RecordedInserts> recordedInserts = new HashMap<>();
+
+	private int batchSize;
+	private int batchPosition;
+	private boolean batchExecuted;
+
+	private String currentStatementSql;
+	private PreparedStatement currentStatement;
+
+	/**
+	 * Constructs a MultiRowInsertBatch
+	 *
+	 * @param key The batch key
+	 * @param jdbcCoordinator The JDBC jdbcCoordinator
+	 * @param batchSize The batch size.
+	 * @param multiRowInsertSize The maximum number of rows of a multi-row insert.
+	 * @param dialect The dialect, supporting multi-row inserts.
+	 */
+	public MultiRowInsertBatch(
+			BatchKey key,
+			JdbcCoordinator jdbcCoordinator,
+			int batchSize,
+			int multiRowInsertSize,
+			Dialect dialect) {
+		super( key, jdbcCoordinator );
+		if ( ! key.getExpectation().canBeBatched() ) {
+			throw new HibernateException( "attempting to batch an operation which cannot be batched" );
+		}
+		this.batchSize = batchSize;
+		this.configuredBatchSize = batchSize;
+		this.multiRowInsertSize = multiRowInsertSize;
+		this.dialect = dialect;
+	}
+
+	@Override
+	public PreparedStatement getBatchStatement(String sql, boolean callable) {
+		if ( sql == null ) {
+			throw new IllegalArgumentException( "sql must be non-null." );
+		}
+		currentStatementSql = sql;
+		final RecordedInserts recorded = recordedInserts.get( sql );
+		if ( recorded != null ) {
+			LOG.debug( "Reusing batch statement" );
+			sqlStatementLogger().logStatement( sql );
+			currentStatement = recorded.statement;
+			return currentStatement;
+		}
+
+		final MultiRowInsert multiRowInsert = callable || getStatements().containsKey( sql )
+				? null
+				: MultiRowInsert.parse( sql );
+		if ( multiRowInsert == null ) {
+			currentStatement = super.getBatchStatement( sql, callable );
+		}
+		else {
+			sqlStatementLogger().logStatement( sql );
+			final RecordedInserts newlyRecorded = new RecordedInserts( multiRowInsert, rowsPerStatement( multiRowInsert ) );
+			recordedInserts.put( sql, newlyRecorded );
+			getStatements().put( sql, newlyRecorded.statement );
+			currentStatement = newlyRecorded.statement;
+		}
+		batchSize = configuredBatchSize * getStatements().size();
+		return currentStatement;
+	}
+
+	private int rowsPerStatement(MultiRowInsert multiRowInsert) {
+		int rows = multiRowInsertSize;
+		final int rowLimit = dialect.getMultiRowInsertRowLimit();
+		if ( rowLimit > 0 ) {
+			rows = Math.min( rows, rowLimit );
+		}
+		final int parameterLimit = dialect.getBindParameterCountLimit();
+		if ( parameterLimit > 0 && multiRowInsert.parameterCount > 0 ) {
+			rows = Math.min( rows, parameterLimit / multiRowInsert.parameterCount );
+		}
+		return Math.max( rows, 1 );
+	}
+
+	@Override
+	public void addToBatch() {
+		final RecordedInserts recorded = recordedInserts.get( currentStatementSql );
+		if ( recorded != null ) {
+			recorded.addRow();
+		}
+		else {
+			try {
+				currentStatement.addBatch();
+			}
+			catch ( SQLException e ) {
+				LOG.debugf( "SQLException escaped proxy", e );
+				throw sqlExceptionHelper().convert( e, "could not perform addBatch", currentStatementSql );
+			}
+		}
+		batchPosition++;
+		if ( batchPosition == batchSize ) {
+			notifyObserversImplicitExecution();
+			performExecution();
+			batchPosition = 0;
+			batchExecuted = true;
+		}
+	}
+
+	@Override
+	protected void doExecuteBatch() {
+		if ( batchPosition == 0 ) {
+			if ( !batchExecuted ) {
+				LOG.debug( "No batched statements to execute" );
+			}
+		}
+		else {
+			performExecution();
+		}
+	}
+
+	private void performExecution() {
+		LOG.debugf( "Executing batch size: %s", batchPosition );
+		try {
+			for ( Map.Entry<String, PreparedStatement> entry : getStatements().entrySet() ) {
+				final String sql = entry.getKey();
+				try {
+					final RecordedInserts recorded = recordedInserts.get( sql );
+					if ( recorded != null ) {
+						executeMultiRowInserts( recorded );
+					}
+					else {
+						executeJdbcBatch( entry.getValue() );
+					}
+				}
+				catch ( SQLException e ) {
+					abortBatch();
+					LOG.unableToExecuteBatch( e, sql );
+					throw sqlExceptionHelper().convert( e, "could not execute batch", sql );
+				}
+				catch ( RuntimeException re ) {
+					abortBatch();
+					LOG.unableToExecuteBatch( re, sql );
+					throw re;
+				}
+			}
+		}
+		finally {
+			batchPosition = 0;
+			for ( RecordedInserts recorded : recordedInserts.values() ) {
+				recorded.clear();
+			}
+		}
+	}
+
+	private void executeMultiRowInserts(RecordedInserts recorded) throws SQLException {
+		final List<List<Binding>> rows = recorded.rows;
+		for ( int start = 0; start < rows.size(); start += recorded.rowsPerStatement ) {
+			final int rowCount = Math.min( recorded.rowsPerStatement, rows.size() - start );
+			final PreparedStatement statement = getJdbcCoordinator().getStatementPreparer()
+					.prepareStatement( recorded.multiRowInsert.render( rowCount ), false );
+			try {
+				for ( int row = 0; row < rowCount; row++ ) {
+					for ( Binding binding : rows.get( start + row ) ) {
+						binding.applyTo( statement, row * recorded.multiRowInsert.parameterCount );
+					}
+				}
+				final int insertedRows = getJdbcCoordinator().getResultSetReturn().executeUpdate( statement );
+				// the expectation is about a single row: only hand it the row count when it is off
+				getKey().getExpectation().verifyOutcome( insertedRows == rowCount ? 1 : insertedRows, statement, 0 );
+				reportBatchExecution( rowCount );
+			}
+			finally {
+				getJdbcCoordinator().getResourceRegistry().release( statement );
+				getJdbcCoordinator().afterStatementExecution();
+			}
+		}
+	}
+
+	private void executeJdbcBatch(PreparedStatement statement) throws SQLException {
+		final int[] rowCounts;
+		try {
+			getJdbcCoordinator().getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteBatchStart();
+			rowCounts = statement.executeBatch();
+		}
+		finally {
+			getJdbcCoordinator().getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteBatchEnd();
+		}
+		for ( int i = 0; i < rowCounts.length; i++ ) {
+			getKey().getExpectation().verifyOutcome( rowCounts[i], statement, i );
+		}
+		reportBatchExecution( rowCounts.length );
+	}
+
+	private void reportBatchExecution(int statementCount) {
+		final StatisticsImplementor statistics = getJdbcCoordinator().getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getSessionFactory()
+				.getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.executeBatch( statementCount );
+		}
+	}
+
+	@Override
+	protected void releaseStatements() {
+		// the recording statements are not JDBC resources
+		for ( String sql : recordedInserts.keySet() ) {
+			getStatements().remove( sql );
+		}
+		recordedInserts.clear();
+		super.releaseStatements();
+	}
+
+	/**
+	 * The split of a single-row {@code INSERT ... VALUES (...)} statement into the part preceding its row
+	 * value group, and the row value group itself, which is repeated to render multi-row inserts.
+	 */
+	static final class MultiRowInsert {
+		private final String head;
+		private final String rowGroup;
+		private final int parameterCount;
+
+		private String renderedSql;
+		private int renderedRows;
+
+		private MultiRowInsert(String head, String rowGroup, int parameterCount) {
+			this.head = head;
+			this.rowGroup = rowGroup;
+			this.parameterCount = parameterCount;
+		}
+
+		/**
+		 * Parse a single-row insert.
+		 *
+		 * @param sql The SQL of the insert
+		 *
+		 * @return The parsed insert, or {@code null} if the SQL is not an insert whose parameters are all
+		 * bound in a row value group ending the statement.
+		 */
+		static MultiRowInsert parse(String sql) {
+			final String insert = sql.trim();
+			int start = 0;
+			if ( insert.startsWith( "/*" ) ) {
+				// the comment added by hibernate.use_sql_comments
+				start = insert.indexOf( "*/" );
+				if ( start < 0 ) {
+					return null;
+				}
+				start += 2;
+			}
+			while ( start < insert.length() && Character.isWhitespace( insert.charAt( start ) ) ) {
+				start++;
+			}
+			if ( !insert.regionMatches( true, start, "insert ", 0, 7 ) ) {
+				return null;
+			}
+
+			int depth = 0;
+			int parameters = 0;
+			int groupStart = -1;
+			int groupEnd = -1;
+			int parametersBeforeGroup = 0;
+			char closingQuote = 0;
+			for ( int i = start; i < insert.length(); i++ ) {
+				final char c = insert.charAt( i );
+				if ( closingQuote != 0 ) {
+					if ( c == closingQuote ) {
+						closingQuote = 0;
+					}
+					continue;
+				}
+				switch ( c ) {
+					case '\'':
+					case '"':
+					case '`':
+						closingQuote = c;
+						break;
+					case '[':
+						closingQuote = ']';
+						break;
+					case '?':
+						parameters++;
+						break;
+					case '(':
+						if ( depth++ == 0 ) {
+							groupStart = i;
+							parametersBeforeGroup = parameters;
+						}
+						break;
+					case ')':
+						if ( --depth == 0 ) {
+							groupEnd = i;
+						}
+						else if ( depth < 0 ) {
+							return null;
+						}
+						break;
+					default:
+						break;
+				}
+			}
+
+			if ( closingQuote != 0 || depth != 0 || groupEnd != insert.length() - 1 || parametersBeforeGroup != 0 ) {
+				return null;
+			}
+			final String head = insert.substring( 0, groupStart );
+			final String keyword = head.trim();
+			if ( keyword.length() < 7
+					|| !keyword.regionMatches( true, keyword.length() - 6, "values", 0, 6 )
+					|| Character.isJavaIdentifierPart( keyword.charAt( keyword.length() - 7 ) ) ) {
+				return null;
+			}
+			return new MultiRowInsert( head, insert.substring( groupStart ), parameters );
+		}
+
+		String render(int rows) {
+			if ( rows != renderedRows ) {
+				final StringBuilder buffer = new StringBuilder( head.length() + rows * ( rowGroup.length() + 2 ) )
+						.append( head )
+						.append( rowGroup );
+				for ( int i = 1; i < rows; i++ ) {
+					buffer.append( ", " ).append( rowGroup );
+				}
+				renderedSql = buffer.toString();
+				renderedRows = rows;
+			}
+			return renderedSql;
+		}
+	}
+
+	/**
+	 * The rows batched for a coalesced insert, recorded through a {@link PreparedStatement} proxy only
+	 * supporting the binding of parameters.
+	 */
+	private static final class RecordedInserts implements InvocationHandler {
+		private final MultiRowInsert multiRowInsert;
+		private final int rowsPerStatement;
+		private final PreparedStatement statement;
+
+		private final List<List<Binding>> rows = new ArrayList<>();
+		private List<Binding> currentRow = new ArrayList<>();
+
+		private RecordedInserts(MultiRowInsert multiRowInsert, int rowsPerStatement) {
+			this.multiRowInsert = multiRowInsert;
+			this.rowsPerStatement = rowsPerStatement;
+			this.statement = (PreparedStatement) Proxy.newProxyInstance(
+					PreparedStatement.class.getClassLoader(),
+					new Class[] { PreparedStatement.class },
+					this
+			);
+		}
+
+		private void addRow() {
+			rows.add( currentRow );
+			currentRow = new ArrayList<>( currentRow.size() );
+		}
+
+		private void clear() {
+			rows.clear();
+			currentRow.clear();
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) {
+			final String name = method.getName();
+			if ( name.startsWith( "set" ) && args != null && args.length >= 2 && args[0] instanceof Integer ) {
+				currentRow.add( new Binding( method, args ) );
+				return null;
+			}
+			switch ( name ) {
+				case "clearParameters":
+					currentRow.clear();
+					return null;
+				case "clearBatch":
+					clear();
+					return null;
+				case "close":
+					return null;
+				case "isClosed":
+					return false;
+				case "equals":
+					return proxy == args[0];
+				case "hashCode":
+					return System.identityHashCode( proxy );
+				case "toString":
+					return "MultiRowInsertBatch recorded statement [" + multiRowInsert.head + multiRowInsert.rowGroup + "]";
+				default:
+					throw new UnsupportedOperationException(
+							"Method [" + name + "] is not supported on the statements of a multi-row insert batch"
+					);
+			}
+		}
+	}
+
+	/**
+	 * A recorded call to one of the parameter setters of a {@link PreparedStatement}.
+	 */
+	private static final class Binding {
+		private final Method setter;
+		private final Object[] arguments;
+
+		private Binding(Method setter, Object[] arguments) {
+			this.setter = setter;
+			this.arguments = arguments;
+		}
+
+		private void applyTo(PreparedStatement statement, int parameterOffset) throws SQLException {
+			final Object[] shiftedArguments = arguments.clone();
+			shiftedArguments[0] = (Integer) arguments[0] + parameterOffset;
+			try {
+				setter.invoke( statement, shiftedArguments );
+			}
+			catch (InvocationTargetException e) {
+				if ( e.getCause() instanceof SQLException ) {
+					throw (SQLException) e.getCause();
+				}
+				if ( e.getCause() instanceof RuntimeException ) {
+					throw (RuntimeException) e.getCause();
+				}
+				throw new HibernateException( "Unable to bind the parameters of a multi-row insert", e.getCause() );
+			}
+			catch (IllegalAccessException e) {
+				throw new HibernateException( "Unable to bind the parameters of a multi-row insert", e );
+			}
+		}
+	}
+}
@@ -219,6 +219,8 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 	public void abortBatch() {
 		if ( currentBatch != null ) {
 			currentBatch.release();
+			// a released batch still counts its statements, which must not be executed later
+			currentBatch = null;
 		}
 	}
 
@@ -148,13 +148,20 @@ public class QueryPlanCache implements Serializable {
 			throws QueryException, MappingException {
 		final HQLQueryPlanKey key = new HQLQueryPlanKey( queryString, shallow, enabledFilters );
 		HQLQueryPlan value = (HQLQueryPlan) queryPlanCache.get( key );
+		final boolean stats = factory.getStatistics().isStatisticsEnabled();
 		if ( value == null ) {
 			LOG.tracev( "Unable to locate HQL query plan in cache; generating ({0})", queryString );
+			if ( stats ) {
+				factory.getStatistics().queryPlanCacheMiss( queryString );
+			}
 			value = new HQLQueryPlan( queryString, shallow, enabledFilters, factory );
 			queryPlanCache.putIfAbsent( key, value );
 		}
 		else {
 			LOG.tracev( "Located HQL query plan in cache ({0})", queryString );
+			if ( stats ) {
+				factory.getStatistics().queryPlanCacheHit( queryString );
+			}
 		}
 		return value;
 	}
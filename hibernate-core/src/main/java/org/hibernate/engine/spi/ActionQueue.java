@@ -10,17 +10,25 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
@@ -30,6 +38,7 @@ import org.hibernate.action.internal.BulkOperationCleanupAction;
 import org.hibernate.action.internal.CollectionRecreateAction;
 import org.hibernate.action.internal.CollectionRemoveAction;
 import org.hibernate.action.internal.CollectionUpdateAction;
+import org.hibernate.action.internal.EntityAction;
 import org.hibernate.action.internal.EntityActionVetoException;
 import org.hibernate.action.internal.EntityDeleteAction;
 import org.hibernate.action.internal.EntityIdentityInsertAction;
@@ -42,6 +51,8 @@ import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
 import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.EntityRowKey;
+import org.hibernate.cache.spi.UpdateTimestampsCache;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
@@ -397,6 +408,7 @@ public class ActionQueue {
 		}
 		if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
 			invalidateSpaces( executable.getPropertySpaces() );
+			invalidateRows( Collections.singletonList( executable ) );
 		}
 		if( executable.getAfterTransactionCompletionProcess() != null ) {
 			if( afterTransactionProcesses == null ) {
@@ -593,9 +605,13 @@ public class ActionQueue {
 		// todo : consider ways to improve the double iteration of Executables here:
 		//		1) we explicitly iterate list here to perform Executable#execute()
 		//		2) ExecutableList#getQuerySpaces also iterates the Executables to collect query spaces.
+		final Map<Executable, List<EntityDeleteAction>> bulkDeletes = findBulkDeletes( list );
 		try {
 			for ( E e : list ) {
 				try {
+					if ( bulkDeletes != null && bulkDeletes.containsKey( e ) ) {
+						executeBulkDelete( bulkDeletes.get( e ) );
+					}
 					e.execute();
 				}
 				finally {
@@ -621,6 +637,7 @@ public class ActionQueue {
 				// unexpected.
 				Set<Serializable> propertySpaces = list.getQuerySpaces();
 				invalidateSpaces( propertySpaces.toArray( new Serializable[propertySpaces.size()] ) );
+				invalidateRows( list );
 			}
 		}
 
@@ -628,6 +645,67 @@ public class ActionQueue {
 		session.getJdbcCoordinator().executeBatch();
 	}
 
+	/**
+	 * Find the runs of consecutive deletes of instances of the same entity whose rows can be deleted by a
+	 * single statement, keyed by their first delete.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BULK_DELETE_SIZE
+	 */
+	private Map<Executable, List<EntityDeleteAction>> findBulkDeletes(ExecutableList<?> list) {
+		final int bulkDeleteSize = session.getFactory().getSessionFactoryOptions().getBulkDeleteSize();
+		if ( bulkDeleteSize <= 1 || list.size() <= 1 || !( list.get( 0 ) instanceof EntityDeleteAction ) ) {
+			return null;
+		}
+
+		Map<Executable, List<EntityDeleteAction>> bulkDeletes = null;
+		List<EntityDeleteAction> run = new ArrayList<>();
+		for ( Executable executable : list ) {
+			final EntityDeleteAction action = (EntityDeleteAction) executable;
+			if ( !run.isEmpty()
+					&& ( run.size() == bulkDeleteSize
+					|| run.get( 0 ).getPersister() != action.getPersister()
+					|| !action.canDeleteInBulk() ) ) {
+				bulkDeletes = addBulkDelete( bulkDeletes, run );
+				run = new ArrayList<>();
+			}
+			if ( action.canDeleteInBulk() ) {
+				run.add( action );
+			}
+		}
+		return addBulkDelete( bulkDeletes, run );
+	}
+
+	private static Map<Executable, List<EntityDeleteAction>> addBulkDelete(
+			Map<Executable, List<EntityDeleteAction>> bulkDeletes,
+			List<EntityDeleteAction> run) {
+		if ( run.size() > 1 ) {
+			if ( bulkDeletes == null ) {
+				bulkDeletes = new IdentityHashMap<>();
+			}
+			bulkDeletes.put( run.get( 0 ), run );
+		}
+		return bulkDeletes;
+	}
+
+	/**
+	 * Delete the rows of a run of deletes by a single statement, the deletes themselves being executed
+	 * afterwards, without deleting their row, for the persistence context and cache handling.
+	 */
+	private void executeBulkDelete(List<EntityDeleteAction> run) {
+		final List<Serializable> ids = new ArrayList<>( run.size() );
+		for ( EntityDeleteAction action : run ) {
+			if ( !action.preBulkDelete() ) {
+				ids.add( action.getId() );
+			}
+		}
+		if ( !ids.isEmpty() ) {
+			// the deletes preceding the run, still pending in the JDBC batch, have to be executed first,
+			// they may delete rows referencing the ones of the run
+			session.getJdbcCoordinator().executeBatch();
+			run.get( 0 ).getPersister().deleteInBulk( ids.toArray( new Serializable[ids.size()] ), session );
+		}
+	}
+
 	/**
 	 * @param executable The action to execute
 	 */
@@ -658,6 +736,45 @@ public class ActionQueue {
 		}
 	}
 
+	/**
+	 * Pre-invalidate, in the row update-timestamps cache, the entity rows written by the given actions and the
+	 * query spaces of the other actions (bulk operations, collection changes).
+	 *
+	 * @param executables The executed actions
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#USE_QUERY_CACHE_ID_INVALIDATION
+	 */
+	private void invalidateRows(Iterable<? extends Executable> executables) {
+		final UpdateTimestampsCache rowUpdateTimestampsCache = session.getFactory().getCache().getRowUpdateTimestampsCache();
+		if ( rowUpdateTimestampsCache == null ) {
+			return;
+		}
+
+		final Set<Serializable> rowSpaces = new HashSet<>();
+		for ( Executable executable : executables ) {
+			if ( executable instanceof EntityAction ) {
+				final EntityAction action = (EntityAction) executable;
+				final Serializable id = action instanceof EntityIdentityInsertAction
+						? ( (EntityIdentityInsertAction) action ).getGeneratedId()
+						: action.getDelayedId() == null ? action.getId() : null;
+				if ( id != null && EntityRowKey.isTracked( action.getPersister() ) ) {
+					rowSpaces.add( EntityRowKey.from( action.getPersister(), id, session ) );
+				}
+			}
+			else {
+				Collections.addAll( rowSpaces, executable.getPropertySpaces() );
+			}
+		}
+
+		if ( !rowSpaces.isEmpty() ) {
+			if ( afterTransactionProcesses == null ) {
+				afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
+			}
+			afterTransactionProcesses.addRowSpacesToInvalidate( rowSpaces );
+			rowUpdateTimestampsCache.preInvalidate( rowSpaces.toArray( new Serializable[rowSpaces.size()] ), session );
+		}
+	}
+
 	/**
 	 * Returns a string representation of the object.
 	 * 
@@ -959,6 +1076,7 @@ public class ActionQueue {
 	 */
 	private static class AfterTransactionCompletionProcessQueue extends AbstractTransactionCompletionProcessQueue<AfterTransactionCompletionProcess> {
 		private Set<String> querySpacesToInvalidate = new HashSet<String>();
+		private Set<Serializable> rowSpacesToInvalidate = new HashSet<>();
 
 		private AfterTransactionCompletionProcessQueue(SessionImplementor session) {
 			super( session );
@@ -968,6 +1086,10 @@ public class ActionQueue {
 			querySpacesToInvalidate.add( space );
 		}
 
+		public void addRowSpacesToInvalidate(Set<Serializable> rowSpaces) {
+			rowSpacesToInvalidate.addAll( rowSpaces );
+		}
+
 		public void afterTransactionCompletion(boolean success) {
 			while ( !processes.isEmpty() ) {
 				try {
@@ -989,6 +1111,14 @@ public class ActionQueue {
 				);
 			}
 			querySpacesToInvalidate.clear();
+
+			if ( !rowSpacesToInvalidate.isEmpty() ) {
+				session.getFactory().getCache().getRowUpdateTimestampsCache().invalidate(
+						rowSpacesToInvalidate.toArray( new Serializable[rowSpacesToInvalidate.size()] ),
+						session
+				);
+				rowSpacesToInvalidate.clear();
+			}
 		}
 	}
 
@@ -1013,10 +1143,15 @@ public class ActionQueue {
 	 * directionality of foreign-keys. So even though we will be changing the ordering here, we need to make absolutely
 	 * certain that we do not circumvent this FK ordering to the extent of causing constraint violations.
 	 * <p>
-	 * Sorts the insert actions using more hashes.
+	 * The batches (one per entity name) are the nodes of a dependency graph, in which a batch points to the batches
+	 * of the entities referencing it through a foreign-key, and the batches are ordered by a topological sort of
+	 * that graph, leaving any two independent batches in their original order.  Entities referencing each other
+	 * (a cycle in the graph, found as a strongly connected component) cannot be ordered by their dependencies: the
+	 * batches of such a cycle are kept in their original order.  Self-references are taken care of by keeping the
+	 * actions of a batch in their original order.
 	 * </p>
 	 * NOTE: this class is not thread-safe.
-	 * 
+	 *
 	 * @author Jay Erb
 	 */
 	private static class InsertActionSorter implements ExecutableList.Sorter<AbstractEntityInsertAction> {
@@ -1030,23 +1165,26 @@ public class ActionQueue {
 			private final String entityName;
 			private final String rootEntityName;
 
+			// the position of the batch in the original order
+			private final int position;
+
 			private Set<String> parentEntityNames = new HashSet<>( );
 
 			private Set<String> childEntityNames = new HashSet<>( );
 
-			private BatchIdentifier parent;
+			// the batches which have to be inserted after this one
+			private Set<BatchIdentifier> dependents = new LinkedHashSet<>( );
+
+			// the strongly connected component search state
+			private int index = -1;
+			private int lowLink;
+			private boolean onStack;
+			private Component component;
 
-			BatchIdentifier(String entityName, String rootEntityName) {
+			BatchIdentifier(String entityName, String rootEntityName, int position) {
 				this.entityName = entityName;
 				this.rootEntityName = rootEntityName;
-			}
-
-			public BatchIdentifier getParent() {
-				return parent;
-			}
-
-			public void setParent(BatchIdentifier parent) {
-				this.parent = parent;
+				this.position = position;
 			}
 
 			@Override
@@ -1081,41 +1219,35 @@ public class ActionQueue {
 			Set<String> getChildEntityNames() {
 				return childEntityNames;
 			}
+		}
 
-			boolean hasAnyParentEntityNames(BatchIdentifier batchIdentifier) {
-				return parentEntityNames.contains( batchIdentifier.getEntityName() ) ||
-						parentEntityNames.contains( batchIdentifier.getRootEntityName() );
-			}
+		/**
+		 * A strongly connected component of the dependency graph: either a single batch, or batches
+		 * depending on each other.
+		 */
+		private static class Component {
+			// the batches of the component, in their original order
+			private final List<BatchIdentifier> batches = new ArrayList<>( );
 
-			boolean hasAnyChildEntityNames(BatchIdentifier batchIdentifier) {
-				return childEntityNames.contains( batchIdentifier.getEntityName() );
-			}
+			// the components which have to be inserted after this one
+			private final Set<Component> dependents = new HashSet<>( );
+			private int dependencyCount;
 
-			/**
-			 * Check if the this {@link BatchIdentifier} has a parent or grand parent
-			 * matching the given {@link BatchIdentifier reference.
-			 *
-			 * @param batchIdentifier {@link BatchIdentifier} reference
-			 *
-			 * @return This {@link BatchIdentifier} has a parent matching the given {@link BatchIdentifier reference
-			 */
-			boolean hasParent(BatchIdentifier batchIdentifier) {
-				return (
-					parent == batchIdentifier ||
-					( parent != null && parent.hasParent( batchIdentifier ) ) ||
-					( parentEntityNames.contains( batchIdentifier.getEntityName() ) )
-				);
+			int getPosition() {
+				return batches.get( 0 ).position;
 			}
 		}
 
-		// the mapping of entity names to their latest batch numbers.
+		// the batches, in their original order.
 		private List<BatchIdentifier> latestBatches;
 
-		private Map<Object, BatchIdentifier> entityBatchIdentifier;
+		private Map<String, BatchIdentifier> batchesByEntityName;
 
 		// the map of batch numbers to EntityInsertAction lists
 		private Map<BatchIdentifier, List<AbstractEntityInsertAction>> actionBatches;
 
+		private int componentSearchIndex;
+
 		public InsertActionSorter() {
 		}
 
@@ -1123,106 +1255,160 @@ public class ActionQueue {
 		 * Sort the insert actions.
 		 */
 		public void sort(List<AbstractEntityInsertAction> insertions) {
-			// optimize the hash size to eliminate a rehash.
 			this.latestBatches = new ArrayList<>( );
-			this.entityBatchIdentifier = new HashMap<>( insertions.size() + 1, 1.0f );
+			this.batchesByEntityName = new HashMap<>( );
 			this.actionBatches = new HashMap<>();
 
 			for ( AbstractEntityInsertAction action : insertions ) {
-				BatchIdentifier batchIdentifier = new BatchIdentifier(
-						action.getEntityName(),
-						action.getSession()
-								.getFactory()
-								.getMetamodel()
-								.entityPersister( action.getEntityName() )
-								.getRootEntityName()
-				);
-
-				// the entity associated with the current action.
-				Object currentEntity = action.getInstance();
-				int index = latestBatches.indexOf( batchIdentifier );
-
-				if ( index != -1 )  {
-					batchIdentifier = latestBatches.get( index );
-				}
-				else {
+				BatchIdentifier batchIdentifier = batchesByEntityName.get( action.getEntityName() );
+				if ( batchIdentifier == null ) {
+					batchIdentifier = new BatchIdentifier(
+							action.getEntityName(),
+							action.getSession()
+									.getFactory()
+									.getMetamodel()
+									.entityPersister( action.getEntityName() )
+									.getRootEntityName(),
+							latestBatches.size()
+					);
+					batchesByEntityName.put( batchIdentifier.getEntityName(), batchIdentifier );
 					latestBatches.add( batchIdentifier );
 				}
 				addParentChildEntityNames( action, batchIdentifier );
-				entityBatchIdentifier.put( currentEntity, batchIdentifier );
 				addToBatch( batchIdentifier, action );
 			}
 			insertions.clear();
 
-			// Examine each entry in the batch list, and build the dependency graph.
-			for ( int i = 0; i < latestBatches.size(); i++ ) {
-				BatchIdentifier batchIdentifier = latestBatches.get( i );
-
-				for ( int j = i - 1; j >= 0; j-- ) {
-					BatchIdentifier prevBatchIdentifier = latestBatches.get( j );
-					if ( prevBatchIdentifier.hasAnyParentEntityNames( batchIdentifier ) ) {
-						prevBatchIdentifier.parent = batchIdentifier;
-					}
-					if ( batchIdentifier.hasAnyChildEntityNames( prevBatchIdentifier ) ) {
-						prevBatchIdentifier.parent = batchIdentifier;
-					}
+			// Build the dependency graph, and rebuild the insertions list from its topological order.
+			addDependencies();
+			for ( Component component : sortComponents( findComponents() ) ) {
+				for ( BatchIdentifier batchIdentifier : component.batches ) {
+					insertions.addAll( actionBatches.get( batchIdentifier ) );
 				}
+			}
+		}
 
-				for ( int j = i + 1; j < latestBatches.size(); j++ ) {
-					BatchIdentifier nextBatchIdentifier = latestBatches.get( j );
+		/**
+		 * Turn the parent and child entity names of the batches into edges of the dependency graph.
+		 */
+		private void addDependencies() {
+			// an association targeting an entity may refer to any of its subclasses
+			final Map<String, List<BatchIdentifier>> batchesByRootEntityName = new HashMap<>( );
+			for ( BatchIdentifier batchIdentifier : latestBatches ) {
+				batchesByRootEntityName.computeIfAbsent( batchIdentifier.getRootEntityName(), name -> new ArrayList<>() )
+						.add( batchIdentifier );
+			}
 
-					if ( nextBatchIdentifier.hasAnyParentEntityNames( batchIdentifier ) ) {
-						nextBatchIdentifier.parent = batchIdentifier;
-					}
-					if ( batchIdentifier.hasAnyChildEntityNames( nextBatchIdentifier ) ) {
-						nextBatchIdentifier.parent = batchIdentifier;
+			for ( BatchIdentifier batchIdentifier : latestBatches ) {
+				for ( String parentEntityName : batchIdentifier.getParentEntityNames() ) {
+					addDependency( batchesByEntityName.get( parentEntityName ), batchIdentifier );
+					final List<BatchIdentifier> parentBatches = batchesByRootEntityName.get( parentEntityName );
+					if ( parentBatches != null ) {
+						for ( BatchIdentifier parentBatch : parentBatches ) {
+							addDependency( parentBatch, batchIdentifier );
+						}
 					}
 				}
+				for ( String childEntityName : batchIdentifier.getChildEntityNames() ) {
+					addDependency( batchIdentifier, batchesByEntityName.get( childEntityName ) );
+				}
 			}
+		}
 
-			boolean sorted = false;
-
-			long maxIterations = latestBatches.size() * 2;
-			long iterations = 0;
+		private static void addDependency(BatchIdentifier batchIdentifier, BatchIdentifier dependent) {
+			// self-references are handled by the original order of the actions within the batch
+			if ( batchIdentifier != null && dependent != null && batchIdentifier != dependent ) {
+				batchIdentifier.dependents.add( dependent );
+			}
+		}
 
-			sort:
-			do {
-				// Examine each entry in the batch list, sorting them based on parent/child association
-				// as depicted by the dependency graph.
-				iterations++;
+		/**
+		 * Find the strongly connected components of the dependency graph (Tarjan's algorithm).
+		 */
+		private List<Component> findComponents() {
+			final List<Component> components = new ArrayList<>( );
+			final Deque<BatchIdentifier> stack = new ArrayDeque<>( );
+			componentSearchIndex = 0;
+			for ( BatchIdentifier batchIdentifier : latestBatches ) {
+				if ( batchIdentifier.index < 0 ) {
+					findComponents( batchIdentifier, stack, components );
+				}
+			}
+			return components;
+		}
 
-				for ( int i = 0; i < latestBatches.size(); i++ ) {
-					BatchIdentifier batchIdentifier = latestBatches.get( i );
+		private void findComponents(BatchIdentifier batchIdentifier, Deque<BatchIdentifier> stack, List<Component> components) {
+			batchIdentifier.index = componentSearchIndex;
+			batchIdentifier.lowLink = componentSearchIndex;
+			componentSearchIndex++;
+			stack.push( batchIdentifier );
+			batchIdentifier.onStack = true;
 
-					// Iterate next batches and make sure that children types are after parents.
-					// Since the outer loop looks at each batch entry individually and the prior loop will reorder
-					// entries as well, we need to look and verify if the current batch is a child of the next
-					// batch or if the current batch is seen as a parent or child of the next batch.
-					for ( int j = i + 1; j < latestBatches.size(); j++ ) {
-						BatchIdentifier nextBatchIdentifier = latestBatches.get( j );
+			for ( BatchIdentifier dependent : batchIdentifier.dependents ) {
+				if ( dependent.index < 0 ) {
+					findComponents( dependent, stack, components );
+					batchIdentifier.lowLink = Math.min( batchIdentifier.lowLink, dependent.lowLink );
+				}
+				else if ( dependent.onStack ) {
+					batchIdentifier.lowLink = Math.min( batchIdentifier.lowLink, dependent.index );
+				}
+			}
 
-						if ( batchIdentifier.hasParent( nextBatchIdentifier ) && !nextBatchIdentifier.hasParent( batchIdentifier ) ) {
-							latestBatches.remove( batchIdentifier );
-							latestBatches.add( j, batchIdentifier );
+			if ( batchIdentifier.lowLink == batchIdentifier.index ) {
+				final Component component = new Component();
+				BatchIdentifier member;
+				do {
+					member = stack.pop();
+					member.onStack = false;
+					member.component = component;
+					component.batches.add( member );
+				}
+				while ( member != batchIdentifier );
+
+				if ( component.batches.size() > 1 ) {
+					component.batches.sort( Comparator.comparingInt( batch -> batch.position ) );
+					LOG.debugf(
+							"Circular references between the inserted entities %s, their inserts keep their original order",
+							component.batches.stream().map( BatchIdentifier::getEntityName ).collect( Collectors.toList() )
+					);
+				}
+				components.add( component );
+			}
+		}
 
-							continue sort;
+		/**
+		 * Sort the components topologically (Kahn's algorithm), picking the component coming first in the
+		 * original order whenever several of them are ready, so that an already valid order is left unchanged.
+		 */
+		private static List<Component> sortComponents(List<Component> components) {
+			for ( Component component : components ) {
+				for ( BatchIdentifier batchIdentifier : component.batches ) {
+					for ( BatchIdentifier dependent : batchIdentifier.dependents ) {
+						if ( dependent.component != component && component.dependents.add( dependent.component ) ) {
+							dependent.component.dependencyCount++;
 						}
 					}
 				}
-				sorted = true;
 			}
-			while ( !sorted && iterations <= maxIterations);
 
-			if ( iterations > maxIterations ) {
-				LOG.warn( "The batch containing " + latestBatches.size() + " statements could not be sorted after " + maxIterations + " iterations. " +
-								"This might indicate a circular entity relationship." );
+			final PriorityQueue<Component> ready = new PriorityQueue<>( Comparator.comparingInt( Component::getPosition ) );
+			for ( Component component : components ) {
+				if ( component.dependencyCount == 0 ) {
+					ready.add( component );
+				}
 			}
 
-			// Now, rebuild the insertions list. There is a batch for each entry in the name list.
-			for ( BatchIdentifier rootIdentifier : latestBatches ) {
-				List<AbstractEntityInsertAction> batch = actionBatches.get( rootIdentifier );
-				insertions.addAll( batch );
+			final List<Component> sorted = new ArrayList<>( components.size() );
+			while ( !ready.isEmpty() ) {
+				final Component component = ready.poll();
+				sorted.add( component );
+				for ( Component dependent : component.dependents ) {
+					if ( --dependent.dependencyCount == 0 ) {
+						ready.add( dependent );
+					}
+				}
 			}
+			return sorted;
 		}
 
 		/**
@@ -10,6 +10,7 @@ import java.io.Serializable;
 
 import org.hibernate.Cache;
 import org.hibernate.HibernateException;
+import org.hibernate.cache.internal.RefreshAheadCoordinator;
 import org.hibernate.cache.spi.QueryCache;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.UpdateTimestampsCache;
@@ -63,6 +64,30 @@ public interface CacheImplementor extends Service, Cache, Serializable {
 	 */
 	UpdateTimestampsCache getUpdateTimestampsCache();
 
+	/**
+	 * Get the {@code UpdateTimestampsCache} of entity rows, used for the invalidation of cached query
+	 * results by entity identifier.
+	 *
+	 * @return The row update-timestamps cache, or {@code null} if the invalidation by entity identifier
+	 * is not enabled.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#USE_QUERY_CACHE_ID_INVALIDATION
+	 */
+	default UpdateTimestampsCache getRowUpdateTimestampsCache() {
+		return null;
+	}
+
+	/**
+	 * Get the coordinator reloading the cache entries read near their expiry.
+	 *
+	 * @return The refresh-ahead coordinator, or {@code null} if refresh-ahead is not enabled.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CACHE_REFRESH_AHEAD_PERCENTAGE
+	 */
+	default RefreshAheadCoordinator getRefreshAheadCoordinator() {
+		return null;
+	}
+
 	/**
 	 * Clean up the default {@code QueryCache}.
 	 *
@@ -55,10 +55,26 @@ public final class EntityKey implements Serializable {
 	}
 
 	private int generateHashCode() {
+		return generateHashCode(
+				persister,
+				persister.getIdentifierType().getHashCode( identifier, persister.getFactory() )
+		);
+	}
+
+	/**
+	 * Computes the hash code an EntityKey would have for the given persister and identifier
+	 * hash code, allowing lookups in hash based structures without instantiating the key.
+	 *
+	 * @param persister The entity persister
+	 * @param identifierHashCode The hash code of the identifier, as per {@link org.hibernate.type.Type#getHashCode}
+	 *
+	 * @return The EntityKey hash code
+	 */
+	public static int generateHashCode(EntityPersister persister, int identifierHashCode) {
 		int result = 17;
 		final String rootEntityName = persister.getRootEntityName();
 		result = 37 * result + ( rootEntityName != null ? rootEntityName.hashCode() : 0 );
-		result = 37 * result + persister.getIdentifierType().getHashCode( identifier, persister.getFactory() );
+		result = 37 * result + identifierHashCode;
 		return result;
 	}
 
@@ -74,6 +90,22 @@ public final class EntityKey implements Serializable {
 		return persister.getEntityName();
 	}
 
+	public EntityPersister getPersister() {
+		return persister;
+	}
+
+	/**
+	 * Is this key for an entity of the same entity hierarchy as the given persister?
+	 *
+	 * @param persister The entity persister
+	 *
+	 * @return {@code true} if both share the same root entity
+	 */
+	public boolean isSamePersistentType(EntityPersister persister) {
+		return this.persister == persister
+				|| EqualsHelper.equals( this.persister.getRootEntityName(), persister.getRootEntityName() );
+	}
+
 	@Override
 	public boolean equals(Object other) {
 		if ( this == other ) {
@@ -84,7 +116,7 @@ public final class EntityKey implements Serializable {
 		}
 
 		final EntityKey otherKey = (EntityKey) other;
-		return samePersistentType( otherKey )
+		return isSamePersistentType( otherKey.persister )
 				&& sameIdentifier( otherKey );
 
 	}
@@ -93,15 +125,6 @@ public final class EntityKey implements Serializable {
 		return persister.getIdentifierType().isEqual( otherKey.identifier, this.identifier, persister.getFactory() );
 	}
 
-	private boolean samePersistentType(final EntityKey otherKey) {
-		if ( otherKey.persister == persister ) {
-			return true;
-		}
-		else {
-			return EqualsHelper.equals( otherKey.persister.getRootEntityName(), persister.getRootEntityName() );
-		}
-	}
-
 	@Override
 	public int hashCode() {
 		return hashCode;
@@ -172,6 +172,74 @@ public interface PersistenceContext {
 	 */
 	public boolean containsEntity(EntityKey key);
 
+	/**
+	 * Get the entity instance associated with the given persister and identifier.
+	 * <p/>
+	 * Equivalent to {@code getEntity( session.generateEntityKey( id, persister ) )}, except that
+	 * implementations may resolve {@code long} and {@code int} identifiers without instantiating
+	 * an EntityKey.
+	 *
+	 * @param persister The entity persister
+	 * @param id The entity identifier
+	 *
+	 * @return The matching entity, or {@code null}
+	 */
+	public default Object getEntity(EntityPersister persister, Serializable id) {
+		return getEntity( getSession().generateEntityKey( id, persister ) );
+	}
+
+	/**
+	 * Get the entity instance associated with the given persister and {@code long} identifier,
+	 * ideally without instantiating an EntityKey.
+	 *
+	 * @param persister The entity persister; its identifier type must be a {@link org.hibernate.type.LongType}
+	 * @param id The entity identifier
+	 *
+	 * @return The matching entity, or {@code null}
+	 */
+	public default Object getEntity(EntityPersister persister, long id) {
+		return getEntity( persister, (Serializable) id );
+	}
+
+	/**
+	 * Get the entity instance associated with the given persister and {@code int} identifier,
+	 * ideally without instantiating an EntityKey.
+	 *
+	 * @param persister The entity persister; its identifier type must be an {@link org.hibernate.type.IntegerType}
+	 * @param id The entity identifier
+	 *
+	 * @return The matching entity, or {@code null}
+	 */
+	public default Object getEntity(EntityPersister persister, int id) {
+		return getEntity( persister, (Serializable) id );
+	}
+
+	/**
+	 * Is there an entity with the given persister and identifier in the persistence context?
+	 *
+	 * @param persister The entity persister
+	 * @param id The entity identifier
+	 *
+	 * @return {@code true} indicates an entity was found; otherwise {@code false}
+	 *
+	 * @see #getEntity(EntityPersister, Serializable)
+	 */
+	public default boolean containsEntity(EntityPersister persister, Serializable id) {
+		return containsEntity( getSession().generateEntityKey( id, persister ) );
+	}
+
+	/**
+	 * Can {@link #getEntity(EntityPersister, Serializable)} and {@link #containsEntity(EntityPersister, Serializable)}
+	 * resolve identifiers of the given entity without instantiating an EntityKey?
+	 *
+	 * @param persister The entity persister
+	 *
+	 * @return {@code true} if lookups by identifier are allocation-free for this entity
+	 */
+	public default boolean isIdentifierLookupOptimized(EntityPersister persister) {
+		return false;
+	}
+
 	/**
 	 * Remove an entity.  Also clears up all other state associated with the entity aside from the {@link EntityEntry}
 	 *
@@ -272,6 +340,15 @@ public interface PersistenceContext {
 	 */
 	public boolean containsProxy(Object proxy);
 
+	/**
+	 * Is any proxy associated with this persistence context?
+	 *
+	 * @return {@code false} if we know for certain that no proxy is associated
+	 */
+	public default boolean hasProxies() {
+		return true;
+	}
+
 	/**
 	 * Takes the given object and, if it represents a proxy, reassociates it with this event source.
 	 *
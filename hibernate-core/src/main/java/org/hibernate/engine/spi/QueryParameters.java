@@ -64,6 +64,7 @@ public final class QueryParameters {
 	private boolean autodiscovertypes;
 	private boolean isNaturalKeyLookup;
 	private boolean passDistinctThrough = true;
+	private boolean cacheInvalidatedById;
 
 	private final ResultTransformer resultTransformer; // why is all others non final ?
 
@@ -521,6 +522,22 @@ public final class QueryParameters {
 		this.passDistinctThrough = passDistinctThrough;
 	}
 
+	/**
+	 * Are the cached results of this query only invalidated by the writes to the rows of the entities they return?
+	 * @return the cached results are invalidated by entity identifier
+	 */
+	public boolean isCacheInvalidatedById() {
+		return cacheInvalidatedById;
+	}
+
+	/**
+	 * Set if the cached results of this query are only invalidated by the writes to the rows of the entities they return.
+	 * @param cacheInvalidatedById the cached results are invalidated by entity identifier
+	 */
+	public void setCacheInvalidatedById(boolean cacheInvalidatedById) {
+		this.cacheInvalidatedById = cacheInvalidatedById;
+	}
+
 	public void processFilters(String sql, SharedSessionContractImplementor session) {
 		processFilters( sql, session.getLoadQueryInfluencers().getEnabledFilters(), session.getFactory() );
 	}
@@ -655,6 +672,7 @@ public final class QueryParameters {
 		copy.processedPositionalParameterTypes = this.processedPositionalParameterTypes;
 		copy.processedPositionalParameterValues = this.processedPositionalParameterValues;
 		copy.passDistinctThrough = this.passDistinctThrough;
+		copy.cacheInvalidatedById = this.cacheInvalidatedById;
 		return copy;
 	}
 
@@ -10,6 +10,7 @@ import java.sql.Connection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import javax.naming.NamingException;
 import javax.naming.Reference;
 import javax.persistence.EntityGraph;
@@ -82,6 +83,11 @@ public class SessionFactoryDelegatingImpl implements SessionFactoryImplementor,
 		return delegate.getSessionFactoryOptions();
 	}
 
+	@Override
+	public Executor getAsyncExecutor() {
+		return delegate.getAsyncExecutor();
+	}
+
 	@Override
 	public SessionBuilderImplementor withOptions() {
 		return delegate.withOptions();
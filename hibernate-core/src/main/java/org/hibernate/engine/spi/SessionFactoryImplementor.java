@@ -9,6 +9,8 @@ package org.hibernate.engine.spi;
 import java.io.Serializable;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import javax.persistence.EntityGraph;
 
 import org.hibernate.CustomEntityDirtinessStrategy;
@@ -554,4 +556,13 @@ public interface SessionFactoryImplementor extends Mapping, SessionFactory, Quer
 		return getCache().getUpdateTimestampsCache();
 	}
 
+	/**
+	 * The Executor running the asynchronous operations of the sessions.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ASYNC_EXECUTOR
+	 */
+	default Executor getAsyncExecutor() {
+		final Executor executor = getSessionFactoryOptions().getAsyncExecutor();
+		return executor != null ? executor : ForkJoinPool.commonPool();
+	}
 }
@@ -11,6 +11,9 @@ import java.sql.Connection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 import javax.persistence.FlushModeType;
 
 import org.hibernate.CacheMode;
@@ -447,4 +450,32 @@ public interface SharedSessionContractImplementor
 			) :
 			sessionJdbcBatchSize;
 	}
+
+	/**
+	 * Run some work against this session asynchronously, on the
+	 * {@link SessionFactoryImplementor#getAsyncExecutor() asynchronous executor}.
+	 * <p/>
+	 * The asynchronous operations of a session are confined: they run one at a time, in the order they
+	 * were submitted, and the synchronous operations of the session wait for them, so that the session is
+	 * never used by two threads at once.  The default implementation keeps the session confined by running
+	 * the work in the calling thread.
+	 *
+	 * @param work The work to run
+	 * @param <T> The type of the result of the work
+	 *
+	 * @return The stage completing with the result of the work, or exceptionally with its failure
+	 *
+	 * @since 5.3
+	 */
+	default <T> CompletionStage<T> executeAsync(Supplier<T> work) {
+		checkOpen();
+		final CompletableFuture<T> result = new CompletableFuture<>();
+		try {
+			result.complete( work.get() );
+		}
+		catch (RuntimeException e) {
+			result.completeExceptionally( e );
+		}
+		return result;
+	}
 }
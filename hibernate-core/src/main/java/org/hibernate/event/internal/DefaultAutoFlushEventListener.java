@@ -41,6 +41,8 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 				// Need to get the number of collection removals before flushing to executions
 				// (because flushing to executions can add collection removal actions to the action queue).
 				final int oldSize = source.getActionQueue().numberOfCollectionRemovals();
+				final boolean stats = source.getFactory().getStatistics().isStatisticsEnabled();
+				final long startTime = stats ? System.nanoTime() : 0;
 				flushEverythingToExecutions(event);
 				if ( flushIsReallyNeeded(event, source) ) {
 					LOG.trace( "Need to execute flush" );
@@ -52,8 +54,9 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 
 					postPostFlush( source );
 
-					if ( source.getFactory().getStatistics().isStatisticsEnabled() ) {
+					if ( stats ) {
 						source.getFactory().getStatistics().flush();
+						source.getFactory().getStatistics().flushLatency( System.nanoTime() - startTime );
 					}
 				}
 				else {
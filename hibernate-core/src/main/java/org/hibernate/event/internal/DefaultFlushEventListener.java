@@ -32,6 +32,8 @@ public class DefaultFlushEventListener extends AbstractFlushingEventListener imp
 		if ( persistenceContext.getNumberOfManagedEntities() > 0 ||
 				persistenceContext.getCollectionEntries().size() > 0 ) {
 
+			final boolean stats = source.getFactory().getStatistics().isStatisticsEnabled();
+			final long startTime = stats ? System.nanoTime() : 0;
 			try {
 				source.getEventListenerManager().flushStart();
 
@@ -48,8 +50,9 @@ public class DefaultFlushEventListener extends AbstractFlushingEventListener imp
 
 			postPostFlush( source );
 
-			if ( source.getFactory().getStatistics().isStatisticsEnabled() ) {
+			if ( stats ) {
 				source.getFactory().getStatistics().flush();
+				source.getFactory().getStatistics().flushLatency( System.nanoTime() - startTime );
 			}
 		}
 	}
@@ -14,6 +14,7 @@ import org.hibernate.NonUniqueObjectException;
 import org.hibernate.PersistentObjectException;
 import org.hibernate.TypeMismatchException;
 import org.hibernate.WrongClassException;
+import org.hibernate.cache.internal.RefreshAheadCoordinator;
 import org.hibernate.cache.spi.access.EntityRegionAccessStrategy;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.cache.spi.entry.CacheEntry;
@@ -44,6 +45,7 @@ import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.EmbeddedComponentType;
 import org.hibernate.type.EntityType;
 import org.hibernate.type.Type;
@@ -109,6 +111,12 @@ public class DefaultLoadEventListener extends AbstractLockUpgradeEventListener i
 			final LoadEventListener.LoadType loadType) {
 
 		try {
+			final Object managedEntity = resolveManagedEntity( persister, event, loadType );
+			if ( managedEntity != null ) {
+				event.setResult( managedEntity );
+				return;
+			}
+
 			final EntityKey keyToLoad = event.getSession().generateEntityKey( event.getEntityId(), persister );
 			if ( loadType.isNakedEntityReturned() ) {
 				//do not return a proxy!
@@ -131,6 +139,50 @@ public class DefaultLoadEventListener extends AbstractLockUpgradeEventListener i
 		}
 	}
 
+	/**
+	 * Shortcut for the (very common) request of an entity which is already managed by the
+	 * persistence context, when the persistence context can resolve its identifier without
+	 * instantiating an EntityKey.  Returns {@code null} whenever the full algorithm is needed:
+	 * locking, proxies, optional instance, natural-id cross referencing, deleted entities, etc.
+	 *
+	 * @param persister The persister corresponding to the entity to be loaded
+	 * @param event The initiating load request event
+	 * @param loadType The defined load options
+	 *
+	 * @return The managed entity, or {@code null}
+	 */
+	private Object resolveManagedEntity(
+			final EntityPersister persister,
+			final LoadEvent event,
+			final LoadEventListener.LoadType loadType) {
+		final PersistenceContext persistenceContext = event.getSession().getPersistenceContext();
+		if ( event.getInstanceToLoad() != null
+				|| event.getLockMode() != LockMode.NONE
+				|| persister.hasNaturalIdentifier()
+				|| !persistenceContext.isIdentifierLookupOptimized( persister ) ) {
+			return null;
+		}
+		if ( persister.hasProxy() && !loadType.isNakedEntityReturned() && persistenceContext.hasProxies() ) {
+			// a proxy may have to be returned (narrowed) instead
+			return null;
+		}
+
+		final Object entity = persistenceContext.getEntity( persister, event.getEntityId() );
+		if ( entity == null ) {
+			return null;
+		}
+		if ( loadType.isCheckDeleted() ) {
+			final Status status = persistenceContext.getEntry( entity ).getStatus();
+			if ( status == Status.DELETED || status == Status.GONE ) {
+				return null;
+			}
+		}
+		if ( loadType.isAllowNulls() && !persister.isInstance( entity ) ) {
+			return null;
+		}
+		return entity;
+	}
+
 	private void checkIdClass(
 			final EntityPersister persister,
 			final LoadEvent event,
@@ -505,6 +557,10 @@ public class DefaultLoadEventListener extends AbstractLockUpgradeEventListener i
 	private Object loadFromDatasource(
 			final LoadEvent event,
 			final EntityPersister persister) {
+		final StatisticsImplementor statistics = event.getSession().getFactory().getStatistics();
+		final boolean stats = statistics.isStatisticsEnabled();
+		final long startTime = stats ? System.nanoTime() : 0;
+
 		Object entity = persister.load(
 				event.getEntityId(),
 				event.getInstanceToLoad(),
@@ -512,8 +568,11 @@ public class DefaultLoadEventListener extends AbstractLockUpgradeEventListener i
 				event.getSession()
 		);
 
-		if ( event.isAssociationFetch() && event.getSession().getFactory().getStatistics().isStatisticsEnabled() ) {
-			event.getSession().getFactory().getStatistics().fetchEntity( event.getEntityClassName() );
+		if ( stats ) {
+			statistics.entityLoadLatency( persister.getEntityName(), System.nanoTime() - startTime );
+			if ( event.isAssociationFetch() ) {
+				statistics.fetchEntity( event.getEntityClassName() );
+			}
 		}
 
 		return entity;
@@ -661,6 +720,13 @@ public class DefaultLoadEventListener extends AbstractLockUpgradeEventListener i
 				);
 			}
 		}
+
+		if ( ce != null ) {
+			final RefreshAheadCoordinator refreshAheadCoordinator = source.getFactory().getCache().getRefreshAheadCoordinator();
+			if ( refreshAheadCoordinator != null ) {
+				refreshAheadCoordinator.refreshEntityIfNearExpiry( source, persister, event.getEntityId(), ck );
+			}
+		}
 		return ce;
 	}
 
@@ -1077,6 +1077,7 @@ public class QueryTranslatorImpl extends BasicLoader implements FilterTranslator
 						0,
 						milliseconds
 				);
+				session.getFactory().getStatistics().queryExecutionLatency( "HQL: " + queryString, endTime - startTime );
 			}
 
 			return result;
@@ -14,6 +14,8 @@ import java.sql.SQLException;
 import java.util.List;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 import javax.persistence.FlushModeType;
 import javax.persistence.Tuple;
 
@@ -131,6 +133,7 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 	private transient TransactionCoordinator transactionCoordinator;
 	private transient Boolean useStreamForLobBinding;
 	private transient long timestamp;
+	private transient SerialExecutor asyncOperations;
 
 	private Integer jdbcBatchSize;
 
@@ -293,6 +296,7 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		if ( closed && !waitingForAutoClose ) {
 			return;
 		}
+		awaitAsyncOperations();
 
 		if ( sessionEventsManager != null ) {
 			sessionEventsManager.end();
@@ -343,6 +347,33 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 			}
 			throw new IllegalStateException( "Session/EntityManager is closed" );
 		}
+		// the operations checking the session is open are those using it
+		awaitAsyncOperations();
+	}
+
+	@Override
+	public <T> CompletionStage<T> executeAsync(Supplier<T> work) {
+		if ( isClosed() ) {
+			throw new IllegalStateException( "Session/EntityManager is closed" );
+		}
+		return getAsyncOperations().submit( work );
+	}
+
+	/**
+	 * Wait for the pending asynchronous operations of this session, unless called by one of them, so that
+	 * the session is not used by two threads at once.
+	 */
+	protected void awaitAsyncOperations() {
+		if ( asyncOperations != null ) {
+			asyncOperations.awaitCompletion();
+		}
+	}
+
+	private synchronized SerialExecutor getAsyncOperations() {
+		if ( asyncOperations == null ) {
+			asyncOperations = new SerialExecutor( factory.getAsyncExecutor() );
+		}
+		return asyncOperations;
 	}
 
 	protected void checkOpenOrWaitingForAutoClose() {
@@ -17,6 +17,7 @@ import org.hibernate.HibernateException;
 import org.hibernate.SessionFactory;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cache.internal.CacheDataDescriptionImpl;
+import org.hibernate.cache.internal.RefreshAheadCoordinator;
 import org.hibernate.cache.internal.StandardQueryCache;
 import org.hibernate.cache.spi.CollectionRegion;
 import org.hibernate.cache.spi.EntityRegion;
@@ -62,8 +63,10 @@ public class CacheImpl implements CacheImplementor {
 	private final transient ConcurrentHashMap<String, NaturalIdRegionAccessStrategy> naturalIdRegionAccessStrategyMap = new ConcurrentHashMap<>();
 
 	private final transient UpdateTimestampsCache updateTimestampsCache;
+	private final transient UpdateTimestampsCache rowUpdateTimestampsCache;
 	private final transient QueryCache defaultQueryCache;
 	private final transient ConcurrentMap<String, QueryCache> queryCaches;
+	private final transient RefreshAheadCoordinator refreshAheadCoordinator;
 
 	public CacheImpl(SessionFactoryImplementor sessionFactory) {
 		this.sessionFactory = sessionFactory;
@@ -81,6 +84,17 @@ public class CacheImpl implements CacheImplementor {
 					sessionFactory.getProperties()
 			);
 			updateTimestampsCache = new UpdateTimestampsCache( sessionFactory, timestampsRegion );
+			if ( settings.isQueryCacheIdInvalidationEnabled() ) {
+				final TimestampsRegion rowTimestampsRegion = regionFactory.buildTimestampsRegion(
+						qualifyRegionName( UpdateTimestampsCache.ROW_REGION_NAME ),
+						sessionFactory.getProperties()
+				);
+				// one timestamp per entity row, the near-cache would keep the ones the region evicts
+				rowUpdateTimestampsCache = new UpdateTimestampsCache( sessionFactory, rowTimestampsRegion, false );
+			}
+			else {
+				rowUpdateTimestampsCache = null;
+			}
 			final QueryResultsRegion queryResultsRegion = regionFactory.buildQueryResultsRegion(
 					StandardQueryCache.class.getName(),
 					sessionFactory.getProperties()
@@ -90,9 +104,18 @@ public class CacheImpl implements CacheImplementor {
 		}
 		else {
 			updateTimestampsCache = null;
+			rowUpdateTimestampsCache = null;
 			defaultQueryCache = null;
 			queryCaches = null;
 		}
+
+		final int refreshAheadPercentage = settings.getCacheRefreshAheadPercentage();
+		if ( refreshAheadPercentage > 0 && refreshAheadPercentage < 100 ) {
+			refreshAheadCoordinator = new RefreshAheadCoordinator( sessionFactory, refreshAheadPercentage );
+		}
+		else {
+			refreshAheadCoordinator = null;
+		}
 	}
 
 	@Override
@@ -304,6 +327,9 @@ public class CacheImpl implements CacheImplementor {
 				cache.destroy();
 			}
 			updateTimestampsCache.destroy();
+			if ( rowUpdateTimestampsCache != null ) {
+				rowUpdateTimestampsCache.destroy();
+			}
 		}
 
 		regionFactory.stop();
@@ -347,6 +373,16 @@ public class CacheImpl implements CacheImplementor {
 		return updateTimestampsCache;
 	}
 
+	@Override
+	public UpdateTimestampsCache getRowUpdateTimestampsCache() {
+		return rowUpdateTimestampsCache;
+	}
+
+	@Override
+	public RefreshAheadCoordinator getRefreshAheadCoordinator() {
+		return refreshAheadCoordinator;
+	}
+
 	@Override
 	public void evictQueries() throws HibernateException {
 		if ( settings.isQueryCacheEnabled() ) {
@@ -362,6 +398,9 @@ public class CacheImpl implements CacheImplementor {
 		names.addAll( naturalIdRegionAccessStrategyMap.keySet() );
 		if ( settings.isQueryCacheEnabled() ) {
 			names.add( updateTimestampsCache.getRegion().getName() );
+			if ( rowUpdateTimestampsCache != null ) {
+				names.add( rowUpdateTimestampsCache.getRegion().getName() );
+			}
 			names.addAll( queryCaches.keySet() );
 		}
 		return ArrayHelper.toStringArray( names );
@@ -21,6 +21,11 @@ public class JdbcObserverImpl implements JdbcObserver {
 	private final SharedSessionContractImplementor session;
 	private final transient List<ConnectionObserver> observers;
 
+	// the start of the connection acquisition, or of the statement (or batch) being executed,
+	// when statistics are enabled
+	private long acquisitionStartTime;
+	private long executionStartTime;
+
 	public JdbcObserverImpl(SharedSessionContractImplementor session) {
 		this.session = session;
 		this.observers = new ArrayList<>();
@@ -29,11 +34,15 @@ public class JdbcObserverImpl implements JdbcObserver {
 
 	@Override
 	public void jdbcConnectionAcquisitionStart() {
-
+		acquisitionStartTime = session.getFactory().getStatistics().isStatisticsEnabled() ? System.nanoTime() : 0;
 	}
 
 	@Override
 	public void jdbcConnectionAcquisitionEnd(Connection connection) {
+		if ( acquisitionStartTime != 0 ) {
+			session.getFactory().getStatistics().connectionAcquisitionLatency( System.nanoTime() - acquisitionStartTime );
+			acquisitionStartTime = 0;
+		}
 		for ( ConnectionObserver observer : observers ) {
 			observer.physicalConnectionObtained( connection );
 		}
@@ -66,24 +75,39 @@ public class JdbcObserverImpl implements JdbcObserver {
 
 	@Override
 	public void jdbcExecuteStatementStart() {
+		executionStarted();
 		session.getEventListenerManager().jdbcExecuteStatementStart();
 	}
 
 	@Override
 	public void jdbcExecuteStatementEnd() {
+		executionEnded();
 		session.getEventListenerManager().jdbcExecuteStatementEnd();
 	}
 
 	@Override
 	public void jdbcExecuteBatchStart() {
+		executionStarted();
 		session.getEventListenerManager().jdbcExecuteBatchStart();
 	}
 
 	@Override
 	public void jdbcExecuteBatchEnd() {
+		executionEnded();
 		session.getEventListenerManager().jdbcExecuteBatchEnd();
 	}
 
+	private void executionStarted() {
+		executionStartTime = session.getFactory().getStatistics().isStatisticsEnabled() ? System.nanoTime() : 0;
+	}
+
+	private void executionEnded() {
+		if ( executionStartTime != 0 ) {
+			session.getFactory().getStatistics().statementExecutionLatency( System.nanoTime() - executionStartTime );
+			executionStartTime = 0;
+		}
+	}
+
 	@Override
 	public void jdbcReleaseRegistryResourcesStart() {
 		session.getJdbcCoordinator().abortBatch();
@@ -0,0 +1,122 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Runs the asynchronous operations of a session on a shared {@link Executor}, one at a time and in the
+ * order they were submitted, so that the session stays confined to a single thread at any point in time
+ * while not holding a thread between operations.  The synchronous operations of the session
+ * {@link #awaitCompletion() wait} for the pending asynchronous ones.
+ */
+final class SerialExecutor {
+	private final Executor executor;
+
+	// guarded by this
+	private final Queue<Task<?>> tasks = new ArrayDeque<>();
+	private boolean running;
+	private Thread runner;
+
+	SerialExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	<T> CompletionStage<T> submit(Supplier<T> work) {
+		final Task<T> task = new Task<>( work );
+		synchronized ( this ) {
+			tasks.add( task );
+			if ( running ) {
+				return task.result;
+			}
+			running = true;
+		}
+		try {
+			executor.execute( this::runTasks );
+		}
+		catch (RuntimeException e) {
+			// the executor rejected the tasks (shut down, saturated): fail the pending ones
+			final Task<?>[] rejected;
+			synchronized ( this ) {
+				rejected = tasks.toArray( new Task<?>[0] );
+				tasks.clear();
+				running = false;
+				notifyAll();
+			}
+			for ( Task<?> rejectedTask : rejected ) {
+				rejectedTask.result.completeExceptionally( e );
+			}
+		}
+		return task.result;
+	}
+
+	/**
+	 * Wait for the submitted operations to complete, so that the session can be used by the calling thread.
+	 * Returns immediately when called by the operations themselves, or by the callbacks of their results.
+	 */
+	void awaitCompletion() {
+		boolean interrupted = false;
+		synchronized ( this ) {
+			if ( runner == Thread.currentThread() ) {
+				return;
+			}
+			while ( running ) {
+				try {
+					wait();
+				}
+				catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		}
+		if ( interrupted ) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void runTasks() {
+		synchronized ( this ) {
+			runner = Thread.currentThread();
+		}
+		while ( true ) {
+			final Task<?> task;
+			synchronized ( this ) {
+				task = tasks.poll();
+				if ( task == null ) {
+					running = false;
+					runner = null;
+					notifyAll();
+					return;
+				}
+			}
+			task.run();
+		}
+	}
+
+	private static final class Task<T> {
+		private final Supplier<T> work;
+		private final CompletableFuture<T> result = new CompletableFuture<>();
+
+		private Task(Supplier<T> work) {
+			this.work = work;
+		}
+
+		private void run() {
+			try {
+				result.complete( work.get() );
+			}
+			catch (Throwable t) {
+				result.completeExceptionally( t );
+			}
+		}
+	}
+}
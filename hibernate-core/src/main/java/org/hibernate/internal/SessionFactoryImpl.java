@@ -19,6 +19,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.naming.Reference;
 import javax.naming.StringRefAddr;
 import javax.persistence.EntityGraph;
@@ -194,6 +198,9 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 	private final transient TypeHelper typeHelper;
 	private transient StatisticsImplementor statisticsImplementor;
 
+	// the Executor of the asynchronous operations, when none is configured; created on first use
+	private transient volatile ExecutorService defaultAsyncExecutor;
+
 
 	public SessionFactoryImpl(final MetadataImplementor metadata, SessionFactoryOptions options) {
 		LOG.debug( "Building session factory" );
@@ -656,6 +663,33 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 		return sessionFactoryOptions;
 	}
 
+	@Override
+	public Executor getAsyncExecutor() {
+		final Executor executor = sessionFactoryOptions.getAsyncExecutor();
+		return executor != null ? executor : getDefaultAsyncExecutor();
+	}
+
+	private ExecutorService getDefaultAsyncExecutor() {
+		ExecutorService executor = defaultAsyncExecutor;
+		if ( executor == null ) {
+			synchronized ( this ) {
+				executor = defaultAsyncExecutor;
+				if ( executor == null ) {
+					final AtomicInteger threadNumber = new AtomicInteger();
+					executor = Executors.newCachedThreadPool(
+							runnable -> {
+								final Thread thread = new Thread( runnable, "hibernate-async-" + threadNumber.incrementAndGet() );
+								thread.setDaemon( true );
+								return thread;
+							}
+					);
+					defaultAsyncExecutor = executor;
+				}
+			}
+		}
+		return executor;
+	}
+
 	public Interceptor getInterceptor() {
 		return sessionFactoryOptions.getInterceptor();
 	}
@@ -770,6 +804,11 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 			queryPlanCache.cleanup();
 		}
 
+		if ( defaultAsyncExecutor != null ) {
+			// let the pending asynchronous operations complete
+			defaultAsyncExecutor.shutdown();
+		}
+
 		if ( delayedDropAction != null ) {
 			delayedDropAction.perform( serviceRegistry );
 		}
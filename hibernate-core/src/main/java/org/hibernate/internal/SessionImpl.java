@@ -28,6 +28,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 import javax.persistence.CacheRetrieveMode;
 import javax.persistence.CacheStoreMode;
 import javax.persistence.EntityGraph;
@@ -407,6 +408,7 @@ public final class SessionImpl
 	@Override
 	public void close() throws HibernateException {
 		log.tracef( "Closing session [%s]", getSessionIdentifier() );
+		awaitAsyncOperations();
 
 		// todo : we want this check if usage is JPA, but not native Hibernate usage
 		if ( getSessionFactory().getSessionFactoryOptions().isJpaBootstrap() ) {
@@ -1425,6 +1427,16 @@ public final class SessionImpl
 		doFlush();
 	}
 
+	@Override
+	public CompletionStage<Void> flushAsync() {
+		return executeAsync(
+				() -> {
+					flush();
+					return null;
+				}
+		);
+	}
+
 	private void doFlush() {
 		checkTransactionNeeded();
 		checkTransactionSynchStatus();
@@ -2830,6 +2842,7 @@ public final class SessionImpl
 		private boolean sessionCheckingEnabled;
 		private boolean returnOfDeletedEntitiesEnabled;
 		private boolean orderedReturnEnabled = true;
+		private boolean arrayParameterBindingEnabled;
 
 		public MultiIdentifierLoadAccessImpl(EntityPersister entityPersister) {
 			this.entityPersister = entityPersister;
@@ -2950,6 +2963,39 @@ public final class SessionImpl
 				}
 			}
 		}
+
+		@Override
+		public boolean isArrayParameterBindingEnabled() {
+			return arrayParameterBindingEnabled;
+		}
+
+		@Override
+		public List<T> multiLoad(long[] ids) {
+			final Long[] boxedIds = new Long[ids.length];
+			for ( int i = 0; i < ids.length; i++ ) {
+				boxedIds[i] = ids[i];
+			}
+			return multiLoadBindingArrayParameter( boxedIds );
+		}
+
+		@Override
+		public List<T> multiLoad(int[] ids) {
+			final Integer[] boxedIds = new Integer[ids.length];
+			for ( int i = 0; i < ids.length; i++ ) {
+				boxedIds[i] = ids[i];
+			}
+			return multiLoadBindingArrayParameter( boxedIds );
+		}
+
+		private List<T> multiLoadBindingArrayParameter(Serializable[] ids) {
+			arrayParameterBindingEnabled = true;
+			try {
+				return multiLoad( ids );
+			}
+			finally {
+				arrayParameterBindingEnabled = false;
+			}
+		}
 	}
 
 	private EntityPersister locateEntityPersister(Class entityClass) {
@@ -8,6 +8,7 @@ package org.hibernate.internal;
 
 import java.io.Serializable;
 import java.sql.Connection;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -37,6 +38,7 @@ import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.transaction.internal.jta.JtaStatusHelper;
 import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
+import org.hibernate.id.IdentifierGenerationException;
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.loader.criteria.CriteriaLoader;
 import org.hibernate.loader.custom.CustomLoader;
@@ -115,6 +117,49 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	}
 
 
+	// upserts ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public void upsert(Object entity) {
+		checkOpen();
+		upsert( null, entity );
+	}
+
+	@Override
+	public void upsert(String entityName, Object entity) {
+		checkOpen();
+		EntityPersister persister = getEntityPersister( entityName, entity );
+		Serializable id = persister.getIdentifier( entity, this );
+		if ( id == null ) {
+			throw new IdentifierGenerationException(
+					"ids for this class must be manually assigned before calling upsert(): " + persister.getEntityName()
+			);
+		}
+		Object[] state = persister.getPropertyValues( entity );
+		if ( persister.isVersioned() ) {
+			boolean substitute = Versioning.seedVersion(
+					state,
+					persister.getVersionProperty(),
+					persister.getVersionType(),
+					this
+			);
+			if ( substitute ) {
+				persister.setPropertyValues( entity, state );
+			}
+		}
+		persister.upsert( id, state, entity, this );
+	}
+
+	@Override
+	public void upsertMultiple(Collection<?> entities) {
+		checkOpen();
+		for ( Object entity : entities ) {
+			upsert( null, entity );
+		}
+		getJdbcCoordinator().executeBatch();
+	}
+
+
 	// deletes ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	@Override
@@ -181,6 +226,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	@Override
 	public Object get(String entityName, Serializable id, LockMode lockMode) {
 		checkOpen();
+		flushPendingBatch();
 
 		Object result = getFactory().getMetamodel().entityPersister( entityName )
 				.load( id, null, getNullSafeLockMode( lockMode ), this );
@@ -207,6 +253,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 
 	@Override
 	public void refresh(String entityName, Object entity, LockMode lockMode) {
+		flushPendingBatch();
 		final EntityPersister persister = this.getEntityPersister( entityName, entity );
 		final Serializable id = persister.getIdentifier( entity, this );
 		if ( LOG.isTraceEnabled() ) {
@@ -328,6 +375,29 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		getJdbcCoordinator().executeBatch();
 	}
 
+	@Override
+	public void flushBatch() {
+		checkOpen();
+		getJdbcCoordinator().executeBatch();
+	}
+
+	/**
+	 * Execute the JDBC batch of the previous inserts, updates and deletes, so that the
+	 * following statement sees their rows
+	 */
+	private void flushPendingBatch() {
+		getJdbcCoordinator().executeBatch();
+	}
+
+	@Override
+	public void close() {
+		// within a transaction, the batch is executed on commit or discarded on rollback
+		if ( !isClosed() && !getTransactionCoordinator().isTransactionActive() ) {
+			getJdbcCoordinator().executeBatch();
+		}
+		super.close();
+	}
+
 	@Override
 	public String bestGuessEntityName(Object object) {
 		if ( object instanceof HibernateProxy ) {
@@ -345,6 +415,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	@Override
 	public int executeUpdate(String query, QueryParameters queryParameters) throws HibernateException {
 		checkOpen();
+		flushPendingBatch();
 		queryParameters.validateParameters();
 		HQLQueryPlan plan = getQueryPlan( query, false );
 		boolean success = false;
@@ -456,6 +527,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	@Override
 	public List list(String query, QueryParameters queryParameters) throws HibernateException {
 		checkOpen();
+		flushPendingBatch();
 		queryParameters.validateParameters();
 		HQLQueryPlan plan = getQueryPlan( query, false );
 		boolean success = false;
@@ -507,6 +579,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		CriteriaImpl criteriaImpl = (CriteriaImpl) criteria;
 
 		checkOpen();
+		flushPendingBatch();
 		String entityName = criteriaImpl.getEntityOrClassName();
 		CriteriaLoader loader = new CriteriaLoader(
 				getOuterJoinLoadable( entityName ),
@@ -525,6 +598,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		CriteriaImpl criteriaImpl = (CriteriaImpl) criteria;
 
 		checkOpen();
+		flushPendingBatch();
 		String[] implementors = getFactory().getMetamodel().getImplementors( criteriaImpl.getEntityOrClassName() );
 		int size = implementors.length;
 
@@ -569,6 +643,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	public List listCustomQuery(CustomQuery customQuery, QueryParameters queryParameters)
 			throws HibernateException {
 		checkOpen();
+		flushPendingBatch();
 		CustomLoader loader = new CustomLoader( customQuery, getFactory() );
 
 		boolean success = false;
@@ -588,6 +663,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	public ScrollableResultsImplementor scrollCustomQuery(CustomQuery customQuery, QueryParameters queryParameters)
 			throws HibernateException {
 		checkOpen();
+		flushPendingBatch();
 		CustomLoader loader = new CustomLoader( customQuery, getFactory() );
 		return loader.scroll( queryParameters, this );
 	}
@@ -595,6 +671,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	@Override
 	public ScrollableResultsImplementor scroll(String query, QueryParameters queryParameters) throws HibernateException {
 		checkOpen();
+		flushPendingBatch();
 		HQLQueryPlan plan = getQueryPlan( query, false );
 		return plan.performScroll( queryParameters, this );
 	}
@@ -618,6 +695,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 			NativeSQLQuerySpecification nativeSQLQuerySpecification,
 			QueryParameters queryParameters) throws HibernateException {
 		checkOpen();
+		flushPendingBatch();
 		queryParameters.validateParameters();
 		NativeSQLQueryPlan plan = getNativeQueryPlan( nativeSQLQuerySpecification );
 
@@ -646,6 +724,9 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 
 	@Override
 	public void afterTransactionCompletion(boolean successful, boolean delayed) {
+		if ( !successful ) {
+			getJdbcCoordinator().abortBatch();
+		}
 		if ( shouldAutoClose() && !isClosed() ) {
 			managedClose();
 		}
@@ -0,0 +1,452 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A {@link Map} using open addressing with linear probing over flat arrays, as opposed to the
+ * chained buckets of {@link java.util.HashMap}.  No node object is allocated per mapping: keys,
+ * values and the (cached) key hash codes live in three parallel arrays, which considerably reduces
+ * the retained heap and the GC pressure of very large maps.
+ * <p/>
+ * Keys are compared either by {@link Object#equals} or, if the map was created as an identity map,
+ * by reference (in which case it is a drop-in replacement for {@link java.util.IdentityHashMap}).
+ * {@code null} keys are not supported.
+ * <p/>
+ * Subclasses can implement specialized lookups which do not need an actual key instance using
+ * {@link #firstIndex}, {@link #nextIndex}, {@link #keyAt}, {@link #hashAt} and {@link #valueAt}.
+ * <p/>
+ * This class is not thread-safe.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+public class OpenAddressingHashMap<K, V> extends AbstractMap<K, V> {
+	private static final int MINIMUM_CAPACITY = 8;
+	private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+	/**
+	 * Marks a slot whose mapping was removed; probe sequences must continue past it.
+	 */
+	private static final Object TOMBSTONE = new Object();
+
+	private final boolean identity;
+
+	private Object[] keys;
+	private Object[] values;
+	private int[] hashes;
+
+	private int size;
+	private int tombstones;
+	private int threshold;
+	private int modCount;
+
+	private transient EntrySet entrySet;
+
+	/**
+	 * Creates an equality based map able to hold {@code expectedSize} mappings without resizing.
+	 *
+	 * @param expectedSize The expected number of mappings
+	 */
+	public OpenAddressingHashMap(int expectedSize) {
+		this( expectedSize, false );
+	}
+
+	/**
+	 * Creates a map able to hold {@code expectedSize} mappings without resizing.
+	 *
+	 * @param expectedSize The expected number of mappings
+	 * @param identity Whether keys are compared by reference rather than by {@code equals}
+	 */
+	public OpenAddressingHashMap(int expectedSize, boolean identity) {
+		this.identity = identity;
+		allocate( capacityFor( expectedSize ) );
+	}
+
+	/**
+	 * Creates a map using reference equality for its keys.
+	 *
+	 * @param expectedSize The expected number of mappings
+	 * @param <K> The key type
+	 * @param <V> The value type
+	 *
+	 * @return The identity map
+	 */
+	public static <K, V> OpenAddressingHashMap<K, V> identityMap(int expectedSize) {
+		return new OpenAddressingHashMap<>( expectedSize, true );
+	}
+
+	private static int capacityFor(int expectedSize) {
+		// keep the load factor (including tombstones) at or below 1/2
+		int capacity = MINIMUM_CAPACITY;
+		while ( capacity < MAXIMUM_CAPACITY && capacity >> 1 < expectedSize ) {
+			capacity <<= 1;
+		}
+		return capacity;
+	}
+
+	private void allocate(int capacity) {
+		keys = new Object[capacity];
+		values = new Object[capacity];
+		hashes = new int[capacity];
+		threshold = capacity >> 1;
+		tombstones = 0;
+	}
+
+	private static int spread(int hash) {
+		// the key hash codes (identity hash codes in particular) are rarely well distributed in
+		// their low bits, which is all the slot index uses
+		final int h = hash * 0x9E3779B9;
+		return h ^ ( h >>> 16 );
+	}
+
+	private int hash(Object key) {
+		return identity ? System.identityHashCode( key ) : key.hashCode();
+	}
+
+	/**
+	 * The first slot of the probe sequence for the given key hash code.
+	 *
+	 * @param hash The (unspread) key hash code, as returned by {@link #hashAt}
+	 *
+	 * @return The slot index
+	 */
+	protected final int firstIndex(int hash) {
+		return spread( hash ) & ( keys.length - 1 );
+	}
+
+	/**
+	 * The slot following the given one in a probe sequence.
+	 *
+	 * @param index The current slot index
+	 *
+	 * @return The next slot index
+	 */
+	protected final int nextIndex(int index) {
+		return ( index + 1 ) & ( keys.length - 1 );
+	}
+
+	/**
+	 * The key in the given slot: {@code null} if the slot is free (which ends a probe sequence),
+	 * or an object which is not a {@code K} if the slot held a mapping which was removed.
+	 *
+	 * @param index The slot index
+	 *
+	 * @return The slot key
+	 */
+	protected final Object keyAt(int index) {
+		return keys[index];
+	}
+
+	/**
+	 * The hash code of the key in the given slot.
+	 *
+	 * @param index The slot index
+	 *
+	 * @return The key hash code
+	 */
+	protected final int hashAt(int index) {
+		return hashes[index];
+	}
+
+	/**
+	 * The value in the given slot.
+	 *
+	 * @param index The slot index
+	 *
+	 * @return The slot value
+	 */
+	@SuppressWarnings("unchecked")
+	protected final V valueAt(int index) {
+		return (V) values[index];
+	}
+
+	private int indexOf(Object key) {
+		if ( key == null ) {
+			return -1;
+		}
+		final int hash = hash( key );
+		int index = firstIndex( hash );
+		Object candidate;
+		while ( ( candidate = keys[index] ) != null ) {
+			if ( candidate == key
+					|| ( !identity && hashes[index] == hash && candidate != TOMBSTONE && candidate.equals( key ) ) ) {
+				return index;
+			}
+			index = nextIndex( index );
+		}
+		return -1;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return indexOf( key ) >= 0;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		final int index = indexOf( key );
+		return index < 0 ? null : (V) values[index];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V put(K key, V value) {
+		if ( key == null ) {
+			throw new NullPointerException( "null keys are not supported" );
+		}
+		final int hash = hash( key );
+		int index = firstIndex( hash );
+		int firstTombstone = -1;
+		Object candidate;
+		while ( ( candidate = keys[index] ) != null ) {
+			if ( candidate == TOMBSTONE ) {
+				if ( firstTombstone < 0 ) {
+					firstTombstone = index;
+				}
+			}
+			else if ( candidate == key || ( !identity && hashes[index] == hash && candidate.equals( key ) ) ) {
+				final V previous = (V) values[index];
+				values[index] = value;
+				return previous;
+			}
+			index = nextIndex( index );
+		}
+
+		if ( firstTombstone >= 0 ) {
+			index = firstTombstone;
+			tombstones--;
+		}
+		keys[index] = key;
+		values[index] = value;
+		hashes[index] = hash;
+		size++;
+		modCount++;
+
+		if ( size + tombstones > threshold ) {
+			// grow if the map is genuinely full, otherwise just purge the tombstones
+			rehash( size > ( threshold >> 1 ) ? keys.length << 1 : keys.length );
+		}
+		return null;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V remove(Object key) {
+		final int index = indexOf( key );
+		if ( index < 0 ) {
+			return null;
+		}
+		final V previous = (V) values[index];
+		removeAt( index );
+		return previous;
+	}
+
+	private void removeAt(int index) {
+		values[index] = null;
+		hashes[index] = 0;
+		size--;
+		modCount++;
+
+		if ( keys[nextIndex( index )] == null ) {
+			// end of a probe sequence: the slot (and any tombstones right before it) can simply be freed
+			keys[index] = null;
+			int previous = ( index - 1 ) & ( keys.length - 1 );
+			while ( keys[previous] == TOMBSTONE ) {
+				keys[previous] = null;
+				tombstones--;
+				previous = ( previous - 1 ) & ( keys.length - 1 );
+			}
+		}
+		else {
+			keys[index] = TOMBSTONE;
+			tombstones++;
+		}
+	}
+
+	private void rehash(int newCapacity) {
+		if ( newCapacity > MAXIMUM_CAPACITY ) {
+			throw new IllegalStateException( "Map capacity exceeded" );
+		}
+		final Object[] oldKeys = keys;
+		final Object[] oldValues = values;
+		final int[] oldHashes = hashes;
+		allocate( newCapacity );
+
+		for ( int i = 0; i < oldKeys.length; i++ ) {
+			final Object key = oldKeys[i];
+			if ( key != null && key != TOMBSTONE ) {
+				int index = firstIndex( oldHashes[i] );
+				while ( keys[index] != null ) {
+					index = nextIndex( index );
+				}
+				keys[index] = key;
+				values[index] = oldValues[i];
+				hashes[index] = oldHashes[i];
+			}
+		}
+	}
+
+	@Override
+	public void clear() {
+		if ( size > 0 || tombstones > 0 ) {
+			Arrays.fill( keys, null );
+			Arrays.fill( values, null );
+			Arrays.fill( hashes, 0 );
+			size = 0;
+			tombstones = 0;
+			modCount++;
+		}
+	}
+
+	@Override
+	public Set<Map.Entry<K, V>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new EntrySet();
+		}
+		return entrySet;
+	}
+
+	private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+		@Override
+		public Iterator<Map.Entry<K, V>> iterator() {
+			return new EntryIterator();
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public void clear() {
+			OpenAddressingHashMap.this.clear();
+		}
+	}
+
+	private final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+		private int next = -1;
+		private int current = -1;
+		private int expectedModCount = modCount;
+
+		private EntryIterator() {
+			advance();
+		}
+
+		private void advance() {
+			do {
+				next++;
+			}
+			while ( next < keys.length && ( keys[next] == null || keys[next] == TOMBSTONE ) );
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next < keys.length;
+		}
+
+		@Override
+		public Map.Entry<K, V> next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			current = next;
+			advance();
+			return new Entry( current );
+		}
+
+		@Override
+		public void remove() {
+			if ( current < 0 ) {
+				throw new IllegalStateException();
+			}
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			removeAt( current );
+			current = -1;
+			expectedModCount = modCount;
+		}
+	}
+
+	private final class Entry implements Map.Entry<K, V> {
+		private final int index;
+		private final K key;
+
+		@SuppressWarnings("unchecked")
+		private Entry(int index) {
+			this.index = index;
+			this.key = (K) keys[index];
+		}
+
+		@Override
+		public K getKey() {
+			return key;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V getValue() {
+			return keys[index] == key ? (V) values[index] : get( key );
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V setValue(V value) {
+			if ( keys[index] != key ) {
+				return put( key, value );
+			}
+			final V previous = (V) values[index];
+			values[index] = value;
+			return previous;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( !( o instanceof Map.Entry ) ) {
+				return false;
+			}
+			final Map.Entry other = (Map.Entry) o;
+			final Object value = getValue();
+			return ( identity ? key == other.getKey() : key.equals( other.getKey() ) )
+					&& ( value == null ? other.getValue() == null : value.equals( other.getValue() ) );
+		}
+
+		@Override
+		public int hashCode() {
+			final Object value = getValue();
+			return hash( key ) ^ ( value == null ? 0 : value.hashCode() );
+		}
+
+		@Override
+		public String toString() {
+			return key + "=" + getValue();
+		}
+	}
+}
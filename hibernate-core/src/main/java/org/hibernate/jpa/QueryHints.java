@@ -10,9 +10,11 @@ import java.util.HashSet;
 import java.util.Set;
 
 import static org.hibernate.annotations.QueryHints.CACHEABLE;
+import static org.hibernate.annotations.QueryHints.CACHE_INVALIDATION_BY_ID;
 import static org.hibernate.annotations.QueryHints.CACHE_MODE;
 import static org.hibernate.annotations.QueryHints.CACHE_REGION;
 import static org.hibernate.annotations.QueryHints.COMMENT;
+import static org.hibernate.annotations.QueryHints.DETACH_STREAMED_RESULTS;
 import static org.hibernate.annotations.QueryHints.FETCHGRAPH;
 import static org.hibernate.annotations.QueryHints.FETCH_SIZE;
 import static org.hibernate.annotations.QueryHints.FLUSH_MODE;
@@ -105,6 +107,10 @@ public class QueryHints {
 
 	public static final String HINT_PASS_DISTINCT_THROUGH = PASS_DISTINCT_THROUGH;
 
+	public static final String HINT_DETACH_STREAMED_RESULTS = DETACH_STREAMED_RESULTS;
+
+	public static final String HINT_CACHE_INVALIDATION_BY_ID = CACHE_INVALIDATION_BY_ID;
+
 	private static final Set<String> HINTS = buildHintsSet();
 
 	private static Set<String> buildHintsSet() {
@@ -121,6 +127,8 @@ public class QueryHints {
 		hints.add( HINT_NATIVE_LOCKMODE );
 		hints.add( HINT_FETCHGRAPH );
 		hints.add( HINT_LOADGRAPH );
+		hints.add( HINT_DETACH_STREAMED_RESULTS );
+		hints.add( HINT_CACHE_INVALIDATION_BY_ID );
 		return java.util.Collections.unmodifiableSet( hints );
 	}
 
@@ -31,6 +31,7 @@ import org.hibernate.ScrollMode;
 import org.hibernate.Session;
 import org.hibernate.StaleObjectStateException;
 import org.hibernate.WrongClassException;
+import org.hibernate.cache.internal.RefreshAheadCoordinator;
 import org.hibernate.cache.spi.FilterKey;
 import org.hibernate.cache.spi.QueryCache;
 import org.hibernate.cache.spi.QueryKey;
@@ -2533,19 +2534,47 @@ public abstract class Loader {
 				key
 		);
 
-		if ( result == null ) {
-			result = doList( session, queryParameters, key.getResultTransformer() );
+		if ( result != null ) {
+			refreshResultAheadOfExpiry( session, queryParameters, querySpaces, resultTypes, queryCache, key );
+		}
 
-			putResultInQueryCache(
+		// only sessions both reading and writing the cache can share the loading of results
+		final boolean sharedLoad = result == null
+				&& session.getCacheMode().isGetEnabled()
+				&& session.getCacheMode().isPutEnabled();
+		if ( sharedLoad && queryCache.awaitLoad( key, session ) ) {
+			// another session just loaded the results
+			result = getResultFromQueryCache(
 					session,
 					queryParameters,
+					querySpaces,
 					resultTypes,
 					queryCache,
-					key,
-					result
+					key
 			);
 		}
 
+		if ( result == null ) {
+			try {
+				result = doList( session, queryParameters, key.getResultTransformer() );
+
+				putResultInQueryCache(
+						session,
+						queryParameters,
+						querySpaces,
+						resultTypes,
+						queryCache,
+						key,
+						result
+				);
+			}
+			finally {
+				if ( sharedLoad ) {
+					queryCache.endLoad( key, session );
+				}
+			}
+		}
+
 		ResultTransformer resolvedTransformer = resolveResultTransformer( queryParameters.getResultTransformer() );
 		if ( resolvedTransformer != null ) {
 			result = (
@@ -2565,6 +2594,65 @@ public abstract class Loader {
 		return getResultList( result, queryParameters.getResultTransformer() );
 	}
 
+	private void refreshResultAheadOfExpiry(
+			final SharedSessionContractImplementor session,
+			final QueryParameters queryParameters,
+			final Set<Serializable> querySpaces,
+			final Type[] resultTypes,
+			final QueryCache queryCache,
+			final QueryKey key) {
+		final RefreshAheadCoordinator refreshAheadCoordinator = factory.getCache().getRefreshAheadCoordinator();
+		if ( refreshAheadCoordinator == null || !isExecutableByAnotherSession( session, queryParameters ) ) {
+			return;
+		}
+
+		// the refresh processes the parameters in another thread
+		final QueryParameters refreshParameters = queryParameters.createCopyUsing( queryParameters.getRowSelection() );
+		refreshAheadCoordinator.refreshQueryResultsIfNearExpiry(
+				session,
+				queryCache,
+				key,
+				refreshSession -> putResultInQueryCache(
+						refreshSession,
+						refreshParameters,
+						querySpaces,
+						resultTypes,
+						queryCache,
+						key,
+						doList( refreshSession, refreshParameters, key.getResultTransformer() )
+				)
+		);
+	}
+
+	/**
+	 * Would the query return the same results when executed by another session?  Not when they depend on the
+	 * state of this session, like its enabled filters or the entities bound as parameters.
+	 */
+	private static boolean isExecutableByAnotherSession(
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters) {
+		if ( queryParameters.isNaturalKeyLookup()
+				|| queryParameters.isCallable()
+				|| !session.getLoadQueryInfluencers().getEnabledFilters().isEmpty() ) {
+			return false;
+		}
+		if ( queryParameters.getPositionalParameterTypes() != null ) {
+			for ( Type type : queryParameters.getPositionalParameterTypes() ) {
+				if ( type.isEntityType() ) {
+					return false;
+				}
+			}
+		}
+		if ( queryParameters.getNamedParameters() != null ) {
+			for ( TypedValue value : queryParameters.getNamedParameters().values() ) {
+				if ( value.getType().isEntityType() ) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
 	private QueryKey generateQueryKey(
 			SharedSessionContractImplementor session,
 			QueryParameters queryParameters) {
@@ -2620,6 +2708,7 @@ public abstract class Loader {
 						key,
 						key.getResultTransformer().getCachedResultTypes( resultTypes ),
 						isImmutableNaturalKeyLookup,
+						queryParameters.isCacheInvalidatedById(),
 						querySpaces,
 						session
 				);
@@ -2648,6 +2737,7 @@ public abstract class Loader {
 	protected void putResultInQueryCache(
 			final SharedSessionContractImplementor session,
 			final QueryParameters queryParameters,
+			final Set<Serializable> querySpaces,
 			final Type[] resultTypes,
 			final QueryCache queryCache,
 			final QueryKey key,
@@ -2658,6 +2748,8 @@ public abstract class Loader {
 					key.getResultTransformer().getCachedResultTypes( resultTypes ),
 					result,
 					queryParameters.isNaturalKeyLookup(),
+					queryParameters.isCacheInvalidatedById(),
+					querySpaces,
 					session
 			);
 			if ( put && factory.getStatistics().isStatisticsEnabled() ) {
@@ -2707,6 +2799,7 @@ public abstract class Loader {
 					result.size(),
 					milliseconds
 			);
+			getFactory().getStatistics().queryExecutionLatency( getQueryIdentifier(), endTime - startTime );
 		}
 
 		return result;
@@ -2782,6 +2875,7 @@ public abstract class Loader {
 						0,
 						milliseconds
 				);
+				getFactory().getStatistics().queryExecutionLatency( getQueryIdentifier(), endTime - startTime );
 			}
 
 			if ( needsFetchingScroll() ) {
@@ -541,11 +541,12 @@ public class CustomLoader extends Loader {
 	protected void putResultInQueryCache(
 			final SharedSessionContractImplementor session,
 			final QueryParameters queryParameters,
+			final Set<Serializable> querySpaces,
 			final Type[] resultTypes,
 			final QueryCache queryCache,
 			final QueryKey key,
 			final List result) {
-		super.putResultInQueryCache( session, queryParameters, this.resultTypes, queryCache, key, result );
+		super.putResultInQueryCache( session, queryParameters, querySpaces, this.resultTypes, queryCache, key, result );
 	}
 
 }
@@ -8,6 +8,7 @@ package org.hibernate.loader.entity;
 
 import java.io.Serializable;
 import java.lang.reflect.Array;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -35,6 +36,8 @@ import org.hibernate.loader.spi.AfterLoadAction;
 import org.hibernate.persister.entity.MultiLoadOptions;
 import org.hibernate.persister.entity.OuterJoinLoadable;
 import org.hibernate.pretty.MessageHelper;
+import org.hibernate.type.IntegerType;
+import org.hibernate.type.LongType;
 import org.hibernate.type.Type;
 
 import org.jboss.logging.Logger;
@@ -77,10 +80,15 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 				? new LockOptions( LockMode.NONE )
 				: loadOptions.getLockOptions();
 
+		final Integer arrayElementSqlType = determineArrayElementSqlType( persister, loadOptions, session );
 		final int maxBatchSize;
 		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
 			maxBatchSize = loadOptions.getBatchSize();
 		}
+		else if ( arrayElementSqlType != null ) {
+			// a single array parameter binds any number of ids
+			maxBatchSize = ids.length;
+		}
 		else {
 			maxBatchSize = session.getJdbcServices().getJdbcEnvironment().getDialect().getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
 					persister.getIdentifierType().getColumnSpan( session.getFactory() ),
@@ -119,7 +127,7 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 			idsInBatch.add( ids[i] );
 
 			if ( idsInBatch.size() >= maxBatchSize ) {
-				performOrderedBatchLoad( idsInBatch, lockOptions, persister, session );
+				performOrderedBatchLoad( idsInBatch, lockOptions, arrayElementSqlType, persister, session );
 			}
 
 			// Save the EntityKey instance for use later!
@@ -128,7 +136,7 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 		}
 
 		if ( !idsInBatch.isEmpty() ) {
-			performOrderedBatchLoad( idsInBatch, lockOptions, persister, session );
+			performOrderedBatchLoad( idsInBatch, lockOptions, arrayElementSqlType, persister, session );
 		}
 
 		for ( Integer position : elementPositionsLoadedByBatch ) {
@@ -153,6 +161,7 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 	private void performOrderedBatchLoad(
 			List<Serializable> idsInBatch,
 			LockOptions lockOptions,
+			Integer arrayElementSqlType,
 			OuterJoinLoadable persister,
 			SharedSessionContractImplementor session) {
 		final int batchSize =  idsInBatch.size();
@@ -160,6 +169,7 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 				persister,
 				batchSize,
 				lockOptions,
+				arrayElementSqlType,
 				session.getFactory(),
 				session.getLoadQueryInfluencers()
 		);
@@ -191,8 +201,7 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 			boolean foundAnyManagedEntities = false;
 			final List<Serializable> nonManagedIds = new ArrayList<Serializable>();
 			for ( Serializable id : ids ) {
-				final EntityKey entityKey = new EntityKey( id, persister );
-				final Object managedEntity = session.getPersistenceContext().getEntity( entityKey );
+				final Object managedEntity = session.getPersistenceContext().getEntity( persister, id );
 				if ( managedEntity != null ) {
 					if ( !loadOptions.isReturnOfDeletedEntitiesEnabled() ) {
 						final EntityEntry entry = session.getPersistenceContext().getEntry( managedEntity );
@@ -231,10 +240,15 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 				: loadOptions.getLockOptions();
 
 		int numberOfIdsLeft = ids.length;
+		final Integer arrayElementSqlType = determineArrayElementSqlType( persister, loadOptions, session );
 		final int maxBatchSize;
 		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
 			maxBatchSize = loadOptions.getBatchSize();
 		}
+		else if ( arrayElementSqlType != null ) {
+			// a single array parameter binds any number of ids
+			maxBatchSize = numberOfIdsLeft;
+		}
 		else {
 			maxBatchSize = session.getJdbcServices().getJdbcEnvironment().getDialect().getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
 					persister.getIdentifierType().getColumnSpan( session.getFactory() ),
@@ -249,6 +263,7 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 					persister,
 					batchSize,
 					lockOptions,
+					arrayElementSqlType,
 					session.getFactory(),
 					session.getLoadQueryInfluencers()
 			);
@@ -266,6 +281,28 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 		return result;
 	}
 
+	/**
+	 * Determine whether the ids of a multi-load can be bound as a single array parameter, which is
+	 * supported for {@code int} and {@code long} identifiers when no filter is enabled, and only done
+	 * for the loads opting in (see {@link MultiLoadOptions#isArrayParameterBindingEnabled()}).
+	 *
+	 * @return The JDBC type code of the array elements, or {@code null} if the ids are to be bound
+	 * as an IN list.
+	 */
+	private static Integer determineArrayElementSqlType(
+			OuterJoinLoadable persister,
+			MultiLoadOptions loadOptions,
+			SharedSessionContractImplementor session) {
+		final Type identifierType = persister.getIdentifierType();
+		if ( !loadOptions.isArrayParameterBindingEnabled()
+				|| !session.getJdbcServices().getJdbcEnvironment().getDialect().supportsArrayParameters()
+				|| session.getLoadQueryInfluencers().hasEnabledFilters()
+				|| !( identifierType instanceof LongType || identifierType instanceof IntegerType ) ) {
+			return null;
+		}
+		return identifierType.sqlTypes( session.getFactory() )[0];
+	}
+
 	public static QueryParameters buildMultiLoadQueryParameters(
 			OuterJoinLoadable persister,
 			Serializable[] ids,
@@ -379,14 +416,25 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 
 		private final String sqlTemplate;
 		private final String alias;
+		private final Integer arrayElementSqlType;
+
+		public DynamicEntityLoader(
+				OuterJoinLoadable persister,
+				int maxBatchSize,
+				LockOptions lockOptions,
+				SessionFactoryImplementor factory,
+				LoadQueryInfluencers loadQueryInfluencers) {
+			this( persister, maxBatchSize, lockOptions.getLockMode(), null, factory, loadQueryInfluencers );
+		}
 
 		public DynamicEntityLoader(
 				OuterJoinLoadable persister,
 				int maxBatchSize,
 				LockOptions lockOptions,
+				Integer arrayElementSqlType,
 				SessionFactoryImplementor factory,
 				LoadQueryInfluencers loadQueryInfluencers) {
-			this( persister, maxBatchSize, lockOptions.getLockMode(), factory, loadQueryInfluencers );
+			this( persister, maxBatchSize, lockOptions.getLockMode(), arrayElementSqlType, factory, loadQueryInfluencers );
 		}
 
 		public DynamicEntityLoader(
@@ -395,7 +443,22 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 				LockMode lockMode,
 				SessionFactoryImplementor factory,
 				LoadQueryInfluencers loadQueryInfluencers) {
+			this( persister, maxBatchSize, lockMode, null, factory, loadQueryInfluencers );
+		}
+
+		/**
+		 * @param arrayElementSqlType The JDBC type code of the ids, to bind them as a single array
+		 * parameter, or {@code null} to bind them as an IN list
+		 */
+		public DynamicEntityLoader(
+				OuterJoinLoadable persister,
+				int maxBatchSize,
+				LockMode lockMode,
+				Integer arrayElementSqlType,
+				SessionFactoryImplementor factory,
+				LoadQueryInfluencers loadQueryInfluencers) {
 			super( persister, -1, lockMode, factory, loadQueryInfluencers );
+			this.arrayElementSqlType = arrayElementSqlType;
 
 			EntityJoinWalker walker = new EntityJoinWalker(
 					persister,
@@ -406,6 +469,14 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 					loadQueryInfluencers) {
 				@Override
 				protected StringBuilder whereString(String alias, String[] columnNames, int batchSize) {
+					if ( arrayElementSqlType != null ) {
+						return new StringBuilder(
+								getFactory().getDialect().getArrayParameterRestriction(
+										StringHelper.qualify( alias, columnNames[0] ),
+										arrayElementSqlType
+								)
+						);
+					}
 					return StringHelper.buildBatchFetchRestrictionFragment(
 							alias,
 							columnNames,
@@ -438,7 +509,7 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 				SharedSessionContractImplementor session,
 				QueryParameters queryParameters,
 				Serializable[] ids) {
-			final String sql = StringHelper.expandBatchIdPlaceholder(
+			final String sql = arrayElementSqlType != null ? sqlTemplate : StringHelper.expandBatchIdPlaceholder(
 					sqlTemplate,
 					ids,
 					alias,
@@ -490,6 +561,24 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 			}
 		}
 
+		@Override
+		protected int bindPositionalParameters(
+				PreparedStatement statement,
+				QueryParameters queryParameters,
+				int startIndex,
+				SharedSessionContractImplementor session) throws SQLException {
+			if ( arrayElementSqlType == null ) {
+				return super.bindPositionalParameters( statement, queryParameters, startIndex, session );
+			}
+			session.getJdbcServices().getJdbcEnvironment().getDialect().bindArrayParameter(
+					statement,
+					startIndex,
+					queryParameters.getPositionalParameterValues(),
+					arrayElementSqlType
+			);
+			return 1;
+		}
+
 		private List doTheLoad(String sql, QueryParameters queryParameters, SharedSessionContractImplementor session) throws SQLException {
 			final RowSelection selection = queryParameters.getRowSelection();
 			final int maxRows = LimitHelper.hasMaxRows( selection ) ?
@@ -551,6 +551,7 @@ public class QueryLoader extends BasicLoader {
 						0,
 						milliseconds
 				);
+				session.getFactory().getStatistics().queryExecutionLatency( getQueryIdentifier(), endTime - startTime );
 			}
 
 			return result;
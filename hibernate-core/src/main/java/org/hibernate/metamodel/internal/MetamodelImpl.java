@@ -15,6 +15,9 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
 import javax.persistence.EntityGraph;
 import javax.persistence.NamedAttributeNode;
 import javax.persistence.NamedEntityGraph;
@@ -116,7 +119,13 @@ public class MetamodelImpl implements MetamodelImplementor, Serializable {
 
 		final PersisterFactory persisterFactory = sessionFactory.getServiceRegistry().getService( PersisterFactory.class );
 
-		for ( final PersistentClass model : mappingMetadata.getEntityBindings() ) {
+		final boolean parallelCreation = sessionFactory.getSessionFactoryOptions().isParallelPersisterCreationEnabled();
+
+		// the region access strategies are resolved upfront (and sequentially): only the persister
+		// construction itself happens concurrently when parallelCreation is enabled
+		final List<PersistentClass> entityBindings = new ArrayList<>( mappingMetadata.getEntityBindings() );
+		final List<Supplier<EntityPersister>> entityPersisterCreations = new ArrayList<>( entityBindings.size() );
+		for ( final PersistentClass model : entityBindings ) {
 			final EntityRegionAccessStrategy accessStrategy = sessionFactory.getCache().determineEntityRegionAccessStrategy(
 					model
 			);
@@ -125,13 +134,20 @@ public class MetamodelImpl implements MetamodelImplementor, Serializable {
 					model
 			);
 
-			final EntityPersister cp = persisterFactory.createEntityPersister(
-					model,
-					accessStrategy,
-					naturalIdAccessStrategy,
-					persisterCreationContext
+			entityPersisterCreations.add(
+					() -> persisterFactory.createEntityPersister(
+							model,
+							accessStrategy,
+							naturalIdAccessStrategy,
+							persisterCreationContext
+					)
 			);
-			entityPersisterMap.put( model.getEntityName(), cp );
+		}
+		final List<EntityPersister> entityPersisters = createPersisters( entityPersisterCreations, parallelCreation );
+
+		for ( int i = 0; i < entityPersisters.size(); i++ ) {
+			final EntityPersister cp = entityPersisters.get( i );
+			entityPersisterMap.put( entityBindings.get( i ).getEntityName(), cp );
 
 			if ( cp.getConcreteProxyClass() != null
 					&& cp.getConcreteProxyClass().isInterface()
@@ -163,17 +179,27 @@ public class MetamodelImpl implements MetamodelImplementor, Serializable {
 			}
 		}
 
-		for ( final Collection model : mappingMetadata.getCollectionBindings() ) {
+		// collection persisters resolve their owner and element persisters when constructed
+		final List<Collection> collectionBindings = new ArrayList<>( mappingMetadata.getCollectionBindings() );
+		final List<Supplier<CollectionPersister>> collectionPersisterCreations = new ArrayList<>( collectionBindings.size() );
+		for ( final Collection model : collectionBindings ) {
 			final CollectionRegionAccessStrategy accessStrategy = sessionFactory.getCache().determineCollectionRegionAccessStrategy(
 					model
 			);
 
-			final CollectionPersister persister = persisterFactory.createCollectionPersister(
-					model,
-					accessStrategy,
-					persisterCreationContext
+			collectionPersisterCreations.add(
+					() -> persisterFactory.createCollectionPersister(
+							model,
+							accessStrategy,
+							persisterCreationContext
+					)
 			);
-			collectionPersisterMap.put( model.getRole(), persister );
+		}
+		final List<CollectionPersister> collectionPersisters = createPersisters( collectionPersisterCreations, parallelCreation );
+
+		for ( int i = 0; i < collectionPersisters.size(); i++ ) {
+			final CollectionPersister persister = collectionPersisters.get( i );
+			collectionPersisterMap.put( collectionBindings.get( i ).getRole(), persister );
 			Type indexType = persister.getIndexType();
 			if ( indexType != null && indexType.isAssociationType() && !indexType.isAnyType() ) {
 				String entityName = ( (AssociationType) indexType ).getAssociatedEntityName( sessionFactory );
@@ -229,6 +255,58 @@ public class MetamodelImpl implements MetamodelImplementor, Serializable {
 
 	}
 
+	/**
+	 * Run the given persister creations, possibly concurrently.
+	 *
+	 * @param creations The persister creations
+	 * @param parallel Whether to run the creations concurrently
+	 * @param <T> The persister type
+	 *
+	 * @return The created persisters, in the order of the creations
+	 */
+	private static <T> List<T> createPersisters(List<Supplier<T>> creations, boolean parallel) {
+		final List<T> persisters = new ArrayList<>( creations.size() );
+		if ( !parallel || creations.size() < 2 ) {
+			for ( Supplier<T> creation : creations ) {
+				persisters.add( creation.get() );
+			}
+			return persisters;
+		}
+
+		// the creations may need to load classes (tuplizers, proxies, user types...) through the
+		// context class loader, which the pool threads do not inherit
+		final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		final ForkJoinPool pool = new ForkJoinPool( Runtime.getRuntime().availableProcessors() );
+		try {
+			final List<ForkJoinTask<T>> tasks = new ArrayList<>( creations.size() );
+			for ( Supplier<T> creation : creations ) {
+				tasks.add(
+						pool.submit(
+								() -> {
+									final Thread thread = Thread.currentThread();
+									final ClassLoader previousClassLoader = thread.getContextClassLoader();
+									thread.setContextClassLoader( contextClassLoader );
+									try {
+										return creation.get();
+									}
+									finally {
+										thread.setContextClassLoader( previousClassLoader );
+									}
+								}
+						)
+				);
+			}
+			// join() rethrows the (unchecked) exception of a failed creation
+			for ( ForkJoinTask<T> task : tasks ) {
+				persisters.add( task.join() );
+			}
+		}
+		finally {
+			pool.shutdownNow();
+		}
+		return persisters;
+	}
+
 	@SuppressWarnings("unchecked")
 	private void applyNamedEntityGraphs(java.util.Collection<NamedEntityGraphDefinition> namedEntityGraphs) {
 		for ( NamedEntityGraphDefinition definition : namedEntityGraphs ) {
@@ -21,6 +21,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.EntityMode;
@@ -56,6 +57,7 @@ import org.hibernate.engine.internal.MutableEntityEntryFactory;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.internal.InsertBatchKey;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.CachedNaturalIdValueSource;
@@ -119,6 +121,7 @@ import org.hibernate.sql.SelectFragment;
 import org.hibernate.sql.SimpleSelect;
 import org.hibernate.sql.Template;
 import org.hibernate.sql.Update;
+import org.hibernate.sql.Upsert;
 import org.hibernate.tuple.GenerationTiming;
 import org.hibernate.tuple.InDatabaseValueGenerationStrategy;
 import org.hibernate.tuple.InMemoryValueGenerationStrategy;
@@ -232,9 +235,10 @@ public abstract class AbstractEntityPersister
 
 	private final Set<String> affectingFetchProfileNames = new HashSet<String>();
 
-	private final Map uniqueKeyLoaders = new HashMap();
+	private final Map uniqueKeyLoaders;
 	private final Map lockers = new HashMap();
-	private final Map loaders = new HashMap();
+	private final Map loaders;
+	private final boolean lazyLoaders;
 
 	// SQL strings
 	private String sqlVersionSelectString;
@@ -249,6 +253,8 @@ public abstract class AbstractEntityPersister
 	private String[] sqlInsertStrings;
 	private String[] sqlUpdateStrings;
 	private String[] sqlLazyUpdateStrings;
+	private String[] sqlUpsertStrings;
+	private String[] sqlUpsertUpdateStrings;
 
 	private String sqlInsertGeneratedValuesSelectString;
 	private String sqlUpdateGeneratedValuesSelectString;
@@ -519,6 +525,11 @@ public abstract class AbstractEntityPersister
 		// moved up from AbstractEntityPersister ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 		this.factory = creationContext.getSessionFactory();
 
+		// lazily created loaders may be created concurrently
+		this.lazyLoaders = factory.getSessionFactoryOptions().isLazyEntityLoadersEnabled();
+		this.loaders = lazyLoaders ? new ConcurrentHashMap() : new HashMap();
+		this.uniqueKeyLoaders = lazyLoaders ? new ConcurrentHashMap() : new HashMap();
+
 		if ( creationContext.getSessionFactory().getSessionFactoryOptions().isSecondLevelCacheEnabled() ) {
 			this.canWriteToCache = persistentClass.isCached();
 			this.canReadFromCache = determineCanReadFromCache( persistentClass );
@@ -2312,7 +2323,18 @@ public abstract class AbstractEntityPersister
 				&& propertyName.indexOf( '.' ) < 0; //ugly little workaround for fact that createUniqueKeyLoaders() does not handle component properties
 
 		if ( useStaticLoader ) {
-			return (EntityLoader) uniqueKeyLoaders.get( propertyName );
+			EntityLoader loader = (EntityLoader) uniqueKeyLoaders.get( propertyName );
+			if ( loader == null && lazyLoaders ) {
+				final Integer index = entityMetamodel.getPropertyIndexOrNull( propertyName );
+				if ( index != null && propertyUniqueness[index] ) {
+					loader = createUniqueKeyLoader( index );
+					final Object previous = uniqueKeyLoaders.putIfAbsent( propertyName, loader );
+					if ( previous != null ) {
+						loader = (EntityLoader) previous;
+					}
+				}
+			}
+			return loader;
 		}
 		else {
 			return createUniqueKeyLoader(
@@ -2328,24 +2350,28 @@ public abstract class AbstractEntityPersister
 	}
 
 	protected void createUniqueKeyLoaders() throws MappingException {
-		Type[] propertyTypes = getPropertyTypes();
+		if ( lazyLoaders ) {
+			// see getAppropriateUniqueKeyLoader()
+			return;
+		}
 		String[] propertyNames = getPropertyNames();
 		for ( int i = 0; i < entityMetamodel.getPropertySpan(); i++ ) {
 			if ( propertyUniqueness[i] ) {
-				//don't need filters for the static loaders
-				uniqueKeyLoaders.put(
-						propertyNames[i],
-						createUniqueKeyLoader(
-								propertyTypes[i],
-								getPropertyColumnNames( i ),
-								LoadQueryInfluencers.NONE
-						)
-				);
+				uniqueKeyLoaders.put( propertyNames[i], createUniqueKeyLoader( i ) );
 				//TODO: create uk loaders for component properties
 			}
 		}
 	}
 
+	private EntityLoader createUniqueKeyLoader(int propertyIndex) {
+		//don't need filters for the static loaders
+		return createUniqueKeyLoader(
+				getPropertyTypes()[propertyIndex],
+				getPropertyColumnNames( propertyIndex ),
+				LoadQueryInfluencers.NONE
+		);
+	}
+
 	private EntityLoader createUniqueKeyLoader(
 			Type uniqueKeyType,
 			String[] columns,
@@ -2740,6 +2766,80 @@ public abstract class AbstractEntityPersister
 		return insert.toStatementString();
 	}
 
+	/**
+	 * Generate the SQL that inserts a row or updates the existing one, or {@code null} when the dialect
+	 * has no such statement or when the row would not be written as by an insert and an update
+	 */
+	protected String generateUpsertString(int j) {
+		for ( int i = 0; i < entityMetamodel.getPropertySpan(); i++ ) {
+			if ( isPropertyOfTable( i, j ) ) {
+				final InDatabaseValueGenerationStrategy generationStrategy = entityMetamodel.getInDatabaseValueGenerationStrategies()[i];
+				if ( generationStrategy != null && generationStrategy.getGenerationTiming() != GenerationTiming.NEVER ) {
+					return null;
+				}
+				if ( getPropertyInsertability()[i] != getPropertyUpdateability()[i]
+						|| !Arrays.equals( propertyColumnInsertable[i], propertyColumnUpdateable[i] ) ) {
+					return null;
+				}
+			}
+		}
+
+		final Upsert upsert = new Upsert( getFactory().getDialect() )
+				.setTableName( getTableName( j ) )
+				.addPrimaryKeyColumns( getKeyColumns( j ) );
+
+		// the column order has to match the one of dehydrate(), lob properties being last
+		for ( int i = 0; i < entityMetamodel.getPropertySpan(); i++ ) {
+			if ( getPropertyInsertability()[i] && isPropertyOfTable( i, j ) && !lobProperties.contains( i ) ) {
+				upsert.addColumns( getPropertyColumnNames( i ), propertyColumnInsertable[i], propertyColumnWriters[i] );
+			}
+		}
+		if ( j == 0 ) {
+			addDiscriminatorToInsert( upsert );
+		}
+		for ( int i : lobProperties ) {
+			if ( getPropertyInsertability()[i] && isPropertyOfTable( i, j ) ) {
+				upsert.addColumns( getPropertyColumnNames( i ), propertyColumnInsertable[i], propertyColumnWriters[i] );
+			}
+		}
+
+		if ( getFactory().getSessionFactoryOptions().isCommentsEnabled() ) {
+			upsert.setComment( "upsert " + getEntityName() );
+		}
+
+		return upsert.toStatementString();
+	}
+
+	/**
+	 * Generate the SQL that updates a row by id, without any version check, used by
+	 * {@link #upsert} on dialects not supporting upserts
+	 */
+	protected String generateUpsertUpdateString(int j) {
+		final Update update = new Update( getFactory().getDialect() )
+				.setTableName( getTableName( j ) )
+				.addPrimaryKeyColumns( getKeyColumns( j ) );
+
+		boolean hasColumns = false;
+		for ( int i = 0; i < entityMetamodel.getPropertySpan(); i++ ) {
+			if ( getPropertyUpdateability()[i] && isPropertyOfTable( i, j ) && !lobProperties.contains( i ) ) {
+				update.addColumns( getPropertyColumnNames( i ), propertyColumnUpdateable[i], propertyColumnWriters[i] );
+				hasColumns = hasColumns || getPropertyColumnSpan( i ) > 0;
+			}
+		}
+		for ( int i : lobProperties ) {
+			if ( getPropertyUpdateability()[i] && isPropertyOfTable( i, j ) ) {
+				update.addColumns( getPropertyColumnNames( i ), propertyColumnUpdateable[i], propertyColumnWriters[i] );
+				hasColumns = true;
+			}
+		}
+
+		if ( getFactory().getSessionFactoryOptions().isCommentsEnabled() ) {
+			update.setComment( "upsert " + getEntityName() );
+		}
+
+		return hasColumns ? update.toStatementString() : null;
+	}
+
 	/**
 	 * Generate the SQL that deletes a row by id (and version)
 	 */
@@ -3015,7 +3115,7 @@ public abstract class AbstractEntityPersister
 				.toStatementString();
 	}
 
-	private BasicBatchKey inserBatchKey;
+	private InsertBatchKey inserBatchKey;
 
 	/**
 	 * Perform an SQL INSERT.
@@ -3054,7 +3154,7 @@ public abstract class AbstractEntityPersister
 		final int jdbcBatchSizeToUse = session.getConfiguredJdbcBatchSize();
 		final boolean useBatch = expectation.canBeBatched() && jdbcBatchSizeToUse > 1;
 		if ( useBatch && inserBatchKey == null) {
-			inserBatchKey = new BasicBatchKey(
+			inserBatchKey = new InsertBatchKey(
 					getEntityName() + "#INSERT",
 					expectation
 			);
@@ -3311,6 +3411,7 @@ public abstract class AbstractEntityPersister
 	}
 
 	private BasicBatchKey deleteBatchKey;
+	private Boolean canDeleteInBulk;
 
 	/**
 	 * Perform an SQL DELETE
@@ -3593,6 +3694,201 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	@Override
+	public void upsert(Serializable id, Object[] fields, Object object, SharedSessionContractImplementor session) {
+		// apply any pre-insert in-memory value generation
+		preInsertInMemoryValueGeneration( fields, object, session );
+
+		boolean rowExists = false;
+		for ( int j = 0; j < getTableSpan(); j++ ) {
+			if ( isInverseTable( j ) ) {
+				continue;
+			}
+			final boolean isRowToDelete = isNullableTable( j ) && isAllNull( fields, j );
+			if ( customSQLInsert[j] != null || customSQLUpdate[j] != null
+					|| ( isRowToDelete && customSQLDelete[j] != null ) ) {
+				throw new HibernateException( "Upsert is not supported for entities with custom SQL: " + getEntityName() );
+			}
+			if ( isRowToDelete ) {
+				// as for updates, the row of an optional table is deleted when all its values are null
+				deleteOptionalRow( id, j, session );
+			}
+			else if ( sqlUpsertStrings[j] != null ) {
+				upsert( id, fields, j, sqlUpsertStrings[j], session );
+			}
+			else {
+				rowExists = emulateUpsert( id, fields, j, object, rowExists, session );
+			}
+		}
+	}
+
+	private BasicBatchKey upsertBatchKey;
+
+	/**
+	 * Perform an SQL upsert.  Its row count is not checked, since it does not tell whether the row was
+	 * inserted or updated (and differs between databases).
+	 */
+	private void upsert(
+			final Serializable id,
+			final Object[] fields,
+			final int j,
+			final String sql,
+			final SharedSessionContractImplementor session) throws HibernateException {
+
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracev( "Upserting entity: {0}", MessageHelper.infoString( this, id, getFactory() ) );
+		}
+
+		final boolean useBatch = session.getConfiguredJdbcBatchSize() > 1;
+		if ( useBatch && upsertBatchKey == null ) {
+			upsertBatchKey = new BasicBatchKey(
+					getEntityName() + "#UPSERT",
+					Expectations.NONE
+			);
+		}
+
+		try {
+			final PreparedStatement upsert;
+			if ( useBatch ) {
+				upsert = session
+						.getJdbcCoordinator()
+						.getBatch( upsertBatchKey )
+						.getBatchStatement( sql, false );
+			}
+			else {
+				upsert = session
+						.getJdbcCoordinator()
+						.getStatementPreparer()
+						.prepareStatement( sql, false );
+			}
+
+			try {
+				// the primary key is bound last, as for an update
+				dehydrate( id, fields, null, getPropertyInsertability(), propertyColumnInsertable, j, upsert, session, 1, true );
+
+				if ( useBatch ) {
+					session.getJdbcCoordinator().getBatch( upsertBatchKey ).addToBatch();
+				}
+				else {
+					session.getJdbcCoordinator().getResultSetReturn().executeUpdate( upsert );
+				}
+			}
+			catch (SQLException e) {
+				if ( useBatch ) {
+					session.getJdbcCoordinator().abortBatch();
+				}
+				throw e;
+			}
+			finally {
+				if ( !useBatch ) {
+					session.getJdbcCoordinator().getResourceRegistry().release( upsert );
+					session.getJdbcCoordinator().afterStatementExecution();
+				}
+			}
+		}
+		catch (SQLException e) {
+			throw getFactory().getSQLExceptionHelper().convert(
+					e,
+					"could not upsert: " + MessageHelper.infoString( this, id, getFactory() ),
+					sql
+			);
+		}
+	}
+
+	/**
+	 * Emulate an upsert by an unversioned SQL UPDATE, followed by an SQL INSERT if there was no row
+	 * to update.  Tables without updatable columns use whether the row of the root table existed.
+	 *
+	 * @return Whether the row existed
+	 */
+	private boolean emulateUpsert(
+			final Serializable id,
+			final Object[] fields,
+			final int j,
+			final Object object,
+			final boolean rootRowExists,
+			final SharedSessionContractImplementor session) throws HibernateException {
+
+		// the update has to see the rows of the pending inserts
+		session.getJdbcCoordinator().executeBatch();
+
+		final String sql = sqlUpsertUpdateStrings[j];
+		final boolean rowExists;
+		if ( sql == null ) {
+			rowExists = j == 0 ? getDatabaseSnapshot( id, session ) != null : rootRowExists;
+		}
+		else {
+			if ( LOG.isTraceEnabled() ) {
+				LOG.tracev( "Updating entity: {0}", MessageHelper.infoString( this, id, getFactory() ) );
+			}
+			try {
+				final PreparedStatement update = session
+						.getJdbcCoordinator()
+						.getStatementPreparer()
+						.prepareStatement( sql, false );
+				try {
+					dehydrate( id, fields, null, getPropertyUpdateability(), propertyColumnUpdateable, j, update, session, 1, true );
+					rowExists = session.getJdbcCoordinator().getResultSetReturn().executeUpdate( update ) > 0;
+				}
+				finally {
+					session.getJdbcCoordinator().getResourceRegistry().release( update );
+					session.getJdbcCoordinator().afterStatementExecution();
+				}
+			}
+			catch (SQLException e) {
+				throw getFactory().getSQLExceptionHelper().convert(
+						e,
+						"could not update: " + MessageHelper.infoString( this, id, getFactory() ),
+						sql
+				);
+			}
+		}
+
+		if ( !rowExists ) {
+			insert( id, fields, getPropertyInsertability(), j, getSQLInsertStrings()[j], object, session );
+		}
+		return rowExists;
+	}
+
+	/**
+	 * Perform an SQL DELETE of the row of an optional table, if there is one: its row count is not checked.
+	 */
+	private void deleteOptionalRow(
+			final Serializable id,
+			final int j,
+			final SharedSessionContractImplementor session) throws HibernateException {
+
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracev( "Deleting optional row of entity: {0}", MessageHelper.infoString( this, id, getFactory() ) );
+		}
+
+		// the delete has to see the rows of the pending inserts
+		session.getJdbcCoordinator().executeBatch();
+
+		final String sql = getSQLDeleteStrings()[j];
+		try {
+			final PreparedStatement delete = session
+					.getJdbcCoordinator()
+					.getStatementPreparer()
+					.prepareStatement( sql, false );
+			try {
+				getIdentifierType().nullSafeSet( delete, id, 1, session );
+				session.getJdbcCoordinator().getResultSetReturn().executeUpdate( delete );
+			}
+			finally {
+				session.getJdbcCoordinator().getResourceRegistry().release( delete );
+				session.getJdbcCoordinator().afterStatementExecution();
+			}
+		}
+		catch (SQLException e) {
+			throw getFactory().getSQLExceptionHelper().convert(
+					e,
+					"could not delete: " + MessageHelper.infoString( this, id, getFactory() ),
+					sql
+			);
+		}
+	}
+
 	private void preInsertInMemoryValueGeneration(Object[] fields, Object object, SharedSessionContractImplementor session) {
 		if ( getEntityMetamodel().hasPreInsertGeneratedValues() ) {
 			final InMemoryValueGenerationStrategy[] strategies = getEntityMetamodel().getInMemoryValueGenerationStrategies();
@@ -3642,6 +3938,131 @@ public abstract class AbstractEntityPersister
 
 	}
 
+	@Override
+	public boolean canDeleteInBulk() {
+		if ( canDeleteInBulk == null ) {
+			canDeleteInBulk = determineCanDeleteInBulk();
+		}
+		return canDeleteInBulk;
+	}
+
+	private boolean determineCanDeleteInBulk() {
+		if ( isVersioned() || isAllOrDirtyOptLocking() || getIdentifierColumnSpan() != 1 ) {
+			return false;
+		}
+		for ( int j = 0; j < getTableSpan(); j++ ) {
+			if ( customSQLDelete[j] != null ) {
+				return false;
+			}
+		}
+		// the rows of a self-referencing entity have to be deleted in order, which databases
+		// checking foreign-keys row by row would not let a single statement do
+		return !isReferencingOwnHierarchy( getPropertyTypes() );
+	}
+
+	/**
+	 * Does any of the given types, or of the types nested in the components among them, associate
+	 * this entity hierarchy?
+	 */
+	private boolean isReferencingOwnHierarchy(Type[] types) {
+		for ( Type type : types ) {
+			if ( type.isEntityType() ) {
+				final String associatedEntityName = ( (EntityType) type ).getAssociatedEntityName();
+				final EntityPersister associatedPersister = getFactory().getMetamodel().entityPersister( associatedEntityName );
+				if ( getRootEntityName().equals( associatedPersister.getRootEntityName() ) ) {
+					return true;
+				}
+			}
+			else if ( type.isComponentType() && isReferencingOwnHierarchy( ( (CompositeType) type ).getSubtypes() ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public void deleteInBulk(Serializable[] ids, SharedSessionContractImplementor session) throws HibernateException {
+		final Dialect dialect = getFactory().getJdbcServices().getDialect();
+		int maxIds = ids.length;
+		if ( dialect.getInExpressionCountLimit() > 0 ) {
+			maxIds = Math.min( maxIds, dialect.getInExpressionCountLimit() );
+		}
+		if ( dialect.getBindParameterCountLimit() > 0 ) {
+			maxIds = Math.min( maxIds, dialect.getBindParameterCountLimit() );
+		}
+
+		for ( int start = 0; start < ids.length; start += maxIds ) {
+			final Serializable[] batch = Arrays.copyOfRange( ids, start, Math.min( ids.length, start + maxIds ) );
+			for ( int j = getTableSpan() - 1; j >= 0; j-- ) {
+				if ( !isInverseTable( j ) && !isTableCascadeDeleteEnabled( j ) ) {
+					deleteInBulk( batch, j, session );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Perform an SQL DELETE of the rows of several instances from a table
+	 */
+	private void deleteInBulk(Serializable[] ids, int j, SharedSessionContractImplementor session) {
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracev( "Deleting entities: {0}", MessageHelper.infoString( this, ids, getFactory() ) );
+		}
+
+		final String sql = generateBulkDeleteString( j, ids.length );
+		try {
+			final PreparedStatement delete = session
+					.getJdbcCoordinator()
+					.getStatementPreparer()
+					.prepareStatement( sql, false );
+			try {
+				int index = 1;
+				for ( Serializable id : ids ) {
+					getIdentifierType().nullSafeSet( delete, id, index, session );
+					index += getIdentifierColumnSpan();
+				}
+
+				final int rowCount = session.getJdbcCoordinator().getResultSetReturn().executeUpdate( delete );
+				// the rows of an optional (secondary) table may not all exist
+				if ( rowCount != ids.length
+						&& !isNullableTable( j )
+						&& deleteResultCheckStyles[j] != ExecuteUpdateResultCheckStyle.NONE ) {
+					throw new StaleStateException(
+							"Bulk delete returned unexpected row count; actual row count: " + rowCount
+									+ "; expected: " + ids.length
+					);
+				}
+			}
+			finally {
+				session.getJdbcCoordinator().getResourceRegistry().release( delete );
+				session.getJdbcCoordinator().afterStatementExecution();
+			}
+		}
+		catch (SQLException sqle) {
+			throw getFactory().getSQLExceptionHelper().convert(
+					sqle,
+					"could not delete: " + MessageHelper.infoString( this, ids, getFactory() ),
+					sql
+			);
+		}
+	}
+
+	private String generateBulkDeleteString(int j, int idCount) {
+		final StringBuilder sql = new StringBuilder();
+		if ( getFactory().getSessionFactoryOptions().isCommentsEnabled() ) {
+			sql.append( "/* delete " ).append( getEntityName() ).append( " [" ).append( j ).append( "] */ " );
+		}
+		sql.append( "delete from " ).append( getTableName( j ) )
+				.append( " where " ).append( getKeyColumns( j )[0] ).append( " in (" );
+		for ( int i = 0; i < idCount; i++ ) {
+			if ( i > 0 ) {
+				sql.append( ", " );
+			}
+			sql.append( '?' );
+		}
+		return sql.append( ')' ).toString();
+	}
+
 	private boolean isAllOrDirtyOptLocking() {
 		return entityMetamodel.getOptimisticLockStyle() == OptimisticLockStyle.DIRTY
 				|| entityMetamodel.getOptimisticLockStyle() == OptimisticLockStyle.ALL;
@@ -3994,6 +4415,8 @@ public abstract class AbstractEntityPersister
 		sqlInsertStrings = new String[joinSpan];
 		sqlUpdateStrings = new String[joinSpan];
 		sqlLazyUpdateStrings = new String[joinSpan];
+		sqlUpsertStrings = new String[joinSpan];
+		sqlUpsertUpdateStrings = new String[joinSpan];
 
 		sqlUpdateByRowIdString = rowIdName == null ?
 				null :
@@ -4015,6 +4438,12 @@ public abstract class AbstractEntityPersister
 			sqlDeleteStrings[j] = customSQLDelete[j] == null ?
 					generateDeleteString( j ) :
 						substituteBrackets( customSQLDelete[j]);
+			if ( customSQLInsert[j] == null && customSQLUpdate[j] == null ) {
+				sqlUpsertStrings[j] = generateUpsertString( j );
+				if ( sqlUpsertStrings[j] == null ) {
+					sqlUpsertUpdateStrings[j] = generateUpsertUpdateString( j );
+				}
+			}
 		}
 
 		tableHasColumns = new boolean[joinSpan];
@@ -4068,72 +4497,91 @@ public abstract class AbstractEntityPersister
 		return loaders;
 	}
 
+	/**
+	 * The keys of the static loaders, see {@link #createLoaders()}.
+	 */
+	private static final List<Object> STATIC_LOADER_KEYS = Arrays.asList(
+			LockMode.NONE,
+			LockMode.READ,
+			LockMode.UPGRADE,
+			LockMode.UPGRADE_NOWAIT,
+			LockMode.UPGRADE_SKIPLOCKED,
+			LockMode.FORCE,
+			LockMode.PESSIMISTIC_READ,
+			LockMode.PESSIMISTIC_WRITE,
+			LockMode.PESSIMISTIC_FORCE_INCREMENT,
+			LockMode.OPTIMISTIC,
+			LockMode.OPTIMISTIC_FORCE_INCREMENT,
+			"merge",
+			"refresh"
+	);
+
 	//Relational based Persisters should be content with this implementation
 	protected void createLoaders() {
+		if ( lazyLoaders ) {
+			// see getStaticLoader()
+			return;
+		}
 		final Map loaders = getLoaders();
-		loaders.put( LockMode.NONE, createEntityLoader( LockMode.NONE ) );
+		for ( Object key : STATIC_LOADER_KEYS ) {
+			loaders.put( key, createStaticLoader( key ) );
+		}
+	}
 
-		UniqueEntityLoader readLoader = createEntityLoader( LockMode.READ );
-		loaders.put( LockMode.READ, readLoader );
+	/**
+	 * Get the static loader for the given lock mode or internal fetch profile, creating it if
+	 * loaders are created lazily.
+	 *
+	 * @param key The lock mode or internal fetch profile name
+	 *
+	 * @return The loader, or {@code null} if there is no static loader for the given key
+	 */
+	private UniqueEntityLoader getStaticLoader(Object key) {
+		final Map loaders = getLoaders();
+		UniqueEntityLoader loader = (UniqueEntityLoader) loaders.get( key );
+		if ( loader == null && lazyLoaders && STATIC_LOADER_KEYS.contains( key ) ) {
+			// concurrent creations are harmless, only one of the loaders ends up being used
+			loader = createStaticLoader( key );
+			final Object previous = loaders.putIfAbsent( key, loader );
+			if ( previous != null ) {
+				loader = (UniqueEntityLoader) previous;
+			}
+		}
+		return loader;
+	}
 
+	private UniqueEntityLoader createStaticLoader(Object key) {
+		if ( "merge".equals( key ) ) {
+			return new CascadeEntityLoader( this, CascadingActions.MERGE, getFactory() );
+		}
+		else if ( "refresh".equals( key ) ) {
+			return new CascadeEntityLoader( this, CascadingActions.REFRESH, getFactory() );
+		}
+
+		final LockMode lockMode = (LockMode) key;
 		//TODO: inexact, what we really need to know is: are any outer joins used?
-		boolean disableForUpdate = getSubclassTableSpan() > 1 &&
+		final boolean disableForUpdate = getSubclassTableSpan() > 1 &&
 				hasSubclasses() &&
 				!getFactory().getDialect().supportsOuterJoinForUpdate();
+		if ( disableForUpdate && isForUpdate( lockMode ) ) {
+			return getStaticLoader( LockMode.READ );
+		}
+		return createEntityLoader( lockMode );
+	}
 
-		loaders.put(
-				LockMode.UPGRADE,
-				disableForUpdate ?
-						readLoader :
-						createEntityLoader( LockMode.UPGRADE )
-		);
-		loaders.put(
-				LockMode.UPGRADE_NOWAIT,
-				disableForUpdate ?
-						readLoader :
-						createEntityLoader( LockMode.UPGRADE_NOWAIT )
-		);
-		loaders.put(
-				LockMode.UPGRADE_SKIPLOCKED,
-				disableForUpdate ?
-						readLoader :
-						createEntityLoader( LockMode.UPGRADE_SKIPLOCKED )
-		);
-		loaders.put(
-				LockMode.FORCE,
-				disableForUpdate ?
-						readLoader :
-						createEntityLoader( LockMode.FORCE )
-		);
-		loaders.put(
-				LockMode.PESSIMISTIC_READ,
-				disableForUpdate ?
-						readLoader :
-						createEntityLoader( LockMode.PESSIMISTIC_READ )
-		);
-		loaders.put(
-				LockMode.PESSIMISTIC_WRITE,
-				disableForUpdate ?
-						readLoader :
-						createEntityLoader( LockMode.PESSIMISTIC_WRITE )
-		);
-		loaders.put(
-				LockMode.PESSIMISTIC_FORCE_INCREMENT,
-				disableForUpdate ?
-						readLoader :
-						createEntityLoader( LockMode.PESSIMISTIC_FORCE_INCREMENT )
-		);
-		loaders.put( LockMode.OPTIMISTIC, createEntityLoader( LockMode.OPTIMISTIC ) );
-		loaders.put( LockMode.OPTIMISTIC_FORCE_INCREMENT, createEntityLoader( LockMode.OPTIMISTIC_FORCE_INCREMENT ) );
-
-		loaders.put(
-				"merge",
-				new CascadeEntityLoader( this, CascadingActions.MERGE, getFactory() )
-		);
-		loaders.put(
-				"refresh",
-				new CascadeEntityLoader( this, CascadingActions.REFRESH, getFactory() )
-		);
+	private static boolean isForUpdate(LockMode lockMode) {
+		switch ( lockMode ) {
+			case UPGRADE:
+			case UPGRADE_NOWAIT:
+			case UPGRADE_SKIPLOCKED:
+			case FORCE:
+			case PESSIMISTIC_READ:
+			case PESSIMISTIC_WRITE:
+			case PESSIMISTIC_FORCE_INCREMENT:
+				return true;
+			default:
+				return false;
+		}
 	}
 
 	protected void createQueryLoader() {
@@ -4215,7 +4663,7 @@ public abstract class AbstractEntityPersister
 			// Next, we consider whether an 'internal' fetch profile has been set.
 			// This indicates a special fetch profile Hibernate needs applied
 			// (for its merge loading process e.g.).
-			return (UniqueEntityLoader) getLoaders().get( session.getLoadQueryInfluencers().getInternalFetchProfile() );
+			return getStaticLoader( session.getLoadQueryInfluencers().getInternalFetchProfile() );
 		}
 		else if ( isAffectedByEnabledFetchProfiles( session ) ) {
 			// If the session has associated influencers we need to adjust the
@@ -4229,7 +4677,7 @@ public abstract class AbstractEntityPersister
 			return createEntityLoader( lockOptions, session.getLoadQueryInfluencers() );
 		}
 		else {
-			return (UniqueEntityLoader) getLoaders().get( lockOptions.getLockMode() );
+			return getStaticLoader( lockOptions.getLockMode() );
 		}
 	}
 
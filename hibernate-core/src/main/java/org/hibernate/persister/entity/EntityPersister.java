@@ -400,12 +400,41 @@ public interface EntityPersister extends OptimisticCacheSource, EntityDefinition
 	Serializable insert(Object[] fields, Object object, SharedSessionContractImplementor session)
 	throws HibernateException;
 
+	/**
+	 * Insert the rows of an instance having an assigned identifier, or update them if they already exist,
+	 * without any version check.
+	 *
+	 * @see org.hibernate.StatelessSession#upsert(Object)
+	 */
+	default void upsert(Serializable id, Object[] fields, Object object, SharedSessionContractImplementor session)
+			throws HibernateException {
+		throw new UnsupportedOperationException( "Upserts are not supported by " + getClass().getName() );
+	}
+
 	/**
 	 * Delete a persistent instance
 	 */
 	void delete(Serializable id, Object version, Object object, SharedSessionContractImplementor session)
 	throws HibernateException;
 
+	/**
+	 * Can the rows of several persistent instances be deleted by a single statement, i.e. without
+	 * per-row optimistic locking or custom SQL?
+	 *
+	 * @see #deleteInBulk
+	 */
+	default boolean canDeleteInBulk() {
+		return false;
+	}
+
+	/**
+	 * Delete several persistent instances by a single statement (or a few, according to the dialect
+	 * limits on the number of parameters), only supported when {@link #canDeleteInBulk()}.
+	 */
+	default void deleteInBulk(Serializable[] ids, SharedSessionContractImplementor session) throws HibernateException {
+		throw new UnsupportedOperationException( "Bulk deletes are not supported by " + getClass().getName() );
+	}
+
 	/**
 	 * Update a persistent instance
 	 */
@@ -21,4 +21,14 @@ public interface MultiLoadOptions {
 	LockOptions getLockOptions();
 
 	Integer getBatchSize();
+
+	/**
+	 * Should the ids be bound as a single array parameter, on databases supporting it, rather than
+	 * as IN lists?  Only the loads by primitive {@code long} or {@code int} identifiers opt in.
+	 *
+	 * @see org.hibernate.MultiIdentifierLoadAccess#multiLoad(long[])
+	 */
+	default boolean isArrayParameterBindingEnabled() {
+		return false;
+	}
 }
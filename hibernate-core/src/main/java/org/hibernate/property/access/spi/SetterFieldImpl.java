@@ -83,6 +83,10 @@ public class SetterFieldImpl implements Setter {
 		return setterMethod;
 	}
 
+	public Field getField() {
+		return field;
+	}
+
 	private Object writeReplace() throws ObjectStreamException {
 		return new SerialForm( containerClass, propertyName, field );
 	}
@@ -20,6 +20,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 import javax.persistence.FlushModeType;
 import javax.persistence.LockModeType;
@@ -98,6 +100,10 @@ public interface Query<R> extends TypedQuery<R>, org.hibernate.Query<R>, CommonQ
 	 *
 	 * You should call {@link java.util.stream.Stream#close()} after processing the stream
 	 * so that the underlying resources are deallocated right away.
+	 * <p>
+	 * The entities loaded by the stream stay in the persistence context, unless the
+	 * {@link org.hibernate.annotations.QueryHints#DETACH_STREAMED_RESULTS} hint is set, in which case
+	 * each row is detached as the stream moves on to the next one.
 	 *
 	 * @return The results Stream
 	 *
@@ -146,6 +152,55 @@ public interface Query<R> extends TypedQuery<R>, org.hibernate.Query<R>, CommonQ
 		return list();
 	}
 
+	/**
+	 * Execute the query asynchronously, on the executor configured by
+	 * {@link org.hibernate.cfg.AvailableSettings#ASYNC_EXECUTOR}, rather than blocking the calling thread.
+	 * <p/>
+	 * The asynchronous operations of a session run one at a time, in the order they were requested, and the
+	 * other operations of the session wait for them to complete.  Independent queries run concurrently when
+	 * issued from different sessions.  Implementations not supporting asynchronous operations execute the
+	 * query in the calling thread.
+	 *
+	 * @return The stage completing with the query results, or exceptionally if the query fails
+	 *
+	 * @see #getResultList()
+	 *
+	 * @since 5.3
+	 */
+	default CompletionStage<List<R>> getResultListAsync() {
+		final CompletableFuture<List<R>> result = new CompletableFuture<>();
+		try {
+			result.complete( getResultList() );
+		}
+		catch (RuntimeException e) {
+			result.completeExceptionally( e );
+		}
+		return result;
+	}
+
+	/**
+	 * Execute the update or delete statement asynchronously, on the executor configured by
+	 * {@link org.hibernate.cfg.AvailableSettings#ASYNC_EXECUTOR}, rather than blocking the calling thread.
+	 *
+	 * @return The stage completing with the number of entities updated or deleted, or exceptionally
+	 * if the statement fails
+	 *
+	 * @see #executeUpdate()
+	 * @see #getResultListAsync()
+	 *
+	 * @since 5.3
+	 */
+	default CompletionStage<Integer> executeUpdateAsync() {
+		final CompletableFuture<Integer> result = new CompletableFuture<>();
+		try {
+			result.complete( executeUpdate() );
+		}
+		catch (RuntimeException e) {
+			result.completeExceptionally( e );
+		}
+		return result;
+	}
+
 	@Override
 	R uniqueResult();
 
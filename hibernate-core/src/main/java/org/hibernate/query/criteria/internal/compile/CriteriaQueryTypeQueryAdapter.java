@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 import javax.persistence.FlushModeType;
 import javax.persistence.LockModeType;
@@ -73,6 +74,11 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 		return jpqlQuery.getResultList();
 	}
 
+	@Override
+	public CompletionStage<List<X>> getResultListAsync() {
+		return jpqlQuery.getResultListAsync();
+	}
+
 	@Override
 	public X uniqueResult() {
 		return jpqlQuery.uniqueResult();
@@ -808,6 +814,11 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 		throw new IllegalStateException( "Typed criteria queries do not support executeUpdate" );
 	}
 
+	@Override
+	public CompletionStage<Integer> executeUpdateAsync() {
+		throw new IllegalStateException( "Typed criteria queries do not support executeUpdate" );
+	}
+
 	@Override
 	public QueryImplementor<X> setParameter(int i, Object o) {
 		throw new IllegalArgumentException( "Criteria queries do not support positioned parameters" );
@@ -25,6 +25,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import javax.persistence.CacheRetrieveMode;
@@ -54,6 +55,7 @@ import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.RowSelection;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.TypedValue;
+import org.hibernate.event.spi.EventSource;
 import org.hibernate.hql.internal.QueryExecutionRequestException;
 import org.hibernate.internal.EmptyScrollableResults;
 import org.hibernate.internal.EntityManagerMessageLogger;
@@ -133,6 +135,8 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 	private String optionalEntityName;
 
 	private Boolean passDistinctThrough;
+	private boolean detachStreamedResults;
+	private boolean cacheInvalidatedById;
 
 	public AbstractProducedQuery(
 			SharedSessionContractImplementor producer,
@@ -995,6 +999,14 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 		if ( entityGraphQueryHint != null ) {
 			hints.put( entityGraphQueryHint.getHintName(), entityGraphQueryHint.getOriginEntityGraph() );
 		}
+
+		if ( detachStreamedResults ) {
+			hints.put( QueryHints.HINT_DETACH_STREAMED_RESULTS, true );
+		}
+
+		if ( cacheInvalidatedById ) {
+			hints.put( QueryHints.HINT_CACHE_INVALIDATION_BY_ID, true );
+		}
 	}
 
 	protected void putIfNotNull(Map<String, Object> hints, String hintName, Enum hintValue) {
@@ -1094,6 +1106,12 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 			else if ( QueryHints.HINT_PASS_DISTINCT_THROUGH.equals( hintName ) ) {
 				applied = applyPassDistinctThrough( ConfigurationHelper.getBoolean( value ) );
 			}
+			else if ( QueryHints.HINT_DETACH_STREAMED_RESULTS.equals( hintName ) ) {
+				applied = applyDetachStreamedResultsHint( ConfigurationHelper.getBoolean( value ) );
+			}
+			else if ( QueryHints.HINT_CACHE_INVALIDATION_BY_ID.equals( hintName ) ) {
+				applied = applyCacheInvalidationByIdHint( ConfigurationHelper.getBoolean( value ) );
+			}
 			else {
 				MSG_LOGGER.ignoringUnrecognizedQueryHint( hintName );
 			}
@@ -1298,6 +1316,26 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 		return true;
 	}
 
+	/**
+	 * Apply the detach-streamed-results hint.
+	 *
+	 * @param detachStreamedResults the entities loaded by {@link #stream()} are detached row by row
+	 */
+	protected boolean applyDetachStreamedResultsHint(boolean detachStreamedResults) {
+		this.detachStreamedResults = detachStreamedResults;
+		return true;
+	}
+
+	/**
+	 * Apply the cache-invalidation-by-id hint.
+	 *
+	 * @param cacheInvalidatedById the cached results are only invalidated by writes to the rows of the returned entities
+	 */
+	protected boolean applyCacheInvalidationByIdHint(boolean cacheInvalidatedById) {
+		this.cacheInvalidatedById = cacheInvalidatedById;
+		return true;
+	}
+
 	/**
 	 * Is the query represented here a native (SQL) query?
 	 *
@@ -1369,6 +1407,7 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 		if ( passDistinctThrough != null ) {
 			queryParameters.setPassDistinctThrough( passDistinctThrough );
 		}
+		queryParameters.setCacheInvalidatedById( cacheInvalidatedById );
 		return queryParameters;
 	}
 
@@ -1481,7 +1520,9 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 			return StreamSupport.stream( spliterator, false );
 		}
 		final ScrollableResultsImplementor scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
-		final ScrollableResultsIterator<R> iterator = new ScrollableResultsIterator<>( scrollableResults );
+		final ScrollableResultsIterator<R> iterator = detachStreamedResults && getProducer() instanceof EventSource
+				? new DetachingScrollableResultsIterator<>( scrollableResults, (EventSource) getProducer() )
+				: new ScrollableResultsIterator<>( scrollableResults );
 		final Spliterator<R> spliterator = Spliterators.spliteratorUnknownSize( iterator, Spliterator.NONNULL );
 
 		final Stream<R> stream = StreamSupport.stream( spliterator, false );
@@ -1609,6 +1650,16 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 		}
 	}
 
+	@Override
+	public CompletionStage<List<R>> getResultListAsync() {
+		return getProducer().executeAsync( this::getResultList );
+	}
+
+	@Override
+	public CompletionStage<Integer> executeUpdateAsync() {
+		return getProducer().executeAsync( this::executeUpdate );
+	}
+
 	protected int doExecuteUpdate() {
 		final String expandedQuery = getQueryParameterBindings().expandListValuedParameters( getQueryString(), getProducer() );
 		return getProducer().executeUpdate(
@@ -0,0 +1,157 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.internal;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.Type;
+
+/**
+ * A {@link ScrollableResultsIterator} detaching, before moving on to the next row, the entities
+ * the previous row returned along with the entities their associations fetched, so that the
+ * persistence context does not grow with the number of rows.
+ * <p/>
+ * Only the instances reachable from the row are visited: its entity results, and the entities
+ * directly referenced by their to-one associations and initialized collections.  Entities which
+ * were already managed before the query are left alone, as are the ones whose insertion is still
+ * pending.
+ *
+ * @see org.hibernate.annotations.QueryHints#DETACH_STREAMED_RESULTS
+ */
+class DetachingScrollableResultsIterator<T> extends ScrollableResultsIterator<T> {
+	private final EventSource session;
+	private final Set<Object> entitiesManagedBeforeQuery;
+	private Object previousRow;
+
+	DetachingScrollableResultsIterator(ScrollableResultsImplementor scrollableResults, EventSource session) {
+		super( scrollableResults );
+		this.session = session;
+		this.entitiesManagedBeforeQuery = determineManagedEntities( session.getPersistenceContext() );
+	}
+
+	private static Set<Object> determineManagedEntities(PersistenceContext persistenceContext) {
+		if ( persistenceContext.getNumberOfManagedEntities() == 0 ) {
+			return Collections.emptySet();
+		}
+		final Set<Object> entities = Collections.newSetFromMap( new IdentityHashMap<>() );
+		for ( Map.Entry<Object, EntityEntry> entry : persistenceContext.reentrantSafeEntityEntries() ) {
+			entities.add( entry.getKey() );
+		}
+		return entities;
+	}
+
+	@Override
+	public boolean hasNext() {
+		detachPreviousRow();
+		return super.hasNext();
+	}
+
+	@Override
+	public T next() {
+		final T row = super.next();
+		previousRow = row;
+		return row;
+	}
+
+	private void detachPreviousRow() {
+		if ( previousRow == null ) {
+			return;
+		}
+		if ( previousRow instanceof Object[] ) {
+			for ( Object result : (Object[]) previousRow ) {
+				detachResult( result );
+			}
+		}
+		else {
+			detachResult( previousRow );
+		}
+		previousRow = null;
+	}
+
+	private void detachResult(Object result) {
+		final EntityEntry entry = getDetachableEntry( result );
+		if ( entry == null ) {
+			return;
+		}
+		// read the associations before evicting the entity, evicting it also evicts its collections
+		final Type[] propertyTypes = entry.getPersister().getPropertyTypes();
+		final Object[] propertyValues = entry.getPersister().getPropertyValues( result );
+		detach( result );
+		for ( int i = 0; i < propertyTypes.length; i++ ) {
+			if ( propertyValues[i] == null ) {
+				continue;
+			}
+			if ( propertyTypes[i].isEntityType() ) {
+				detachAssociated( propertyValues[i] );
+			}
+			else if ( propertyTypes[i].isCollectionType() ) {
+				detachAssociatedElements( (CollectionType) propertyTypes[i], propertyValues[i] );
+			}
+		}
+	}
+
+	private void detachAssociatedElements(CollectionType collectionType, Object collection) {
+		if ( !collectionType.getElementType( session.getFactory() ).isEntityType()
+				|| !( collection instanceof PersistentCollection )
+				|| !( (PersistentCollection) collection ).wasInitialized() ) {
+			return;
+		}
+		final Iterator elements = collectionType.getElementsIterator( collection, session );
+		while ( elements.hasNext() ) {
+			final Object element = elements.next();
+			if ( element != null ) {
+				detachAssociated( element );
+			}
+		}
+	}
+
+	private void detachAssociated(Object entity) {
+		if ( getDetachableEntry( entity ) != null ) {
+			detach( entity );
+		}
+	}
+
+	private void detach(Object entity) {
+		// evicting an entity cascades to the associations mapped to cascade detach/evict, evicting
+		// an already evicted entity is a no-op
+		session.evict( entity );
+	}
+
+	private EntityEntry getDetachableEntry(Object result) {
+		Object entity = result;
+		if ( result instanceof HibernateProxy ) {
+			final LazyInitializer lazyInitializer = ( (HibernateProxy) result ).getHibernateLazyInitializer();
+			if ( lazyInitializer.isUninitialized() ) {
+				return null;
+			}
+			entity = lazyInitializer.getImplementation();
+		}
+		if ( entity == null || entitiesManagedBeforeQuery.contains( entity ) ) {
+			return null;
+		}
+		final EntityEntry entry = session.getPersistenceContext().getEntry( entity );
+		return entry != null && isDetachable( entry ) ? entry : null;
+	}
+
+	private static boolean isDetachable(EntityEntry entry) {
+		return entry.isExistsInDatabase()
+				&& ( entry.getStatus() == Status.MANAGED || entry.getStatus() == Status.READ_ONLY );
+	}
+}
@@ -515,6 +515,7 @@ public class QueryParameterBindingsImpl implements QueryParameterBindings {
 		// Some DBs limit number of IN expressions.  For now, warn...
 		final Dialect dialect = session.getFactory().getServiceRegistry().getService( JdbcServices.class ).getJdbcEnvironment().getDialect();
 		final int inExprLimit = dialect.getInExpressionCountLimit();
+		final boolean paddingEnabled = session.getFactory().getSessionFactoryOptions().inClauseParameterPaddingEnabled();
 
 		for ( Map.Entry<QueryParameter, QueryParameterListBinding> entry : parameterListBindingMap.entrySet() ) {
 			final QueryParameter sourceParam = entry.getKey();
@@ -558,37 +559,19 @@ public class QueryParameterBindingsImpl implements QueryParameterBindings {
 
 			StringBuilder expansionList = new StringBuilder();
 
+			final int bindValueMaxCount = determineBindValueMaxCount( paddingEnabled, inExprLimit, bindValues.size() );
+
 			int i = 0;
+			Object lastBindValue = null;
 			for ( Object bindValue : entry.getValue().getBindValues() ) {
-				if ( i > 0 ) {
-					expansionList.append( ", " );
-				}
-
-				// for each value in the bound list-of-values we:
-				//		1) create a synthetic named parameter
-				//		2) expand the queryString to include each synthetic named param in place of the original
-				//		3) create a new synthetic binding for just that single value under the synthetic name
-				final String syntheticName;
-				if ( sourceParam instanceof NamedParameterDescriptor ) {
-					syntheticName = NamedParameterDescriptor.class.cast( sourceParam ).getName() + '_' + i;
-				}
-				else {
-					syntheticName = "x" + OrdinalParameterDescriptor.class.cast( sourceParam ).getPosition() + '_' + i;
-				}
-
-				expansionList.append( ":" ).append( syntheticName );
-
-				final QueryParameter syntheticParam = new NamedParameterDescriptor(
-						syntheticName,
-						sourceParam.getType(),
-						sourceParam.getSourceLocations()
-				);
-
-				final QueryParameterBinding syntheticBinding = makeBinding( entry.getValue().getBindType() );
-				syntheticBinding.setBindValue( bindValue );
-				parameterBindingMap.put( syntheticParam, syntheticBinding );
+				addSyntheticBinding( sourceParam, entry.getValue(), bindValue, i, expansionList );
+				lastBindValue = bindValue;
 				i++;
 			}
+			// repeat the last value up to the padded size, which does not change the result of an IN predicate
+			for ( ; i < bindValueMaxCount; i++ ) {
+				addSyntheticBinding( sourceParam, entry.getValue(), lastBindValue, i, expansionList );
+			}
 
 			queryString = StringHelper.replace(
 					beforePlaceholder,
@@ -606,4 +589,54 @@ public class QueryParameterBindingsImpl implements QueryParameterBindings {
 
 		return queryString;
 	}
+
+	private void addSyntheticBinding(
+			QueryParameter sourceParam,
+			QueryParameterListBinding listBinding,
+			Object bindValue,
+			int i,
+			StringBuilder expansionList) {
+		if ( i > 0 ) {
+			expansionList.append( ", " );
+		}
+
+		// for each value in the bound list-of-values we:
+		//		1) create a synthetic named parameter
+		//		2) expand the queryString to include each synthetic named param in place of the original
+		//		3) create a new synthetic binding for just that single value under the synthetic name
+		final String syntheticName;
+		if ( sourceParam instanceof NamedParameterDescriptor ) {
+			syntheticName = NamedParameterDescriptor.class.cast( sourceParam ).getName() + '_' + i;
+		}
+		else {
+			syntheticName = "x" + OrdinalParameterDescriptor.class.cast( sourceParam ).getPosition() + '_' + i;
+		}
+
+		expansionList.append( ":" ).append( syntheticName );
+
+		final QueryParameter syntheticParam = new NamedParameterDescriptor(
+				syntheticName,
+				sourceParam.getType(),
+				sourceParam.getSourceLocations()
+		);
+
+		final QueryParameterBinding syntheticBinding = makeBinding( listBinding.getBindType() );
+		syntheticBinding.setBindValue( bindValue );
+		parameterBindingMap.put( syntheticParam, syntheticBinding );
+	}
+
+	/**
+	 * The number of values an expanded list parameter is padded to, the next power of two when
+	 * {@link org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_PADDING} is enabled.
+	 */
+	private static int determineBindValueMaxCount(boolean paddingEnabled, int inExprLimit, int bindValueCount) {
+		if ( !paddingEnabled || bindValueCount < 2 ) {
+			return bindValueCount;
+		}
+		int bindValuePaddingCount = Integer.highestOneBit( bindValueCount - 1 ) << 1;
+		if ( inExprLimit > 0 && bindValuePaddingCount > inExprLimit ) {
+			bindValuePaddingCount = inExprLimit;
+		}
+		return Math.max( bindValueCount, bindValuePaddingCount );
+	}
 }
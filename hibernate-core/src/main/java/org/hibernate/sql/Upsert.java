@@ -0,0 +1,74 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.sql;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.dialect.Dialect;
+
+/**
+ * An SQL "upsert" statement, inserting a row or updating the existing row having the same primary key,
+ * rendered by {@link Dialect#getUpsertString}.
+ * <p/>
+ * The columns are added as for an {@link Insert}, apart from the primary key columns, which are always
+ * bound last.
+ */
+public class Upsert extends Insert {
+	private String tableName;
+	private String comment;
+	private List<String> keyColumnNames = new ArrayList<>();
+	private List<String> columnNames = new ArrayList<>();
+	private List<String> columnValues = new ArrayList<>();
+
+	public Upsert(Dialect dialect) {
+		super( dialect );
+	}
+
+	@Override
+	public Upsert setComment(String comment) {
+		this.comment = comment;
+		return this;
+	}
+
+	@Override
+	public Upsert setTableName(String tableName) {
+		this.tableName = tableName;
+		return this;
+	}
+
+	@Override
+	public Upsert addColumn(String columnName, String valueExpression) {
+		columnNames.add( columnName );
+		columnValues.add( valueExpression );
+		return this;
+	}
+
+	public Upsert addPrimaryKeyColumns(String[] columnNames) {
+		for ( String columnName : columnNames ) {
+			keyColumnNames.add( columnName );
+		}
+		return this;
+	}
+
+	/**
+	 * @return The statement, or {@code null} if the dialect does not support upserts.
+	 */
+	@Override
+	public String toStatementString() {
+		final String upsert = getDialect().getUpsertString(
+				tableName,
+				keyColumnNames.toArray( new String[keyColumnNames.size()] ),
+				columnNames.toArray( new String[columnNames.size()] ),
+				columnValues.toArray( new String[columnValues.size()] )
+		);
+		if ( upsert == null || comment == null ) {
+			return upsert;
+		}
+		return "/* " + comment + " */ " + upsert;
+	}
+}
@@ -26,4 +26,12 @@ public interface EntityStatistics extends Serializable {
 
 	long getOptimisticFailureCount();
 
+	/**
+	 * The distribution of the times taken to load this entity from the database by its identifier.
+	 *
+	 * @return The latencies, or {@code null} if they are not tracked
+	 */
+	default LatencyHistogram getLoadLatency() {
+		return null;
+	}
 }
@@ -0,0 +1,82 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+/**
+ * The distribution of the latencies of an operation (the execution of a query or of a JDBC statement,
+ * the load of an entity, a flush) since the statistics were last cleared.
+ * <p/>
+ * Latencies are expressed in microseconds.  They are recorded into log-linear buckets rather than
+ * kept individually, so the percentiles are approximations, within about 3% of the actual latencies.
+ *
+ * @see Statistics#isStatisticsEnabled()
+ */
+public interface LatencyHistogram extends Serializable {
+	/**
+	 * The number of recorded latencies
+	 */
+	long getCount();
+
+	/**
+	 * The greatest recorded latency, in microseconds
+	 */
+	long getMaxValue();
+
+	/**
+	 * The average recorded latency, in microseconds
+	 */
+	double getMean();
+
+	/**
+	 * The latency under which the given percentage of the recorded latencies falls, in microseconds.
+	 *
+	 * @param percentile The percentage, between 0 and 100
+	 *
+	 * @return The latency, or 0 if no latency was recorded
+	 */
+	long getValueAtPercentile(double percentile);
+
+	/**
+	 * The median latency, in microseconds
+	 */
+	default long getP50() {
+		return getValueAtPercentile( 50 );
+	}
+
+	/**
+	 * The 95th percentile latency, in microseconds
+	 */
+	default long getP95() {
+		return getValueAtPercentile( 95 );
+	}
+
+	/**
+	 * The 99th percentile latency, in microseconds
+	 */
+	default long getP99() {
+		return getValueAtPercentile( 99 );
+	}
+
+	/**
+	 * The 99.9th percentile latency, in microseconds
+	 */
+	default long getP999() {
+		return getValueAtPercentile( 99.9 );
+	}
+
+	/**
+	 * Get the latencies recorded since the previous call to this method (or since the statistics were
+	 * cleared, for the first call), and start a new interval.  Meant to be called periodically by a single
+	 * reporter, so as to follow the evolution of the latencies rather than their distribution over the
+	 * whole lifetime of the SessionFactory.
+	 *
+	 * @return An immutable histogram of the latencies recorded during the interval
+	 */
+	LatencyHistogram getIntervalSnapshot();
+}
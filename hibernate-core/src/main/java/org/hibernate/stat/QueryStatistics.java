@@ -35,4 +35,13 @@ public interface QueryStatistics extends Serializable {
 	long getExecutionTotalTime();
 
 	double getExecutionAvgTimeAsDouble();
+
+	/**
+	 * The distribution of the execution times of this query against the database.
+	 *
+	 * @return The latencies, or {@code null} if they are not tracked
+	 */
+	default LatencyHistogram getExecutionLatency() {
+		return null;
+	}
 }
@@ -108,6 +108,15 @@ public interface Statistics {
 	 */
 	String getQueryExecutionMaxTimeQueryString();
 
+	/**
+	 * Get the distribution of the execution times of the queries executed against the database.
+	 *
+	 * @return The latencies, or {@code null} if they are not tracked
+	 */
+	default LatencyHistogram getQueryExecutionLatency() {
+		return null;
+	}
+
     /**
      * Get the global number of cached queries successfully retrieved from cache
      */
@@ -296,4 +305,68 @@ public interface Statistics {
 	 * that occurred
 	 */
 	long getOptimisticFailureCount();
+
+	/**
+	 * Get the distribution of the times taken to load an entity from the database by its identifier.
+	 *
+	 * @return The latencies, or {@code null} if they are not tracked
+	 */
+	default LatencyHistogram getEntityLoadLatency() {
+		return null;
+	}
+
+	/**
+	 * Get the distribution of the times taken by flushes (whether explicit or automatic).
+	 *
+	 * @return The latencies, or {@code null} if they are not tracked
+	 */
+	default LatencyHistogram getFlushLatency() {
+		return null;
+	}
+
+	/**
+	 * Get the distribution of the execution times of JDBC statements and batches.
+	 *
+	 * @return The latencies, or {@code null} if they are not tracked
+	 */
+	default LatencyHistogram getStatementExecutionLatency() {
+		return null;
+	}
+
+	/**
+	 * Get the distribution of the times taken to obtain JDBC connections.
+	 *
+	 * @return The latencies, or {@code null} if they are not tracked
+	 */
+	default LatencyHistogram getConnectionAcquisitionLatency() {
+		return null;
+	}
+
+	/**
+	 * The number of JDBC batches executed
+	 */
+	default long getBatchExecutionCount() {
+		return 0;
+	}
+
+	/**
+	 * The number of statements executed as part of JDBC batches
+	 */
+	default long getBatchedStatementCount() {
+		return 0;
+	}
+
+	/**
+	 * The number of HQL query plans found in the query plan cache
+	 */
+	default long getQueryPlanCacheHitCount() {
+		return 0;
+	}
+
+	/**
+	 * The number of HQL query plans not found in the query plan cache, and therefore compiled
+	 */
+	default long getQueryPlanCacheMissCount() {
+		return 0;
+	}
 }
@@ -6,7 +6,7 @@
  */
 package org.hibernate.stat.internal;
 
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.hibernate.stat.CollectionStatistics;
 
@@ -20,30 +20,30 @@ public class ConcurrentCollectionStatisticsImpl extends CategorizedStatistics im
 		super(role);
 	}
 
-	private	AtomicLong loadCount	 = new AtomicLong();
-	private	AtomicLong fetchCount	 = new AtomicLong();
-	private	AtomicLong updateCount	 = new AtomicLong();
-	private	AtomicLong removeCount	 = new AtomicLong();
-	private	AtomicLong recreateCount = new AtomicLong();
+	private final LongAdder loadCount = new LongAdder();
+	private final LongAdder fetchCount = new LongAdder();
+	private final LongAdder updateCount = new LongAdder();
+	private final LongAdder removeCount = new LongAdder();
+	private final LongAdder recreateCount = new LongAdder();
 
 	public long getLoadCount() {
-		return loadCount.get();
+		return loadCount.sum();
 	}
 
 	public long getFetchCount() {
-		return fetchCount.get();
+		return fetchCount.sum();
 	}
 
 	public long getRecreateCount() {
-		return recreateCount.get();
+		return recreateCount.sum();
 	}
 
 	public long getRemoveCount() {
-		return removeCount.get();
+		return removeCount.sum();
 	}
 
 	public long getUpdateCount() {
-		return updateCount.get();
+		return updateCount.sum();
 	}
 
 	public String toString() {
@@ -59,22 +59,22 @@ public class ConcurrentCollectionStatisticsImpl extends CategorizedStatistics im
 	}
 
 	void incrementLoadCount() {
-		loadCount.getAndIncrement();
+		loadCount.increment();
 	}
 
 	void incrementFetchCount() {
-		fetchCount.getAndIncrement();
+		fetchCount.increment();
 	}
 
 	void incrementUpdateCount() {
-		updateCount.getAndIncrement();
+		updateCount.increment();
 	}
 
 	void incrementRecreateCount() {
-		recreateCount.getAndIncrement();
+		recreateCount.increment();
 	}
 
 	void incrementRemoveCount() {
-		removeCount.getAndIncrement();
+		removeCount.increment();
 	}
 }
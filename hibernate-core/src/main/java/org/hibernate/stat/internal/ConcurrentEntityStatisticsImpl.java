@@ -6,9 +6,11 @@
  */
 package org.hibernate.stat.internal;
 
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.LatencyHistogram;
 
 /**
  * Entity related statistics
@@ -21,35 +23,41 @@ public class ConcurrentEntityStatisticsImpl extends CategorizedStatistics implem
 		super(name);
 	}
 
-	private	AtomicLong loadCount			  =	new	AtomicLong();
-	private	AtomicLong updateCount			  =	new	AtomicLong();
-	private	AtomicLong insertCount			  =	new	AtomicLong();
-	private	AtomicLong deleteCount			  =	new	AtomicLong();
-	private	AtomicLong fetchCount			  =	new	AtomicLong();
-	private	AtomicLong optimisticFailureCount =	new	AtomicLong();
+	private final LongAdder loadCount = new LongAdder();
+	private final LongAdder updateCount = new LongAdder();
+	private final LongAdder insertCount = new LongAdder();
+	private final LongAdder deleteCount = new LongAdder();
+	private final LongAdder fetchCount = new LongAdder();
+	private final LongAdder optimisticFailureCount = new LongAdder();
+	private final LogLinearLatencyHistogram loadLatency = new LogLinearLatencyHistogram();
 
 	public long getDeleteCount() {
-		return deleteCount.get();
+		return deleteCount.sum();
 	}
 
 	public long getInsertCount() {
-		return insertCount.get();
+		return insertCount.sum();
 	}
 
 	public long getLoadCount() {
-		return loadCount.get();
+		return loadCount.sum();
 	}
 
 	public long getUpdateCount() {
-		return updateCount.get();
+		return updateCount.sum();
 	}
 
 	public long getFetchCount() {
-		return fetchCount.get();
+		return fetchCount.sum();
 	}
 
 	public long getOptimisticFailureCount() {
-		return optimisticFailureCount.get();
+		return optimisticFailureCount.sum();
+	}
+
+	@Override
+	public LatencyHistogram getLoadLatency() {
+		return loadLatency;
 	}
 
 	public String toString() {
@@ -66,26 +74,30 @@ public class ConcurrentEntityStatisticsImpl extends CategorizedStatistics implem
 	}
 
 	void incrementLoadCount() {
-		loadCount.getAndIncrement();
+		loadCount.increment();
 	}
 
 	void incrementFetchCount() {
-		fetchCount.getAndIncrement();
+		fetchCount.increment();
 	}
 
 	void incrementUpdateCount() {
-		updateCount.getAndIncrement();
+		updateCount.increment();
 	}
 
 	void incrementInsertCount() {
-		insertCount.getAndIncrement();
+		insertCount.increment();
 	}
 
 	void incrementDeleteCount() {
-		deleteCount.getAndIncrement();
+		deleteCount.increment();
 	}
 
 	void incrementOptimisticFailureCount() {
-		optimisticFailureCount.getAndIncrement();
+		optimisticFailureCount.increment();
+	}
+
+	void recordLoadLatency(long nanos) {
+		loadLatency.record( nanos, TimeUnit.NANOSECONDS );
 	}
 }
@@ -9,9 +9,7 @@ package org.hibernate.stat.internal;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.hibernate.cache.spi.Region;
 import org.hibernate.cache.spi.access.NaturalIdRegionAccessStrategy;
@@ -26,22 +24,13 @@ public class ConcurrentNaturalIdCacheStatisticsImpl extends CategorizedStatistic
 	private static final long serialVersionUID = 1L;
 	private final transient Region region;
 	private final transient NaturalIdRegionAccessStrategy accessStrategy;
-	private final AtomicLong hitCount = new AtomicLong();
-	private final AtomicLong missCount = new AtomicLong();
-	private final AtomicLong putCount = new AtomicLong();
-	private final AtomicLong executionCount = new AtomicLong();
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder putCount = new LongAdder();
+	private final LongAdder executionCount = new LongAdder();
 	private final AtomicLong executionMaxTime = new AtomicLong();
 	private final AtomicLong executionMinTime = new AtomicLong( Long.MAX_VALUE );
-	private final AtomicLong totalExecutionTime = new AtomicLong();
-
-	private final Lock readLock;
-	private final Lock writeLock;
-
-	{
-		final ReadWriteLock lock = new ReentrantReadWriteLock();
-		this.readLock = lock.readLock();
-		this.writeLock = lock.writeLock();
-	}
+	private final LongAdder totalExecutionTime = new LongAdder();
 
 	ConcurrentNaturalIdCacheStatisticsImpl(Region region, NaturalIdRegionAccessStrategy accessStrategy) {
 		super( region.getName() );
@@ -51,17 +40,17 @@ public class ConcurrentNaturalIdCacheStatisticsImpl extends CategorizedStatistic
 
 	@Override
 	public long getHitCount() {
-		return this.hitCount.get();
+		return this.hitCount.sum();
 	}
 
 	@Override
 	public long getMissCount() {
-		return this.missCount.get();
+		return this.missCount.sum();
 	}
 
 	@Override
 	public long getPutCount() {
-		return this.putCount.get();
+		return this.putCount.sum();
 	}
 
 	/**
@@ -69,7 +58,7 @@ public class ConcurrentNaturalIdCacheStatisticsImpl extends CategorizedStatistic
 	 */
 	@Override
 	public long getExecutionCount() {
-		return this.executionCount.get();
+		return this.executionCount.sum();
 	}
 
 	/**
@@ -77,20 +66,13 @@ public class ConcurrentNaturalIdCacheStatisticsImpl extends CategorizedStatistic
 	 */
 	@Override
 	public long getExecutionAvgTime() {
-		// We write lock here to be sure that we always calculate the average time
-		// with all updates from the executed applied: executionCount and totalExecutionTime
-		// both used in the calculation
-		this.writeLock.lock();
-		try {
-			long avgExecutionTime = 0;
-			if ( this.executionCount.get() > 0 ) {
-				avgExecutionTime = this.totalExecutionTime.get() / this.executionCount.get();
-			}
-			return avgExecutionTime;
-		}
-		finally {
-			this.writeLock.unlock();
+		// queryExecuted(long) adds the time before counting the execution, so reading the count first
+		// never divides the total time of fewer executions by a greater count
+		final long count = this.executionCount.sum();
+		if ( count > 0 ) {
+			return this.totalExecutionTime.sum() / count;
 		}
+		return 0;
 	}
 
 	/**
@@ -157,34 +139,21 @@ public class ConcurrentNaturalIdCacheStatisticsImpl extends CategorizedStatistic
 	}
 
 	void incrementHitCount() {
-		this.hitCount.getAndIncrement();
+		this.hitCount.increment();
 	}
 
 	void incrementMissCount() {
-		this.missCount.getAndIncrement();
+		this.missCount.increment();
 	}
 
 	void incrementPutCount() {
-		this.putCount.getAndIncrement();
+		this.putCount.increment();
 	}
 
 	void queryExecuted(long time) {
-		// read lock is enough, concurrent updates are supported by the underlying type AtomicLong
-		// this only guards executed(long, long) to be called, when another thread is executing getExecutionAvgTime()
-		this.readLock.lock();
-		try {
-			// Less chances for a context switch
-			//noinspection StatementWithEmptyBody
-			for ( long old = this.executionMinTime.get(); time < old && !this.executionMinTime.compareAndSet( old, time ); old = this.executionMinTime.get() ) {
-			}
-			//noinspection StatementWithEmptyBody
-			for ( long old = this.executionMaxTime.get(); time > old && !this.executionMaxTime.compareAndSet( old, time ); old = this.executionMaxTime.get() ) {
-			}
-			this.executionCount.getAndIncrement();
-			this.totalExecutionTime.addAndGet( time );
-		}
-		finally {
-			this.readLock.unlock();
-		}
+		StatsHelper.updateMin( this.executionMinTime, time );
+		StatsHelper.updateMax( this.executionMaxTime, time );
+		this.totalExecutionTime.add( time );
+		this.executionCount.increment();
 	}
 }
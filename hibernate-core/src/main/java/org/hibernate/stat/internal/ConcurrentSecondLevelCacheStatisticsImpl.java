@@ -8,7 +8,7 @@ package org.hibernate.stat.internal;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.hibernate.cache.spi.Region;
 import org.hibernate.cache.spi.access.CollectionRegionAccessStrategy;
@@ -24,9 +24,9 @@ public class ConcurrentSecondLevelCacheStatisticsImpl extends CategorizedStatist
 	private final transient Region region;
 	private final transient EntityRegionAccessStrategy entityRegionAccessStrategy;
 	private final transient CollectionRegionAccessStrategy collectionRegionAccessStrategy;
-	private AtomicLong hitCount = new AtomicLong();
-	private AtomicLong missCount = new AtomicLong();
-	private AtomicLong putCount = new AtomicLong();
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder putCount = new LongAdder();
 
 	ConcurrentSecondLevelCacheStatisticsImpl(
 			Region region,
@@ -39,15 +39,15 @@ public class ConcurrentSecondLevelCacheStatisticsImpl extends CategorizedStatist
 	}
 
 	public long getHitCount() {
-		return hitCount.get();
+		return hitCount.sum();
 	}
 
 	public long getMissCount() {
-		return missCount.get();
+		return missCount.sum();
 	}
 
 	public long getPutCount() {
-		return putCount.get();
+		return putCount.sum();
 	}
 
 	public long getElementCountInMemory() {
@@ -98,14 +98,14 @@ public class ConcurrentSecondLevelCacheStatisticsImpl extends CategorizedStatist
 	}
 
 	void incrementHitCount() {
-		hitCount.getAndIncrement();
+		hitCount.increment();
 	}
 
 	void incrementMissCount() {
-		missCount.getAndIncrement();
+		missCount.increment();
 	}
 
 	void incrementPutCount() {
-		putCount.getAndIncrement();
+		putCount.increment();
 	}
 }
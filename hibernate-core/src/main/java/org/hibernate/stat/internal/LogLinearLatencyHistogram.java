@@ -0,0 +1,249 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.stat.LatencyHistogram;
+
+/**
+ * A {@link LatencyHistogram} recording latencies concurrently and without locking into a fixed set of
+ * log-linear buckets (in the manner of HdrHistogram): latencies under 32 microseconds have a bucket
+ * of their own, and every further power of 2 is split into 16 buckets of equal width; percentiles
+ * are reported as the middle of their bucket.  Latencies above one hour are recorded as one hour.
+ * <p/>
+ * The histogram takes a few kilobytes whatever the number of recorded latencies, and recording
+ * a latency is a couple of atomic additions.
+ */
+public final class LogLinearLatencyHistogram implements LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 5;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT >> 1;
+
+	private static final long HIGHEST_TRACKABLE_VALUE = TimeUnit.HOURS.toMicros( 1 );
+	private static final int BUCKET_COUNT = bucketIndex( HIGHEST_TRACKABLE_VALUE ) + 1;
+
+	private final AtomicLongArray counts = new AtomicLongArray( BUCKET_COUNT );
+	private final AtomicLong maxValue = new AtomicLong();
+	private final LongAdder totalValue = new LongAdder();
+
+	// the state at the start of the current interval, guarded by this
+	private long[] intervalStartCounts = new long[BUCKET_COUNT];
+	private long intervalStartTotalValue;
+
+	/**
+	 * Record a latency.
+	 *
+	 * @param time The latency
+	 * @param unit The unit of the latency
+	 */
+	public void record(long time, TimeUnit unit) {
+		final long value = Math.min( Math.max( unit.toMicros( time ), 0 ), HIGHEST_TRACKABLE_VALUE );
+		counts.incrementAndGet( bucketIndex( value ) );
+		totalValue.add( value );
+		StatsHelper.updateMax( maxValue, value );
+	}
+
+	/**
+	 * Forget all the recorded latencies.
+	 */
+	public synchronized void reset() {
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			counts.set( i, 0 );
+		}
+		maxValue.set( 0 );
+		totalValue.reset();
+		intervalStartCounts = new long[BUCKET_COUNT];
+		intervalStartTotalValue = 0;
+	}
+
+	@Override
+	public long getCount() {
+		long count = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			count += counts.get( i );
+		}
+		return count;
+	}
+
+	@Override
+	public long getMaxValue() {
+		return maxValue.get();
+	}
+
+	@Override
+	public double getMean() {
+		return mean( totalValue.sum(), getCount() );
+	}
+
+	@Override
+	public long getValueAtPercentile(double percentile) {
+		return valueAtPercentile( copyCounts(), maxValue.get(), percentile );
+	}
+
+	@Override
+	public synchronized LatencyHistogram getIntervalSnapshot() {
+		final long[] currentCounts = copyCounts();
+		final long currentTotalValue = totalValue.sum();
+
+		final long[] intervalCounts = new long[BUCKET_COUNT];
+		int highestBucket = -1;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			intervalCounts[i] = Math.max( currentCounts[i] - intervalStartCounts[i], 0 );
+			if ( intervalCounts[i] > 0 ) {
+				highestBucket = i;
+			}
+		}
+		final long intervalTotalValue = Math.max( currentTotalValue - intervalStartTotalValue, 0 );
+
+		intervalStartCounts = currentCounts;
+		intervalStartTotalValue = currentTotalValue;
+
+		// the exact maximum of the interval is not tracked, the bound of its bucket is close enough
+		final long intervalMaxValue = highestBucket < 0
+				? 0
+				: Math.min( highestValueInBucket( highestBucket ), maxValue.get() );
+		return new Snapshot( intervalCounts, intervalMaxValue, intervalTotalValue );
+	}
+
+	@Override
+	public String toString() {
+		return toString( this );
+	}
+
+	private long[] copyCounts() {
+		final long[] copy = new long[BUCKET_COUNT];
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			copy[i] = counts.get( i );
+		}
+		return copy;
+	}
+
+	static int bucketIndex(long value) {
+		if ( value < SUB_BUCKET_COUNT ) {
+			return (int) value;
+		}
+		// keep the SUB_BUCKET_BITS most significant bits of the value
+		final int shift = 63 - Long.numberOfLeadingZeros( value ) - ( SUB_BUCKET_BITS - 1 );
+		final int mantissa = (int) ( value >>> shift );
+		return SUB_BUCKET_COUNT + ( shift - 1 ) * SUB_BUCKET_HALF_COUNT + mantissa - SUB_BUCKET_HALF_COUNT;
+	}
+
+	static long lowestValueInBucket(int index) {
+		if ( index < SUB_BUCKET_COUNT ) {
+			return index;
+		}
+		final int offset = index - SUB_BUCKET_COUNT;
+		final long mantissa = offset % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+		return mantissa << bucketShift( index );
+	}
+
+	static long highestValueInBucket(int index) {
+		if ( index < SUB_BUCKET_COUNT ) {
+			return index;
+		}
+		return lowestValueInBucket( index ) + ( 1L << bucketShift( index ) ) - 1;
+	}
+
+	private static int bucketShift(int index) {
+		return ( index - SUB_BUCKET_COUNT ) / SUB_BUCKET_HALF_COUNT + 1;
+	}
+
+	private static long valueAtPercentile(long[] counts, long maxValue, double percentile) {
+		long count = 0;
+		for ( long bucketCount : counts ) {
+			count += bucketCount;
+		}
+		if ( count == 0 ) {
+			return 0;
+		}
+		final double ratio = Math.min( Math.max( percentile, 0 ), 100 ) / 100;
+		final long rank = Math.max( (long) Math.ceil( ratio * count ), 1 );
+		long cumulativeCount = 0;
+		for ( int i = 0; i < counts.length; i++ ) {
+			cumulativeCount += counts[i];
+			if ( cumulativeCount == count ) {
+				// the greatest latency is known exactly
+				return maxValue;
+			}
+			if ( cumulativeCount >= rank ) {
+				// the middle of the bucket halves the worst case error
+				final long value = ( lowestValueInBucket( i ) + highestValueInBucket( i ) ) >>> 1;
+				return Math.min( value, maxValue );
+			}
+		}
+		return maxValue;
+	}
+
+	private static double mean(long totalValue, long count) {
+		return count == 0 ? 0 : totalValue / (double) count;
+	}
+
+	private static String toString(LatencyHistogram histogram) {
+		return "LatencyHistogram"
+				+ "[count=" + histogram.getCount()
+				+ ",mean=" + histogram.getMean()
+				+ ",p50=" + histogram.getP50()
+				+ ",p95=" + histogram.getP95()
+				+ ",p99=" + histogram.getP99()
+				+ ",p999=" + histogram.getP999()
+				+ ",max=" + histogram.getMaxValue()
+				+ ']';
+	}
+
+	private static final class Snapshot implements LatencyHistogram {
+		private final long[] counts;
+		private final long count;
+		private final long maxValue;
+		private final long totalValue;
+
+		private Snapshot(long[] counts, long maxValue, long totalValue) {
+			this.counts = counts;
+			this.maxValue = maxValue;
+			this.totalValue = totalValue;
+			long count = 0;
+			for ( long bucketCount : counts ) {
+				count += bucketCount;
+			}
+			this.count = count;
+		}
+
+		@Override
+		public long getCount() {
+			return count;
+		}
+
+		@Override
+		public long getMaxValue() {
+			return maxValue;
+		}
+
+		@Override
+		public double getMean() {
+			return mean( totalValue, count );
+		}
+
+		@Override
+		public long getValueAtPercentile(double percentile) {
+			return valueAtPercentile( counts, maxValue, percentile );
+		}
+
+		@Override
+		public LatencyHistogram getIntervalSnapshot() {
+			// a snapshot never changes
+			return this;
+		}
+
+		@Override
+		public String toString() {
+			return LogLinearLatencyHistogram.toString( this );
+		}
+	}
+}
@@ -0,0 +1,256 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.SecondLevelCacheStatistics;
+import org.hibernate.stat.Statistics;
+import org.hibernate.stat.spi.MetricRegistry;
+import org.hibernate.stat.spi.StatisticsExporter;
+
+/**
+ * The standard {@link StatisticsExporter}, exposing the SessionFactory wide statistics along with the
+ * statistics of each entity (tagged {@code entity}) and second-level cache region (tagged {@code region}).
+ * Statistics of individual queries and collection roles are not exposed, their number is unbounded
+ * (queries) or rarely worth the additional meters (collection roles).
+ * <p/>
+ * Meter names follow the dot-separated lower case convention of most metrics libraries, e.g.
+ * {@code hibernate.second.level.cache.requests}; latencies are exposed as timers.
+ */
+public class StandardStatisticsExporter implements StatisticsExporter {
+	private static final Map<String, String> NO_TAGS = Collections.emptyMap();
+
+	@Override
+	public void export(Statistics statistics, MetricRegistry registry) {
+		exportSessionFactoryStatistics( statistics, registry );
+		for ( String entityName : statistics.getEntityNames() ) {
+			exportEntityStatistics( statistics, entityName, registry );
+		}
+		for ( String regionName : statistics.getSecondLevelCacheRegionNames() ) {
+			exportRegionStatistics( statistics, regionName, registry );
+		}
+	}
+
+	private void exportSessionFactoryStatistics(Statistics statistics, MetricRegistry registry) {
+		registry.registerCounter( "hibernate.sessions.open", "Sessions opened", NO_TAGS, statistics, Statistics::getSessionOpenCount );
+		registry.registerCounter( "hibernate.sessions.closed", "Sessions closed", NO_TAGS, statistics, Statistics::getSessionCloseCount );
+
+		registry.registerCounter(
+				"hibernate.transactions",
+				"Transactions completed",
+				tags( "result", "success" ),
+				statistics,
+				Statistics::getSuccessfulTransactionCount
+		);
+		registry.registerCounter(
+				"hibernate.transactions",
+				"Transactions completed",
+				tags( "result", "failure" ),
+				statistics,
+				s -> s.getTransactionCount() - s.getSuccessfulTransactionCount()
+		);
+		registry.registerCounter(
+				"hibernate.optimistic.failures",
+				"StaleObjectStateExceptions that occurred",
+				NO_TAGS,
+				statistics,
+				Statistics::getOptimisticFailureCount
+		);
+
+		registry.registerCounter( "hibernate.flushes", "Flushes executed", NO_TAGS, statistics, Statistics::getFlushCount );
+		registry.registerTimer( "hibernate.flush", "Flush duration", NO_TAGS, statistics, Statistics::getFlushLatency );
+
+		registry.registerCounter( "hibernate.connections.obtained", "JDBC connections obtained", NO_TAGS, statistics, Statistics::getConnectCount );
+		registry.registerTimer(
+				"hibernate.connections.acquisition",
+				"JDBC connection acquisition duration",
+				NO_TAGS,
+				statistics,
+				Statistics::getConnectionAcquisitionLatency
+		);
+
+		registry.registerCounter(
+				"hibernate.statements",
+				"JDBC statements prepared or closed",
+				tags( "status", "prepared" ),
+				statistics,
+				Statistics::getPrepareStatementCount
+		);
+		registry.registerCounter(
+				"hibernate.statements",
+				"JDBC statements prepared or closed",
+				tags( "status", "closed" ),
+				statistics,
+				Statistics::getCloseStatementCount
+		);
+		registry.registerTimer(
+				"hibernate.statements.execution",
+				"JDBC statement and batch execution duration",
+				NO_TAGS,
+				statistics,
+				Statistics::getStatementExecutionLatency
+		);
+		registry.registerCounter( "hibernate.batches", "JDBC batches executed", NO_TAGS, statistics, Statistics::getBatchExecutionCount );
+		registry.registerGauge(
+				"hibernate.batches.size",
+				"Average number of statements of the JDBC batches executed",
+				NO_TAGS,
+				statistics,
+				s -> ratio( s.getBatchedStatementCount(), s.getBatchExecutionCount() )
+		);
+
+		registry.registerCounter( "hibernate.collections.loads", "Collections loaded", NO_TAGS, statistics, Statistics::getCollectionLoadCount );
+		registry.registerCounter( "hibernate.collections.fetches", "Collections fetched", NO_TAGS, statistics, Statistics::getCollectionFetchCount );
+		registry.registerCounter( "hibernate.collections.updates", "Collections updated", NO_TAGS, statistics, Statistics::getCollectionUpdateCount );
+		registry.registerCounter( "hibernate.collections.deletes", "Collections removed", NO_TAGS, statistics, Statistics::getCollectionRemoveCount );
+		registry.registerCounter( "hibernate.collections.recreates", "Collections recreated", NO_TAGS, statistics, Statistics::getCollectionRecreateCount );
+
+		registry.registerCounter( "hibernate.query.executions", "Queries executed against the database", NO_TAGS, statistics, Statistics::getQueryExecutionCount );
+		registry.registerTimer( "hibernate.query.execution", "Query execution duration", NO_TAGS, statistics, Statistics::getQueryExecutionLatency );
+		registerHitsAndMisses(
+				registry,
+				"hibernate.query.cache.requests",
+				"Query cache lookups",
+				NO_TAGS,
+				statistics,
+				Statistics::getQueryCacheHitCount,
+				Statistics::getQueryCacheMissCount
+		);
+		registry.registerCounter( "hibernate.query.cache.puts", "Query cache puts", NO_TAGS, statistics, Statistics::getQueryCachePutCount );
+		registerHitsAndMisses(
+				registry,
+				"hibernate.query.plan.cache.requests",
+				"Query plan cache lookups",
+				NO_TAGS,
+				statistics,
+				Statistics::getQueryPlanCacheHitCount,
+				Statistics::getQueryPlanCacheMissCount
+		);
+		registry.registerGauge(
+				"hibernate.query.plan.cache.hit.ratio",
+				"Ratio of the query plan cache lookups which were hits",
+				NO_TAGS,
+				statistics,
+				s -> ratio( s.getQueryPlanCacheHitCount(), s.getQueryPlanCacheHitCount() + s.getQueryPlanCacheMissCount() )
+		);
+
+		registerHitsAndMisses(
+				registry,
+				"hibernate.update.timestamps.cache.requests",
+				"Update timestamps cache lookups",
+				NO_TAGS,
+				statistics,
+				Statistics::getUpdateTimestampsCacheHitCount,
+				Statistics::getUpdateTimestampsCacheMissCount
+		);
+		registerHitsAndMisses(
+				registry,
+				"hibernate.natural.id.cache.requests",
+				"Natural id cache lookups",
+				NO_TAGS,
+				statistics,
+				Statistics::getNaturalIdCacheHitCount,
+				Statistics::getNaturalIdCacheMissCount
+		);
+	}
+
+	private void exportEntityStatistics(Statistics statistics, String entityName, MetricRegistry registry) {
+		final Map<String, String> tags = tags( "entity", entityName );
+		registerEntityCounter( registry, "hibernate.entity.loads", "Entities loaded", tags, statistics, entityName, EntityStatistics::getLoadCount );
+		registerEntityCounter( registry, "hibernate.entity.fetches", "Entities fetched", tags, statistics, entityName, EntityStatistics::getFetchCount );
+		registerEntityCounter( registry, "hibernate.entity.inserts", "Entities inserted", tags, statistics, entityName, EntityStatistics::getInsertCount );
+		registerEntityCounter( registry, "hibernate.entity.updates", "Entities updated", tags, statistics, entityName, EntityStatistics::getUpdateCount );
+		registerEntityCounter( registry, "hibernate.entity.deletes", "Entities deleted", tags, statistics, entityName, EntityStatistics::getDeleteCount );
+		registerEntityCounter(
+				registry,
+				"hibernate.entity.optimistic.failures",
+				"StaleObjectStateExceptions that occurred",
+				tags,
+				statistics,
+				entityName,
+				EntityStatistics::getOptimisticFailureCount
+		);
+		registry.registerTimer(
+				"hibernate.entity.load",
+				"Entity load duration",
+				tags,
+				statistics,
+				s -> s.getEntityStatistics( entityName ).getLoadLatency()
+		);
+	}
+
+	private void exportRegionStatistics(Statistics statistics, String regionName, MetricRegistry registry) {
+		final Map<String, String> tags = tags( "region", regionName );
+		registerHitsAndMisses(
+				registry,
+				"hibernate.second.level.cache.requests",
+				"Second-level cache lookups",
+				tags,
+				statistics,
+				s -> regionCount( s, regionName, SecondLevelCacheStatistics::getHitCount ),
+				s -> regionCount( s, regionName, SecondLevelCacheStatistics::getMissCount )
+		);
+		registry.registerCounter(
+				"hibernate.second.level.cache.puts",
+				"Second-level cache puts",
+				tags,
+				statistics,
+				s -> regionCount( s, regionName, SecondLevelCacheStatistics::getPutCount )
+		);
+	}
+
+	private static void registerEntityCounter(
+			MetricRegistry registry,
+			String name,
+			String description,
+			Map<String, String> tags,
+			Statistics statistics,
+			String entityName,
+			ToLongFunction<EntityStatistics> count) {
+		// the EntityStatistics is looked up on every read, it is replaced when the statistics are cleared
+		registry.registerCounter( name, description, tags, statistics, s -> count.applyAsLong( s.getEntityStatistics( entityName ) ) );
+	}
+
+	private static void registerHitsAndMisses(
+			MetricRegistry registry,
+			String name,
+			String description,
+			Map<String, String> tags,
+			Statistics statistics,
+			ToLongFunction<Statistics> hits,
+			ToLongFunction<Statistics> misses) {
+		registry.registerCounter( name, description, withTag( tags, "result", "hit" ), statistics, hits );
+		registry.registerCounter( name, description, withTag( tags, "result", "miss" ), statistics, misses );
+	}
+
+	private static long regionCount(
+			Statistics statistics,
+			String regionName,
+			ToLongFunction<SecondLevelCacheStatistics> count) {
+		final SecondLevelCacheStatistics regionStatistics = statistics.getSecondLevelCacheStatistics( regionName );
+		return regionStatistics == null ? 0 : count.applyAsLong( regionStatistics );
+	}
+
+	private static double ratio(long dividend, long divisor) {
+		return divisor == 0 ? 0 : dividend / (double) divisor;
+	}
+
+	private static Map<String, String> tags(String key, String value) {
+		return Collections.singletonMap( key, value );
+	}
+
+	private static Map<String, String> withTag(Map<String, String> tags, String key, String value) {
+		final Map<String, String> result = new HashMap<>( tags );
+		result.put( key, value );
+		return result;
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free helpers for tracking the minimum and maximum of concurrently reported values.
+ * <p/>
+ * Unlike the counters, which are spread over {@link java.util.concurrent.atomic.LongAdder} cells, an
+ * extremum is a single {@link AtomicLong}; it is only written to when a new extremum is seen, which
+ * becomes rare once the statistics are warm, so reads are the common (and uncontended) case.
+ */
+final class StatsHelper {
+	private StatsHelper() {
+	}
+
+	/**
+	 * Record the given value as the new maximum if it is greater than the current one.
+	 *
+	 * @param max The maximum
+	 * @param value The reported value
+	 *
+	 * @return {@code true} if the value is the new maximum
+	 */
+	static boolean updateMax(AtomicLong max, long value) {
+		long current = max.get();
+		while ( value > current ) {
+			if ( max.compareAndSet( current, value ) ) {
+				return true;
+			}
+			current = max.get();
+		}
+		return false;
+	}
+
+	/**
+	 * Record the given value as the new minimum if it is less than the current one.
+	 *
+	 * @param min The minimum
+	 * @param value The reported value
+	 *
+	 * @return {@code true} if the value is the new minimum
+	 */
+	static boolean updateMin(AtomicLong min, long value) {
+		long current = min.get();
+		while ( value < current ) {
+			if ( min.compareAndSet( current, value ) ) {
+				return true;
+			}
+			current = min.get();
+		}
+		return false;
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.spi;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+import org.hibernate.stat.LatencyHistogram;
+
+/**
+ * The registry of a metrics library, into which a {@link StatisticsExporter} registers the meters
+ * it exposes.
+ * <p/>
+ * Meters are read from a source object when the metrics library collects them; like most metrics
+ * libraries, implementations may only keep a weak reference to the source, which is then expected
+ * to be reachable otherwise (the {@link org.hibernate.stat.Statistics} of a SessionFactory, typically).
+ */
+public interface MetricRegistry {
+	/**
+	 * Register a monotonically increasing count.
+	 *
+	 * @param name The name of the meter
+	 * @param description The description of the meter
+	 * @param tags The dimensions of the meter, in addition to the ones common to the registry
+	 * @param source The object to read the count from
+	 * @param count Reads the count from the source
+	 * @param <T> The type of the source
+	 */
+	<T> void registerCounter(
+			String name,
+			String description,
+			Map<String, String> tags,
+			T source,
+			ToLongFunction<T> count);
+
+	/**
+	 * Register a value which may go up or down.
+	 *
+	 * @param name The name of the meter
+	 * @param description The description of the meter
+	 * @param tags The dimensions of the meter, in addition to the ones common to the registry
+	 * @param source The object to read the value from
+	 * @param value Reads the value from the source
+	 * @param <T> The type of the source
+	 */
+	<T> void registerGauge(
+			String name,
+			String description,
+			Map<String, String> tags,
+			T source,
+			ToDoubleFunction<T> value);
+
+	/**
+	 * Register the distribution of the latencies of an operation.
+	 *
+	 * @param name The name of the meter
+	 * @param description The description of the meter
+	 * @param tags The dimensions of the meter, in addition to the ones common to the registry
+	 * @param source The object to read the latencies from
+	 * @param latencies Reads the latencies from the source, possibly returning {@code null} when not tracked
+	 * @param <T> The type of the source
+	 */
+	<T> void registerTimer(
+			String name,
+			String description,
+			Map<String, String> tags,
+			T source,
+			Function<T, LatencyHistogram> latencies);
+}
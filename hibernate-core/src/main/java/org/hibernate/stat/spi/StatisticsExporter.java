@@ -0,0 +1,27 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.spi;
+
+import org.hibernate.stat.Statistics;
+
+/**
+ * Exposes the {@link Statistics} of a SessionFactory as the counters, gauges and timers of a
+ * {@link MetricRegistry}, so that they can be collected by a metrics library instead of being
+ * polled (through JMX, for example).
+ *
+ * @see org.hibernate.stat.internal.StandardStatisticsExporter
+ */
+public interface StatisticsExporter {
+	/**
+	 * Register the meters exposing the given statistics.  Statistics are only collected while
+	 * {@link Statistics#isStatisticsEnabled() enabled}, the meters are registered regardless.
+	 *
+	 * @param statistics The statistics to expose
+	 * @param registry The registry to register the meters into
+	 */
+	void export(Statistics statistics, MetricRegistry registry);
+}
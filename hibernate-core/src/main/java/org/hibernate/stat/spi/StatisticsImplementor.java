@@ -217,6 +217,73 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void queryExecuted(String hql, int rows, long time);
 
+	/**
+	 * Callback indicating the precise execution time of a sql/hql query, reported along with
+	 * {@link #queryExecuted}.
+	 *
+	 * @param hql The query
+	 * @param nanos The execution time, in nanoseconds
+	 */
+	default void queryExecutionLatency(String hql, long nanos) {
+	}
+
+	/**
+	 * Callback indicating the time taken to load an entity from the database by its identifier.
+	 *
+	 * @param entityName The name of the entity loaded
+	 * @param nanos The load time, in nanoseconds
+	 */
+	default void entityLoadLatency(String entityName, long nanos) {
+	}
+
+	/**
+	 * Callback indicating the time taken by a flush, reported along with {@link #flush}.
+	 *
+	 * @param nanos The flush time, in nanoseconds
+	 */
+	default void flushLatency(long nanos) {
+	}
+
+	/**
+	 * Callback indicating the execution time of a JDBC statement or batch.
+	 *
+	 * @param nanos The execution time, in nanoseconds
+	 */
+	default void statementExecutionLatency(long nanos) {
+	}
+
+	/**
+	 * Callback indicating the time taken to obtain a JDBC connection.
+	 *
+	 * @param nanos The acquisition time, in nanoseconds
+	 */
+	default void connectionAcquisitionLatency(long nanos) {
+	}
+
+	/**
+	 * Callback indicating the execution of a JDBC batch.
+	 *
+	 * @param batchSize The number of statements in the batch
+	 */
+	default void executeBatch(int batchSize) {
+	}
+
+	/**
+	 * Callback indicating a get from the query plan cache resulted in a hit.
+	 *
+	 * @param query The query
+	 */
+	default void queryPlanCacheHit(String query) {
+	}
+
+	/**
+	 * Callback indicating a get from the query plan cache resulted in a miss.
+	 *
+	 * @param query The query
+	 */
+	default void queryPlanCacheMiss(String query) {
+	}
+
 
 	/**
 	 * Callback indicating a hit to the timestamp cache
@@ -30,8 +30,13 @@ import org.hibernate.internal.util.ReflectHelper;
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.mapping.Property;
 import org.hibernate.mapping.Subclass;
+import org.hibernate.property.access.spi.EnhancedGetterMethodImpl;
 import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.GetterFieldImpl;
+import org.hibernate.property.access.spi.GetterMethodImpl;
 import org.hibernate.property.access.spi.Setter;
+import org.hibernate.property.access.spi.SetterFieldImpl;
+import org.hibernate.property.access.spi.SetterMethodImpl;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.ProxyFactory;
 import org.hibernate.tuple.Instantiator;
@@ -70,21 +75,45 @@ public class PojoEntityTuplizer extends AbstractEntityTuplizer {
 			propTypes[i] = getters[i].getReturnType();
 		}
 
-		if ( hasCustomAccessors || !Environment.useReflectionOptimizer() ) {
-			optimizer = null;
+		ReflectionOptimizer reflectionOptimizer = null;
+		if ( Environment.useReflectionOptimizer() ) {
+			if ( hasOnlyStandardAccessors() ) {
+				// supports field access and private members as well, which are accessed using the getters/setters
+				reflectionOptimizer = Environment.getBytecodeProvider().getReflectionOptimizer(
+						mappedClass,
+						entityMetamodel.getPropertyNames(),
+						getters,
+						setters
+				);
+			}
+			if ( reflectionOptimizer == null && !hasCustomAccessors ) {
+				// todo : YUCK!!!
+				reflectionOptimizer = Environment.getBytecodeProvider().getReflectionOptimizer(
+						mappedClass,
+						getterNames,
+						setterNames,
+						propTypes
+				);
+//				optimizer = getFactory().getSettings().getBytecodeProvider().getReflectionOptimizer(
+//						mappedClass, getterNames, setterNames, propTypes
+//				);
+			}
 		}
-		else {
-			// todo : YUCK!!!
-			optimizer = Environment.getBytecodeProvider().getReflectionOptimizer(
-					mappedClass,
-					getterNames,
-					setterNames,
-					propTypes
-			);
-//			optimizer = getFactory().getSettings().getBytecodeProvider().getReflectionOptimizer(
-//					mappedClass, getterNames, setterNames, propTypes
-//			);
+		optimizer = reflectionOptimizer;
+	}
+
+	private boolean hasOnlyStandardAccessors() {
+		for ( int i = 0; i < propertySpan; i++ ) {
+			if ( !( getters[i] instanceof GetterFieldImpl
+					|| getters[i] instanceof GetterMethodImpl
+					|| getters[i] instanceof EnhancedGetterMethodImpl ) ) {
+				return false;
+			}
+			if ( !( setters[i] instanceof SetterFieldImpl || setters[i] instanceof SetterMethodImpl ) ) {
+				return false;
+			}
 		}
+		return true;
 	}
 
 	@Override
@@ -179,8 +179,9 @@ public class ManyToOneType extends EntityType {
 		if ( uniqueKeyPropertyName == null && id != null ) {
 			final EntityPersister persister = getAssociatedEntityPersister( session.getFactory() );
 			if ( persister.isBatchLoadable() ) {
-				final EntityKey entityKey = session.generateEntityKey( id, persister );
-				if ( !session.getPersistenceContext().containsEntity( entityKey ) ) {
+				// the key is only needed if the entity is not already managed
+				if ( !session.getPersistenceContext().containsEntity( persister, id ) ) {
+					final EntityKey entityKey = session.generateEntityKey( id, persister );
 					session.getPersistenceContext().getBatchFetchQueue().addBatchLoadableEntityKey( entityKey );
 				}
 			}
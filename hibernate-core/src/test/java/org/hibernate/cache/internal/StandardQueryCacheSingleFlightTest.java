@@ -0,0 +1,108 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.engine.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class StandardQueryCacheSingleFlightTest {
+	private SessionFactoryOptions options;
+	private SessionFactoryImplementor sessionFactory;
+	private StandardQueryCache queryCache;
+	private QueryKey key;
+
+	@Before
+	public void createQueryCache() {
+		options = mock( SessionFactoryOptions.class );
+		when( options.isQueryCacheSingleFlightEnabled() ).thenReturn( true );
+		when( options.getQueryCacheSingleFlightTimeout() ).thenReturn( 10000 );
+		sessionFactory = mock( SessionFactoryImplementor.class );
+		when( sessionFactory.getSessionFactoryOptions() ).thenReturn( options );
+		queryCache = new StandardQueryCache( mock( QueryResultsRegion.class ), mock( CacheImplementor.class ) );
+		key = mock( QueryKey.class );
+	}
+
+	@Test
+	public void testConcurrentMissesWaitForTheLoadingSession() throws Exception {
+		final SharedSessionContractImplementor loadingSession = createSession();
+		final SharedSessionContractImplementor waitingSession = createSession();
+
+		assertFalse( queryCache.awaitLoad( key, loadingSession ) );
+		final CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(
+				() -> queryCache.awaitLoad( key, waitingSession )
+		);
+		Thread.sleep( 100 );
+		assertFalse( waiting.isDone() );
+
+		// ending the load of another session has no effect
+		queryCache.endLoad( key, waitingSession );
+		assertFalse( waiting.isDone() );
+
+		queryCache.endLoad( key, loadingSession );
+		assertTrue( waiting.get( 10, TimeUnit.SECONDS ) );
+
+		// the next miss loads the results again
+		assertFalse( queryCache.awaitLoad( key, waitingSession ) );
+		queryCache.endLoad( key, waitingSession );
+	}
+
+	@Test
+	public void testNestedLoadOfTheSameResults() throws Exception {
+		final SharedSessionContractImplementor loadingSession = createSession();
+
+		assertFalse( queryCache.awaitLoad( key, loadingSession ) );
+		assertFalse( queryCache.awaitLoad( key, loadingSession ) );
+		queryCache.endLoad( key, loadingSession );
+
+		final CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(
+				() -> queryCache.awaitLoad( key, createSession() )
+		);
+		Thread.sleep( 100 );
+		assertFalse( waiting.isDone() );
+
+		queryCache.endLoad( key, loadingSession );
+		assertTrue( waiting.get( 10, TimeUnit.SECONDS ) );
+	}
+
+	@Test
+	public void testTimeout() {
+		when( options.getQueryCacheSingleFlightTimeout() ).thenReturn( 50 );
+
+		assertFalse( queryCache.awaitLoad( key, createSession() ) );
+		// the waiting session executes the query itself
+		assertFalse( queryCache.awaitLoad( key, createSession() ) );
+	}
+
+	@Test
+	public void testDisabled() {
+		when( options.isQueryCacheSingleFlightEnabled() ).thenReturn( false );
+
+		assertFalse( queryCache.awaitLoad( key, createSession() ) );
+		assertFalse( queryCache.awaitLoad( key, createSession() ) );
+	}
+
+	private SharedSessionContractImplementor createSession() {
+		final SharedSessionContractImplementor session = mock( SharedSessionContractImplementor.class );
+		when( session.getFactory() ).thenReturn( sessionFactory );
+		return session;
+	}
+}
@@ -0,0 +1,190 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.engine.spi.SessionEventListenerManager;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class UpdateTimestampsCacheTest {
+	private static final Set<Serializable> SPACES = new HashSet<>( Arrays.asList( "A", "B", "C" ) );
+
+	private SharedSessionContractImplementor session;
+
+	@Before
+	public void createSession() {
+		session = mock( SharedSessionContractImplementor.class );
+		when( session.getEventListenerManager() ).thenReturn( mock( SessionEventListenerManager.class ) );
+	}
+
+	@Test
+	public void testSpacesAreReadInBulk() {
+		final TestTimestampsRegion region = new TestTimestampsRegion( false );
+		final UpdateTimestampsCache cache = new UpdateTimestampsCache( null, region );
+
+		assertTrue( cache.isUpToDate( SPACES, 100L, session ) );
+		assertEquals( 0, region.gets );
+		assertEquals( 1, region.getAlls );
+
+		// without change notifications every check reads the region
+		assertTrue( cache.isUpToDate( SPACES, 100L, session ) );
+		assertEquals( 2, region.getAlls );
+	}
+
+	@Test
+	public void testNearCache() {
+		final TestTimestampsRegion region = new TestTimestampsRegion( true );
+		final UpdateTimestampsCache cache = new UpdateTimestampsCache( null, region );
+		region.items.put( "A", 50L );
+
+		assertTrue( cache.isUpToDate( SPACES, 100L, session ) );
+		assertTrue( cache.isUpToDate( SPACES, 100L, session ) );
+		assertFalse( cache.isUpToDate( SPACES, 10L, session ) );
+		assertEquals( 1, region.getAlls );
+
+		// local invalidation
+		cache.invalidate( new Serializable[] { "B" }, session );
+		assertFalse( cache.isUpToDate( SPACES, 100L, session ) );
+		assertEquals( 1, region.getAlls );
+		assertEquals( 1, region.gets );
+
+		// change made by another node
+		region.items.put( "C", 500L );
+		region.listener.invalidate( "C" );
+		assertFalse( cache.isUpToDate( new HashSet<>( Arrays.asList( "A", "C" ) ), 400L, session ) );
+		assertEquals( 2, region.gets );
+	}
+
+	@Test
+	public void testNearCacheDisabled() {
+		final TestTimestampsRegion region = new TestTimestampsRegion( true );
+		final UpdateTimestampsCache cache = new UpdateTimestampsCache( null, region, false );
+		region.items.put( "A", 50L );
+
+		assertTrue( cache.isUpToDate( SPACES, 100L, session ) );
+		assertTrue( cache.isUpToDate( SPACES, 100L, session ) );
+		assertEquals( 2, region.getAlls );
+		assertNull( region.listener );
+
+		// an entry evicted by the region is not remembered
+		region.evict( "A" );
+		region.items.put( "A", 150L );
+		assertFalse( cache.isUpToDate( SPACES, 100L, session ) );
+	}
+
+	private static class TestTimestampsRegion implements TimestampsRegion {
+		private final boolean notifying;
+		private final Map<Object, Object> items = new ConcurrentHashMap<>();
+		private InvalidationListener listener;
+		private int gets;
+		private int getAlls;
+
+		private TestTimestampsRegion(boolean notifying) {
+			this.notifying = notifying;
+		}
+
+		@Override
+		public Object get(SharedSessionContractImplementor session, Object key) {
+			gets++;
+			return items.get( key );
+		}
+
+		@Override
+		public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+			getAlls++;
+			final Map<Object, Object> result = new ConcurrentHashMap<>();
+			for ( Object key : keys ) {
+				if ( items.containsKey( key ) ) {
+					result.put( key, items.get( key ) );
+				}
+			}
+			return result;
+		}
+
+		@Override
+		public boolean registerInvalidationListener(InvalidationListener listener) {
+			this.listener = listener;
+			return notifying;
+		}
+
+		@Override
+		public void put(SharedSessionContractImplementor session, Object key, Object value) {
+			items.put( key, value );
+		}
+
+		@Override
+		public void evict(Object key) {
+			items.remove( key );
+		}
+
+		@Override
+		public void evictAll() {
+			items.clear();
+		}
+
+		@Override
+		public String getName() {
+			return "timestamps";
+		}
+
+		@Override
+		public void destroy() {
+		}
+
+		@Override
+		public boolean contains(Object key) {
+			return items.containsKey( key );
+		}
+
+		@Override
+		public long getSizeInMemory() {
+			return -1;
+		}
+
+		@Override
+		public long getElementCountInMemory() {
+			return items.size();
+		}
+
+		@Override
+		public long getElementCountOnDisk() {
+			return 0;
+		}
+
+		@Override
+		public Map toMap() {
+			return items;
+		}
+
+		@Override
+		public long nextTimestamp() {
+			return 200L;
+		}
+
+		@Override
+		public int getTimeout() {
+			return 0;
+		}
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the persistence context with {@link AvailableSettings#PERSISTENCE_CONTEXT_OPEN_ADDRESSING_MAPS} enabled,
+ * including the lookups by primitive identifier.
+ */
+public class OpenAddressingPersistenceContextTest extends BaseNonConfigCoreFunctionalTestCase {
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.PERSISTENCE_CONTEXT_OPEN_ADDRESSING_MAPS, "true" );
+	}
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Parent.class, Child.class };
+	}
+
+	@Test
+	public void testLookupsByIdentifier() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 100; i++ ) {
+				final Parent parent = new Parent( (long) i );
+				session.persist( parent );
+				session.persist( new Child( i, parent ) );
+			}
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( 100, session.createQuery( "from Child", Child.class ).getResultList().size() );
+
+			final PersistenceContext persistenceContext = ( (SessionImplementor) session ).getPersistenceContext();
+			final EntityPersister parentPersister = sessionFactory().getMetamodel().entityPersister( Parent.class );
+			final EntityPersister childPersister = sessionFactory().getMetamodel().entityPersister( Child.class );
+			assertTrue( persistenceContext.isIdentifierLookupOptimized( parentPersister ) );
+			assertTrue( persistenceContext.isIdentifierLookupOptimized( childPersister ) );
+
+			final Child child = (Child) persistenceContext.getEntity( childPersister, 42 );
+			assertEquals( 42, child.id );
+			assertSame( child, persistenceContext.getEntity( childPersister, Integer.valueOf( 42 ) ) );
+			assertSame( child, session.get( Child.class, 42 ) );
+			assertNull( persistenceContext.getEntity( childPersister, 4242 ) );
+
+			// the parents were not initialized, only proxied
+			assertFalse( persistenceContext.containsEntity( parentPersister, 42L ) );
+			assertNull( persistenceContext.getEntity( parentPersister, 42L ) );
+
+			final Parent parent = session.get( Parent.class, 7L );
+			assertSame( parent, session.get( Parent.class, 7L ) );
+			assertEquals( 100, session.createQuery( "from Parent", Parent.class ).getResultList().size() );
+			assertTrue( persistenceContext.containsEntity( parentPersister, 42L ) );
+
+			session.remove( child );
+			session.flush();
+			assertNull( session.get( Child.class, 42 ) );
+			assertNull( persistenceContext.getEntity( childPersister, 42 ) );
+		} );
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		Long id;
+
+		public Parent() {
+		}
+
+		Parent(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		int id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Parent parent;
+
+		public Child() {
+		}
+
+		Child(int id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+}
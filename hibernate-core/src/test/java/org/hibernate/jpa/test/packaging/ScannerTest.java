@@ -6,9 +6,13 @@
  */
 package org.hibernate.jpa.test.packaging;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.InputStream;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.Persistence;
 
@@ -17,7 +21,9 @@ import org.hibernate.boot.archive.scan.internal.StandardScanParameters;
 import org.hibernate.boot.archive.scan.internal.StandardScanner;
 import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
 import org.hibernate.boot.archive.scan.spi.MappingFileDescriptor;
+import org.hibernate.boot.archive.scan.spi.PackageDescriptor;
 import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.ScanIndex;
 import org.hibernate.boot.archive.scan.spi.ScanOptions;
 import org.hibernate.boot.archive.scan.spi.ScanResult;
 import org.hibernate.boot.archive.scan.spi.Scanner;
@@ -32,6 +38,7 @@ import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -69,6 +76,71 @@ public class ScannerTest extends PackagingTestCase {
 		}
 	}
 
+	@Test
+	public void testScanIndex() throws Exception {
+		File defaultPar = buildDefaultPar();
+		addPackageToClasspath( defaultPar );
+
+		PersistenceUnitDescriptor descriptor = new ParsedPersistenceXmlDescriptor( defaultPar.toURL() );
+		ScanEnvironment env = new StandardJpaScanEnvironmentImpl( descriptor );
+		ScanOptions options = new StandardScanOptions( "hbm,class", descriptor.isExcludeUnlistedClasses() );
+		ScanResult scanResult = new StandardScanner().scan( env, options, StandardScanParameters.INSTANCE );
+
+		ByteArrayOutputStream index = new ByteArrayOutputStream();
+		ScanIndex.generate( index, defaultPar.toURL() );
+		ScanResult indexedScanResult = ScanIndex.read( new ByteArrayInputStream( index.toByteArray() ), env, options );
+
+		assertNotNull( indexedScanResult );
+		assertEquals( names( scanResult.getLocatedClasses() ), names( indexedScanResult.getLocatedClasses() ) );
+		assertEquals( names( scanResult.getLocatedPackages() ), names( indexedScanResult.getLocatedPackages() ) );
+		assertEquals( names( scanResult.getLocatedMappingFiles() ), names( indexedScanResult.getLocatedMappingFiles() ) );
+		for ( ClassDescriptor classDescriptor : indexedScanResult.getLocatedClasses() ) {
+			InputStream stream = classDescriptor.getStreamAccess().accessInputStream();
+			assertNotNull( stream );
+			stream.close();
+		}
+
+		// the runtime options still apply
+		ScanResult unlistedScanResult = ScanIndex.read(
+				new ByteArrayInputStream( index.toByteArray() ),
+				env,
+				new StandardScanOptions( "", false )
+		);
+		assertTrue( unlistedScanResult.getLocatedClasses().size() < indexedScanResult.getLocatedClasses().size() );
+	}
+
+	@Test
+	public void testScanIndexNotMatchingTheRootIsIgnored() throws Exception {
+		File defaultPar = buildDefaultPar();
+		File explicitPar = buildExplicitPar();
+		addPackageToClasspath( defaultPar, explicitPar );
+
+		PersistenceUnitDescriptor descriptor = new ParsedPersistenceXmlDescriptor( defaultPar.toURL() );
+		ScanEnvironment env = new StandardJpaScanEnvironmentImpl( descriptor );
+		ScanOptions options = new StandardScanOptions( "hbm,class", descriptor.isExcludeUnlistedClasses() );
+
+		// an index generated for other classes, as a stale one would be
+		ByteArrayOutputStream index = new ByteArrayOutputStream();
+		ScanIndex.generate( index, explicitPar.toURL() );
+		assertNull( ScanIndex.read( new ByteArrayInputStream( index.toByteArray() ), env, options ) );
+	}
+
+	private Set<String> names(Set<?> descriptors) {
+		Set<String> names = new HashSet<String>();
+		for ( Object descriptor : descriptors ) {
+			if ( descriptor instanceof ClassDescriptor ) {
+				names.add( ( (ClassDescriptor) descriptor ).getName() );
+			}
+			else if ( descriptor instanceof PackageDescriptor ) {
+				names.add( ( (PackageDescriptor) descriptor ).getName() );
+			}
+			else {
+				names.add( ( (MappingFileDescriptor) descriptor ).getName() );
+			}
+		}
+		return names;
+	}
+
 	private void assertClassesContained(ScanResult scanResult, Class classToCheckFor) {
 		for ( ClassDescriptor classDescriptor : scanResult.getLocatedClasses() ) {
 			if ( classDescriptor.getName().equals( classToCheckFor.getName() ) ) {
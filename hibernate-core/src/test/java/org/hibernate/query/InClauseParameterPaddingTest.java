@@ -0,0 +1,120 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.boot.SessionFactoryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.hibernate.test.util.jdbc.SQLStatementInterceptor;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class InClauseParameterPaddingTest extends BaseNonConfigCoreFunctionalTestCase {
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Person.class };
+	}
+
+	@Override
+	protected void configureSessionFactoryBuilder(SessionFactoryBuilder sfb) {
+		sqlStatementInterceptor = new SQLStatementInterceptor( sfb );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.IN_CLAUSE_PARAMETER_PADDING, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void before() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Person( i, "Person " + i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testInClauseParameterPadding() {
+		validateInClauseParameterPadding( "in (?)", 1 );
+		validateInClauseParameterPadding( "in (?, ?)", 1, 2 );
+		validateInClauseParameterPadding( "in (?, ?, ?, ?)", 1, 2, 3 );
+		validateInClauseParameterPadding( "in (?, ?, ?, ?)", 1, 2, 3, 4 );
+		validateInClauseParameterPadding( "in (?, ?, ?, ?, ?, ?, ?, ?)", 1, 2, 3, 4, 5 );
+		validateInClauseParameterPadding( "in (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", 1, 2, 3, 4, 5, 6, 7, 8, 9 );
+	}
+
+	@Test
+	public void testPaddedStatementsAreShared() {
+		doInHibernate( this::sessionFactory, session -> {
+			sqlStatementInterceptor.getSqlQueries().clear();
+			for ( int size = 5; size <= 8; size++ ) {
+				final Integer[] ids = new Integer[size];
+				for ( int i = 0; i < size; i++ ) {
+					ids[i] = i + 1;
+				}
+				final List<Person> people = session.createQuery( "select p from Person p where p.id in :ids", Person.class )
+						.setParameterList( "ids", ids )
+						.getResultList();
+				assertEquals( size, people.size() );
+			}
+			final List<String> statements = sqlStatementInterceptor.getSqlQueries();
+			assertEquals( 4, statements.size() );
+			for ( String statement : statements ) {
+				assertEquals( statements.get( 0 ), statement );
+			}
+		} );
+	}
+
+	private void validateInClauseParameterPadding(String expectedInClause, Integer... ids) {
+		doInHibernate( this::sessionFactory, session -> {
+			sqlStatementInterceptor.getSqlQueries().clear();
+			final List<Person> people = session.createQuery( "select p from Person p where p.id in :ids", Person.class )
+					.setParameter( "ids", Arrays.asList( ids ) )
+					.getResultList();
+
+			assertEquals( ids.length, people.size() );
+			assertTrue( sqlStatementInterceptor.getSqlQueries().getFirst().endsWith( expectedInClause ) );
+		} );
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
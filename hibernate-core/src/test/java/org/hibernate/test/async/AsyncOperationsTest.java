@@ -0,0 +1,210 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.async;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.TransactionRequiredException;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AsyncOperationsTest extends BaseNonConfigCoreFunctionalTestCase {
+	private static final AtomicInteger EXECUTED_TASKS = new AtomicInteger();
+	private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool( 4 );
+
+	@AfterClass
+	public static void shutdownExecutor() {
+		EXECUTOR.shutdown();
+	}
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Event.class };
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put(
+				AvailableSettings.ASYNC_EXECUTOR,
+				(Executor) task -> {
+					EXECUTED_TASKS.incrementAndGet();
+					EXECUTOR.execute( task );
+				}
+		);
+	}
+
+	@Test
+	public void testAsyncOperationsRunInOrderOnTheConfiguredExecutor() throws Exception {
+		final int executedBefore = EXECUTED_TASKS.get();
+		final Thread callerThread = Thread.currentThread();
+		try ( Session session = openSession() ) {
+			session.getTransaction().begin();
+			for ( int i = 0; i < 10; i++ ) {
+				session.persist( new Event( i, "Event " + i ) );
+			}
+
+			final CompletableFuture<Void> flush = session.flushAsync().toCompletableFuture();
+			final CompletableFuture<Integer> update = session.createQuery( "update Event set name = 'Updated' where id < 5" )
+					.executeUpdateAsync()
+					.toCompletableFuture();
+			final CompletableFuture<List<Event>> events = session.createQuery(
+					"from Event where name = 'Updated' order by id",
+					Event.class
+			)
+					.getResultListAsync()
+					.thenApply( result -> {
+						assertFalse( Thread.currentThread() == callerThread );
+						return result;
+					} )
+					.toCompletableFuture();
+
+			// the operations ran in submission order: flushed before updating, updated before querying
+			flush.get( 10, TimeUnit.SECONDS );
+			assertEquals( 5, (int) update.get( 10, TimeUnit.SECONDS ) );
+			assertEquals( 5, events.get( 10, TimeUnit.SECONDS ).size() );
+			assertTrue( EXECUTED_TASKS.get() > executedBefore );
+
+			session.getTransaction().commit();
+		}
+	}
+
+	@Test
+	public void testFailureCompletesTheStageExceptionally() throws Exception {
+		try ( Session session = openSession() ) {
+			// no transaction in progress
+			session.createQuery( "delete from Event" ).executeUpdateAsync().toCompletableFuture().get( 10, TimeUnit.SECONDS );
+			fail( "Expecting the update to fail" );
+		}
+		catch (ExecutionException expected) {
+			assertTrue( expected.getCause() instanceof TransactionRequiredException );
+		}
+	}
+
+	@Test
+	public void testIndependentSessionsRunConcurrently() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Event( 100, "Concurrent" ) );
+		} );
+
+		final Session first = openSession();
+		final Session second = openSession();
+		try {
+			final CompletableFuture<List<Event>> firstResult = first.createQuery( "from Event", Event.class )
+					.getResultListAsync()
+					.toCompletableFuture();
+			final CompletableFuture<List<Event>> secondResult = second.createQuery( "from Event", Event.class )
+					.getResultListAsync()
+					.toCompletableFuture();
+			assertEquals(
+					firstResult.get( 10, TimeUnit.SECONDS ).size(),
+					secondResult.get( 10, TimeUnit.SECONDS ).size()
+			);
+		}
+		finally {
+			first.close();
+			second.close();
+		}
+	}
+
+	@Test
+	public void testSynchronousOperationsWaitForPendingAsyncOperations() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Event( 200, "Pending" ) );
+		} );
+
+		try ( Session session = openSession() ) {
+			final AtomicBoolean asyncDone = new AtomicBoolean();
+			runSlowAsyncOperation( session, asyncDone );
+
+			assertEquals( "Pending", session.find( Event.class, 200 ).name );
+			assertTrue( asyncDone.get() );
+
+			runSlowAsyncOperation( session, asyncDone );
+			assertEquals( 1, session.createQuery( "from Event where id = 200" ).list().size() );
+			assertTrue( asyncDone.get() );
+		}
+	}
+
+	@Test
+	public void testCloseWaitsForPendingAsyncOperations() throws Exception {
+		final AtomicBoolean asyncDone = new AtomicBoolean();
+		final Session session = openSession();
+		runSlowAsyncOperation( session, asyncDone );
+		session.close();
+		assertTrue( asyncDone.get() );
+	}
+
+	/**
+	 * Submit an asynchronous operation using the session, which completes a while after the caller went on.
+	 */
+	private static void runSlowAsyncOperation(Session session, AtomicBoolean done) {
+		done.set( false );
+		final CountDownLatch started = new CountDownLatch( 1 );
+		( (SessionImplementor) session ).executeAsync(
+				() -> {
+					started.countDown();
+					try {
+						Thread.sleep( 200 );
+					}
+					catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					// the session is used by the operation
+					session.isDirty();
+					done.set( true );
+					return null;
+				}
+		);
+		try {
+			assertTrue( started.await( 10, TimeUnit.SECONDS ) );
+		}
+		catch (InterruptedException e) {
+			throw new AssertionError( e );
+		}
+	}
+
+	@Entity(name = "Event")
+	public static class Event {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Event() {
+		}
+
+		public Event(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batch;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.boot.SessionFactoryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.hibernate.test.util.jdbc.SQLStatementInterceptor;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RequiresDialect(H2Dialect.class)
+public class MultiRowInsertBatchTest extends BaseNonConfigCoreFunctionalTestCase {
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Item.class };
+	}
+
+	@Override
+	protected void configureSessionFactoryBuilder(SessionFactoryBuilder sfb) {
+		sqlStatementInterceptor = new SQLStatementInterceptor( sfb );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+		settings.put( AvailableSettings.MULTI_ROW_INSERT_SIZE, "4" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testBatchedInsertsAreCoalesced() {
+		sqlStatementInterceptor.getSqlQueries().clear();
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 25; i++ ) {
+				session.persist( new Item( i, "Item " + i ) );
+			}
+		} );
+
+		final List<String> inserts = sqlStatementInterceptor.getSqlQueries()
+				.stream()
+				.filter( sql -> sql.toLowerCase().startsWith( "insert" ) )
+				.collect( Collectors.toList() );
+		// batches of 10, 10 and 5 rows, each one split into inserts of at most 4 rows
+		assertEquals( 8, inserts.size() );
+		assertTrue( inserts.get( 0 ).toLowerCase().matches( ".* values \\(.*\\), \\(.*\\), \\(.*\\), \\(.*\\)" ) );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Item> items = session.createQuery( "from Item i order by i.id", Item.class ).getResultList();
+			assertEquals( 25, items.size() );
+			for ( int i = 0; i < items.size(); i++ ) {
+				assertEquals( i, (int) items.get( i ).id );
+				assertEquals( "Item " + i, items.get( i ).name );
+			}
+		} );
+	}
+
+	@Test
+	public void testSingleInsertIsNotCoalesced() {
+		sqlStatementInterceptor.getSqlQueries().clear();
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Item( 100, "Single" ) );
+		} );
+
+		final List<String> inserts = sqlStatementInterceptor.getSqlQueries()
+				.stream()
+				.filter( sql -> sql.toLowerCase().startsWith( "insert" ) )
+				.collect( Collectors.toList() );
+		assertEquals( 1, inserts.size() );
+		assertTrue( inserts.get( 0 ).toLowerCase().matches( ".* values \\([^)]*\\)" ) );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "Single", session.get( Item.class, 100 ).name );
+		} );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
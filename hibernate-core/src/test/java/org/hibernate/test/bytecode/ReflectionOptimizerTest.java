@@ -12,9 +12,15 @@ import org.hibernate.bytecode.internal.javassist.BulkAccessor;
 import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.cfg.Environment;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBasicImpl;
+import org.hibernate.property.access.internal.PropertyAccessStrategyFieldImpl;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.property.access.spi.Setter;
 
 import org.hibernate.testing.junit4.BaseUnitTestCase;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
@@ -55,6 +61,59 @@ public class ReflectionOptimizerTest extends BaseUnitTestCase {
 		assertEquivalent( values, BeanReflectionHelper.TEST_VALUES );
 	}
 
+	@Test
+	public void testReflectionOptimizationFromAttributeAccessors() {
+		final BytecodeProvider provider = new org.hibernate.bytecode.internal.bytebuddy.BytecodeProviderImpl();
+		final String[] propertyNames = { "id", "name", "secret", "description" };
+		final Getter[] getters = new Getter[propertyNames.length];
+		final Setter[] setters = new Setter[propertyNames.length];
+		for ( int i = 0; i < propertyNames.length; i++ ) {
+			// "description" is accessed through its (package-private) accessor methods
+			final PropertyAccess propertyAccess = i < 3
+					? PropertyAccessStrategyFieldImpl.INSTANCE.buildPropertyAccess( FieldBean.class, propertyNames[i] )
+					: PropertyAccessStrategyBasicImpl.INSTANCE.buildPropertyAccess( FieldBean.class, propertyNames[i] );
+			getters[i] = propertyAccess.getGetter();
+			setters[i] = propertyAccess.getSetter();
+		}
+
+		final ReflectionOptimizer optimizer = provider.getReflectionOptimizer( FieldBean.class, propertyNames, getters, setters );
+		assertNotNull( optimizer );
+		assertNotNull( optimizer.getAccessOptimizer() );
+		assertArrayEquals( propertyNames, optimizer.getAccessOptimizer().getPropertyNames() );
+
+		final Object[] values = { 1L, "name", 42, "description" };
+		final FieldBean bean = new FieldBean();
+		optimizer.getAccessOptimizer().setPropertyValues( bean, values );
+		assertEquals( 1L, bean.id );
+		assertEquals( "name", bean.name );
+		assertEquals( 42, bean.getSecret() );
+		assertEquals( "description", bean.description );
+		assertEquivalent( optimizer.getAccessOptimizer().getPropertyValues( bean ), values );
+
+		if ( optimizer.getInstantiationOptimizer() != null ) {
+			assertEquals( FieldBean.class, optimizer.getInstantiationOptimizer().newInstance().getClass() );
+		}
+	}
+
+	static class FieldBean {
+		long id;
+		String name;
+		private int secret;
+		String description;
+
+		int getSecret() {
+			return secret;
+		}
+
+		String getDescription() {
+			return description;
+		}
+
+		void setDescription(String description) {
+			this.description = description;
+		}
+	}
+
 	private void assertEquivalent(Object[] checkValues, Object[] values) {
 		assertEquals( "Different lengths", checkValues.length, values.length );
 		for ( int i = 0; i < checkValues.length; i++ ) {
@@ -0,0 +1,84 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.dialect.unit.upsert;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.HSQLDialect;
+import org.hibernate.dialect.MySQL57Dialect;
+import org.hibernate.dialect.Oracle10gDialect;
+import org.hibernate.dialect.PostgreSQL95Dialect;
+import org.hibernate.dialect.SQLServer2012Dialect;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class UpsertStringTest extends BaseUnitTestCase {
+	private static final String[] KEY_COLUMNS = { "id" };
+	private static final String[] COLUMNS = { "name", "price" };
+	private static final String[] VALUES = { "?", "round(?, 2)" };
+
+	@Test
+	public void testH2() {
+		assertEquals(
+				"merge into item (name, price, id) key (id) values (?, round(?, 2), ?)",
+				upsert( new H2Dialect() )
+		);
+	}
+
+	@Test
+	public void testPostgreSQL() {
+		assertEquals(
+				"insert into item (name, price, id) values (?, round(?, 2), ?) on conflict (id) do update set name = excluded.name, price = excluded.price",
+				upsert( new PostgreSQL95Dialect() )
+		);
+		assertEquals(
+				"insert into item (id) values (?) on conflict (id) do nothing",
+				new PostgreSQL95Dialect().getUpsertString( "item", KEY_COLUMNS, new String[0], new String[0] )
+		);
+	}
+
+	@Test
+	public void testMySQL() {
+		assertEquals(
+				"insert into item (name, price, id) values (?, round(?, 2), ?) on duplicate key update name = values(name), price = values(price)",
+				upsert( new MySQL57Dialect() )
+		);
+	}
+
+	@Test
+	public void testSQLServer() {
+		assertEquals(
+				"merge into item as t using (values (?, round(?, 2), ?)) as s (name, price, id) on t.id = s.id"
+						+ " when matched then update set t.name = s.name, t.price = s.price"
+						+ " when not matched then insert (name, price, id) values (s.name, s.price, s.id);",
+				upsert( new SQLServer2012Dialect() )
+		);
+	}
+
+	@Test
+	public void testOracle() {
+		assertEquals(
+				"merge into item t using (select ? name, round(?, 2) price, ? id from dual) s on (t.id = s.id)"
+						+ " when matched then update set t.name = s.name, t.price = s.price"
+						+ " when not matched then insert (name, price, id) values (s.name, s.price, s.id)",
+				upsert( new Oracle10gDialect() )
+		);
+	}
+
+	@Test
+	public void testUnsupported() {
+		assertNull( upsert( new HSQLDialect() ) );
+	}
+
+	private static String upsert(Dialect dialect) {
+		return dialect.getUpsertString( "item", KEY_COLUMNS, COLUMNS, VALUES );
+	}
+}
@@ -0,0 +1,205 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.insertordering;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.cfg.Environment;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.hibernate.test.util.jdbc.PreparedStatementSpyConnectionProvider;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Orders the inserts of a dependency chain whose entity types are first seen in the reverse order
+ * of their dependencies.
+ */
+public class InsertOrderingWithDeepDependencyChain extends BaseNonConfigCoreFunctionalTestCase {
+
+	private PreparedStatementSpyConnectionProvider connectionProvider = new PreparedStatementSpyConnectionProvider();
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] {
+				Level0.class, Level1.class, Level2.class, Level3.class, Level4.class, Level5.class
+		};
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( Environment.ORDER_INSERTS, "true" );
+		settings.put( Environment.STATEMENT_BATCH_SIZE, "10" );
+		settings.put(
+				org.hibernate.cfg.AvailableSettings.CONNECTION_PROVIDER,
+				connectionProvider
+		);
+	}
+
+	@Override
+	public void releaseResources() {
+		super.releaseResources();
+		connectionProvider.stop();
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Override
+	protected void cleanupTestData() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 5; i >= 0; i-- ) {
+				session.createQuery( "delete from Level" + i ).executeUpdate();
+			}
+		} );
+	}
+
+	@Test
+	public void testBatchesFollowTheDependencies() {
+		connectionProvider.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			// the entity types are first seen in the reverse order of their dependencies
+			session.persist( new Level5( 100, null ) );
+			session.persist( new Level4( 100, null ) );
+			session.persist( new Level3( 100, null ) );
+			session.persist( new Level2( 100, null ) );
+			session.persist( new Level1( 100, null ) );
+			session.persist( new Level0( 100 ) );
+
+			for ( int i = 0; i < 3; i++ ) {
+				final Level0 level0 = new Level0( i );
+				final Level1 level1 = new Level1( i, level0 );
+				final Level2 level2 = new Level2( i, level1 );
+				final Level3 level3 = new Level3( i, level2 );
+				final Level4 level4 = new Level4( i, level3 );
+				session.persist( level0 );
+				session.persist( level1 );
+				session.persist( level2 );
+				session.persist( level3 );
+				session.persist( level4 );
+				session.persist( new Level5( i, level4 ) );
+			}
+		} );
+
+		// one batch per entity type, parents first
+		final List<String> inserts = connectionProvider.getPreparedSQLStatements()
+				.stream()
+				.filter( sql -> sql.startsWith( "insert" ) )
+				.collect( Collectors.toList() );
+		assertEquals( 6, inserts.size() );
+		for ( int i = 0; i < inserts.size(); i++ ) {
+			assertEquals( "insert into Level" + i, inserts.get( i ).substring( 0, "insert into Level".length() + 1 ) );
+		}
+	}
+
+	@Entity(name = "Level0")
+	public static class Level0 {
+		@Id
+		private Integer id;
+
+		public Level0() {
+		}
+
+		public Level0(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Level1")
+	public static class Level1 {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Level0 parent;
+
+		public Level1() {
+		}
+
+		public Level1(Integer id, Level0 parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+
+	@Entity(name = "Level2")
+	public static class Level2 {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Level1 parent;
+
+		public Level2() {
+		}
+
+		public Level2(Integer id, Level1 parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+
+	@Entity(name = "Level3")
+	public static class Level3 {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Level2 parent;
+
+		public Level3() {
+		}
+
+		public Level3(Integer id, Level2 parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+
+	@Entity(name = "Level4")
+	public static class Level4 {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Level3 parent;
+
+		public Level4() {
+		}
+
+		public Level4(Integer id, Level3 parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+
+	@Entity(name = "Level5")
+	public static class Level5 {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Level4 parent;
+
+		public Level5() {
+		}
+
+		public Level5(Integer id, Level4 parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+}
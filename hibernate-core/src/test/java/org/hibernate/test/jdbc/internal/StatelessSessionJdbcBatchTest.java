@@ -0,0 +1,140 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.hibernate.test.util.jdbc.PreparedStatementSpyConnectionProvider;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class StatelessSessionJdbcBatchTest extends BaseNonConfigCoreFunctionalTestCase {
+	private static final String INSERT = "insert into Event (name, id) values (?, ?)";
+
+	private PreparedStatementSpyConnectionProvider connectionProvider = new PreparedStatementSpyConnectionProvider();
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Event.class };
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, 2 );
+		settings.put( AvailableSettings.CONNECTION_PROVIDER, connectionProvider );
+	}
+
+	@Override
+	protected void releaseResources() {
+		super.releaseResources();
+		connectionProvider.stop();
+	}
+
+	@Override
+	protected boolean rebuildSessionFactoryOnError() {
+		return false;
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testInsertsAreBatched() throws SQLException {
+		try (StatelessSession session = sessionFactory().openStatelessSession()) {
+			session.beginTransaction();
+			connectionProvider.clear();
+			for ( int i = 0; i < 5; i++ ) {
+				final Event event = new Event( "Event " + i );
+				session.insert( event );
+				// sequence-generated identifiers are still assigned by insert()
+				assertNotNull( event.id );
+			}
+			session.getTransaction().commit();
+		}
+
+		final PreparedStatement preparedStatement = connectionProvider.getPreparedStatement( INSERT );
+		verify( preparedStatement, times( 5 ) ).addBatch();
+		verify( preparedStatement, times( 3 ) ).executeBatch();
+	}
+
+	@Test
+	public void testPendingBatchIsExecutedBeforeQueries() {
+		try (StatelessSession session = sessionFactory().openStatelessSession()) {
+			session.beginTransaction();
+			final Event event = new Event( "Event" );
+			session.insert( event );
+
+			assertNotNull( session.get( Event.class, event.id ) );
+			assertEquals( 1L, session.createQuery( "select count(e) from Event e" ).uniqueResult() );
+			session.getTransaction().commit();
+		}
+	}
+
+	@Test
+	public void testFlushBatch() throws SQLException {
+		try (StatelessSession session = sessionFactory().openStatelessSession()) {
+			session.beginTransaction();
+			connectionProvider.clear();
+			session.insert( new Event( "Event" ) );
+			session.flushBatch();
+
+			final PreparedStatement preparedStatement = connectionProvider.getPreparedStatement( INSERT );
+			verify( preparedStatement, times( 1 ) ).executeBatch();
+			session.getTransaction().commit();
+		}
+	}
+
+	@Test
+	public void testPendingBatchIsDiscardedOnRollback() {
+		try (StatelessSession session = sessionFactory().openStatelessSession()) {
+			session.beginTransaction();
+			session.insert( new Event( "Rolled back" ) );
+			session.getTransaction().rollback();
+
+			session.beginTransaction();
+			session.insert( new Event( "Committed" ) );
+			session.getTransaction().commit();
+		}
+
+		try (StatelessSession session = sessionFactory().openStatelessSession()) {
+			assertEquals( 1L, session.createQuery( "select count(e) from Event e" ).uniqueResult() );
+		}
+	}
+
+	@Entity(name = "Event")
+	public static class Event {
+		@Id
+		@GeneratedValue(strategy = GenerationType.SEQUENCE)
+		private Long id;
+
+		private String name;
+
+		public Event() {
+		}
+
+		public Event(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.metamodel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Inheritance;
+import javax.persistence.InheritanceType;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests building the SessionFactory with {@link AvailableSettings#PARALLEL_PERSISTER_CREATION} enabled.
+ */
+public class ParallelPersisterCreationTest extends BaseNonConfigCoreFunctionalTestCase {
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.PARALLEL_PERSISTER_CREATION, "true" );
+	}
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Owner.class, Pet.class, Dog.class, Cat.class };
+	}
+
+	@Test
+	public void testPersistersAreResolved() {
+		final EntityPersister ownerPersister = sessionFactory().getMetamodel().entityPersister( Owner.class );
+		final EntityPersister petPersister = sessionFactory().getMetamodel().entityPersister( Pet.class );
+		final EntityPersister dogPersister = sessionFactory().getMetamodel().entityPersister( Dog.class );
+		assertEquals( petPersister.getEntityName(), dogPersister.getRootEntityName() );
+
+		final CollectionPersister petsPersister = sessionFactory().getMetamodel().collectionPersister( Owner.class.getName() + ".pets" );
+		assertSame( ownerPersister, petsPersister.getOwnerEntityPersister() );
+		assertSame( petPersister, petsPersister.getElementPersister() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Owner owner = new Owner( 1L );
+			session.persist( owner );
+			session.persist( new Dog( 1L, owner ) );
+			session.persist( new Cat( 2L, owner ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( 2, session.get( Owner.class, 1L ).pets.size() );
+			assertEquals( 1, session.createQuery( "from Dog", Dog.class ).getResultList().size() );
+		} );
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		Long id;
+
+		@OneToMany(mappedBy = "owner")
+		List<Pet> pets = new ArrayList<>();
+
+		Owner() {
+		}
+
+		Owner(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Pet")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Pet {
+		@Id
+		Long id;
+
+		@ManyToOne
+		Owner owner;
+
+		Pet() {
+		}
+
+		Pet(Long id, Owner owner) {
+			this.id = id;
+			this.owner = owner;
+		}
+	}
+
+	@Entity(name = "Dog")
+	public static class Dog extends Pet {
+		Dog() {
+		}
+
+		Dog(Long id, Owner owner) {
+			super( id, owner );
+		}
+	}
+
+	@Entity(name = "Cat")
+	public static class Cat extends Pet {
+		Cat() {
+		}
+
+		Cat(Long id, Owner owner) {
+			super( id, owner );
+		}
+	}
+}
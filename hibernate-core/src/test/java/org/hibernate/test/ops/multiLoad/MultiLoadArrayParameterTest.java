@@ -0,0 +1,135 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.ops.multiLoad;
+
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.boot.SessionFactoryBuilder;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.hibernate.test.util.jdbc.SQLStatementInterceptor;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+@RequiresDialect(H2Dialect.class)
+public class MultiLoadArrayParameterTest extends BaseNonConfigCoreFunctionalTestCase {
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Item.class };
+	}
+
+	@Override
+	protected void configureSessionFactoryBuilder(SessionFactoryBuilder sfb) {
+		sqlStatementInterceptor = new SQLStatementInterceptor( sfb );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void before() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 1; i <= 200; i++ ) {
+				session.persist( new Item( i, "Item #" + i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testOrderedMultiLoadUsesSingleStatement() {
+		final long[] ids = new long[150];
+		for ( int i = 0; i < ids.length; i++ ) {
+			ids[i] = 150 - i;
+		}
+		ids[10] = 999;
+
+		doInHibernate( this::sessionFactory, session -> {
+			sqlStatementInterceptor.getSqlQueries().clear();
+			final List<Item> items = session.byMultipleIds( Item.class ).multiLoad( ids );
+
+			assertEquals( 1, sqlStatementInterceptor.getSqlQueries().size() );
+			assertEquals( 150, items.size() );
+			assertEquals( Long.valueOf( 150 ), items.get( 0 ).id );
+			assertNull( items.get( 10 ) );
+			assertEquals( Long.valueOf( 1 ), items.get( 149 ).id );
+		} );
+	}
+
+	@Test
+	public void testUnorderedMultiLoadUsesSingleStatement() {
+		final long[] ids = new long[200];
+		for ( int i = 0; i < ids.length; i++ ) {
+			ids[i] = i + 1;
+		}
+
+		doInHibernate( this::sessionFactory, session -> {
+			sqlStatementInterceptor.getSqlQueries().clear();
+			final List<Item> items = session.byMultipleIds( Item.class )
+					.enableOrderedReturn( false )
+					.multiLoad( ids );
+
+			assertEquals( 1, sqlStatementInterceptor.getSqlQueries().size() );
+			assertEquals( 200, items.size() );
+		} );
+	}
+
+	@Test
+	public void testSameStatementForAnyNumberOfIds() {
+		doInHibernate( this::sessionFactory, session -> {
+			sqlStatementInterceptor.getSqlQueries().clear();
+			session.byMultipleIds( Item.class ).multiLoad( new long[] { 1, 2 } );
+			session.clear();
+			session.byMultipleIds( Item.class ).multiLoad( new long[] { 3, 4, 5, 6, 7 } );
+
+			final List<String> statements = sqlStatementInterceptor.getSqlQueries();
+			assertEquals( 2, statements.size() );
+			assertEquals( statements.get( 0 ), statements.get( 1 ) );
+		} );
+	}
+
+	@Test
+	public void testMultiLoadOfBoxedIdsBindsInList() {
+		doInHibernate( this::sessionFactory, session -> {
+			sqlStatementInterceptor.getSqlQueries().clear();
+			final List<Item> items = session.byMultipleIds( Item.class ).multiLoad( 1L, 2L, 3L );
+
+			assertEquals( 3, items.size() );
+			for ( String statement : sqlStatementInterceptor.getSqlQueries() ) {
+				assertFalse( statement.contains( "table(x" ) );
+			}
+		} );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,237 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.orphan;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.CascadeType;
+import javax.persistence.Embeddable;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.Version;
+
+import org.hibernate.boot.SessionFactoryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.hibernate.test.util.jdbc.SQLStatementInterceptor;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class BulkDeleteTest extends BaseNonConfigCoreFunctionalTestCase {
+	private static final int CHILDREN = 20;
+
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Parent.class, Child.class, Node.class, OrderLine.class, Product.class };
+	}
+
+	@Override
+	protected void configureSessionFactoryBuilder(SessionFactoryBuilder sfb) {
+		sqlStatementInterceptor = new SQLStatementInterceptor( sfb );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.BULK_DELETE_SIZE, "8" );
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+	}
+
+	@Before
+	public void createParent() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Parent parent = new Parent( 1 );
+			session.persist( parent );
+			for ( int i = 0; i < CHILDREN; i++ ) {
+				final Child child = new Child( i, parent );
+				parent.children.add( child );
+				session.persist( child );
+			}
+		} );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testCascadedDeletesAreCoalesced() {
+		sqlStatementInterceptor.getSqlQueries().clear();
+		doInHibernate( this::sessionFactory, session -> {
+			final Parent parent = session.get( Parent.class, 1 );
+			final Child child = parent.children.get( 0 );
+			session.remove( parent );
+			session.flush();
+			assertFalse( session.contains( child ) );
+		} );
+
+		// deletes of 8, 8 and 4 children, then the parent
+		assertEquals( 4, countDeletes() );
+		doInHibernate( this::sessionFactory, session -> {
+			assertNull( session.get( Parent.class, 1 ) );
+			assertEquals( 0L, session.createQuery( "select count(c) from Child c" ).getSingleResult() );
+		} );
+	}
+
+	@Test
+	public void testOrphanRemovalsAreCoalesced() {
+		sqlStatementInterceptor.getSqlQueries().clear();
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Parent.class, 1 ).children.clear();
+		} );
+
+		assertEquals( 3, countDeletes() );
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( 0L, session.createQuery( "select count(c) from Child c" ).getSingleResult() );
+		} );
+	}
+
+	@Test
+	public void testBatchedDeletesAreExecutedBeforeBulkDelete() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Product productA = new Product( 1 );
+			final Product productB = new Product( 2 );
+			session.persist( productA );
+			session.persist( productB );
+			session.persist( new OrderLine( 1, productA ) );
+			session.persist( new OrderLine( 2, productB ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			// the versioned lines are deleted one by one, in a JDBC batch, ahead of the products
+			final OrderLine line1 = session.get( OrderLine.class, 1 );
+			final OrderLine line2 = session.get( OrderLine.class, 2 );
+			session.remove( line1 );
+			session.remove( line2 );
+			session.remove( line1.product );
+			session.remove( line2.product );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( 0L, session.createQuery( "select count(l) from OrderLine l" ).getSingleResult() );
+			assertEquals( 0L, session.createQuery( "select count(p) from Product p" ).getSingleResult() );
+		} );
+	}
+
+	@Test
+	public void testSelfReferenceInEmbeddableDisablesBulkDelete() {
+		assertTrue( sessionFactory().getMetamodel().entityPersister( Child.class ).canDeleteInBulk() );
+		// the association to the same entity is nested in embeddables
+		assertFalse( sessionFactory().getMetamodel().entityPersister( Node.class ).canDeleteInBulk() );
+	}
+
+	private long countDeletes() {
+		return sqlStatementInterceptor.getSqlQueries()
+				.stream()
+				.filter( sql -> sql.toLowerCase().startsWith( "delete" ) )
+				.count();
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		private Integer id;
+
+		@OneToMany(mappedBy = "parent", cascade = CascadeType.ALL, orphanRemoval = true)
+		private List<Child> children = new ArrayList<>();
+
+		public Parent() {
+		}
+
+		public Parent(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Integer id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+
+	@Entity(name = "OrderLine")
+	public static class OrderLine {
+		@Id
+		private Integer id;
+
+		@Version
+		private Integer version;
+
+		@ManyToOne
+		private Product product;
+
+		public OrderLine() {
+		}
+
+		public OrderLine(Integer id, Product product) {
+			this.id = id;
+			this.product = product;
+		}
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Integer id;
+
+		public Product() {
+		}
+
+		public Product(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Node")
+	public static class Node {
+		@Id
+		private Integer id;
+
+		@Embedded
+		private Position position;
+	}
+
+	@Embeddable
+	public static class Position {
+		private int depth;
+
+		@Embedded
+		private Link link;
+	}
+
+	@Embeddable
+	public static class Link {
+		@ManyToOne
+		private Node previous;
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.persister.entity;
+
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Tests loading entities with {@link AvailableSettings#LAZY_ENTITY_LOADERS} enabled.
+ */
+public class LazyEntityLoadersTest extends BaseNonConfigCoreFunctionalTestCase {
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.LAZY_ENTITY_LOADERS, "true" );
+	}
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Book.class };
+	}
+
+	@Test
+	public void testLoaders() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Book( 1L, "978-0-00-000000-0", "Hibernate" ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "Hibernate", session.get( Book.class, 1L ).title );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Book book = session.get( Book.class, 1L, new LockOptions( LockMode.PESSIMISTIC_WRITE ) );
+			assertNotNull( book );
+			session.refresh( book );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Book book = (Book) session.merge( new Book( 1L, "978-0-00-000000-0", "Hibernate ORM" ) );
+			assertEquals( "Hibernate ORM", book.title );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Book book = session.bySimpleNaturalId( Book.class ).load( "978-0-00-000000-0" );
+			assertEquals( "Hibernate ORM", book.title );
+		} );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Long id;
+
+		@NaturalId
+		String isbn;
+
+		String title;
+
+		Book() {
+		}
+
+		Book(Long id, String isbn, String title) {
+			this.id = id;
+			this.isbn = isbn;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.querycache;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.cache.internal.CompactQueryCacheEntry;
+import org.hibernate.internal.util.SerializationHelper;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CompactQueryCacheEntryTest extends BaseUnitTestCase {
+	@Test
+	public void testSingleColumn() {
+		final List<Serializable> rows = Arrays.asList( 1L, null, -5L, Long.MAX_VALUE, Long.MIN_VALUE );
+		final CompactQueryCacheEntry entry = roundTrip( CompactQueryCacheEntry.from( 42L, rows, 1 ) );
+
+		assertEquals( 42L, entry.getTimestamp() );
+		assertEquals( rows, entry.getRows() );
+	}
+
+	@Test
+	public void testMultipleColumns() {
+		final List<Serializable> rows = new ArrayList<>();
+		rows.add( new Serializable[] { 1L, 10, "first", new BigDecimal( "1.5" ), null } );
+		rows.add( new Serializable[] { 2L, null, "s\u00e9cond", null, null } );
+		rows.add( new Serializable[] { null, -3, null, 2, null } );
+		final CompactQueryCacheEntry entry = roundTrip( CompactQueryCacheEntry.from( 7L, rows, 5 ) );
+
+		final List<Serializable> result = entry.getRows();
+		assertEquals( rows.size(), result.size() );
+		for ( int i = 0; i < rows.size(); i++ ) {
+			assertArrayEquals( (Serializable[]) rows.get( i ), (Serializable[]) result.get( i ) );
+		}
+	}
+
+	@Test
+	public void testEmpty() {
+		final CompactQueryCacheEntry entry = roundTrip(
+				CompactQueryCacheEntry.from( 1L, new ArrayList<>(), 2 )
+		);
+		assertTrue( entry.getRows().isEmpty() );
+	}
+
+	@Test
+	public void testSerializedSizeIsSmaller() {
+		final List<Serializable> rows = new ArrayList<>();
+		for ( long i = 0; i < 1000; i++ ) {
+			rows.add( i );
+		}
+		final List<Object> cacheable = new ArrayList<>( rows );
+		cacheable.add( 0, 1L );
+
+		final int compactSize = SerializationHelper.serialize( CompactQueryCacheEntry.from( 1L, rows, 1 ) ).length;
+		final int listSize = SerializationHelper.serialize( (Serializable) cacheable ).length;
+		assertTrue( compactSize * 4 < listSize );
+	}
+
+	private static CompactQueryCacheEntry roundTrip(CompactQueryCacheEntry entry) {
+		return (CompactQueryCacheEntry) SerializationHelper.clone( entry );
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.querycache;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.annotations.QueryHints;
+import org.hibernate.cache.spi.EntityRowKey;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+public class QueryCacheIdInvalidationTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Product.class };
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.USE_QUERY_CACHE, "true" );
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		settings.put( AvailableSettings.USE_QUERY_CACHE_ID_INVALIDATION, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void before() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 1; i <= 3; i++ ) {
+				session.persist( new Product( i, "Product " + i ) );
+			}
+		} );
+		sessionFactory().getCache().evictQueryRegions();
+		sessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testWritesToOtherRowsDoNotInvalidate() {
+		final Statistics statistics = sessionFactory().getStatistics();
+
+		assertEquals( 2, findProducts( true ).size() );
+		assertEquals( 2, findProducts( true ).size() );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+
+		updateName( 3L, "Updated" );
+		assertEquals( 2, findProducts( true ).size() );
+		assertEquals( 2, statistics.getQueryCacheHitCount() );
+
+		updateName( 1L, "Updated" );
+		final List<Product> products = findProducts( true );
+		assertEquals( 2, statistics.getQueryCacheHitCount() );
+		assertEquals( "Updated", products.get( 0 ).name );
+	}
+
+	@Test
+	public void testQueriesWithoutHintAreInvalidatedByTable() {
+		final Statistics statistics = sessionFactory().getStatistics();
+
+		findProducts( false );
+		updateName( 3L, "Updated" );
+		findProducts( false );
+		assertEquals( 0, statistics.getQueryCacheHitCount() );
+	}
+
+	@Test
+	public void testBulkUpdateInvalidates() {
+		final Statistics statistics = sessionFactory().getStatistics();
+
+		findProducts( true );
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "update Product set name = 'Bulk'" ).executeUpdate();
+		} );
+		final List<Product> products = findProducts( true );
+		assertEquals( 0, statistics.getQueryCacheHitCount() );
+		assertEquals( "Bulk", products.get( 0 ).name );
+	}
+
+	@Test
+	public void testDeleteInvalidates() {
+		final Statistics statistics = sessionFactory().getStatistics();
+
+		findProducts( true );
+		doInHibernate( this::sessionFactory, session -> {
+			session.remove( session.find( Product.class, 2L ) );
+		} );
+		assertEquals( 1, findProducts( true ).size() );
+		assertEquals( 0, statistics.getQueryCacheHitCount() );
+	}
+
+	@Test
+	public void testEvictedRowTimestampInvalidates() {
+		final Statistics statistics = sessionFactory().getStatistics();
+
+		findProducts( true );
+		assertEquals( 2, findProducts( true ).size() );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+
+		// the provider evicts the timestamp of a returned row, which may have been updated meanwhile
+		sessionFactory().getCache().getRowUpdateTimestampsCache().getRegion().evict(
+				EntityRowKey.fromDisassembled( sessionFactory().getMetamodel().entityPersister( Product.class ), 1L )
+		);
+		assertEquals( 2, findProducts( true ).size() );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+
+		// the row was registered again along with the results
+		assertEquals( 2, findProducts( true ).size() );
+		assertEquals( 2, statistics.getQueryCacheHitCount() );
+	}
+
+	private List<Product> findProducts(boolean invalidatedById) {
+		return doInHibernate( this::sessionFactory, session -> {
+			return session.createQuery( "from Product p where p.id in :ids order by p.id", Product.class )
+					.setParameter( "ids", Arrays.asList( 1L, 2L ) )
+					.setCacheable( true )
+					.setHint( QueryHints.CACHE_INVALIDATION_BY_ID, invalidatedById )
+					.getResultList();
+		} );
+	}
+
+	private void updateName(Long id, String name) {
+		doInHibernate( this::sessionFactory, session -> {
+			session.find( Product.class, id ).name = name;
+		} );
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Product() {
+		}
+
+		public Product(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
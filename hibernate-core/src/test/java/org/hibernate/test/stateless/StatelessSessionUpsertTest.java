@@ -0,0 +1,158 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stateless;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.SecondaryTable;
+import javax.persistence.Version;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.boot.SessionFactoryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.hibernate.test.util.jdbc.SQLStatementInterceptor;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class StatelessSessionUpsertTest extends BaseNonConfigCoreFunctionalTestCase {
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Product.class, Tool.class };
+	}
+
+	@Override
+	protected void configureSessionFactoryBuilder(SessionFactoryBuilder sfb) {
+		sqlStatementInterceptor = new SQLStatementInterceptor( sfb );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testUpsertInsertsOrUpdates() {
+		inStatelessTransaction( session -> {
+			session.upsertMultiple( Arrays.asList( new Product( 1, "Hammer" ), new Product( 2, "Saw" ) ) );
+		} );
+		inStatelessTransaction( session -> {
+			session.upsert( new Product( 2, "Hand saw" ) );
+			session.upsert( new Product( 3, "Drill" ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Product> products = session.createQuery( "from Product p order by p.id", Product.class )
+					.getResultList();
+			assertEquals( 3, products.size() );
+			assertEquals( "Hammer", products.get( 0 ).name );
+			assertEquals( "Hand saw", products.get( 1 ).name );
+			assertEquals( "Drill", products.get( 2 ).name );
+		} );
+	}
+
+	@Test
+	@RequiresDialect(H2Dialect.class)
+	public void testUpsertStatement() {
+		sqlStatementInterceptor.getSqlQueries().clear();
+		inStatelessTransaction( session -> {
+			session.upsertMultiple( Arrays.asList( new Product( 1, "Hammer" ), new Product( 2, "Saw" ) ) );
+		} );
+
+		// both rows are batched through a single statement
+		final List<String> statements = sqlStatementInterceptor.getSqlQueries();
+		assertEquals( 1, statements.size() );
+		assertTrue( statements.get( 0 ).toLowerCase().startsWith( "merge into" ) );
+	}
+
+	@Test
+	public void testUpsertDeletesAllNullSecondaryRow() {
+		inStatelessTransaction( session -> {
+			session.upsert( new Tool( 1, "Hammer", "Steel" ) );
+		} );
+		inStatelessTransaction( session -> {
+			session.upsert( new Tool( 1, "Hammer", null ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertNull( session.get( Tool.class, 1 ).material );
+			assertEquals(
+					0,
+					( (Number) session.createNativeQuery( "select count(*) from tool_details" ).getSingleResult() ).intValue()
+			);
+		} );
+	}
+
+	private void inStatelessTransaction(Consumer<StatelessSession> work) {
+		try (StatelessSession session = sessionFactory().openStatelessSession()) {
+			session.getTransaction().begin();
+			work.accept( session );
+			session.getTransaction().commit();
+		}
+	}
+
+	@Entity(name = "Tool")
+	@SecondaryTable(name = "tool_details")
+	public static class Tool {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@Column(table = "tool_details")
+		private String material;
+
+		public Tool() {
+		}
+
+		public Tool(Integer id, String name, String material) {
+			this.id = id;
+			this.name = name;
+			this.material = material;
+		}
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@Version
+		private Integer version;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
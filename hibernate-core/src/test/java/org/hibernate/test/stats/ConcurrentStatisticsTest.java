@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.internal.ConcurrentStatisticsImpl;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that no update of {@link ConcurrentStatisticsImpl} is lost when reported concurrently.
+ */
+public class ConcurrentStatisticsTest extends BaseUnitTestCase {
+	private static final int THREADS = 8;
+	private static final int ITERATIONS = 10_000;
+	private static final String QUERY = "from Country";
+
+	@Test
+	public void testConcurrentUpdates() throws Exception {
+		final ConcurrentStatisticsImpl statistics = new ConcurrentStatisticsImpl();
+		final List<Callable<Void>> tasks = new ArrayList<>();
+		for ( int i = 0; i < THREADS; i++ ) {
+			final int thread = i;
+			tasks.add( () -> {
+				for ( int j = 0; j < ITERATIONS; j++ ) {
+					statistics.prepareStatement();
+					statistics.loadEntity( Country.class.getName() );
+					statistics.queryExecuted( QUERY, 2, thread * ITERATIONS + j );
+				}
+				return null;
+			} );
+		}
+
+		final ExecutorService executor = Executors.newFixedThreadPool( THREADS );
+		try {
+			for ( Future<Void> future : executor.invokeAll( tasks ) ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+
+		final long total = THREADS * ITERATIONS;
+		assertEquals( total, statistics.getPrepareStatementCount() );
+		assertEquals( total, statistics.getEntityLoadCount() );
+		assertEquals( total, statistics.getEntityStatistics( Country.class.getName() ).getLoadCount() );
+		assertEquals( total, statistics.getQueryExecutionCount() );
+		assertEquals( total - 1, statistics.getQueryExecutionMaxTime() );
+		assertEquals( QUERY, statistics.getQueryExecutionMaxTimeQueryString() );
+
+		final QueryStatistics queryStatistics = statistics.getQueryStatistics( QUERY );
+		assertEquals( total, queryStatistics.getExecutionCount() );
+		assertEquals( 2 * total, queryStatistics.getExecutionRowCount() );
+		assertEquals( 0, queryStatistics.getExecutionMinTime() );
+		assertEquals( total - 1, queryStatistics.getExecutionMaxTime() );
+		assertEquals( ( total - 1 ) / 2.0, queryStatistics.getExecutionAvgTimeAsDouble(), 0.001 );
+
+		statistics.clear();
+		assertEquals( 0, statistics.getPrepareStatementCount() );
+		assertEquals( 0, statistics.getQueryExecutionMaxTime() );
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stats;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.stat.LatencyHistogram;
+import org.hibernate.stat.internal.LogLinearLatencyHistogram;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyHistogramTest extends BaseUnitTestCase {
+	@Test
+	public void testPercentiles() {
+		final LogLinearLatencyHistogram histogram = new LogLinearLatencyHistogram();
+		assertEquals( 0, histogram.getP99() );
+		for ( int i = 1; i <= 10_000; i++ ) {
+			histogram.record( i, TimeUnit.MICROSECONDS );
+		}
+		assertEquals( 10_000, histogram.getCount() );
+		assertEquals( 10_000, histogram.getMaxValue() );
+		assertEquals( 5_000.5, histogram.getMean(), 0.001 );
+		assertWithinPrecision( 5_000, histogram.getP50() );
+		assertWithinPrecision( 9_500, histogram.getP95() );
+		assertWithinPrecision( 9_900, histogram.getP99() );
+		assertWithinPrecision( 9_990, histogram.getP999() );
+		assertEquals( 10_000, histogram.getValueAtPercentile( 100 ) );
+		assertEquals( 1, histogram.getValueAtPercentile( 0 ) );
+	}
+
+	@Test
+	public void testSmallAndLargeValues() {
+		final LogLinearLatencyHistogram histogram = new LogLinearLatencyHistogram();
+		histogram.record( 500, TimeUnit.NANOSECONDS );
+		histogram.record( 17, TimeUnit.MICROSECONDS );
+		histogram.record( 2, TimeUnit.HOURS );
+		assertEquals( 0, histogram.getValueAtPercentile( 30 ) );
+		assertEquals( 17, histogram.getP50() );
+		assertEquals( TimeUnit.HOURS.toMicros( 1 ), histogram.getMaxValue() );
+		assertWithinPrecision( TimeUnit.HOURS.toMicros( 1 ), histogram.getP99() );
+	}
+
+	@Test
+	public void testIntervalSnapshots() {
+		final LogLinearLatencyHistogram histogram = new LogLinearLatencyHistogram();
+		histogram.record( 100, TimeUnit.MICROSECONDS );
+		histogram.record( 200, TimeUnit.MICROSECONDS );
+
+		LatencyHistogram interval = histogram.getIntervalSnapshot();
+		assertEquals( 2, interval.getCount() );
+		assertEquals( 150, interval.getMean(), 0.001 );
+
+		histogram.record( 1_000, TimeUnit.MICROSECONDS );
+		interval = histogram.getIntervalSnapshot();
+		assertEquals( 1, interval.getCount() );
+		assertWithinPrecision( 1_000, interval.getP50() );
+		assertEquals( 3, histogram.getCount() );
+
+		assertEquals( 0, histogram.getIntervalSnapshot().getCount() );
+
+		histogram.record( 10, TimeUnit.MICROSECONDS );
+		histogram.reset();
+		assertEquals( 0, histogram.getCount() );
+		assertEquals( 0, histogram.getIntervalSnapshot().getCount() );
+	}
+
+	private static void assertWithinPrecision(long expected, long actual) {
+		assertTrue( "expected ~" + expected + " but was " + actual, Math.abs( actual - expected ) <= expected * 0.032 );
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stats;
+
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the latency histograms exposed through {@link Statistics}.
+ */
+public class LatencyStatisticsTest extends BaseNonConfigCoreFunctionalTestCase {
+	private static final String QUERY = "select b from Book b";
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Book.class };
+	}
+
+	@Test
+	public void testLatencies() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Book( 1L ) );
+			session.persist( new Book( 2L ) );
+		} );
+		assertTrue( statistics.getFlushLatency().getCount() >= 1 );
+		assertTrue( statistics.getStatementExecutionLatency().getCount() >= 1 );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Book.class, 1L );
+			session.createQuery( QUERY, Book.class ).getResultList();
+		} );
+		assertEquals( 1, statistics.getEntityLoadLatency().getCount() );
+		assertEquals( 1, statistics.getEntityStatistics( Book.class.getName() ).getLoadLatency().getCount() );
+		assertEquals( 1, statistics.getQueryExecutionLatency().getCount() );
+		assertEquals( 1, statistics.getQueryStatistics( QUERY ).getExecutionLatency().getCount() );
+		assertTrue(
+				statistics.getQueryExecutionLatency().getP999() <= statistics.getQueryExecutionLatency().getMaxValue()
+		);
+
+		assertEquals( 1, statistics.getQueryExecutionLatency().getIntervalSnapshot().getCount() );
+		assertEquals( 0, statistics.getQueryExecutionLatency().getIntervalSnapshot().getCount() );
+
+		statistics.clear();
+		assertEquals( 0, statistics.getQueryExecutionLatency().getCount() );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Long id;
+
+		Book() {
+		}
+
+		Book(Long id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.test.stream.basic;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.annotations.QueryHints;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DetachingStreamTest extends BaseNonConfigCoreFunctionalTestCase {
+	private static final int BOOKS = 20;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Book.class, Author.class };
+	}
+
+	@Before
+	public void createBooks() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < BOOKS; i++ ) {
+				final Author author = new Author( i, "Author " + i );
+				session.persist( author );
+				session.persist( new Book( i, "Book " + i, author ) );
+			}
+		} );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Override
+	protected void cleanupTestData() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Book" ).executeUpdate();
+			session.createQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testStreamedEntitiesAreDetachedRowByRow() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Book alreadyManaged = session.get( Book.class, 0 );
+			final PersistenceContext persistenceContext = session.unwrap( SessionImplementor.class ).getPersistenceContext();
+			final int managedBeforeStream = persistenceContext.getNumberOfManagedEntities();
+
+			final AtomicInteger count = new AtomicInteger();
+			try ( Stream<Book> books = session.createQuery( "from Book b order by b.id", Book.class )
+					.setHint( QueryHints.DETACH_STREAMED_RESULTS, true )
+					.stream() ) {
+				books.forEach( book -> {
+					count.incrementAndGet();
+					assertTrue( session.contains( book ) );
+					// the book and its author, on top of what was managed before
+					assertTrue( persistenceContext.getNumberOfManagedEntities() <= managedBeforeStream + 2 );
+				} );
+			}
+
+			assertEquals( BOOKS, count.get() );
+			assertEquals( managedBeforeStream, persistenceContext.getNumberOfManagedEntities() );
+			assertTrue( session.contains( alreadyManaged ) );
+			assertTrue( session.contains( alreadyManaged.author ) );
+		} );
+	}
+
+	@Test
+	public void testStreamedTuplesAreDetachedRowByRow() {
+		doInHibernate( this::sessionFactory, session -> {
+			final PersistenceContext persistenceContext = session.unwrap( SessionImplementor.class ).getPersistenceContext();
+
+			final AtomicInteger count = new AtomicInteger();
+			try ( Stream<Object[]> rows = session.createQuery( "select b.id, b, a from Book b join b.author a order by b.id", Object[].class )
+					.setHint( QueryHints.DETACH_STREAMED_RESULTS, true )
+					.stream() ) {
+				rows.forEach( row -> {
+					count.incrementAndGet();
+					assertTrue( session.contains( row[1] ) );
+					assertTrue( session.contains( row[2] ) );
+					assertTrue( persistenceContext.getNumberOfManagedEntities() <= 2 );
+				} );
+			}
+
+			assertEquals( BOOKS, count.get() );
+			assertEquals( 0, persistenceContext.getNumberOfManagedEntities() );
+		} );
+	}
+
+	@Test
+	public void testStreamedEntitiesStayManagedByDefault() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Book last;
+			try ( Stream<Book> books = session.createQuery( "from Book b order by b.id", Book.class ).stream() ) {
+				last = books.reduce( (first, second) -> second ).orElse( null );
+			}
+			assertTrue( session.contains( last ) );
+			assertEquals(
+					2 * BOOKS,
+					session.unwrap( SessionImplementor.class )
+							.getPersistenceContext()
+							.getNumberOfManagedEntities()
+			);
+		} );
+	}
+
+	@Test
+	public void testDetachedEntityIsNotFlushed() {
+		doInHibernate( this::sessionFactory, session -> {
+			try ( Stream<Book> books = session.createQuery( "from Book b where b.id = 1", Book.class )
+					.setHint( QueryHints.DETACH_STREAMED_RESULTS, true )
+					.stream() ) {
+				books.forEach( book -> book.title = "Changed" );
+			}
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			assertFalse( "Changed".equals( session.get( Book.class, 1 ).title ) );
+		} );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		@ManyToOne(fetch = FetchType.EAGER)
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.util;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import org.hibernate.internal.util.collections.OpenAddressingHashMap;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class OpenAddressingHashMapTest extends BaseUnitTestCase {
+	@Test
+	public void testPutGetRemove() {
+		final Map<String, Integer> map = new OpenAddressingHashMap<>( 2 );
+		assertTrue( map.isEmpty() );
+		assertNull( map.put( "a", 1 ) );
+		assertNull( map.put( "b", 2 ) );
+		assertEquals( Integer.valueOf( 1 ), map.put( "a", 3 ) );
+		assertEquals( 2, map.size() );
+		assertEquals( Integer.valueOf( 3 ), map.get( new String( "a" ) ) );
+		assertTrue( map.containsKey( "b" ) );
+		assertEquals( Integer.valueOf( 2 ), map.remove( "b" ) );
+		assertNull( map.remove( "b" ) );
+		assertFalse( map.containsKey( "b" ) );
+		assertEquals( 1, map.size() );
+		map.clear();
+		assertTrue( map.isEmpty() );
+		assertNull( map.get( "a" ) );
+	}
+
+	@Test
+	public void testIdentityMap() {
+		final Map<String, Integer> map = OpenAddressingHashMap.identityMap( 8 );
+		final String key = "key";
+		map.put( key, 1 );
+		assertEquals( Integer.valueOf( 1 ), map.get( key ) );
+		assertNull( map.get( new String( key ) ) );
+		assertFalse( map.containsKey( new String( key ) ) );
+	}
+
+	@Test
+	public void testMatchesHashMapUnderRandomOperations() {
+		final Map<Integer, Integer> expected = new HashMap<>();
+		final Map<Integer, Integer> map = new OpenAddressingHashMap<>( 8 );
+		final Random random = new Random( 42 );
+		for ( int i = 0; i < 100_000; i++ ) {
+			// small key space to exercise collisions, tombstones and resizing
+			final Integer key = random.nextInt( 2_000 );
+			if ( random.nextInt( 3 ) == 0 ) {
+				assertEquals( expected.remove( key ), map.remove( key ) );
+			}
+			else {
+				assertEquals( expected.put( key, i ), map.put( key, i ) );
+			}
+		}
+		assertEquals( expected, map );
+		assertEquals( map, expected );
+		for ( Integer key : expected.keySet() ) {
+			assertEquals( expected.get( key ), map.get( key ) );
+		}
+	}
+
+	@Test
+	public void testIteratorRemove() {
+		final Map<Integer, Integer> map = new OpenAddressingHashMap<>( 8 );
+		for ( int i = 0; i < 1_000; i++ ) {
+			map.put( i, i );
+		}
+		final Iterator<Map.Entry<Integer, Integer>> iterator = map.entrySet().iterator();
+		int visited = 0;
+		while ( iterator.hasNext() ) {
+			final Map.Entry<Integer, Integer> entry = iterator.next();
+			visited++;
+			if ( entry.getKey() % 2 == 0 ) {
+				iterator.remove();
+			}
+			else {
+				entry.setValue( -entry.getKey() );
+			}
+		}
+		assertEquals( 1_000, visited );
+		assertEquals( 500, map.size() );
+		for ( int i = 0; i < 1_000; i++ ) {
+			assertEquals( i % 2 == 0 ? null : Integer.valueOf( -i ), map.get( i ) );
+		}
+	}
+}
@@ -156,6 +156,17 @@ public class NonstopAwareEntityRegionAccessStrategy implements EntityRegionAcces
 		}
 	}
 
+	@Override
+	public boolean isNearExpiry(SharedSessionContractImplementor session, Object key, float refreshAheadFactor) {
+		try {
+			return actualStrategy.isNearExpiry( session, key, refreshAheadFactor );
+		}
+		catch (NonStopCacheException nonStopCacheException) {
+			hibernateNonstopExceptionHandler.handleNonstopCacheException( nonStopCacheException );
+			return false;
+		}
+	}
+
 	@Override
 	public void remove(SharedSessionContractImplementor session, Object key) throws CacheException {
 		try {
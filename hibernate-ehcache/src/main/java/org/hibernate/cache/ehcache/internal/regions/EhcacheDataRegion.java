@@ -13,6 +13,8 @@ import java.util.Map;
 import java.util.Properties;
 
 import net.sf.ehcache.Ehcache;
+import net.sf.ehcache.Element;
+import net.sf.ehcache.config.CacheConfiguration;
 import net.sf.ehcache.constructs.nonstop.NonStopCacheException;
 import net.sf.ehcache.util.Timestamper;
 
@@ -195,4 +197,45 @@ public abstract class EhcacheDataRegion implements Region {
 		return getCache().isKeyInCache( key );
 	}
 
+	/**
+	 * Has the element mapped to the given key reached the given fraction of its time to live?  Eternal elements
+	 * never do.
+	 *
+	 * @param key The element key
+	 * @param refreshAheadFactor The fraction of the time to live
+	 *
+	 * @return Is the element near its expiry?
+	 */
+	public boolean isNearExpiry(Object key, float refreshAheadFactor) {
+		try {
+			final Element element = getCache().getQuiet( key );
+			if ( element == null ) {
+				return false;
+			}
+			final long timeToLiveSeconds;
+			if ( element.isLifespanSet() ) {
+				timeToLiveSeconds = element.isEternal() ? 0 : element.getTimeToLive();
+			}
+			else {
+				final CacheConfiguration configuration = getCache().getCacheConfiguration();
+				timeToLiveSeconds = configuration.isEternal() ? 0 : configuration.getTimeToLiveSeconds();
+			}
+			if ( timeToLiveSeconds <= 0 ) {
+				return false;
+			}
+			final long age = System.currentTimeMillis() - element.getLatestOfCreationAndUpdateTime();
+			return age >= timeToLiveSeconds * 1000 * refreshAheadFactor;
+		}
+		catch (net.sf.ehcache.CacheException e) {
+			if ( e instanceof NonStopCacheException ) {
+				HibernateNonstopCacheExceptionHandler.getInstance()
+						.handleNonstopCacheException( (NonStopCacheException) e );
+				return false;
+			}
+			else {
+				throw new CacheException( e );
+			}
+		}
+	}
+
 }
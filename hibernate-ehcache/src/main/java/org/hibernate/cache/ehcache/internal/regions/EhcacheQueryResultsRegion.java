@@ -12,6 +12,7 @@ import net.sf.ehcache.Ehcache;
 
 import org.hibernate.cache.ehcache.internal.strategy.EhcacheAccessStrategyFactory;
 import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
  * A query results region specific wrapper around an Ehcache instance.
@@ -34,4 +35,8 @@ public class EhcacheQueryResultsRegion extends EhcacheGeneralDataRegion implemen
 		super( accessStrategyFactory, underlyingCache, properties );
 	}
 
+	@Override
+	public boolean isNearExpiry(SharedSessionContractImplementor session, Object key, float refreshAheadFactor) {
+		return isNearExpiry( key, refreshAheadFactor );
+	}
 }
@@ -9,9 +9,14 @@ package org.hibernate.cache.ehcache.internal.regions;
 import java.util.Properties;
 
 import net.sf.ehcache.Ehcache;
+import net.sf.ehcache.Element;
+import net.sf.ehcache.constructs.nonstop.NonStopCacheException;
 
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.ehcache.internal.nonstop.HibernateNonstopCacheExceptionHandler;
 import org.hibernate.cache.ehcache.internal.strategy.EhcacheAccessStrategyFactory;
 import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
  * A timestamps region specific wrapper around an Ehcache instance.
@@ -34,4 +39,26 @@ public class EhcacheTimestampsRegion extends EhcacheGeneralDataRegion implements
 			Properties properties) {
 		super( accessStrategyFactory, underlyingCache, properties );
 	}
+
+	@Override
+	public void putIfAbsent(SharedSessionContractImplementor session, Object key, Object value) throws CacheException {
+		try {
+			getCache().putIfAbsent( new Element( key, value ) );
+		}
+		catch (IllegalArgumentException e) {
+			throw new CacheException( e );
+		}
+		catch (IllegalStateException e) {
+			throw new CacheException( e );
+		}
+		catch (net.sf.ehcache.CacheException e) {
+			if ( e instanceof NonStopCacheException ) {
+				HibernateNonstopCacheExceptionHandler.getInstance()
+						.handleNonstopCacheException( (NonStopCacheException) e );
+			}
+			else {
+				throw new CacheException( e );
+			}
+		}
+	}
 }
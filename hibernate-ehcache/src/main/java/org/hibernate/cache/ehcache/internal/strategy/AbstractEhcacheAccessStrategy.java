@@ -136,4 +136,13 @@ abstract class AbstractEhcacheAccessStrategy<T extends EhcacheTransactionalDataR
 	public final void evictAll() throws CacheException {
 		region.clear();
 	}
+
+	/**
+	 * Is the item mapped to the given key near its expiry, as configured for the underlying Ehcache?
+	 *
+	 * @see org.hibernate.cache.spi.access.EntityRegionAccessStrategy#isNearExpiry(SharedSessionContractImplementor, Object, float)
+	 */
+	public boolean isNearExpiry(SharedSessionContractImplementor session, Object key, float refreshAheadFactor) {
+		return region.isNearExpiry( key, refreshAheadFactor );
+	}
 }
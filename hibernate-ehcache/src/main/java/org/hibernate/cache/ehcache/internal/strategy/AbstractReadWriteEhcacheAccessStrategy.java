@@ -11,6 +11,7 @@ import java.util.Comparator;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 
+import org.hibernate.CacheMode;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.ehcache.EhCacheMessageLogger;
@@ -94,7 +95,9 @@ abstract class AbstractReadWriteEhcacheAccessStrategy<T extends EhcacheTransacti
 		region().writeLock( key );
 		try {
 			final Lockable item = (Lockable) region().get( key );
-			final boolean writeable = item == null || item.isWriteable( txTimestamp, version, versionComparator );
+			final boolean writeable = item == null
+					|| item.isWriteable( txTimestamp, version, versionComparator )
+					|| isRefreshable( session, item, txTimestamp );
 			if ( writeable ) {
 				region().put( key, new Item( value, version, region().nextTimestamp() ) );
 				return true;
@@ -108,6 +111,16 @@ abstract class AbstractReadWriteEhcacheAccessStrategy<T extends EhcacheTransacti
 		}
 	}
 
+	/**
+	 * A session refreshing the cache replaces the unlocked items cached before its transaction started, since it
+	 * loaded state at least as recent.
+	 */
+	private static boolean isRefreshable(SharedSessionContractImplementor session, Lockable item, long txTimestamp) {
+		return session != null
+				&& session.getCacheMode() == CacheMode.REFRESH
+				&& item.isReadable( txTimestamp );
+	}
+
 	/**
 	 * Soft-lock a cache item.
 	 *
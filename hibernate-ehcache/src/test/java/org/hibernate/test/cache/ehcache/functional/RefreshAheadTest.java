@@ -0,0 +1,156 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cache.ehcache.functional;
+
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.SecondLevelCacheStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RefreshAheadTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { RefreshAheadItem.class };
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.CACHE_REGION_PREFIX, "" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		// the regions have a time to live of 10 seconds
+		settings.put( AvailableSettings.CACHE_REFRESH_AHEAD_PERCENTAGE, "10" );
+	}
+
+	@Override
+	protected void configureStandardServiceRegistryBuilder(StandardServiceRegistryBuilder ssrb) {
+		super.configureStandardServiceRegistryBuilder( ssrb );
+		ssrb.configure( "hibernate-config/hibernate.cfg.xml" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testEntityRefreshedAheadOfExpiry() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new RefreshAheadItem( 1L, "before" ) );
+		} );
+		updateNamesBypassingCache( "after" );
+		final SecondLevelCacheStatistics statistics = sessionFactory().getStatistics()
+				.getSecondLevelCacheStatistics( "refresh-ahead-items" );
+
+		assertEquals( "before", findName( 1L ) );
+		Thread.sleep( 1100 );
+		// read near expiry, still hitting the cache
+		assertEquals( "before", findName( 1L ) );
+
+		waitFor( () -> "after".equals( findName( 1L ) ) );
+		assertEquals( 0, statistics.getMissCount() );
+	}
+
+	@Test
+	public void testQueryResultsRefreshedAheadOfExpiry() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new RefreshAheadItem( 1L, "before" ) );
+			session.persist( new RefreshAheadItem( 2L, "before" ) );
+		} );
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		assertEquals( 2, findItemsNamed( "before" ).size() );
+		assertEquals( 1, statistics.getQueryCachePutCount() );
+		insertItemBypassingCache( 3L, "before" );
+		Thread.sleep( 1100 );
+		// read near expiry, still hitting the cache
+		assertEquals( 2, findItemsNamed( "before" ).size() );
+
+		waitFor( () -> findItemsNamed( "before" ).size() == 3 );
+		assertEquals( 1, statistics.getQueryCacheMissCount() );
+	}
+
+	private String findName(Long id) {
+		return doInHibernate( this::sessionFactory, session -> {
+			return session.get( RefreshAheadItem.class, id ).name;
+		} );
+	}
+
+	private List<RefreshAheadItem> findItemsNamed(String name) {
+		return doInHibernate( this::sessionFactory, session -> {
+			return session.createQuery( "from RefreshAheadItem where name = :name", RefreshAheadItem.class )
+					.setParameter( "name", name )
+					.setCacheable( true )
+					.setCacheRegion( "refresh-ahead-queries" )
+					.getResultList();
+		} );
+	}
+
+	private void updateNamesBypassingCache(String name) {
+		executeBypassingCache( "update refresh_ahead_item set name = '" + name + "'" );
+	}
+
+	private void insertItemBypassingCache(Long id, String name) {
+		executeBypassingCache( "insert into refresh_ahead_item (id, name) values (" + id + ", '" + name + "')" );
+	}
+
+	private void executeBypassingCache(String sql) {
+		doInHibernate( this::sessionFactory, session -> {
+			session.doWork( connection -> {
+				try ( Statement statement = connection.createStatement() ) {
+					statement.executeUpdate( sql );
+				}
+			} );
+		} );
+	}
+
+	private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+		final long deadline = System.currentTimeMillis() + 5000;
+		while ( !condition.getAsBoolean() ) {
+			assertTrue( "Entry not refreshed ahead of its expiry", System.currentTimeMillis() < deadline );
+			Thread.sleep( 50 );
+		}
+	}
+
+	@Entity(name = "RefreshAheadItem")
+	@Table(name = "refresh_ahead_item")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "refresh-ahead-items")
+	public static class RefreshAheadItem {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public RefreshAheadItem() {
+		}
+
+		public RefreshAheadItem(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
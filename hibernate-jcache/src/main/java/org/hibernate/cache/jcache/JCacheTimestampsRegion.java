@@ -6,9 +6,22 @@
  */
 package org.hibernate.cache.jcache;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
 import javax.cache.Cache;
+import javax.cache.configuration.FactoryBuilder;
+import javax.cache.configuration.MutableCacheEntryListenerConfiguration;
+import javax.cache.event.CacheEntryCreatedListener;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryExpiredListener;
+import javax.cache.event.CacheEntryListenerException;
+import javax.cache.event.CacheEntryRemovedListener;
+import javax.cache.event.CacheEntryUpdatedListener;
 
+import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
  * @author Alex Snaps
@@ -19,4 +32,68 @@ public class JCacheTimestampsRegion extends JCacheGeneralDataRegion implements T
 		super( cache );
 	}
 
+	@Override
+	public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) throws CacheException {
+		return cache.getAll( new HashSet<Object>( keys ) );
+	}
+
+	@Override
+	public void putIfAbsent(SharedSessionContractImplementor session, Object key, Object value) throws CacheException {
+		cache.putIfAbsent( key, value );
+	}
+
+	@Override
+	public boolean registerInvalidationListener(InvalidationListener listener) {
+		try {
+			cache.registerCacheEntryListener(
+					new MutableCacheEntryListenerConfiguration<Object, Object>(
+							new FactoryBuilder.SingletonFactory<>( new EntryListener( listener ) ),
+							null,
+							false,
+							true
+					)
+			);
+			return true;
+		}
+		catch (RuntimeException e) {
+			// the provider cannot notify of the changes of this cache, so it has no near-cache
+			return false;
+		}
+	}
+
+	private static class EntryListener implements CacheEntryCreatedListener<Object, Object>,
+			CacheEntryUpdatedListener<Object, Object>, CacheEntryRemovedListener<Object, Object>,
+			CacheEntryExpiredListener<Object, Object> {
+		private final InvalidationListener listener;
+
+		private EntryListener(InvalidationListener listener) {
+			this.listener = listener;
+		}
+
+		private void invalidate(Iterable<CacheEntryEvent<? extends Object, ? extends Object>> events) {
+			for ( CacheEntryEvent<? extends Object, ? extends Object> event : events ) {
+				listener.invalidate( event.getKey() );
+			}
+		}
+
+		@Override
+		public void onCreated(Iterable<CacheEntryEvent<? extends Object, ? extends Object>> events) throws CacheEntryListenerException {
+			invalidate( events );
+		}
+
+		@Override
+		public void onUpdated(Iterable<CacheEntryEvent<? extends Object, ? extends Object>> events) throws CacheEntryListenerException {
+			invalidate( events );
+		}
+
+		@Override
+		public void onRemoved(Iterable<CacheEntryEvent<? extends Object, ? extends Object>> events) throws CacheEntryListenerException {
+			invalidate( events );
+		}
+
+		@Override
+		public void onExpired(Iterable<CacheEntryEvent<? extends Object, ? extends Object>> events) throws CacheEntryListenerException {
+			invalidate( events );
+		}
+	}
 }
@@ -0,0 +1,46 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.jcache;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import javax.cache.Cache;
+import javax.cache.configuration.CacheEntryListenerConfiguration;
+
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.verify;
+
+public class JCacheTimestampsRegionTest {
+
+	JCacheTimestampsRegion region;
+
+	@Before
+	public void createRegion() {
+		final Cache<Object, Object> mock = Mockito.mock( Cache.class );
+		region = new JCacheTimestampsRegion( mock );
+	}
+
+	@Test
+	public void testDelegatesGetAllToCache() {
+		region.getAll( Mockito.mock( SessionImplementor.class ), Arrays.asList( "foo", "bar" ) );
+		verify( region.getCache() ).getAll( new HashSet<Object>( Arrays.asList( "foo", "bar" ) ) );
+	}
+
+	@Test
+	public void testRegistersCacheEntryListener() {
+		assertTrue( region.registerInvalidationListener( Mockito.mock( TimestampsRegion.InvalidationListener.class ) ) );
+		verify( region.getCache() ).registerCacheEntryListener( any( CacheEntryListenerConfiguration.class ) );
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.micrometer;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.internal.StandardStatisticsExporter;
+import org.hibernate.stat.spi.StatisticsExporter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * A Micrometer {@link MeterBinder} exposing the statistics of a SessionFactory, every meter being
+ * tagged {@code sessionFactory} with the given name.
+ * <p/>
+ * Statistics are only collected when {@value org.hibernate.cfg.AvailableSettings#GENERATE_STATISTICS}
+ * is enabled; the meters report zero otherwise.
+ */
+public class HibernateMetrics implements MeterBinder {
+	private final SessionFactory sessionFactory;
+	private final Iterable<Tag> tags;
+	private final StatisticsExporter exporter;
+
+	/**
+	 * Expose the statistics of a SessionFactory into the given registry.
+	 *
+	 * @param registry The registry to register the meters into
+	 * @param sessionFactory The SessionFactory whose statistics to expose
+	 * @param sessionFactoryName The name identifying the SessionFactory among the meters
+	 * @param tags Additional tags for every meter
+	 */
+	public static void monitor(
+			MeterRegistry registry,
+			SessionFactory sessionFactory,
+			String sessionFactoryName,
+			Iterable<Tag> tags) {
+		new HibernateMetrics( sessionFactory, sessionFactoryName, tags ).bindTo( registry );
+	}
+
+	public HibernateMetrics(SessionFactory sessionFactory, String sessionFactoryName, Iterable<Tag> tags) {
+		this( sessionFactory, sessionFactoryName, tags, new StandardStatisticsExporter() );
+	}
+
+	public HibernateMetrics(
+			SessionFactory sessionFactory,
+			String sessionFactoryName,
+			Iterable<Tag> tags,
+			StatisticsExporter exporter) {
+		this.sessionFactory = sessionFactory;
+		this.tags = Tags.of( tags ).and( "sessionFactory", sessionFactoryName );
+		this.exporter = exporter;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		exporter.export( sessionFactory.getStatistics(), new MicrometerMetricRegistry( registry, tags ) );
+	}
+}
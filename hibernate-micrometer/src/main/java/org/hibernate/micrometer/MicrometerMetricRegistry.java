@@ -0,0 +1,139 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.micrometer;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+import org.hibernate.stat.LatencyHistogram;
+import org.hibernate.stat.spi.MetricRegistry;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * A {@link MetricRegistry} registering the meters into a Micrometer {@link MeterRegistry}.
+ * <p/>
+ * Counters are registered as {@link FunctionCounter}s and gauges as {@link Gauge}s.  Timers are
+ * registered as a {@link FunctionTimer} (count and total time), along with a {@code <name>.max} gauge
+ * and {@code <name>.percentile} gauges tagged {@code phi}, the way Micrometer publishes the percentiles
+ * of its own timers.
+ */
+public class MicrometerMetricRegistry implements MetricRegistry {
+	private static final double[] PERCENTILES = { 0.5, 0.95, 0.99, 0.999 };
+
+	private final MeterRegistry meterRegistry;
+	private final Iterable<Tag> commonTags;
+
+	/**
+	 * @param meterRegistry The Micrometer registry to register the meters into
+	 * @param commonTags The tags added to every meter, typically identifying the SessionFactory
+	 */
+	public MicrometerMetricRegistry(MeterRegistry meterRegistry, Iterable<Tag> commonTags) {
+		this.meterRegistry = meterRegistry;
+		this.commonTags = commonTags;
+	}
+
+	@Override
+	public <T> void registerCounter(
+			String name,
+			String description,
+			Map<String, String> tags,
+			T source,
+			ToLongFunction<T> count) {
+		FunctionCounter.builder( name, source, s -> count.applyAsLong( s ) )
+				.description( description )
+				.tags( tags( tags ) )
+				.register( meterRegistry );
+	}
+
+	@Override
+	public <T> void registerGauge(
+			String name,
+			String description,
+			Map<String, String> tags,
+			T source,
+			ToDoubleFunction<T> value) {
+		Gauge.builder( name, source, value )
+				.description( description )
+				.tags( tags( tags ) )
+				.register( meterRegistry );
+	}
+
+	@Override
+	public <T> void registerTimer(
+			String name,
+			String description,
+			Map<String, String> tags,
+			T source,
+			Function<T, LatencyHistogram> latencies) {
+		final Tags meterTags = tags( tags );
+		FunctionTimer.builder(
+				name,
+				source,
+				s -> {
+					final LatencyHistogram histogram = latencies.apply( s );
+					return histogram == null ? 0 : histogram.getCount();
+				},
+				s -> {
+					final LatencyHistogram histogram = latencies.apply( s );
+					return histogram == null ? 0 : histogram.getMean() * histogram.getCount();
+				},
+				TimeUnit.MICROSECONDS
+		)
+				.description( description )
+				.tags( meterTags )
+				.register( meterRegistry );
+
+		Gauge.builder(
+				name + ".max",
+				source,
+				s -> {
+					final LatencyHistogram histogram = latencies.apply( s );
+					return histogram == null ? 0 : toSeconds( histogram.getMaxValue() );
+				}
+		)
+				.description( description )
+				.tags( meterTags )
+				.baseUnit( "seconds" )
+				.register( meterRegistry );
+
+		for ( double percentile : PERCENTILES ) {
+			Gauge.builder(
+					name + ".percentile",
+					source,
+					s -> {
+						final LatencyHistogram histogram = latencies.apply( s );
+						return histogram == null ? 0 : toSeconds( histogram.getValueAtPercentile( percentile * 100 ) );
+					}
+			)
+					.description( description )
+					.tags( meterTags.and( "phi", Double.toString( percentile ) ) )
+					.baseUnit( "seconds" )
+					.register( meterRegistry );
+		}
+	}
+
+	private Tags tags(Map<String, String> tags) {
+		Tags result = Tags.of( commonTags );
+		for ( Map.Entry<String, String> tag : tags.entrySet() ) {
+			result = result.and( tag.getKey(), tag.getValue() );
+		}
+		return result;
+	}
+
+	private static double toSeconds(long micros) {
+		return micros / 1_000_000d;
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.micrometer;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.micrometer.HibernateMetrics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class MicrometerStatisticsTest extends BaseNonConfigCoreFunctionalTestCase {
+	private MeterRegistry registry;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Person.class };
+	}
+
+	@Before
+	public void registerMeters() {
+		sessionFactory().getStatistics().clear();
+		registry = new SimpleMeterRegistry();
+		HibernateMetrics.monitor( registry, sessionFactory(), "test", Collections.emptyList() );
+	}
+
+	@Test
+	public void testMeters() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Person( 1, "John" ) );
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "from Person" ).getResultList();
+		} );
+
+		assertEquals(
+				2,
+				registry.get( "hibernate.sessions.open" ).tag( "sessionFactory", "test" ).functionCounter().count(),
+				0
+		);
+		assertEquals(
+				1,
+				registry.get( "hibernate.entity.inserts" ).tag( "entity", Person.class.getName() ).functionCounter().count(),
+				0
+		);
+		assertEquals(
+				2,
+				registry.get( "hibernate.transactions" ).tag( "result", "success" ).functionCounter().count(),
+				0
+		);
+
+		final FunctionTimer queryTimer = registry.get( "hibernate.query.execution" ).functionTimer();
+		assertEquals( 1, queryTimer.count(), 0 );
+		assertTrue( queryTimer.totalTime( TimeUnit.NANOSECONDS ) > 0 );
+		assertNotNull( registry.get( "hibernate.query.execution.percentile" ).tag( "phi", "0.99" ).gauge() );
+		assertTrue( registry.get( "hibernate.query.execution.max" ).gauge().value() > 0 );
+
+		// meters follow the statistics when they are cleared
+		sessionFactory().getStatistics().clear();
+		assertEquals( 0, registry.get( "hibernate.sessions.open" ).functionCounter().count(), 0 );
+		assertEquals( 0, queryTimer.count(), 0 );
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -32,6 +32,7 @@ import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
 import org.apache.maven.project.MavenProject;
 
+import org.hibernate.boot.archive.scan.spi.ScanIndex;
 import org.hibernate.bytecode.enhance.spi.DefaultEnhancementContext;
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
@@ -79,16 +80,28 @@ public class MavenEnhancePlugin extends AbstractMojo {
 	@Parameter(property = "enableExtendedEnhancement", defaultValue = "false")
 	private boolean enableExtendedEnhancement;
 
+	@Parameter(property = "generateScanIndex", defaultValue = "false")
+	private boolean generateScanIndex;
+
 	private boolean shouldApply() {
 		return enableLazyInitialization || enableDirtyTracking || enableAssociationManagement || enableExtendedEnhancement;
 	}
 
 	public void execute() throws MojoExecutionException, MojoFailureException {
-		if ( !shouldApply() ) {
+		if ( !shouldApply() && !generateScanIndex ) {
 			getLog().warn( "Skipping Hibernate bytecode enhancement plugin execution since no feature is enabled" );
 			return;
 		}
 
+		if ( shouldApply() ) {
+			enhance();
+		}
+		if ( generateScanIndex ) {
+			writeScanIndex();
+		}
+	}
+
+	private void enhance() throws MojoExecutionException {
 		if ( !dir.startsWith( base ) ) {
 			throw new MojoExecutionException( "The enhancement directory 'dir' (" + dir + ") is no subdirectory of 'base' (" + base + ")" );
 		}
@@ -160,6 +173,48 @@ public class MavenEnhancePlugin extends AbstractMojo {
 		}
 	}
 
+	/**
+	 * Writes the scan index of the 'base' directory, which holds both the compiled classes and the resources.
+	 */
+	private void writeScanIndex() throws MojoExecutionException {
+		final File root = new File( base );
+		if ( !root.isDirectory() ) {
+			getLog().info( "Skipping Hibernate scan index generation since there is no classes dir " + base );
+			return;
+		}
+
+		final File indexFile = new File( root, ScanIndex.DEFAULT_LOCATION );
+		if ( indexFile.exists() && !indexFile.delete() ) {
+			throw new MojoExecutionException( "Unable to delete previous scan index: " + indexFile.getAbsolutePath() );
+		}
+		indexFile.getParentFile().mkdirs();
+
+		OutputStream outputStream = null;
+		try {
+			outputStream = buildContext.newFileOutputStream( indexFile );
+			ScanIndex.generate( outputStream, root.toURI().toURL() );
+			outputStream.flush();
+		}
+		catch (IOException e) {
+			String msg = "Unable to write scan index: " + indexFile.getAbsolutePath();
+			if ( failOnError ) {
+				throw new MojoExecutionException( msg, e );
+			}
+			buildContext.addMessage( indexFile, 0, 0, msg, BuildContext.SEVERITY_WARNING, e );
+			return;
+		}
+		finally {
+			try {
+				if ( outputStream != null ) {
+					outputStream.close();
+				}
+			}
+			catch (IOException ignore) {
+			}
+		}
+		getLog().info( "Successfully wrote scan index [" + indexFile + "]" );
+	}
+
 	private ClassLoader toClassLoader(List<File> runtimeClasspath) throws MojoExecutionException {
 		List<URL> urls = new ArrayList<URL>();
 		for ( File file : runtimeClasspath ) {
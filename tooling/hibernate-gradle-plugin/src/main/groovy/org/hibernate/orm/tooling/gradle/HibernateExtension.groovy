@@ -30,6 +30,13 @@ class HibernateExtension {
 	 */
 	protected EnhanceExtension enhance
 
+	/**
+	 * Whether to write a scan index (see org.hibernate.boot.archive.scan.spi.ScanIndex) of the source sets
+	 * output, to be used in place of scanning at runtime.  The index is generated by a dedicated
+	 * generate<SourceSet>HibernateScanIndex task into its own directory of the source set output.  Default is false
+	 */
+	def boolean generateScanIndex = false
+
 	HibernateExtension(Project project) {
 		this.project = project
 		this.sourceSet( project.getConvention().getPlugin( JavaPluginConvention ).sourceSets.main )
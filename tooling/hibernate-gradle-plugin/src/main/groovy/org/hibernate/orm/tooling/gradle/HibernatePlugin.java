@@ -16,6 +16,7 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.gradle.api.Action;
@@ -61,6 +62,9 @@ public class HibernatePlugin implements Plugin<Project> {
 						if ( hibernateExtension.enhance != null ) {
 							applyEnhancement( project, hibernateExtension );
 						}
+						if ( hibernateExtension.getGenerateScanIndex() ) {
+							applyScanIndexGeneration( project, hibernateExtension );
+						}
 					}
 				}
 		);
@@ -143,6 +147,31 @@ public class HibernatePlugin implements Plugin<Project> {
 		}
 	}
 
+	private void applyScanIndexGeneration(final Project project, final HibernateExtension hibernateExtension) {
+		for ( final SourceSet sourceSet : hibernateExtension.getSourceSets() ) {
+			project.getLogger().debug( "Applying Hibernate scan index task to SourceSet.{}", sourceSet.getName() );
+
+			final ScanIndexTask scanIndexTask = project.getTasks().create(
+					sourceSet.getTaskName( "generate", "HibernateScanIndex" ),
+					ScanIndexTask.class
+			);
+			scanIndexTask.setDescription( "Generates the Hibernate scan index of SourceSet." + sourceSet.getName() );
+			// the compiled (and enhanced) classes and the processed resources, not the whole output which includes the index
+			scanIndexTask.setRootDirs(
+					sourceSet.getOutput().getClassesDirs().plus(
+							project.files( sourceSet.getOutput().getResourcesDir() )
+									.builtBy( sourceSet.getProcessResourcesTaskName() )
+					)
+			);
+			scanIndexTask.setOutputDir( new File( project.getBuildDir(), "hibernate-scan-index/" + sourceSet.getName() ) );
+
+			sourceSet.getOutput().dir(
+					Collections.<String, Object>singletonMap( "builtBy", scanIndexTask ),
+					scanIndexTask.getOutputDir()
+			);
+		}
+	}
+
 	private ClassLoader toClassLoader(FileCollection runtimeClasspath) {
 		List<URL> urls = new ArrayList<URL>();
 		for ( File file : runtimeClasspath ) {
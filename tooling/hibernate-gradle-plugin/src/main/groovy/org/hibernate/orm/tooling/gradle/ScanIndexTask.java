@@ -0,0 +1,88 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.tooling.gradle;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.FileCollection;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.TaskAction;
+
+import org.hibernate.boot.archive.scan.spi.ScanIndex;
+
+/**
+ * Generates the {@link ScanIndex scan index} of the classes and resources directories of a SourceSet into a
+ * dedicated output directory, which the Hibernate plugin adds to the SourceSet output.
+ */
+public class ScanIndexTask extends DefaultTask {
+	private FileCollection rootDirs;
+	private File outputDir;
+
+	/**
+	 * The scanned directories.
+	 */
+	@InputFiles
+	public FileCollection getRootDirs() {
+		return rootDirs;
+	}
+
+	public void setRootDirs(FileCollection rootDirs) {
+		this.rootDirs = rootDirs;
+	}
+
+	/**
+	 * The directory the index is written into, at {@link ScanIndex#DEFAULT_LOCATION}.
+	 */
+	@OutputDirectory
+	public File getOutputDir() {
+		return outputDir;
+	}
+
+	public void setOutputDir(File outputDir) {
+		this.outputDir = outputDir;
+	}
+
+	@TaskAction
+	public void generateScanIndex() {
+		final List<URL> rootUrls = new ArrayList<URL>();
+		for ( File rootDir : rootDirs ) {
+			if ( rootDir.isDirectory() ) {
+				try {
+					rootUrls.add( rootDir.toURI().toURL() );
+				}
+				catch (MalformedURLException e) {
+					throw new GradleException( "Unable to resolve directory " + rootDir + " to URL", e );
+				}
+			}
+		}
+
+		final File indexFile = new File( outputDir, ScanIndex.DEFAULT_LOCATION );
+		indexFile.getParentFile().mkdirs();
+		try {
+			final FileOutputStream outputStream = new FileOutputStream( indexFile );
+			try {
+				ScanIndex.generate( outputStream, rootUrls.toArray( new URL[rootUrls.size()] ) );
+			}
+			finally {
+				outputStream.close();
+			}
+		}
+		catch (IOException e) {
+			throw new GradleException( "Unable to write scan index : " + indexFile.getAbsolutePath(), e );
+		}
+		getLogger().info( "Successfully wrote scan index [" + indexFile + "]" );
+	}
+}